@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.leiden;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.nodeproperties.LongNodeProperties;
+import org.neo4j.gds.beta.modularity.ImmutableModularityOptimizationStreamConfig;
+import org.neo4j.gds.beta.modularity.ModularityOptimization;
+import org.neo4j.gds.beta.modularity.ModularityOptimizationFactory;
+import org.neo4j.gds.beta.modularity.ModularityOptimizationStreamConfig;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.louvain.CommunityContraction;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.neo4j.gds.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
+
+/**
+ * The Leiden algorithm, see Traag, Waltman and van Eck "From Louvain to Leiden: guaranteeing well-connected communities".
+ * <p>
+ * Every level runs the color-based parallel local moving of {@link ModularityOptimization}, refines the
+ * resulting communities with {@link LeidenRefinement} and aggregates the graph based on the refined communities.
+ * The next level starts from the unrefined communities, which guarantees that communities stay connected.
+ */
+public final class Leiden extends Algorithm<Leiden, Leiden> {
+
+    private final Graph rootGraph;
+    private final LeidenBaseConfig config;
+    private final NodeProperties seedingValues;
+    private final ExecutorService executorService;
+    private final AllocationTracker allocationTracker;
+    // results
+    private HugeLongArray[] dendrograms;
+    private double[] modularities;
+    private int ranLevels;
+
+    public Leiden(
+        Graph graph,
+        LeidenBaseConfig config,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        AllocationTracker allocationTracker
+    ) {
+        this.config = config;
+        this.rootGraph = graph;
+        this.seedingValues = Optional.ofNullable(config.seedProperty()).map(graph::nodeProperties).orElse(null);
+        this.executorService = executorService;
+        this.allocationTracker = allocationTracker;
+        this.dendrograms = new HugeLongArray[config.maxLevels()];
+        this.modularities = new double[config.maxLevels()];
+        this.progressTracker = progressTracker;
+    }
+
+    @Override
+    public Leiden compute() {
+        progressTracker.beginSubTask();
+
+        long rootNodeCount = rootGraph.nodeCount();
+        Graph workingGraph = rootGraph;
+        NodeProperties nextSeedingValues = seedingValues;
+        Orientation orientation = rootGraph.isUndirected() ? Orientation.UNDIRECTED : Orientation.NATURAL;
+
+        // maps every node of the root graph to the node of the working graph that contains it
+        var workingNodes = HugeLongArray.newArray(rootNodeCount, allocationTracker);
+        workingNodes.setAll(nodeId -> nodeId);
+
+        for (ranLevels = 0; ranLevels < config.maxLevels(); ranLevels++) {
+
+            assertRunning();
+
+            ModularityOptimization modularityOptimization = runModularityOptimization(
+                workingGraph,
+                nextSeedingValues
+            );
+            modularityOptimization.release();
+
+            modularities[ranLevels] = modularityOptimization.getModularity();
+            dendrograms[ranLevels] = HugeLongArray.newArray(rootNodeCount, allocationTracker);
+            buildDendrogram(workingNodes, modularityOptimization);
+
+            if (hasConverged()) {
+                break;
+            }
+
+            assertRunning();
+
+            long maxCommunityId = maxCommunityId(workingGraph, modularityOptimization);
+            var refinedCommunities = new LeidenRefinement(
+                workingGraph,
+                modularityOptimization::getCommunityId,
+                maxCommunityId,
+                config.concurrency(),
+                executorService,
+                allocationTracker
+            ).compute();
+
+            assertRunning();
+
+            Graph aggregatedGraph = new CommunityContraction(
+                workingGraph,
+                refinedCommunities::get,
+                workingGraph.nodeCount() - 1,
+                orientation,
+                config.concurrency(),
+                executorService,
+                allocationTracker
+            ).compute();
+
+            if (aggregatedGraph.nodeCount() == workingGraph.nodeCount() || aggregatedGraph.nodeCount() == 1) {
+                ranLevels++;
+                break;
+            }
+
+            ParallelUtil.parallelForEachNode(rootGraph, config.concurrency(), nodeId -> workingNodes.set(
+                nodeId,
+                aggregatedGraph.toMappedNodeId(refinedCommunities.get(workingNodes.get(nodeId)))
+            ));
+
+            nextSeedingValues = new CommunityNodeProperties(aggregatedGraph, modularityOptimization);
+            workingGraph = aggregatedGraph;
+        }
+
+        resizeResultArrays();
+        progressTracker.endSubTask();
+        return this;
+    }
+
+    private void resizeResultArrays() {
+        int numLevels = levels();
+        if (numLevels < dendrograms.length) {
+            this.dendrograms = Arrays.copyOf(dendrograms, numLevels);
+            this.modularities = Arrays.copyOf(modularities, numLevels);
+        }
+    }
+
+    private void buildDendrogram(HugeLongArray workingNodes, ModularityOptimization modularityOptimization) {
+        var dendrogram = dendrograms[ranLevels];
+        ParallelUtil.parallelForEachNode(rootGraph, config.concurrency(), nodeId -> dendrogram.set(
+            nodeId,
+            modularityOptimization.getCommunityId(workingNodes.get(nodeId))
+        ));
+    }
+
+    private long maxCommunityId(Graph workingGraph, ModularityOptimization modularityOptimization) {
+        var maxCommunityId = new AtomicLong(0L);
+        ParallelUtil.parallelForEachNode(workingGraph, config.concurrency(), nodeId -> maxCommunityId.accumulateAndGet(
+            modularityOptimization.getCommunityId(nodeId),
+            Math::max
+        ));
+        return maxCommunityId.get();
+    }
+
+    private ModularityOptimization runModularityOptimization(Graph leidenGraph, NodeProperties seed) {
+        ModularityOptimizationStreamConfig modularityOptimizationConfig = ImmutableModularityOptimizationStreamConfig
+            .builder()
+            .maxIterations(config.maxIterations())
+            .tolerance(config.tolerance())
+            .concurrency(config.concurrency())
+            .batchSize(DEFAULT_BATCH_SIZE)
+            .build();
+
+        ModularityOptimization modularityOptimization = new ModularityOptimizationFactory<>()
+            .build(
+                leidenGraph,
+                modularityOptimizationConfig,
+                seed,
+                allocationTracker,
+                progressTracker
+            ).withTerminationFlag(terminationFlag);
+
+        modularityOptimization.compute();
+
+        return modularityOptimization;
+    }
+
+    private boolean hasConverged() {
+        if (ranLevels == 0) {
+            return false;
+        }
+
+        double previousModularity = modularities[ranLevels - 1];
+        double currentModularity = modularities[ranLevels];
+        return !(currentModularity > previousModularity && Math.abs(currentModularity - previousModularity) > config.tolerance());
+    }
+
+    public HugeLongArray[] dendrograms() {
+        return this.dendrograms;
+    }
+
+    public HugeLongArray finalDendrogram() {
+        return this.dendrograms[levels() - 1];
+    }
+
+    public long getCommunity(long nodeId) {
+        return dendrograms[levels() - 1].get(nodeId);
+    }
+
+    public long[] getCommunities(long nodeId) {
+        long[] communities = new long[dendrograms.length];
+
+        for (int i = 0; i < dendrograms.length; i++) {
+            communities[i] = dendrograms[i].get(nodeId);
+        }
+
+        return communities;
+    }
+
+    public int levels() {
+        return this.ranLevels == 0 ? 1 : this.ranLevels;
+    }
+
+    public double[] modularities() {
+        return this.modularities;
+    }
+
+    @Override
+    public void release() {
+        this.rootGraph.releaseTopology();
+    }
+
+    @Override
+    public Leiden me() {
+        return this;
+    }
+
+    /**
+     * Seeds the nodes of the aggregated graph with the unrefined community
+     * of the refined community they represent.
+     */
+    static class CommunityNodeProperties implements LongNodeProperties {
+        private final Graph aggregatedGraph;
+        private final ModularityOptimization modularityOptimization;
+
+        CommunityNodeProperties(Graph aggregatedGraph, ModularityOptimization modularityOptimization) {
+            this.aggregatedGraph = aggregatedGraph;
+            this.modularityOptimization = modularityOptimization;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return modularityOptimization.getCommunityId(aggregatedGraph.toOriginalNodeId(nodeId));
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public long size() {
+            return aggregatedGraph.nodeCount();
+        }
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.leiden;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongDoubleCursor;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.louvain.CommunityGrouping;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The refinement phase of the Leiden algorithm.
+ * <p>
+ * Every community found by the local moving phase is split into refined sub-communities.
+ * Each node starts in its own refined community and is greedily merged into the refined
+ * community with the largest modularity gain, considering only nodes and refined communities
+ * that are well-connected to the rest of their community. Merges never cross community
+ * boundaries, so communities are refined independently and in parallel.
+ * <p>
+ * The refined community of a node is identified by one of its member nodes.
+ */
+final class LeidenRefinement {
+
+    private static final long COMMUNITY_BATCH_SIZE = 64;
+
+    private final Graph graph;
+    private final LongUnaryOperator communityIds;
+    private final long maxCommunityId;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AllocationTracker allocationTracker;
+
+    LeidenRefinement(
+        Graph graph,
+        LongUnaryOperator communityIds,
+        long maxCommunityId,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker
+    ) {
+        this.graph = graph;
+        this.communityIds = communityIds;
+        this.maxCommunityId = maxCommunityId;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.allocationTracker = allocationTracker;
+    }
+
+    HugeLongArray compute() {
+        long nodeCount = graph.nodeCount();
+        var nodeVolumes = HugeDoubleArray.newArray(nodeCount, allocationTracker);
+        double totalVolume = computeNodeVolumes(nodeVolumes);
+
+        var grouping = CommunityGrouping.of(
+            nodeCount,
+            communityIds,
+            maxCommunityId,
+            concurrency,
+            executorService,
+            allocationTracker
+        );
+
+        var refinedCommunities = HugeLongArray.newArray(nodeCount, allocationTracker);
+        refinedCommunities.setAll(nodeId -> nodeId);
+        if (totalVolume == 0) {
+            return refinedCommunities;
+        }
+
+        var refinedVolumes = HugeDoubleArray.newArray(nodeCount, allocationTracker);
+        var externalWeights = HugeDoubleArray.newArray(nodeCount, allocationTracker);
+        var refinedSizes = HugeIntArray.newArray(nodeCount, allocationTracker);
+
+        var nextCommunity = new AtomicLong();
+        var tasks = ParallelUtil.tasks(concurrency, () -> new RefinementTask(
+            graph.concurrentCopy(),
+            communityIds,
+            grouping,
+            nextCommunity,
+            1.0 / totalVolume,
+            nodeVolumes,
+            refinedCommunities,
+            refinedVolumes,
+            externalWeights,
+            refinedSizes
+        ));
+        ParallelUtil.run(tasks, executorService);
+
+        return refinedCommunities;
+    }
+
+    private double computeNodeVolumes(HugeDoubleArray nodeVolumes) {
+        var totalVolume = new DoubleAdder();
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> volumeTask(graph.concurrentCopy(), partition, nodeVolumes, totalVolume),
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executorService);
+        return totalVolume.sum();
+    }
+
+    private static Runnable volumeTask(
+        Graph graph,
+        Partition partition,
+        HugeDoubleArray nodeVolumes,
+        DoubleAdder totalVolume
+    ) {
+        return () -> {
+            double partitionVolume = 0;
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end; nodeId++) {
+                double[] volume = {0};
+                graph.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                    volume[0] += weight;
+                    return true;
+                });
+                nodeVolumes.set(nodeId, volume[0]);
+                partitionVolume += volume[0];
+            }
+            totalVolume.add(partitionVolume);
+        };
+    }
+
+    private static final class RefinementTask implements Runnable {
+
+        private final Graph graph;
+        private final LongUnaryOperator communityIds;
+        private final CommunityGrouping grouping;
+        private final AtomicLong nextCommunity;
+        private final double resolution;
+        private final HugeDoubleArray nodeVolumes;
+        private final HugeLongArray refinedCommunities;
+        private final HugeDoubleArray refinedVolumes;
+        private final HugeDoubleArray externalWeights;
+        private final HugeIntArray refinedSizes;
+
+        private final LongDoubleHashMap neighborWeights;
+        private long currentCommunity;
+        private double currentExternalWeight;
+
+        private RefinementTask(
+            Graph graph,
+            LongUnaryOperator communityIds,
+            CommunityGrouping grouping,
+            AtomicLong nextCommunity,
+            double resolution,
+            HugeDoubleArray nodeVolumes,
+            HugeLongArray refinedCommunities,
+            HugeDoubleArray refinedVolumes,
+            HugeDoubleArray externalWeights,
+            HugeIntArray refinedSizes
+        ) {
+            this.graph = graph;
+            this.communityIds = communityIds;
+            this.grouping = grouping;
+            this.nextCommunity = nextCommunity;
+            this.resolution = resolution;
+            this.nodeVolumes = nodeVolumes;
+            this.refinedCommunities = refinedCommunities;
+            this.refinedVolumes = refinedVolumes;
+            this.externalWeights = externalWeights;
+            this.refinedSizes = refinedSizes;
+            this.neighborWeights = new LongDoubleHashMap();
+        }
+
+        @Override
+        public void run() {
+            long communityCount = grouping.communityCount();
+            long batchStart;
+            while ((batchStart = nextCommunity.getAndAdd(COMMUNITY_BATCH_SIZE)) < communityCount) {
+                long batchEnd = Math.min(batchStart + COMMUNITY_BATCH_SIZE, communityCount);
+                for (long community = batchStart; community < batchEnd; community++) {
+                    refine(community);
+                }
+            }
+        }
+
+        private void refine(long community) {
+            long start = grouping.start(community);
+            long end = grouping.end(community);
+            if (end - start < 2) {
+                return;
+            }
+
+            currentCommunity = grouping.communities().toOriginalNodeId(community);
+            double communityVolume = 0;
+            for (long index = start; index < end; index++) {
+                long nodeId = grouping.member(index);
+                double nodeVolume = nodeVolumes.get(nodeId);
+                communityVolume += nodeVolume;
+                refinedVolumes.set(nodeId, nodeVolume);
+                refinedSizes.set(nodeId, 1);
+                externalWeights.set(nodeId, weightToCommunity(nodeId));
+            }
+
+            for (long index = start; index < end; index++) {
+                long nodeId = grouping.member(index);
+                if (refinedSizes.get(nodeId) != 1 || refinedCommunities.get(nodeId) != nodeId) {
+                    continue;
+                }
+                double nodeVolume = nodeVolumes.get(nodeId);
+                double nodeExternalWeight = externalWeights.get(nodeId);
+                if (!isWellConnected(nodeExternalWeight, nodeVolume, communityVolume)) {
+                    continue;
+                }
+
+                collectNeighborWeights(nodeId);
+
+                long bestCommunity = -1;
+                double bestGain = 0;
+                double bestWeight = 0;
+                for (LongDoubleCursor cursor : neighborWeights) {
+                    long refinedCommunity = cursor.key;
+                    double refinedVolume = refinedVolumes.get(refinedCommunity);
+                    if (!isWellConnected(externalWeights.get(refinedCommunity), refinedVolume, communityVolume)) {
+                        continue;
+                    }
+                    double gain = cursor.value - nodeVolume * refinedVolume * resolution;
+                    if (gain > bestGain || (gain == bestGain && bestCommunity != -1 && refinedCommunity < bestCommunity)) {
+                        bestGain = gain;
+                        bestCommunity = refinedCommunity;
+                        bestWeight = cursor.value;
+                    }
+                }
+
+                if (bestCommunity != -1) {
+                    refinedCommunities.set(nodeId, bestCommunity);
+                    refinedVolumes.addTo(bestCommunity, nodeVolume);
+                    refinedSizes.addTo(bestCommunity, 1);
+                    refinedSizes.set(nodeId, 0);
+                    externalWeights.addTo(bestCommunity, nodeExternalWeight - 2 * bestWeight);
+                }
+            }
+        }
+
+        /**
+         * A set of nodes is well-connected if the weight of its relationships to the
+         * rest of the community is at least what is expected under the null model.
+         */
+        private boolean isWellConnected(double externalWeight, double volume, double communityVolume) {
+            return externalWeight >= volume * (communityVolume - volume) * resolution;
+        }
+
+        private double weightToCommunity(long nodeId) {
+            currentExternalWeight = 0;
+            graph.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                if (target != source && communityOf(target) == currentCommunity) {
+                    currentExternalWeight += weight;
+                }
+                return true;
+            });
+            return currentExternalWeight;
+        }
+
+        private void collectNeighborWeights(long nodeId) {
+            neighborWeights.clear();
+            graph.forEachRelationship(nodeId, 1.0, (source, target, weight) -> {
+                if (target != source && communityOf(target) == currentCommunity) {
+                    neighborWeights.addTo(refinedCommunities.get(target), weight);
+                }
+                return true;
+            });
+        }
+
+        private long communityOf(long nodeId) {
+            return communityIds.applyAsLong(nodeId);
+        }
+    }
+}
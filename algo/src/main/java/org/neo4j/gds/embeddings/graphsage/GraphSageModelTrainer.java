@@ -32,6 +32,8 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.embeddings.graphsage.algo.GraphSageTrainConfig;
 import org.neo4j.gds.ml.core.ComputationContext;
+import org.neo4j.gds.ml.core.ExecutionPlan;
+import org.neo4j.gds.ml.core.TensorArena;
 import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.batch.WeightedUniformSampler;
 import org.neo4j.gds.ml.core.features.FeatureExtraction;
@@ -49,7 +51,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalLong;
+import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
@@ -115,10 +119,12 @@ public class GraphSageModelTrainer {
             .toArray(Layer[]::new);
 
         var weights = getWeights();
+        // tasks borrow an arena while running, at most one arena per concurrently running task is created
+        var arenas = new ConcurrentLinkedQueue<TensorArena>();
         var batchTasks = PartitionUtils.rangePartitionWithBatchSize(
             graph.nodeCount(),
             batchSize,
-            batch -> new BatchTask(lossFunction(batch, graph, features), weights, tolerance)
+            batch -> new BatchTask(lossFunction(batch, graph, features), weights, tolerance, arenas)
         );
 
         double previousLoss = Double.MAX_VALUE;
@@ -185,8 +191,9 @@ public class GraphSageModelTrainer {
 
     static class BatchTask implements Runnable {
 
-        private final Variable<Scalar> lossFunction;
+        private final ExecutionPlan<Scalar> lossFunction;
         private final List<Weights<? extends Tensor<?>>> weightVariables;
+        private final Queue<TensorArena> arenas;
         private List<? extends Tensor<?>> weightGradients;
         private final double tolerance;
         private boolean converged;
@@ -195,11 +202,14 @@ public class GraphSageModelTrainer {
         BatchTask(
             Variable<Scalar> lossFunction,
             List<Weights<? extends Tensor<?>>> weightVariables,
-            double tolerance
+            double tolerance,
+            Queue<TensorArena> arenas
         ) {
-            this.lossFunction = lossFunction;
+            // the computation graph of a batch is evaluated in every iteration
+            this.lossFunction = ExecutionPlan.compile(lossFunction);
             this.weightVariables = weightVariables;
             this.tolerance = tolerance;
+            this.arenas = arenas;
         }
 
         @Override
@@ -208,14 +218,33 @@ public class GraphSageModelTrainer {
                 return;
             }
 
-            var localCtx = new ComputationContext();
+            var arena = arenas.poll();
+            if (arena == null) {
+                arena = new TensorArena();
+            }
+            var localCtx = new ComputationContext(arena);
             var loss = localCtx.forward(lossFunction).value();
 
             converged = Math.abs(prevLoss - loss) < tolerance;
             prevLoss = loss;
 
             localCtx.backward(lossFunction);
-            weightGradients = weightVariables.stream().map(localCtx::gradient).collect(Collectors.toList());
+            // the gradients of the context are handed back to the arena, keep a copy until they are consumed
+            if (weightGradients == null) {
+                var gradients = new ArrayList<Tensor<?>>(weightVariables.size());
+                for (var weight : weightVariables) {
+                    gradients.add(localCtx.gradient(weight).copy());
+                }
+                weightGradients = gradients;
+            } else {
+                for (int i = 0; i < weightVariables.size(); i++) {
+                    double[] gradient = localCtx.gradient(weightVariables.get(i)).data();
+                    System.arraycopy(gradient, 0, weightGradients.get(i).data(), 0, gradient.length);
+                }
+            }
+
+            localCtx.release();
+            arenas.offer(arena);
         }
 
         public boolean converged() {
@@ -21,6 +21,7 @@ package org.neo4j.gds.labelpropagation;
 
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterable;
 import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterator;
@@ -37,21 +38,35 @@ final class ComputeStep implements Step {
     private final ProgressTracker progressTracker;
     private final ComputeStepConsumer consumer;
     private final Graph graph;
+    private final Frontier frontier;
+    private final RelationshipConsumer markedNeighborFinder;
+    private final RelationshipConsumer neighborMarker;
 
     private boolean didChange = true;
+    private boolean hasMarkedNeighbor;
 
     ComputeStep(
             Graph graph,
             NodeProperties nodeWeights,
             ProgressTracker progressTracker,
             HugeLongArray existingLabels,
-            PrimitiveLongIterable nodes) {
+            PrimitiveLongIterable nodes,
+            Frontier frontier) {
         this.existingLabels = existingLabels;
         this.progressTracker = progressTracker;
         this.graph = graph;
         this.localRelationshipIterator = graph.concurrentCopy();
         this.nodes = nodes;
         this.consumer = new ComputeStepConsumer(nodeWeights, existingLabels);
+        this.frontier = frontier;
+        this.markedNeighborFinder = (source, target) -> {
+            hasMarkedNeighbor = frontier.isMarked(target);
+            return !hasMarkedNeighbor;
+        };
+        this.neighborMarker = (source, target) -> {
+            frontier.mark(target);
+            return true;
+        };
     }
 
     @Override
@@ -80,17 +95,41 @@ final class ComputeStep implements Step {
     }
 
     private boolean compute(long nodeId, boolean didChange) {
+        if (!needsUpdate(nodeId)) {
+            return didChange;
+        }
         consumer.clearVotes();
         long label = existingLabels.get(nodeId);
         localRelationshipIterator.forEachRelationship(nodeId, DEFAULT_WEIGHT, consumer);
         long newLabel = consumer.tallyVotes(label);
         if (newLabel != label) {
             existingLabels.set(nodeId, newLabel);
+            markChanged(nodeId);
             return true;
         }
         return didChange;
     }
 
+    private boolean needsUpdate(long nodeId) {
+        if (frontier.isInitial()) {
+            return true;
+        }
+        if (frontier.isUndirected()) {
+            return frontier.isMarked(nodeId);
+        }
+        hasMarkedNeighbor = false;
+        localRelationshipIterator.forEachRelationship(nodeId, markedNeighborFinder);
+        return hasMarkedNeighbor;
+    }
+
+    private void markChanged(long nodeId) {
+        if (frontier.isUndirected()) {
+            localRelationshipIterator.forEachRelationship(nodeId, neighborMarker);
+        } else {
+            frontier.mark(nodeId);
+        }
+    }
+
     @Override
     public void release() {
         consumer.release();
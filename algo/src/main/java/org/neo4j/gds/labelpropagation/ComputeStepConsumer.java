@@ -27,6 +27,9 @@ import org.neo4j.gds.core.utils.paged.HugeLongArray;
 
 final class ComputeStepConsumer implements RelationshipWithPropertyConsumer {
 
+    // clearing the votes overwrites the whole buffer, so we do not keep large buffers for the next node
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 10;
+
     private final NodeProperties nodeWeights;
     private final HugeLongArray existingLabels;
     private final LongDoubleScatterMap votes;
@@ -58,7 +61,11 @@ final class ComputeStepConsumer implements RelationshipWithPropertyConsumer {
     }
 
     void clearVotes() {
-        votes.clear();
+        if (votes.keys.length > MAX_RETAINED_BUFFER_SIZE) {
+            votes.release();
+        } else {
+            votes.clear();
+        }
     }
 
     long tallyVotes(long label) {
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.labelpropagation;
+
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+
+/**
+ * Tracks which nodes need to be revisited in the next iteration.
+ * The label of a node only depends on the labels of its neighbors,
+ * so a node only needs to be revisited if one of its neighbors changed its label.
+ *
+ * On undirected graphs, a node that changes its label marks all of its neighbors.
+ * On directed graphs, the nodes that vote for a node are not accessible from that node,
+ * so a node that changes its label marks itself and nodes look for marked neighbors instead.
+ */
+final class Frontier {
+
+    private final boolean undirected;
+    private HugeAtomicBitSet current;
+    private HugeAtomicBitSet next;
+    private boolean initial;
+
+    Frontier(long nodeCount, boolean undirected, AllocationTracker allocationTracker) {
+        this.undirected = undirected;
+        this.current = HugeAtomicBitSet.create(nodeCount, allocationTracker);
+        this.next = HugeAtomicBitSet.create(nodeCount, allocationTracker);
+        this.initial = true;
+    }
+
+    boolean isUndirected() {
+        return undirected;
+    }
+
+    /**
+     * Returns true before the first iteration, in which every node has to be visited.
+     */
+    boolean isInitial() {
+        return initial;
+    }
+
+    /**
+     * Returns true if the node has been marked during the previous or the current iteration.
+     * Labels are updated in place, so a change earlier in the current iteration is already visible.
+     */
+    boolean isMarked(long nodeId) {
+        return current.get(nodeId) || next.get(nodeId);
+    }
+
+    /**
+     * Marks the node for the next iteration.
+     */
+    void mark(long nodeId) {
+        next.set(nodeId);
+    }
+
+    void advance() {
+        var marked = next;
+        next = current;
+        current = marked;
+        next.clear();
+        initial = false;
+    }
+}
@@ -36,6 +36,7 @@ final class InitStep implements Step {
     private final NodeProperties nodeWeights;
     private final ProgressTracker progressTracker;
     private final long maxLabelId;
+    private final Frontier frontier;
 
     InitStep(
             Graph graph,
@@ -44,7 +45,8 @@ final class InitStep implements Step {
             PrimitiveLongIterable nodes,
             HugeLongArray existingLabels,
             ProgressTracker progressTracker,
-            long maxLabelId) {
+            long maxLabelId,
+            Frontier frontier) {
         this.nodeProperties = nodeProperties;
         this.existingLabels = existingLabels;
         this.nodes = nodes;
@@ -52,6 +54,7 @@ final class InitStep implements Step {
         this.nodeWeights = nodeWeights;
         this.progressTracker = progressTracker;
         this.maxLabelId = maxLabelId;
+        this.frontier = frontier;
     }
 
     @Override
@@ -90,7 +93,8 @@ final class InitStep implements Step {
                 nodeWeights,
                 progressTracker,
                 existingLabels,
-                nodes
+                nodes,
+                frontier
         );
     }
 }
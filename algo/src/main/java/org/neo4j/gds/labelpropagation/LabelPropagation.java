@@ -133,7 +133,9 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
         ranIterations = 0L;
         didConverge = false;
 
-        List<StepRunner> stepRunners = stepRunners();
+        // only nodes with a changed neighborhood are revisited after the first iteration
+        var frontier = new Frontier(nodeCount, graph.isUndirected(), allocationTracker);
+        List<StepRunner> stepRunners = stepRunners(frontier);
 
         progressTracker.beginSubTask();
         while (ranIterations < config.maxIterations()) {
@@ -144,6 +146,7 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
             if (didConverge) {
                 break;
             }
+            frontier.advance();
             progressTracker.endSubTask();
         }
         progressTracker.endSubTask();
@@ -154,7 +157,7 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
         return me();
     }
 
-    private List<StepRunner> stepRunners() {
+    private List<StepRunner> stepRunners(Frontier frontier) {
         long nodeCount = graph.nodeCount();
         long batchSize = ParallelUtil.adjustedBatchSize(nodeCount, this.batchSize);
 
@@ -174,7 +177,8 @@ public class LabelPropagation extends Algorithm<LabelPropagation, LabelPropagati
                 iter,
                 labels,
                 progressTracker,
-                maxLabelId
+                maxLabelId,
+                frontier
             );
             StepRunner task = new StepRunner(initStep);
             tasks.add(task);
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.louvain;
+
+import com.carrotsearch.hppc.LongDoubleHashMap;
+import com.carrotsearch.hppc.cursors.LongCursor;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.loading.CsrListBuilder;
+import org.neo4j.gds.core.loading.IdMap;
+import org.neo4j.gds.core.loading.TransientUncompressedCsrListBuilderFactory;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Contracts every community of a graph into a single node.
+ * <p>
+ * Nodes are grouped by their community using {@link CommunityGrouping}, and the
+ * relationships of each community are aggregated with a primitive hash map
+ * before they are written straight into an uncompressed CSR adjacency list.
+ * The node ids of the contracted graph map back to the original community ids.
+ */
+public final class CommunityContraction {
+
+    private static final long COMMUNITY_BATCH_SIZE = 64;
+
+    private final Graph graph;
+    private final LongUnaryOperator communityIds;
+    private final long maxCommunityId;
+    private final Orientation orientation;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AllocationTracker allocationTracker;
+
+    public CommunityContraction(
+        Graph graph,
+        LongUnaryOperator communityIds,
+        long maxCommunityId,
+        Orientation orientation,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker
+    ) {
+        this.graph = graph;
+        this.communityIds = communityIds;
+        this.maxCommunityId = maxCommunityId;
+        this.orientation = orientation;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.allocationTracker = allocationTracker;
+    }
+
+    public Graph compute() {
+        var grouping = CommunityGrouping.of(
+            graph.nodeCount(),
+            communityIds,
+            maxCommunityId,
+            concurrency,
+            executorService,
+            allocationTracker
+        );
+        var idMap = grouping.communities();
+        var relationships = aggregateRelationships(idMap, grouping);
+        return GraphFactory.create(idMap, relationships, allocationTracker);
+    }
+
+    private Relationships aggregateRelationships(IdMap idMap, CommunityGrouping grouping) {
+        long communityCount = idMap.nodeCount();
+        var listBuilderFactory = TransientUncompressedCsrListBuilderFactory.of(allocationTracker);
+        var adjacencyBuilder = listBuilderFactory.newAdjacencyListBuilder();
+        var propertiesBuilder = listBuilderFactory.newAdjacencyPropertiesBuilder();
+
+        var degrees = HugeIntArray.newArray(communityCount, allocationTracker);
+        var adjacencyOffsets = HugeLongArray.newArray(communityCount, allocationTracker);
+        var propertyOffsets = HugeLongArray.newArray(communityCount, allocationTracker);
+
+        var nextCommunity = new AtomicLong();
+        var relationshipCount = new LongAdder();
+        // An undirected graph stores every relationship in both directions, previously both of them
+        // have been inserted into an undirected builder, which doubled the aggregated weights.
+        double weightFactor = orientation == Orientation.UNDIRECTED ? 2.0 : 1.0;
+
+        var tasks = ParallelUtil.tasks(concurrency, () -> new Aggregator(
+            graph.concurrentCopy(),
+            communityIds,
+            idMap,
+            grouping,
+            nextCommunity,
+            communityCount,
+            weightFactor,
+            adjacencyBuilder.newAllocator(),
+            propertiesBuilder.newAllocator(),
+            degrees,
+            adjacencyOffsets,
+            propertyOffsets,
+            relationshipCount
+        ));
+        ParallelUtil.run(tasks, executorService);
+
+        return Relationships.of(
+            relationshipCount.sum(),
+            orientation,
+            false,
+            adjacencyBuilder.build(degrees, adjacencyOffsets),
+            propertiesBuilder.build(degrees, propertyOffsets),
+            DefaultValue.DOUBLE_DEFAULT_FALLBACK
+        );
+    }
+
+    private static final class Aggregator implements Runnable {
+
+        private final Graph graph;
+        private final LongUnaryOperator communityIds;
+        private final IdMap idMap;
+        private final CommunityGrouping members;
+        private final AtomicLong nextCommunity;
+        private final long communityCount;
+        private final double weightFactor;
+        private final CsrListBuilder.Allocator<long[]> adjacencyAllocator;
+        private final CsrListBuilder.Allocator<long[]> propertiesAllocator;
+        private final HugeIntArray degrees;
+        private final HugeLongArray adjacencyOffsets;
+        private final HugeLongArray propertyOffsets;
+        private final LongAdder relationshipCount;
+
+        private final LongDoubleHashMap weights;
+        private long[] targets;
+        private long[] properties;
+
+        private Aggregator(
+            Graph graph,
+            LongUnaryOperator communityIds,
+            IdMap idMap,
+            CommunityGrouping members,
+            AtomicLong nextCommunity,
+            long communityCount,
+            double weightFactor,
+            CsrListBuilder.Allocator<long[]> adjacencyAllocator,
+            CsrListBuilder.Allocator<long[]> propertiesAllocator,
+            HugeIntArray degrees,
+            HugeLongArray adjacencyOffsets,
+            HugeLongArray propertyOffsets,
+            LongAdder relationshipCount
+        ) {
+            this.graph = graph;
+            this.communityIds = communityIds;
+            this.idMap = idMap;
+            this.members = members;
+            this.nextCommunity = nextCommunity;
+            this.communityCount = communityCount;
+            this.weightFactor = weightFactor;
+            this.adjacencyAllocator = adjacencyAllocator;
+            this.propertiesAllocator = propertiesAllocator;
+            this.degrees = degrees;
+            this.adjacencyOffsets = adjacencyOffsets;
+            this.propertyOffsets = propertyOffsets;
+            this.relationshipCount = relationshipCount;
+            this.weights = new LongDoubleHashMap();
+            this.targets = new long[0];
+            this.properties = new long[0];
+        }
+
+        @Override
+        public void run() {
+            try {
+                long batchStart;
+                while ((batchStart = nextCommunity.getAndAdd(COMMUNITY_BATCH_SIZE)) < communityCount) {
+                    long batchEnd = Math.min(batchStart + COMMUNITY_BATCH_SIZE, communityCount);
+                    for (long community = batchStart; community < batchEnd; community++) {
+                        aggregate(community);
+                    }
+                }
+            } finally {
+                adjacencyAllocator.close();
+                propertiesAllocator.close();
+            }
+        }
+
+        private void aggregate(long community) {
+            weights.clear();
+            long end = members.end(community);
+            for (long index = members.start(community); index < end; index++) {
+                graph.forEachRelationship(members.member(index), 1.0, (source, target, weight) -> {
+                    weights.addTo(idMap.toMappedNodeId(communityIds.applyAsLong(target)), weight);
+                    return true;
+                });
+            }
+
+            int degree = weights.size();
+            if (degree == 0) {
+                return;
+            }
+            if (targets.length < degree) {
+                targets = new long[degree];
+                properties = new long[degree];
+            }
+
+            int i = 0;
+            for (LongCursor cursor : weights.keys()) {
+                targets[i++] = cursor.value;
+            }
+            Arrays.sort(targets, 0, degree);
+            for (i = 0; i < degree; i++) {
+                properties[i] = Double.doubleToLongBits(weights.get(targets[i]) * weightFactor);
+            }
+
+            degrees.set(community, degree);
+            adjacencyOffsets.set(community, adjacencyAllocator.write(slice(targets, degree), degree));
+            propertyOffsets.set(community, propertiesAllocator.write(slice(properties, degree), degree));
+            relationshipCount.add(degree);
+        }
+
+        /**
+         * Lists that do not fit into a page are stored as their own page without being copied,
+         * so they must not share the reusable buffer.
+         */
+        private static long[] slice(long[] buffer, int length) {
+            return length > BumpAllocator.PAGE_SIZE ? Arrays.copyOf(buffer, length) : buffer;
+        }
+    }
+}
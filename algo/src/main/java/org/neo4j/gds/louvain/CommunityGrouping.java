@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.louvain;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.loading.IdMap;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.utils.BiLongConsumer;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeMergeSort;
+import org.neo4j.gds.core.utils.paged.HugeSparseLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Groups the nodes of a graph by their community.
+ * <p>
+ * Community ids are renumbered into a dense id space from the distinct ids that are present,
+ * so the cost does not depend on the largest community id. The distinct ids are collected per
+ * partition and merge sorted, the mapping between dense and original community ids is exposed
+ * as an {@link IdMap}.
+ * Nodes are then grouped by their dense community using a parallel counting sort.
+ */
+public final class CommunityGrouping {
+
+    private final IdMap communities;
+    private final HugeLongArray members;
+    private final HugeAtomicLongArray memberEnds;
+
+    /**
+     * Every node may be in its own community, so all arrays are estimated with one entry per node.
+     */
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(CommunityGrouping.class)
+            .perNode("community candidates", nodeCount -> HugeLongArray.memoryEstimation(nodeCount) * 2)
+            .perNode("community ids", HugeLongArray::memoryEstimation)
+            .rangePerNode("community mapping", nodeCount -> HugeSparseLongArray.memoryEstimation(nodeCount, nodeCount))
+            .perNode("member ends", HugeAtomicLongArray::memoryEstimation)
+            .perNode("members", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    public static CommunityGrouping of(
+        long nodeCount,
+        LongUnaryOperator communityIds,
+        long maxCommunityId,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker
+    ) {
+        var communities = renumberCommunities(
+            nodeCount,
+            communityIds,
+            maxCommunityId,
+            concurrency,
+            executorService,
+            allocationTracker
+        );
+
+        long communityCount = communities.nodeCount();
+        var memberEnds = HugeAtomicLongArray.newArray(communityCount, allocationTracker);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> memberEnds.getAndAdd(communities.toMappedNodeId(communityIds.applyAsLong(nodeId)), 1)
+        );
+
+        new PrefixSum(concurrency, executorService).compute(communityCount, memberEnds::get, memberEnds::set);
+
+        var members = HugeLongArray.newArray(nodeCount, allocationTracker);
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+            long community = communities.toMappedNodeId(communityIds.applyAsLong(nodeId));
+            members.set(memberEnds.getAndAdd(community, 1), nodeId);
+        });
+
+        return new CommunityGrouping(communities, members, memberEnds);
+    }
+
+    private CommunityGrouping(IdMap communities, HugeLongArray members, HugeAtomicLongArray memberEnds) {
+        this.communities = communities;
+        this.members = members;
+        this.memberEnds = memberEnds;
+    }
+
+    /**
+     * Maps original community ids to dense community ids in {@code [0, communityCount())}
+     * and back. Dense ids are assigned in ascending order of the original community ids.
+     */
+    public IdMap communities() {
+        return communities;
+    }
+
+    public long communityCount() {
+        return communities.nodeCount();
+    }
+
+    /**
+     * The members of the dense community {@code community} are stored at
+     * {@code [start(community), end(community))}.
+     */
+    public long start(long community) {
+        return community == 0 ? 0 : memberEnds.get(community - 1);
+    }
+
+    public long end(long community) {
+        return memberEnds.get(community);
+    }
+
+    public long member(long index) {
+        return members.get(index);
+    }
+
+    private static IdMap renumberCommunities(
+        long nodeCount,
+        LongUnaryOperator communityIds,
+        long maxCommunityId,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker
+    ) {
+        var partitions = PartitionUtils.rangePartition(concurrency, nodeCount, partition -> partition, Optional.empty());
+        var partitionCommunities = new long[partitions.size()][];
+
+        var collectTasks = new Runnable[partitions.size()];
+        for (int i = 0; i < partitions.size(); i++) {
+            int partitionIndex = i;
+            Partition partition = partitions.get(i);
+            collectTasks[i] = () -> {
+                var distinctCommunities = new LongHashSet();
+                partition.consume(nodeId -> distinctCommunities.add(communityIds.applyAsLong(nodeId)));
+                partitionCommunities[partitionIndex] = distinctCommunities.toArray();
+            };
+        }
+        ParallelUtil.run(Arrays.asList(collectTasks), executorService);
+
+        // Communities can occur in several partitions, the sorted candidates are de-duplicated afterwards.
+        long candidateCount = Arrays.stream(partitionCommunities).mapToLong(ids -> ids.length).sum();
+        var candidates = HugeLongArray.newArray(candidateCount, allocationTracker);
+        long offset = 0;
+        for (long[] ids : partitionCommunities) {
+            for (long communityId : ids) {
+                candidates.set(offset++, communityId);
+            }
+        }
+        HugeMergeSort.sort(candidates, concurrency, allocationTracker);
+
+        long communityCount = 0;
+        for (long index = 0; index < candidateCount; index++) {
+            if (index == 0 || candidates.get(index) != candidates.get(index - 1)) {
+                communityCount++;
+            }
+        }
+
+        var graphIds = HugeLongArray.newArray(communityCount, allocationTracker);
+        long mappedId = 0;
+        for (long index = 0; index < candidateCount; index++) {
+            if (index == 0 || candidates.get(index) != candidates.get(index - 1)) {
+                graphIds.set(mappedId++, candidates.get(index));
+            }
+        }
+        allocationTracker.remove(candidates.release());
+
+        var nodeToGraphIds = HugeSparseLongArray.GrowingBuilder.create(allocationTracker);
+        ParallelUtil.parallelForEachNode(
+            communityCount,
+            concurrency,
+            communityId -> nodeToGraphIds.set(graphIds.get(communityId), communityId)
+        );
+
+        return new IdMap(
+            graphIds,
+            nodeToGraphIds.build(),
+            LabelInformation.emptyBuilder(allocationTracker).build(),
+            communityCount,
+            maxCommunityId,
+            allocationTracker
+        );
+    }
+
+    private static final class PrefixSum {
+        private final int concurrency;
+        private final ExecutorService executorService;
+
+        private PrefixSum(int concurrency, ExecutorService executorService) {
+            this.concurrency = concurrency;
+            this.executorService = executorService;
+        }
+
+        /**
+         * Calls {@code prefixConsumer} with every index in {@code [0, size)} and the sum of all
+         * values before that index. Partition totals are computed in parallel, followed by a
+         * sequential scan over the partitions and a second parallel pass over the indices.
+         */
+        void compute(long size, LongUnaryOperator values, BiLongConsumer prefixConsumer) {
+            var partitions = PartitionUtils.rangePartition(concurrency, size, partition -> partition, Optional.empty());
+            var partitionTotals = new long[partitions.size()];
+
+            var sumTasks = new Runnable[partitions.size()];
+            for (int i = 0; i < partitions.size(); i++) {
+                int partitionIndex = i;
+                Partition partition = partitions.get(i);
+                sumTasks[i] = () -> {
+                    long total = 0;
+                    long end = partition.startNode() + partition.nodeCount();
+                    for (long index = partition.startNode(); index < end; index++) {
+                        total += values.applyAsLong(index);
+                    }
+                    partitionTotals[partitionIndex] = total;
+                };
+            }
+            ParallelUtil.run(Arrays.asList(sumTasks), executorService);
+
+            long offset = 0;
+            for (int i = 0; i < partitionTotals.length; i++) {
+                long total = partitionTotals[i];
+                partitionTotals[i] = offset;
+                offset += total;
+            }
+
+            var prefixTasks = new Runnable[partitions.size()];
+            for (int i = 0; i < partitions.size(); i++) {
+                long partitionOffset = partitionTotals[i];
+                Partition partition = partitions.get(i);
+                prefixTasks[i] = () -> {
+                    long prefix = partitionOffset;
+                    long end = partition.startNode() + partition.nodeCount();
+                    for (long index = partition.startNode(); index < end; index++) {
+                        long value = values.applyAsLong(index);
+                        prefixConsumer.apply(index, prefix);
+                        prefix += value;
+                    }
+                };
+            }
+            ParallelUtil.run(Arrays.asList(prefixTasks), executorService);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.leiden;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryTree;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class LeidenRefinementTest {
+
+    // two triangles that are not connected to each other
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (a)-[:TYPE]->(b)" +
+        ", (a)-[:TYPE]->(c)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (d)-[:TYPE]->(e)" +
+        ", (d)-[:TYPE]->(f)" +
+        ", (e)-[:TYPE]->(f)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldSplitDisconnectedCommunity() {
+        // local moving put both triangles into the same community
+        var refinedCommunities = refine(nodeId -> 0L, AllocationTracker.empty());
+
+        var firstTriangle = refinedCommunities(refinedCommunities, "a", "b", "c");
+        var secondTriangle = refinedCommunities(refinedCommunities, "d", "e", "f");
+
+        assertThat(firstTriangle).doesNotContainAnyElementsOf(secondTriangle);
+    }
+
+    @Test
+    void shouldMergeNodesWithinTheirCommunity() {
+        var refinedCommunities = refine(nodeId -> 0L, AllocationTracker.empty());
+
+        long distinctCommunities = Arrays.stream(refinedCommunities.toArray()).distinct().count();
+        assertThat(distinctCommunities).isLessThan(graph.nodeCount());
+    }
+
+    @Test
+    void shouldNotMergeAcrossCommunities() {
+        // every node is in its own community, so nothing can be merged
+        var refinedCommunities = refine(nodeId -> nodeId, AllocationTracker.empty());
+
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            assertThat(refinedCommunities.get(nodeId)).isEqualTo(nodeId);
+        }
+    }
+
+    @Test
+    void shouldStayWithinMemoryEstimation() {
+        var allocationTracker = AllocationTracker.create();
+        refine(nodeId -> 0L, allocationTracker);
+
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(graph.nodeCount())
+            .maxRelCount(graph.relationshipCount())
+            .build();
+        var config = ImmutableLeidenStreamConfig.builder().build();
+        MemoryTree memoryTree = new LeidenFactory<>().memoryEstimation(config).estimate(dimensions, 1);
+
+        long estimatedBytes = memoryTree.components().stream()
+            .filter(component -> Set.of("refinement", "communityGrouping").contains(component.description()))
+            .mapToLong(component -> component.memoryUsage().max)
+            .sum();
+
+        assertThat(allocationTracker.trackedBytes()).isPositive().isLessThanOrEqualTo(estimatedBytes);
+    }
+
+    private HugeLongArray refine(LongUnaryOperator communityIds, AllocationTracker allocationTracker) {
+        long maxCommunityId = 0;
+        for (long nodeId = 0; nodeId < graph.nodeCount(); nodeId++) {
+            maxCommunityId = Math.max(maxCommunityId, communityIds.applyAsLong(nodeId));
+        }
+        return new LeidenRefinement(
+            graph,
+            communityIds,
+            maxCommunityId,
+            1,
+            Pools.DEFAULT,
+            allocationTracker
+        ).compute();
+    }
+
+    private Set<Long> refinedCommunities(HugeLongArray refinedCommunities, String... variables) {
+        return Arrays.stream(variables)
+            .map(variable -> refinedCommunities.get(idFunction.of(variable)))
+            .collect(Collectors.toSet());
+    }
+}
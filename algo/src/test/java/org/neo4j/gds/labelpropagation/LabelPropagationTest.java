@@ -26,10 +26,14 @@ import com.carrotsearch.hppc.cursors.IntObjectCursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestLog;
 import org.neo4j.gds.TestProgressLogger;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
@@ -44,7 +48,10 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.LongStream;
@@ -90,6 +97,41 @@ class LabelPropagationTest {
     @Inject
     private TestGraph graph;
 
+    // the labels only converge within the given iterations if changes are seen within the same iteration
+    @GdlGraph(graphNamePrefix = "undirectedChain", orientation = Orientation.UNDIRECTED)
+    private static final String UNDIRECTED_CHAIN =
+        "CREATE" +
+        "  (a {seed: 0})" +
+        ", (b {seed: 1})" +
+        ", (c {seed: 2})" +
+        ", (d {seed: 3})" +
+        ", (e {seed: 4})" +
+        ", (f {seed: 5})" +
+        ", (a)-[:REL]->(b)" +
+        ", (a)-[:REL]->(f)" +
+        ", (c)-[:REL]->(d)" +
+        ", (c)-[:REL]->(e)" +
+        ", (d)-[:REL]->(f)";
+
+    @Inject
+    private TestGraph undirectedChainGraph;
+
+    @GdlGraph(graphNamePrefix = "directedCycle")
+    private static final String DIRECTED_CYCLE =
+        "CREATE" +
+        "  (a {seed: 0})" +
+        ", (b {seed: 1})" +
+        ", (c {seed: 2})" +
+        ", (d {seed: 3})" +
+        ", (a)-[:REL]->(b)" +
+        ", (b)-[:REL]->(c)" +
+        ", (c)-[:REL]->(b)" +
+        ", (c)-[:REL]->(d)" +
+        ", (d)-[:REL]->(a)";
+
+    @Inject
+    private TestGraph directedCycleGraph;
+
     @Test
     void shouldUseOriginalNodeIdWhenSeedPropertyIsMissing() {
         LabelPropagation lp = new LabelPropagation(
@@ -205,9 +247,9 @@ class LabelPropagationTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 800_480L, 4_994_656L),
-            Arguments.of(4, 801_560L, 17_578_264L),
-            Arguments.of(42, 815_240L, 176_970_632L)
+            Arguments.of(1, 825_672L, 5_019_848L),
+            Arguments.of(4, 826_800L, 17_603_504L),
+            Arguments.of(42, 841_088L, 176_996_480L)
         );
     }
 
@@ -223,6 +265,80 @@ class LabelPropagationTest {
         );
     }
 
+    @ParameterizedTest
+    @EnumSource(value = Orientation.class, names = {"NATURAL", "UNDIRECTED"})
+    void shouldOnlyRevisitChangedNeighborhoods(Orientation orientation) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(3)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .orientation(orientation)
+            .seed(42L)
+            .build()
+            .generate();
+        var maxIterations = 10;
+
+        var labelPropagation = new LabelPropagation(
+            randomGraph,
+            ImmutableLabelPropagationStreamConfig.builder().maxIterations(maxIterations).concurrency(1).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        );
+        labelPropagation.withBatchSize((int) randomGraph.nodeCount());
+        labelPropagation.compute();
+
+        // a single batch visits all nodes in order, same as a sequential label propagation that visits every node
+        var expectedLabels = new long[(int) randomGraph.nodeCount()];
+        Arrays.setAll(expectedLabels, randomGraph::toOriginalNodeId);
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            var didChange = false;
+            for (int nodeId = 0; nodeId < expectedLabels.length; nodeId++) {
+                var votes = new HashMap<Long, Double>();
+                randomGraph.forEachRelationship(nodeId, (source, target) -> {
+                    votes.merge(expectedLabels[(int) target], 1.0, Double::sum);
+                    return true;
+                });
+                var newLabel = votes.entrySet().stream()
+                    .max(Comparator.<Map.Entry<Long, Double>>comparingDouble(Map.Entry::getValue)
+                        .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()))
+                    .map(Map.Entry::getKey)
+                    .orElse(expectedLabels[nodeId]);
+                if (newLabel != expectedLabels[nodeId]) {
+                    expectedLabels[nodeId] = newLabel;
+                    didChange = true;
+                }
+            }
+            if (!didChange) {
+                break;
+            }
+        }
+
+        assertArrayEquals(expectedLabels, labelPropagation.labels().toArray());
+    }
+
+    @Test
+    void shouldRevisitNodesWithNeighborsChangedInTheSameIteration() {
+        assertArrayEquals(new long[]{1, 1, 1, 1, 1, 1}, sequentialLabels(undirectedChainGraph, 3));
+        assertArrayEquals(new long[]{1, 1, 1, 1}, sequentialLabels(directedCycleGraph, 4));
+    }
+
+    private static long[] sequentialLabels(Graph graph, int maxIterations) {
+        var labelPropagation = new LabelPropagation(
+            graph,
+            ImmutableLabelPropagationStreamConfig.builder()
+                .seedProperty("seed")
+                .maxIterations(maxIterations)
+                .concurrency(1)
+                .build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        );
+        labelPropagation.withBatchSize((int) graph.nodeCount());
+        return labelPropagation.compute().labels().toArray();
+    }
+
     @Test
     void shouldBoundMemEstimationToMaxSupportedDegree() {
         var labelPropagationFactory = new LabelPropagationFactory<>();
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.louvain;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class CommunityContractionTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a)" +
+        ", (b)" +
+        ", (c)" +
+        ", (d)" +
+        ", (e)" +
+        ", (a)-[:REL {weight: 1.0}]->(b)" +
+        ", (b)-[:REL {weight: 2.0}]->(a)" +
+        ", (a)-[:REL {weight: 3.0}]->(c)" +
+        ", (b)-[:REL {weight: 4.0}]->(d)" +
+        ", (c)-[:REL {weight: 5.0}]->(e)" +
+        ", (d)-[:REL {weight: 6.0}]->(e)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String UNDIRECTED = DB_CYPHER;
+
+    @Inject
+    private Graph undirectedGraph;
+
+    @Inject
+    private IdFunction undirectedIdFunction;
+
+    @GdlGraph(graphNamePrefix = "selfLoop")
+    private static final String SELF_LOOP =
+        DB_CYPHER +
+        ", (c)-[:REL {weight: 7.0}]->(c)" +
+        ", (e)-[:REL {weight: 8.0}]->(e)";
+
+    @Inject
+    private Graph selfLoopGraph;
+
+    @Inject
+    private IdFunction selfLoopIdFunction;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldContractCommunities(int concurrency) {
+        var contracted = contract(graph, idFunction, 42L, 7L, 1337L, Orientation.NATURAL, concurrency);
+
+        assertThat(contracted.nodeCount()).isEqualTo(3);
+        assertThat(contracted.relationshipCount()).isEqualTo(3);
+        // communities are renumbered in ascending order of their id
+        assertThat(contracted.toOriginalNodeId(0)).isEqualTo(7L);
+        assertThat(contracted.toOriginalNodeId(1)).isEqualTo(42L);
+        assertThat(contracted.toOriginalNodeId(2)).isEqualTo(1337L);
+
+        assertThat(weights(contracted)).containsExactlyInAnyOrderEntriesOf(Map.of(
+            "42->42", 3.0,
+            "42->7", 7.0,
+            "7->1337", 11.0
+        ));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldDoubleWeightsOfUndirectedGraphs(int concurrency) {
+        var contracted = contract(
+            undirectedGraph,
+            undirectedIdFunction,
+            42L,
+            7L,
+            1337L,
+            Orientation.UNDIRECTED,
+            concurrency
+        );
+
+        assertThat(contracted.nodeCount()).isEqualTo(3);
+        assertThat(contracted.relationshipCount()).isEqualTo(5);
+        // undirected relationships are stored in both directions and their aggregated weights are doubled
+        assertThat(weights(contracted)).containsExactlyInAnyOrderEntriesOf(Map.of(
+            "42->42", 12.0,
+            "42->7", 14.0,
+            "7->42", 14.0,
+            "7->1337", 22.0,
+            "1337->7", 22.0
+        ));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldKeepSelfLoopsAsCommunityWeights(int concurrency) {
+        var contracted = contract(selfLoopGraph, selfLoopIdFunction, 42L, 7L, 1337L, Orientation.NATURAL, concurrency);
+
+        assertThat(contracted.nodeCount()).isEqualTo(3);
+        assertThat(contracted.relationshipCount()).isEqualTo(5);
+        assertThat(weights(contracted)).containsExactlyInAnyOrderEntriesOf(Map.of(
+            "42->42", 3.0,
+            "42->7", 7.0,
+            "7->7", 7.0,
+            "7->1337", 11.0,
+            "1337->1337", 8.0
+        ));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldNotScaleWithTheLargestCommunityId(int concurrency) {
+        long seed = 1L << 32;
+        var allocationTracker = AllocationTracker.create();
+        var contracted = contract(
+            graph,
+            idFunction,
+            seed + 42L,
+            seed + 7L,
+            seed + 1337L,
+            Orientation.NATURAL,
+            concurrency,
+            allocationTracker
+        );
+
+        assertThat(contracted.nodeCount()).isEqualTo(3);
+        assertThat(contracted.toOriginalNodeId(0)).isEqualTo(seed + 7L);
+        assertThat(contracted.toOriginalNodeId(1)).isEqualTo(seed + 42L);
+        assertThat(contracted.toOriginalNodeId(2)).isEqualTo(seed + 1337L);
+        assertThat(contracted.toMappedNodeId(seed + 42L)).isEqualTo(1L);
+        assertThat(weights(contracted)).containsExactlyInAnyOrderEntriesOf(Map.of(
+            (seed + 42L) + "->" + (seed + 42L), 3.0,
+            (seed + 42L) + "->" + (seed + 7L), 7.0,
+            (seed + 7L) + "->" + (seed + 1337L), 11.0
+        ));
+        // a dense bit set over all community ids up to the seed alone would take 512 MiB
+        assertThat(allocationTracker.trackedBytes()).isLessThan(8L * 1024 * 1024);
+    }
+
+    private static Graph contract(
+        Graph graph,
+        IdFunction idFunction,
+        long communityAB,
+        long communityCD,
+        long communityE,
+        Orientation orientation,
+        int concurrency
+    ) {
+        return contract(
+            graph,
+            idFunction,
+            communityAB,
+            communityCD,
+            communityE,
+            orientation,
+            concurrency,
+            AllocationTracker.empty()
+        );
+    }
+
+    private static Graph contract(
+        Graph graph,
+        IdFunction idFunction,
+        long communityAB,
+        long communityCD,
+        long communityE,
+        Orientation orientation,
+        int concurrency,
+        AllocationTracker allocationTracker
+    ) {
+        var communities = Map.of(
+            idFunction.of("a"), communityAB,
+            idFunction.of("b"), communityAB,
+            idFunction.of("c"), communityCD,
+            idFunction.of("d"), communityCD,
+            idFunction.of("e"), communityE
+        );
+
+        return new CommunityContraction(
+            graph,
+            nodeId -> communities.get(graph.toOriginalNodeId(nodeId)),
+            Math.max(communityAB, Math.max(communityCD, communityE)),
+            orientation,
+            concurrency,
+            Pools.DEFAULT,
+            allocationTracker
+        ).compute();
+    }
+
+    private static Map<String, Double> weights(Graph contracted) {
+        var weights = new HashMap<String, Double>();
+        contracted.forEachNode(nodeId -> {
+            contracted.forEachRelationship(nodeId, Double.NaN, (source, target, weight) -> {
+                weights.put(
+                    contracted.toOriginalNodeId(source) + "->" + contracted.toOriginalNodeId(target),
+                    weight
+                );
+                return true;
+            });
+            return true;
+        });
+        return weights;
+    }
+}
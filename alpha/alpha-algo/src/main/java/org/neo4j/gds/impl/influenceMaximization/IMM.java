@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.influenceMaximization;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongScatterSet;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.results.InfluenceMaximizationResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Influence maximization under the Independent Cascade model based on reverse reachable (RR) sets.
+ *
+ * An RR set is the set of nodes that reach a uniformly drawn root node when every relationship
+ * is kept with the propagation probability. The fraction of RR sets covered by a seed set is an
+ * unbiased estimator of its spread divided by the node count, so seeds are selected greedily
+ * as a maximum coverage over a sample of RR sets. The number of sets is chosen by the IMM
+ * algorithm such that the result is a (1 - 1/e - epsilon)-approximation with probability of
+ * at least 1 - 1/n.
+ *
+ * RR sets are sampled in parallel, every worker appends its sets to its own {@link RRSetStore}.
+ * Results are deterministic for a fixed random seed and concurrency.
+ *
+ * specified in: Tang et al., "Influence Maximization in Near-Linear Time: A Martingale Approach", 2015
+ */
+public class IMM extends Algorithm<IMM, IMM> {
+
+    private static final double ONE_MINUS_INV_E = 1.0 - 1.0 / Math.E;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final int seedSetCount;
+    private final double propagationProbability;
+    private final double epsilon;
+    private final long randomSeed;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final AllocationTracker allocationTracker;
+
+    private final List<RRSetSampler> samplers;
+    // incoming relationships of directed graphs, undirected graphs are traversed directly
+    private HugeLongArray incomingOffsets;
+    private HugeLongArray incomingSources;
+
+    private long[] seeds;
+    private double[] spreads;
+
+    /*
+     * seedSetCount:            Number of seed set nodes
+     * propagationProbability:  Propagation Probability
+     * epsilon:                 Approximation error, smaller values sample more RR sets
+     */
+    public IMM(
+        Graph graph,
+        int seedSetCount,
+        double propagationProbability,
+        double epsilon,
+        Optional<Long> randomSeed,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        AllocationTracker allocationTracker
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.seedSetCount = (int) Math.min(seedSetCount, nodeCount); // k <= nodeCount
+        this.propagationProbability = propagationProbability;
+        this.epsilon = epsilon;
+        this.randomSeed = randomSeed.orElseGet(() -> new SplittableRandom().nextLong());
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.progressTracker = progressTracker;
+        this.allocationTracker = allocationTracker;
+        this.samplers = new ArrayList<>(concurrency);
+    }
+
+    @Override
+    public IMM compute() {
+        progressTracker.beginSubTask();
+
+        if (nodeCount == 0) {
+            this.seeds = new long[0];
+            this.spreads = new double[0];
+            progressTracker.endSubTask();
+            return this;
+        }
+
+        if (!graph.isUndirected()) {
+            buildIncomingRelationships();
+        }
+        var random = new SplittableRandom(randomSeed);
+        for (int i = 0; i < concurrency; i++) {
+            samplers.add(new RRSetSampler(random.split()));
+        }
+
+        double n = nodeCount;
+        double logN = Math.log(Math.max(n, 2));
+        double log2N = Math.log(n) / Math.log(2);
+        double logBinomial = logBinomial(nodeCount, seedSetCount);
+        // raises the success probability to 1 - 1/n after the union bound over both phases
+        double ell = 1.0 + Math.log(2) / logN;
+
+        // phase 1: estimate a lower bound of the optimal spread by statistical testing
+        double epsilonPrime = Math.sqrt(2) * epsilon;
+        double lambdaPrime = (2 + 2 * epsilonPrime / 3)
+                             * (logBinomial + ell * logN + Math.log(Math.max(log2N, 1)))
+                             * n / (epsilonPrime * epsilonPrime);
+        double lowerBound = 1;
+        for (int i = 1; i <= log2N - 1; i++) {
+            assertRunning();
+            double x = n / Math.pow(2, i);
+            sampleUntil((long) Math.ceil(lambdaPrime / x));
+            double estimate = n * selectSeeds().coverage;
+            progressTracker.logProgress();
+            if (estimate >= (1 + epsilonPrime) * x) {
+                lowerBound = estimate / (1 + epsilonPrime);
+                break;
+            }
+        }
+
+        // phase 2: sample enough sets for the approximation guarantee and select the final seeds
+        assertRunning();
+        double alpha = Math.sqrt(ell * logN + Math.log(2));
+        double beta = Math.sqrt(ONE_MINUS_INV_E * (logBinomial + ell * logN + Math.log(2)));
+        double lambdaStar = 2 * n * Math.pow(ONE_MINUS_INV_E * alpha + beta, 2) / (epsilon * epsilon);
+        sampleUntil((long) Math.ceil(lambdaStar / lowerBound));
+
+        var selection = selectSeeds();
+        this.seeds = selection.seeds;
+        this.spreads = selection.spreads;
+        progressTracker.logProgress();
+
+        progressTracker.endSubTask();
+        return this;
+    }
+
+    @Override
+    public IMM me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        samplers.forEach(sampler -> sampler.store.release());
+        if (incomingOffsets != null) {
+            incomingOffsets.release();
+            incomingSources.release();
+        }
+    }
+
+    public double getNodeSpread(long node) {
+        for (int i = 0; i < seeds.length; i++) {
+            if (seeds[i] == node) {
+                return spreads[i];
+            }
+        }
+        return 0;
+    }
+
+    public Stream<InfluenceMaximizationResult> resultStream() {
+        return IntStream.range(0, seeds.length)
+            .mapToObj(i -> new InfluenceMaximizationResult(graph.toOriginalNodeId(seeds[i]), spreads[i]));
+    }
+
+    /**
+     * Samples additional RR sets until at least {@code setCount} sets exist.
+     */
+    private void sampleUntil(long setCount) {
+        long missing = setCount - totalSetCount();
+        if (missing <= 0) {
+            return;
+        }
+        for (int i = 0; i < samplers.size(); i++) {
+            samplers.get(i).setsToSample = missing / concurrency + (i < missing % concurrency ? 1 : 0);
+        }
+        ParallelUtil.run(samplers, executor);
+    }
+
+    private long totalSetCount() {
+        long setCount = 0;
+        for (RRSetSampler sampler : samplers) {
+            setCount += sampler.store.setCount();
+        }
+        return setCount;
+    }
+
+    /**
+     * Greedy maximum coverage over all RR sets sampled so far. An inverted index from nodes to
+     * the sets containing them is built from scratch, since every call sees more sets.
+     */
+    private Selection selectSeeds() {
+        // global set ids are assigned sampler by sampler
+        long[] firstSetIds = new long[samplers.size() + 1];
+        long memberCount = 0;
+        for (int i = 0; i < samplers.size(); i++) {
+            var store = samplers.get(i).store;
+            firstSetIds[i + 1] = firstSetIds[i] + store.setCount();
+            memberCount += store.size();
+        }
+        long setCount = firstSetIds[samplers.size()];
+
+        var coverage = HugeAtomicLongArray.newArray(nodeCount, allocationTracker);
+        forEachStore((store, firstSetId) -> {
+            for (long i = 0; i < store.size(); i++) {
+                coverage.getAndAdd(store.get(i), 1);
+            }
+        });
+
+        var indexOffsets = HugeLongArray.newArray(nodeCount + 1, allocationTracker);
+        var cursors = HugeAtomicLongArray.newArray(nodeCount, allocationTracker);
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            indexOffsets.set(nodeId, offset);
+            cursors.set(nodeId, offset);
+            offset += coverage.get(nodeId);
+        }
+        indexOffsets.set(nodeCount, offset);
+
+        var setIndex = HugeLongArray.newArray(memberCount, allocationTracker);
+        forEachStore((store, firstSetId) -> {
+            for (int setId = 0; setId < store.setCount(); setId++) {
+                for (long i = store.setStart(setId); i < store.setEnd(setId); i++) {
+                    setIndex.set(cursors.getAndAdd(store.get(i), 1), firstSetId + setId);
+                }
+            }
+        });
+        cursors.release();
+
+        var queue = new HugeLongPriorityQueue(nodeCount) {
+            @Override
+            protected boolean lessThan(long a, long b) {
+                return costValues.get(a) != costValues.get(b) ? costValues.get(a) > costValues.get(b) : a < b;
+            }
+        };
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            queue.add(nodeId, coverage.get(nodeId));
+        }
+
+        var covered = new BitSet(setCount);
+        long coveredSets = 0;
+        var selection = new Selection(seedSetCount);
+        for (int seed = 0; seed < seedSetCount; seed++) {
+            // coverage only decreases, so a node whose queued coverage is current is the best one
+            long node = queue.top();
+            while (queue.cost(node) != coverage.get(node)) {
+                queue.set(node, coverage.get(node));
+                node = queue.top();
+            }
+            queue.pop();
+
+            for (long i = indexOffsets.get(node); i < indexOffsets.get(node + 1); i++) {
+                long setId = setIndex.get(i);
+                if (covered.get(setId)) {
+                    continue;
+                }
+                covered.set(setId);
+                coveredSets++;
+
+                int samplerIndex = samplerOf(firstSetIds, setId);
+                var store = samplers.get(samplerIndex).store;
+                int localSetId = (int) (setId - firstSetIds[samplerIndex]);
+                for (long j = store.setStart(localSetId); j < store.setEnd(localSetId); j++) {
+                    coverage.getAndAdd(store.get(j), -1);
+                }
+            }
+
+            selection.seeds[seed] = node;
+            selection.spreads[seed] = nodeCount * (double) coveredSets / setCount;
+        }
+        selection.coverage = (double) coveredSets / setCount;
+
+        queue.release();
+        setIndex.release();
+        indexOffsets.release();
+        coverage.release();
+        return selection;
+    }
+
+    private static int samplerOf(long[] firstSetIds, long setId) {
+        int index = Arrays.binarySearch(firstSetIds, setId);
+        if (index < 0) {
+            return -index - 2;
+        }
+        // skip samplers without any sets
+        while (firstSetIds[index + 1] == setId) {
+            index++;
+        }
+        return index;
+    }
+
+    private void forEachStore(StoreConsumer consumer) {
+        List<Runnable> tasks = new ArrayList<>(samplers.size());
+        long firstSetId = 0;
+        for (RRSetSampler sampler : samplers) {
+            long samplerFirstSetId = firstSetId;
+            tasks.add(() -> consumer.accept(sampler.store, samplerFirstSetId));
+            firstSetId += sampler.store.setCount();
+        }
+        ParallelUtil.run(tasks, executor);
+    }
+
+    /**
+     * Builds a compressed sparse row representation of the incoming relationships. Sources are
+     * sorted per node so that sampling does not depend on the thread interleaving.
+     */
+    private void buildIncomingRelationships() {
+        var cursors = HugeAtomicLongArray.newArray(nodeCount, allocationTracker);
+        forEachNode((localGraph, nodeId) -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+            cursors.getAndAdd(target, 1);
+            return true;
+        }));
+
+        this.incomingOffsets = HugeLongArray.newArray(nodeCount + 1, allocationTracker);
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            long degree = cursors.get(nodeId);
+            incomingOffsets.set(nodeId, offset);
+            cursors.set(nodeId, offset);
+            offset += degree;
+        }
+        incomingOffsets.set(nodeCount, offset);
+
+        this.incomingSources = HugeLongArray.newArray(offset, allocationTracker);
+        forEachNode((localGraph, nodeId) -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+            incomingSources.set(cursors.getAndAdd(target, 1), source);
+            return true;
+        }));
+        cursors.release();
+
+        forEachNode((localGraph, nodeId) -> {
+            long start = incomingOffsets.get(nodeId);
+            long[] sources = new long[Math.toIntExact(incomingOffsets.get(nodeId + 1) - start)];
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = incomingSources.get(start + i);
+            }
+            Arrays.sort(sources);
+            for (int i = 0; i < sources.length; i++) {
+                incomingSources.set(start + i, sources[i]);
+            }
+        });
+    }
+
+    private void forEachNode(NodeConsumer consumer) {
+        List<Runnable> tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end && running(); nodeId++) {
+                    consumer.accept(localGraph, nodeId);
+                }
+            },
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executor);
+    }
+
+    private static double logBinomial(long n, int k) {
+        double result = 0;
+        for (int i = 0; i < k; i++) {
+            result += Math.log((double) (n - i) / (k - i));
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface NodeConsumer {
+        void accept(Graph localGraph, long nodeId);
+    }
+
+    @FunctionalInterface
+    private interface StoreConsumer {
+        void accept(RRSetStore store, long firstSetId);
+    }
+
+    private static final class Selection {
+        final long[] seeds;
+        final double[] spreads;
+        double coverage;
+
+        Selection(int seedSetCount) {
+            this.seeds = new long[seedSetCount];
+            this.spreads = new double[seedSetCount];
+        }
+    }
+
+    private final class RRSetSampler implements Runnable {
+
+        private final SplittableRandom random;
+        private final RRSetStore store;
+        private final LongScatterSet visited;
+        private final Graph localGraph;
+        private long setsToSample;
+
+        RRSetSampler(SplittableRandom random) {
+            this.random = random;
+            this.store = new RRSetStore(allocationTracker);
+            this.visited = new LongScatterSet();
+            this.localGraph = graph.isUndirected() ? graph.concurrentCopy() : null;
+        }
+
+        @Override
+        public void run() {
+            for (long i = 0; i < setsToSample && running(); i++) {
+                sample();
+            }
+            setsToSample = 0;
+        }
+
+        /**
+         * Reverse breadth first search from a random root, keeping every relationship with the
+         * propagation probability. The members of the set are used as the queue.
+         */
+        private void sample() {
+            long head = store.size();
+            visit(random.nextLong(nodeCount));
+            while (head < store.size()) {
+                long nodeId = store.get(head++);
+                if (localGraph != null) {
+                    localGraph.forEachRelationship(nodeId, (source, target) -> {
+                        tryVisit(target);
+                        return true;
+                    });
+                } else {
+                    long end = incomingOffsets.get(nodeId + 1);
+                    for (long i = incomingOffsets.get(nodeId); i < end; i++) {
+                        tryVisit(incomingSources.get(i));
+                    }
+                }
+            }
+            store.closeSet();
+            visited.clear();
+        }
+
+        private void tryVisit(long nodeId) {
+            if (!visited.contains(nodeId) && random.nextDouble() < propagationProbability) {
+                visit(nodeId);
+            }
+        }
+
+        private void visit(long nodeId) {
+            visited.add(nodeId);
+            store.add(nodeId);
+        }
+    }
+}
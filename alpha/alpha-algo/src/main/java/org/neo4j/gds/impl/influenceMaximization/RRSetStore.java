@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.influenceMaximization;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryUsage;
+import org.neo4j.gds.core.utils.paged.PageUtil;
+
+import java.util.Arrays;
+
+/**
+ * Append-only storage for reverse reachable sets.
+ *
+ * The members of all sets are written back to back into fixed size pages, so growing the
+ * store never copies sets that have already been sampled. A set is identified by its
+ * position in the store and spans the members between its offset and the offset of the
+ * next set.
+ */
+final class RRSetStore {
+
+    private static final int PAGE_SIZE = PageUtil.pageSizeFor(Long.BYTES);
+    private static final int PAGE_SHIFT = Integer.numberOfTrailingZeros(PAGE_SIZE);
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private final AllocationTracker allocationTracker;
+    private final LongArrayList setOffsets;
+    private long[][] pages;
+    private long size;
+
+    RRSetStore(AllocationTracker allocationTracker) {
+        this.allocationTracker = allocationTracker;
+        this.setOffsets = new LongArrayList();
+        this.setOffsets.add(0L);
+        this.pages = new long[0][];
+    }
+
+    /**
+     * Appends a member to the currently open set.
+     */
+    void add(long nodeId) {
+        int pageIndex = PageUtil.pageIndex(size, PAGE_SHIFT);
+        if (pageIndex == pages.length) {
+            pages = Arrays.copyOf(pages, Math.max(1, pages.length << 1));
+        }
+        if (pages[pageIndex] == null) {
+            pages[pageIndex] = new long[PAGE_SIZE];
+            allocationTracker.add(MemoryUsage.sizeOfLongArray(PAGE_SIZE));
+        }
+        pages[pageIndex][PageUtil.indexInPage(size, PAGE_MASK)] = nodeId;
+        size++;
+    }
+
+    /**
+     * Closes the currently open set, all following members belong to the next set.
+     */
+    void closeSet() {
+        setOffsets.add(size);
+    }
+
+    long get(long index) {
+        return pages[PageUtil.pageIndex(index, PAGE_SHIFT)][PageUtil.indexInPage(index, PAGE_MASK)];
+    }
+
+    /**
+     * Number of members of all sets, including the currently open one.
+     */
+    long size() {
+        return size;
+    }
+
+    int setCount() {
+        return setOffsets.size() - 1;
+    }
+
+    long setStart(int setId) {
+        return setOffsets.get(setId);
+    }
+
+    long setEnd(int setId) {
+        return setOffsets.get(setId + 1);
+    }
+
+    void release() {
+        for (long[] page : pages) {
+            if (page != null) {
+                allocationTracker.remove(MemoryUsage.sizeOfLongArray(PAGE_SIZE));
+            }
+        }
+        pages = null;
+    }
+}
@@ -57,23 +57,26 @@ public class ANPStrategy implements MultiSourceBFS.ExecutionStrategy {
         HugeLongArray visitSet,
         HugeLongArray visitNextSet,
         HugeLongArray seenSet,
-        HugeLongArray seenNextSet
+        HugeLongArray seenNextSet,
+        int wordsPerNode
     ) {
         HugeCursor<long[]> visitCursor = visitSet.newCursor();
         HugeCursor<long[]> nextCursor = visitNextSet.newCursor();
+        HugeCursor<long[]> seenCursor = seenSet.newCursor();
 
         var depth = 0;
 
         while (true) {
+            // pages hold a power of two number of longs, so a node never spans two pages
             visitSet.initCursor(visitCursor);
             while (visitCursor.next()) {
                 long[] array = visitCursor.array;
                 int offset = visitCursor.offset;
                 int limit = visitCursor.limit;
                 long base = visitCursor.base;
-                for (int i = offset; i < limit; ++i) {
-                    if (array[i] != 0L) {
-                        prepareNextVisit(relationships, array[i], base + i, visitNextSet, depth);
+                for (int i = offset; i < limit; i += wordsPerNode) {
+                    if (isNotEmpty(array, i, wordsPerNode)) {
+                        prepareNextVisit(relationships, array, i, (base + i) / wordsPerNode, visitNextSet, wordsPerNode, depth);
                     }
                 }
             }
@@ -81,22 +84,21 @@ public class ANPStrategy implements MultiSourceBFS.ExecutionStrategy {
             ++depth;
 
             boolean hasNext = false;
-            long next;
 
             visitNextSet.initCursor(nextCursor);
+            seenSet.initCursor(seenCursor);
             while (nextCursor.next()) {
+                seenCursor.next();
                 long[] array = nextCursor.array;
+                long[] seen = seenCursor.array;
                 int offset = nextCursor.offset;
                 int limit = nextCursor.limit;
                 long base = nextCursor.base;
-                for (int i = offset; i < limit; ++i) {
-                    if (array[i] != 0L) {
-                        next = visitNext(base + i, seenSet, visitNextSet);
-                        if (next != 0L) {
-                            sourceNodes.reset(next);
-                            perNodeAction.accept(base + i, depth, sourceNodes);
-                            hasNext = true;
-                        }
+                for (int i = offset; i < limit; i += wordsPerNode) {
+                    if (visitNext(array, seen, i, wordsPerNode)) {
+                        sourceNodes.reset(array, i);
+                        perNodeAction.accept((base + i) / wordsPerNode, depth, sourceNodes);
+                        hasNext = true;
                     }
                 }
             }
@@ -105,7 +107,7 @@ public class ANPStrategy implements MultiSourceBFS.ExecutionStrategy {
                 return;
             }
 
-            visitNextSet.copyTo(visitSet, totalNodeCount);
+            visitNextSet.copyTo(visitSet, totalNodeCount * wordsPerNode);
             visitNextSet.fill(0L);
         }
     }
@@ -114,26 +116,61 @@ public class ANPStrategy implements MultiSourceBFS.ExecutionStrategy {
         return !hasNext;
     }
 
+    /**
+     * Marks the neighbours of {@code nodeId} to be visited by all sources in
+     * {@code nodeVisit[offset, offset + wordsPerNode)}.
+     */
     protected void prepareNextVisit(
         RelationshipIterator relationships,
-        long nodeVisit,
+        long[] nodeVisit,
+        int offset,
         long nodeId,
         HugeLongArray nextSet,
+        int wordsPerNode,
         int depth
     ) {
         relationships.forEachRelationship(
             nodeId,
             (src, tgt) -> {
-                nextSet.or(tgt, nodeVisit);
+                visit(nodeVisit, offset, tgt, nextSet, wordsPerNode);
                 return true;
             }
         );
     }
 
-    private long visitNext(long nodeId, HugeLongArray seenSet, HugeLongArray nextSet) {
-        long seen = seenSet.get(nodeId);
-        long next = nextSet.and(nodeId, ~seen);
-        seenSet.or(nodeId, next);
-        return next;
+    static void visit(long[] nodeVisit, int offset, long target, HugeLongArray nextSet, int wordsPerNode) {
+        long targetIndex = target * wordsPerNode;
+        for (int word = 0; word < wordsPerNode; word++) {
+            long visit = nodeVisit[offset + word];
+            if (visit != 0L) {
+                nextSet.or(targetIndex + word, visit);
+            }
+        }
+    }
+
+    static boolean isNotEmpty(long[] array, int offset, int wordsPerNode) {
+        for (int word = 0; word < wordsPerNode; word++) {
+            if (array[offset + word] != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes already seen sources from the next visit of a node and adds the remaining ones to the seen set.
+     *
+     * @return true, iff at least one source visits the node for the first time
+     */
+    private static boolean visitNext(long[] next, long[] seen, int offset, int wordsPerNode) {
+        boolean hasNext = false;
+        for (int i = offset; i < offset + wordsPerNode; i++) {
+            if (next[i] != 0L) {
+                next[i] &= ~seen[i];
+                seen[i] |= next[i];
+                hasNext |= next[i] != 0L;
+            }
+        }
+        return hasNext;
     }
 }
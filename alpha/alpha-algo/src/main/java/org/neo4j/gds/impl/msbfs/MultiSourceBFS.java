@@ -24,7 +24,10 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMapping;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.BitUtil;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.GcListenerExtension;
+import org.neo4j.gds.core.utils.mem.MemoryUsage;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.utils.CloseableThreadLocal;
 
@@ -35,6 +38,8 @@ import java.util.Iterator;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 /**
  * Multi Source Breadth First Search implemented as described in [1].
  * <p>
@@ -54,10 +59,13 @@ import java.util.concurrent.TimeUnit;
  * The sources iterator is only valid during the execution of the callback and
  * should not be stored.
  * <p>
- * We use a fixed {@code ω} (OMEGA) of 64, which allows us to implement the
- * seen/visitNext bit sets as a packed long which improves memory locality
- * as suggested in 4.1. of the paper.
- * If the number of sources exceed 64, multiple instances of MS-BFS are run
+ * The seen/visitNext bit sets are implemented as packed longs which improves memory locality
+ * as suggested in 4.1. of the paper. Every node owns between one and eight consecutive longs,
+ * which gives an {@code ω} of 64 up to {@link #MAX_OMEGA} sources per traversal.
+ * Unless set explicitly via {@link #withOmega(int)}, {@code ω} is chosen from the number of sources,
+ * the concurrency and the available memory, so that as few traversals as possible are needed
+ * while still keeping all threads busy.
+ * If the number of sources exceed {@code ω}, multiple instances of MS-BFS are run
  * in parallel.
  * <p>
  * If the MS-BFS runs in parallel, the callback may be executed from multiple threads
@@ -76,17 +84,21 @@ public final class MultiSourceBFS implements Runnable {
             HugeLongArray visitSet,
             HugeLongArray visitNextSet,
             HugeLongArray seenSet,
-            @Nullable HugeLongArray seenNextSet
+            @Nullable HugeLongArray seenNextSet,
+            int wordsPerNode
         );
     }
 
-    // how many sources can be traversed simultaneously
+    // how many sources can be traversed simultaneously using a single long per node
     public static final int OMEGA = 64;
+    // how many sources can be traversed simultaneously at most
+    public static final int MAX_OMEGA = 8 * OMEGA;
+    private static final int MAX_WORDS_PER_NODE = MAX_OMEGA / OMEGA;
 
-    private final CloseableThreadLocal<HugeLongArray> visits;
-    private final CloseableThreadLocal<HugeLongArray> visitsNext;
-    private final CloseableThreadLocal<HugeLongArray> seens;
-    private final CloseableThreadLocal<HugeLongArray> seensNext;
+    private final LocalHugeLongArray visits;
+    private final LocalHugeLongArray visitsNext;
+    private final LocalHugeLongArray seens;
+    private final @Nullable LocalHugeLongArray seensNext;
 
     private final long nodeCount;
     private final IdMapping nodeIds;
@@ -96,6 +108,8 @@ public final class MultiSourceBFS implements Runnable {
     private final long[] startNodes;
     private int sourceNodeCount;
     private long nodeOffset;
+    // 0 means the width is chosen automatically
+    private int wordsPerNode;
 
     /**
      * Initializes MS-BFS prepared for executing the Aggregated Neighbor Processing strategy.
@@ -160,6 +174,7 @@ public final class MultiSourceBFS implements Runnable {
             new ANPStrategy(perNodeAction),
             nodeCount,
             false,
+            wordsPerNode,
             visits,
             visitsNext,
             seens,
@@ -179,6 +194,7 @@ public final class MultiSourceBFS implements Runnable {
             new PredecessorStrategy(perNodeAction, perNeighborAction),
             nodeCount,
             false,
+            wordsPerNode,
             visits,
             visitsNext,
             seens,
@@ -217,10 +233,11 @@ public final class MultiSourceBFS implements Runnable {
         ExecutionStrategy strategy,
         long nodeCount,
         boolean allowStartNodeTraversal,
-        CloseableThreadLocal<HugeLongArray> visits,
-        CloseableThreadLocal<HugeLongArray> visitsNext,
-        CloseableThreadLocal<HugeLongArray> seens,
-        CloseableThreadLocal<HugeLongArray> seensNext,
+        int wordsPerNode,
+        LocalHugeLongArray visits,
+        LocalHugeLongArray visitsNext,
+        LocalHugeLongArray seens,
+        @Nullable LocalHugeLongArray seensNext,
         long... startNodes
     ) {
         assert startNodes != null && startNodes.length > 0;
@@ -230,6 +247,7 @@ public final class MultiSourceBFS implements Runnable {
         this.startNodes = startNodes;
         this.nodeCount = nodeCount;
         this.allowStartNodeTraversal = allowStartNodeTraversal;
+        this.wordsPerNode = wordsPerNode;
         this.visits = visits;
         this.visitsNext = visitsNext;
         this.seens = seens;
@@ -244,10 +262,11 @@ public final class MultiSourceBFS implements Runnable {
         long nodeOffset,
         int sourceNodeCount,
         boolean allowStartNodeTraversal,
-        CloseableThreadLocal<HugeLongArray> visits,
-        CloseableThreadLocal<HugeLongArray> visitsNext,
-        CloseableThreadLocal<HugeLongArray> seens,
-        CloseableThreadLocal<HugeLongArray> seensNext
+        int wordsPerNode,
+        LocalHugeLongArray visits,
+        LocalHugeLongArray visitsNext,
+        LocalHugeLongArray seens,
+        @Nullable LocalHugeLongArray seensNext
     ) {
         this.nodeIds = nodeIds;
         this.relationships = relationships;
@@ -257,18 +276,39 @@ public final class MultiSourceBFS implements Runnable {
         this.nodeOffset = nodeOffset;
         this.sourceNodeCount = sourceNodeCount;
         this.allowStartNodeTraversal = allowStartNodeTraversal;
+        this.wordsPerNode = wordsPerNode;
         this.visits = visits;
         this.visitsNext = visitsNext;
         this.seens = seens;
         this.seensNext = seensNext;
     }
 
+    /**
+     * Sets the number of sources that are traversed simultaneously by a single MS-BFS instance.
+     * Must be a power of two between {@link #OMEGA} and {@link #MAX_OMEGA}.
+     * Wider traversals need fewer passes over the graph, but {@code omega / 8} bytes
+     * per node and bit set.
+     */
+    public MultiSourceBFS withOmega(int omega) {
+        if (omega < OMEGA || omega > MAX_OMEGA || !BitUtil.isPowerOfTwo(omega)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Omega must be a power of two between %d and %d, but got %d.",
+                OMEGA,
+                MAX_OMEGA,
+                omega
+            ));
+        }
+        this.wordsPerNode = omega / OMEGA;
+        return this;
+    }
+
     /**
      * Runs MS-BFS, possibly in parallel.
      */
     public void run(int concurrency, ExecutorService executor) {
-        final int threads = numberOfThreads();
-        Collection<MultiSourceBFS> bfss = allSourceBfss(threads);
+        final int words = wordsPerNode != 0 ? wordsPerNode : wordsPerNode(concurrency);
+        final int threads = numberOfThreads(words);
+        Collection<MultiSourceBFS> bfss = allSourceBfss(threads, words);
         if (!ParallelUtil.canRunInParallel(executor)) {
             // fallback to sequentially running all MS-BFS instances
             executor = null;
@@ -284,53 +324,60 @@ public final class MultiSourceBFS implements Runnable {
 
     /**
      * Runs MS-BFS, always single-threaded. Requires that there are at most
-     * 64 startNodes. If there are more, {@link #run(int, ExecutorService)} must be used.
+     * {@link #MAX_OMEGA} startNodes. If there are more, {@link #run(int, ExecutorService)} must be used.
      */
     @Override
     public void run() {
-        assert sourceLength() <= OMEGA : "more than " + OMEGA + " sources not supported";
+        long sourceLength = sourceLength();
+        assert sourceLength <= MAX_OMEGA : "more than " + MAX_OMEGA + " sources not supported";
 
-        HugeLongArray visitSet = visits.get();
-        HugeLongArray visitNextSet = visitsNext.get();
-        HugeLongArray seenSet = seens.get();
-        HugeLongArray seenNextSet = seensNext != null ? seensNext.get() : null;
+        int words = wordsPerNode != 0
+            ? wordsPerNode
+            : (int) BitUtil.nextHighestPowerOfTwo(Math.max(1, BitUtil.ceilDiv(sourceLength, OMEGA)));
+        assert sourceLength <= (long) words * OMEGA : "more than " + words * OMEGA + " sources not supported";
+
+        HugeLongArray visitSet = visits.get(words);
+        HugeLongArray visitNextSet = visitsNext.get(words);
+        HugeLongArray seenSet = seens.get(words);
+        HugeLongArray seenNextSet = seensNext != null ? seensNext.get(words) : null;
 
         final SourceNodes sourceNodes;
         if (startNodes == null) {
-            sourceNodes = prepareOffsetSources(visitSet, seenSet);
+            sourceNodes = prepareOffsetSources(visitSet, seenSet, words);
         } else {
-            sourceNodes = prepareSpecifiedSources(visitSet, seenSet);
+            sourceNodes = prepareSpecifiedSources(visitSet, seenSet, words);
         }
 
-        strategy.run(relationships, nodeCount, sourceNodes, visitSet, visitNextSet, seenSet, seenNextSet);
+        strategy.run(relationships, nodeCount, sourceNodes, visitSet, visitNextSet, seenSet, seenNextSet, words);
     }
 
-    private SourceNodes prepareOffsetSources(HugeLongArray visitSet, HugeLongArray seenSet) {
+    private SourceNodes prepareOffsetSources(HugeLongArray visitSet, HugeLongArray seenSet, int words) {
         int localNodeCount = this.sourceNodeCount;
         long nodeOffset = this.nodeOffset;
-        SourceNodes sourceNodes = new SourceNodes(nodeOffset, localNodeCount);
+        SourceNodes sourceNodes = new SourceNodes(nodeOffset, localNodeCount, words);
 
         for (int i = 0; i < localNodeCount; ++i) {
-            seenSet.set(nodeOffset + i, 1L << i);
-            visitSet.or(nodeOffset + i, 1L << i);
+            long index = (nodeOffset + i) * words + (i >>> 6);
+            seenSet.set(index, 1L << i);
+            visitSet.or(index, 1L << i);
         }
 
         return sourceNodes;
     }
 
-    private SourceNodes prepareSpecifiedSources(HugeLongArray visitSet, HugeLongArray seenSet) {
+    private SourceNodes prepareSpecifiedSources(HugeLongArray visitSet, HugeLongArray seenSet, int words) {
         assert isSorted(startNodes);
 
         long[] startNodes = this.startNodes;
         int localNodeCount = startNodes.length;
-        SourceNodes sourceNodes = new SourceNodes(startNodes);
+        SourceNodes sourceNodes = new SourceNodes(startNodes, words);
 
         for (int i = 0; i < localNodeCount; ++i) {
-            long nodeId = startNodes[i];
+            long index = startNodes[i] * words + (i >>> 6);
             if (!allowStartNodeTraversal) {
-                seenSet.set(nodeId, 1L << i);
+                seenSet.set(index, 1L << i);
             }
-            visitSet.or(nodeId, 1L << i);
+            visitSet.or(index, 1L << i);
         }
 
         return sourceNodes;
@@ -352,20 +399,46 @@ public final class MultiSourceBFS implements Runnable {
         return sourceNodeCount;
     }
 
-    private int numberOfThreads() {
+    /**
+     * Chooses the smallest width that lets every thread traverse its share of the sources
+     * in a single pass. The width is reduced if the bit sets of all threads would occupy
+     * more than half of the free heap.
+     */
+    private int wordsPerNode(int concurrency) {
+        long sourcesPerThread = BitUtil.ceilDiv(sourceLength(), Math.max(1, concurrency));
+        int words = (int) Math.min(
+            MAX_WORDS_PER_NODE,
+            BitUtil.nextHighestPowerOfTwo(Math.max(1, BitUtil.ceilDiv(sourcesPerThread, OMEGA)))
+        );
+
+        int bitSets = seensNext != null ? 4 : 3;
+        long memoryBudget = GcListenerExtension.freeMemory() / 2;
+        while (words > 1) {
+            long passes = ParallelUtil.threadCount((long) words * OMEGA, sourceLength());
+            long threads = Math.min(concurrency, passes);
+            long bitSetMemory = threads * bitSets * MemoryUsage.sizeOfLongArray(nodeCount * words);
+            if (bitSetMemory <= memoryBudget) {
+                break;
+            }
+            words >>>= 1;
+        }
+        return words;
+    }
+
+    private int numberOfThreads(int words) {
         long sourceLength = sourceLength();
-        long threads = ParallelUtil.threadCount(OMEGA, sourceLength);
+        long threads = ParallelUtil.threadCount((long) words * OMEGA, sourceLength);
         if ((int) threads != threads) {
             throw new IllegalArgumentException("Unable run MS-BFS on " + sourceLength + " sources.");
         }
         return (int) threads;
     }
 
-    // lazily creates MS-BFS instances for OMEGA sized source chunks
-    private Collection<MultiSourceBFS> allSourceBfss(int threads) {
+    // lazily creates MS-BFS instances for omega sized source chunks
+    private Collection<MultiSourceBFS> allSourceBfss(int threads, int words) {
         if (startNodes == null) {
             long sourceLength = nodeCount;
-            return new ParallelMultiSources(threads, sourceLength) {
+            return new ParallelMultiSources(threads, sourceLength, words * OMEGA) {
                 @Override
                 MultiSourceBFS next(final long from, final int length) {
                     return new MultiSourceBFS(
@@ -376,6 +449,7 @@ public final class MultiSourceBFS implements Runnable {
                         from,
                         length,
                         allowStartNodeTraversal,
+                        words,
                         visits,
                         visitsNext,
                         seens,
@@ -386,7 +460,7 @@ public final class MultiSourceBFS implements Runnable {
         }
         long[] startNodes = this.startNodes;
         int sourceLength = startNodes.length;
-        return new ParallelMultiSources(threads, sourceLength) {
+        return new ParallelMultiSources(threads, sourceLength, words * OMEGA) {
             @Override
             MultiSourceBFS next(final long from, final int length) {
                 return new MultiSourceBFS(
@@ -395,6 +469,7 @@ public final class MultiSourceBFS implements Runnable {
                     strategy,
                     nodeCount,
                     allowStartNodeTraversal,
+                    words,
                     visits,
                     visitsNext,
                     seens,
@@ -422,35 +497,47 @@ public final class MultiSourceBFS implements Runnable {
     static final class SourceNodes implements BfsSources {
         private final long[] sourceNodes;
         private final int maxPos;
-        private final int startPos;
         private final long offset;
-        private long sourceMask;
+        private final long[] sourceMask;
+        private int size;
+        private int word;
+        private long wordMask;
         private int pos;
 
-        private SourceNodes(long[] sourceNodes) {
-            assert sourceNodes.length <= OMEGA;
+        private SourceNodes(long[] sourceNodes, int words) {
+            assert sourceNodes.length <= words * OMEGA;
             this.sourceNodes = sourceNodes;
             this.maxPos = sourceNodes.length;
             this.offset = 0L;
-            this.startPos = -1;
+            this.sourceMask = new long[words];
         }
 
-        private SourceNodes(long offset, int length) {
-            assert length <= OMEGA;
+        private SourceNodes(long offset, int length, int words) {
+            assert length <= words * OMEGA;
             this.sourceNodes = null;
             this.maxPos = length;
             this.offset = offset;
-            this.startPos = -1;
+            this.sourceMask = new long[words];
         }
 
         public void reset() {
-            this.pos = startPos;
+            this.word = 0;
+            this.wordMask = sourceMask[0];
             fetchNext();
         }
 
-        void reset(long sourceMask) {
-            assert sourceMask != 0;
-            this.sourceMask = sourceMask;
+        /**
+         * Resets the iterator to the sources set in {@code sourceMask[offset, offset + words)}.
+         */
+        void reset(long[] sourceMask, int offset) {
+            int size = 0;
+            for (int i = 0; i < this.sourceMask.length; i++) {
+                long mask = sourceMask[offset + i];
+                this.sourceMask[i] = mask;
+                size += Long.bitCount(mask);
+            }
+            assert size != 0;
+            this.size = size;
             reset();
         }
 
@@ -468,30 +555,33 @@ public final class MultiSourceBFS implements Runnable {
 
         @Override
         public int size() {
-            // reset() _always_ calls into fetchNext() which
-            // finds the right-most set bit, updates pos to
-            // its position and flips it. The correct size()
-            // is therefore the number of set bits + 1.
-            // Note, that this is under the assumption that
-            // the source mask is never 0 on reset.
-            return Long.bitCount(sourceMask) + 1;
+            return size;
         }
 
         private void fetchNext() {
-            pos = Long.numberOfTrailingZeros(sourceMask);
-            sourceMask ^= Long.lowestOneBit(sourceMask);
+            while (wordMask == 0L) {
+                if (++word >= sourceMask.length) {
+                    pos = Integer.MAX_VALUE;
+                    return;
+                }
+                wordMask = sourceMask[word];
+            }
+            pos = (word << 6) + Long.numberOfTrailingZeros(wordMask);
+            wordMask ^= Long.lowestOneBit(wordMask);
         }
     }
 
     private abstract static class ParallelMultiSources extends AbstractCollection<MultiSourceBFS> implements Iterator<MultiSourceBFS> {
         private final int threads;
         private final long sourceLength;
+        private final int omega;
         private long start = 0L;
         private int i = 0;
 
-        private ParallelMultiSources(int threads, long sourceLength) {
+        private ParallelMultiSources(int threads, long sourceLength, int omega) {
             this.threads = threads;
             this.sourceLength = sourceLength;
+            this.omega = omega;
         }
 
         @Override
@@ -513,7 +603,7 @@ public final class MultiSourceBFS implements Runnable {
 
         @Override
         public MultiSourceBFS next() {
-            int len = (int) Math.min(OMEGA, sourceLength - start);
+            int len = (int) Math.min(omega, sourceLength - start);
             MultiSourceBFS bfs = next(start, len);
             start += len;
             i++;
@@ -532,15 +622,19 @@ public final class MultiSourceBFS implements Runnable {
             this.allocationTracker = allocationTracker;
         }
 
-        @Override
-        protected HugeLongArray initialValue() {
-            return HugeLongArray.newArray(size, allocationTracker);
-        }
-
-        @Override
-        public HugeLongArray get() {
+        /**
+         * Returns a cleared bit set with {@code words} longs per node.
+         * The bit set is allocated on first use and reallocated if the previous traversal
+         * on this thread used a different width.
+         */
+        HugeLongArray get(int words) {
             HugeLongArray values = super.get();
-            values.fill(0L);
+            if (values == null || values.size() != size * words) {
+                values = HugeLongArray.newArray(size * words, allocationTracker);
+                set(values);
+            } else {
+                values.fill(0L);
+            }
             return values;
         }
     }
@@ -55,7 +55,8 @@ public class PredecessorStrategy implements MultiSourceBFS.ExecutionStrategy {
         HugeLongArray visitSet,
         HugeLongArray visitNextSet,
         HugeLongArray seenSet,
-        HugeLongArray seenNextSet
+        HugeLongArray seenNextSet,
+        int wordsPerNode
     ) {
         var visitCursor = visitSet.newCursor();
         var seenCursor = seenSet.newCursor();
@@ -63,6 +64,7 @@ public class PredecessorStrategy implements MultiSourceBFS.ExecutionStrategy {
 
         var depth = new AtomicInteger(0);
         var hasNext = new AtomicBoolean(false);
+        var next = new long[wordsPerNode];
 
         while (true) {
             hasNext.set(false);
@@ -75,30 +77,37 @@ public class PredecessorStrategy implements MultiSourceBFS.ExecutionStrategy {
                 int limit = visitCursor.limit;
                 long base = visitCursor.base;
 
-                for (int i = offset; i < limit; ++i) {
-                    long nodeId = base + i;
-                    long visit = array[i];
-                    if (visit != 0L) {
+                for (int i = offset; i < limit; i += wordsPerNode) {
+                    long nodeId = (base + i) / wordsPerNode;
+                    if (ANPStrategy.isNotEmpty(array, i, wordsPerNode)) {
                         // User-defined computation on source.
                         // Happens exactly once for each node.
-                        sourceNodes.reset(visit);
+                        sourceNodes.reset(array, i);
                         perNodeAction.accept(nodeId, depth.get() - 1, sourceNodes);
 
+                        int visitOffset = i;
                         relationships.forEachRelationship(nodeId, (source, target) -> {
-                            // D ← visit[nodeId] & ∼seen[target]
-                            long next = visitSet.get(nodeId) & ~seenSet.get(target);
-
-                            if (next != 0L) {
-                                // visitNext[target] ← visitNext[target] | D
-                                visitNextSet.or(target, next);
-
-                                // seen[target] ← seen[target] | D
-                                seenNextSet.or(target, next);
+                            long targetIndex = target * wordsPerNode;
+                            boolean discovered = false;
+                            for (int word = 0; word < wordsPerNode; word++) {
+                                // D ← visit[nodeId] & ∼seen[target]
+                                next[word] = array[visitOffset + word] & ~seenSet.get(targetIndex + word);
+
+                                if (next[word] != 0L) {
+                                    // visitNext[target] ← visitNext[target] | D
+                                    visitNextSet.or(targetIndex + word, next[word]);
+
+                                    // seen[target] ← seen[target] | D
+                                    seenNextSet.or(targetIndex + word, next[word]);
+                                    discovered = true;
+                                }
+                            }
 
+                            if (discovered) {
                                 // User-defined computation on source and target.
                                 // Happens as often as the target is discovered
                                 // per BFS-level from different source nodes.
-                                sourceNodes.reset(next);
+                                sourceNodes.reset(next, 0);
                                 perNeighborAction.accept(target, nodeId, depth.get(), sourceNodes);
                                 hasNext.set(true);
                             }
@@ -118,7 +127,7 @@ public class PredecessorStrategy implements MultiSourceBFS.ExecutionStrategy {
                 updateSeenSet(seen, seenNext);
 
                 // Prepare visit set for next level
-                visitNextSet.copyTo(visitSet, totalNodeCount);
+                visitNextSet.copyTo(visitSet, totalNodeCount * wordsPerNode);
                 visitNextSet.fill(0L);
             }
         }
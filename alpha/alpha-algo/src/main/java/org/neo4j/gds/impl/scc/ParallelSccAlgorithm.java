@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.scc;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parallel strongly connected components based on trimming and min-label colouring.
+ *
+ * Every round works on the nodes that have not been assigned to a component yet:
+ *
+ * <ol>
+ * <li>Trim: nodes without active incoming or without active outgoing relationships form a component of their own.</li>
+ * <li>Colour: every node starts with its own id as colour and the minimum colour is propagated along outgoing
+ * relationships until no colour changes. Afterwards every node carries the smallest id that reaches it.</li>
+ * <li>Backward: each node whose colour equals its id is the root of a component. A node joins the component of its
+ * colour once one of its targets with the same colour has joined it. Since the graph only offers outgoing
+ * relationships, this backward reachability is computed as a pull-based fixpoint.</li>
+ * </ol>
+ *
+ * The component id of a node is the smallest node id within its component, which matches the ids
+ * assigned by {@link SccAlgorithm}.
+ *
+ * specified in: Orzan, "On Distributed Verification and Verified Distribution", 2004
+ * and Slota et al., "BFS and Coloring-based Parallel Algorithms for Strongly Connected Components", 2014
+ */
+public class ParallelSccAlgorithm extends Algorithm<ParallelSccAlgorithm, HugeLongArray> {
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    private final HugeLongArray components;
+    private final HugeAtomicLongArray colors;
+    private final HugeAtomicBitSet done;
+    private final HugeAtomicBitSet hasIncoming;
+    private HugeAtomicBitSet frontier;
+    private HugeAtomicBitSet nextFrontier;
+
+    public ParallelSccAlgorithm(
+        Graph graph,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        AllocationTracker allocationTracker
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.progressTracker = progressTracker;
+
+        this.components = HugeLongArray.newArray(nodeCount, allocationTracker);
+        this.colors = HugeAtomicLongArray.newArray(nodeCount, allocationTracker);
+        this.done = HugeAtomicBitSet.create(nodeCount, allocationTracker);
+        this.hasIncoming = HugeAtomicBitSet.create(nodeCount, allocationTracker);
+        this.frontier = HugeAtomicBitSet.create(nodeCount, allocationTracker);
+        this.nextFrontier = HugeAtomicBitSet.create(nodeCount, allocationTracker);
+    }
+
+    @Override
+    public HugeLongArray compute() {
+        progressTracker.beginSubTask(nodeCount);
+
+        long remaining = nodeCount;
+        while (remaining > 0) {
+            assertRunning();
+            long assigned = trim();
+            assigned += colorAndAssign();
+            progressTracker.logProgress(assigned);
+            remaining -= assigned;
+        }
+
+        progressTracker.endSubTask();
+        return components;
+    }
+
+    @Override
+    public ParallelSccAlgorithm me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        colors.release();
+    }
+
+    /**
+     * Assigns every active node that has no active incoming or no active outgoing relationship
+     * to a singleton component.
+     */
+    private long trim() {
+        hasIncoming.clear();
+        forEachActiveNode((localGraph, nodeId) -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+            if (source != target && !done.get(target)) {
+                hasIncoming.set(target);
+            }
+            return true;
+        }));
+
+        var trimmed = new LongAdder();
+        forEachActiveNode((localGraph, nodeId) -> {
+            if (!hasIncoming.get(nodeId) || !hasActiveTarget(localGraph, nodeId)) {
+                assign(nodeId, nodeId);
+                trimmed.increment();
+            }
+        });
+        return trimmed.sum();
+    }
+
+    private boolean hasActiveTarget(Graph localGraph, long nodeId) {
+        var found = new AtomicBoolean(false);
+        localGraph.forEachRelationship(nodeId, (source, target) -> {
+            if (source != target && !done.get(target)) {
+                found.set(true);
+                return false;
+            }
+            return true;
+        });
+        return found.get();
+    }
+
+    private long colorAndAssign() {
+        nextFrontier.clear();
+        forEachActiveNode((localGraph, nodeId) -> {
+            colors.set(nodeId, nodeId);
+            nextFrontier.set(nodeId);
+        });
+
+        // forward propagation of the minimum colour
+        var changed = new AtomicBoolean(true);
+        while (changed.get()) {
+            assertRunning();
+            changed.set(false);
+            swapFrontiers();
+            nextFrontier.clear();
+            forEachActiveNode((localGraph, nodeId) -> {
+                if (!frontier.get(nodeId)) {
+                    return;
+                }
+                long color = colors.get(nodeId);
+                localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    if (!done.get(target) && lowerColor(target, color)) {
+                        nextFrontier.set(target);
+                        changed.lazySet(true);
+                    }
+                    return true;
+                });
+            });
+        }
+
+        var assigned = new LongAdder();
+        forEachActiveNode((localGraph, nodeId) -> {
+            if (colors.get(nodeId) == nodeId) {
+                assign(nodeId, nodeId);
+                assigned.increment();
+            }
+        });
+
+        // backward pull: a node joins its colour's component once one of its targets did
+        changed.set(true);
+        while (changed.get()) {
+            assertRunning();
+            changed.set(false);
+            forEachActiveNode((localGraph, nodeId) -> {
+                long color = colors.get(nodeId);
+                localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    // targets finished in earlier rounds carry the id of their root as colour,
+                    // which is never a colour of an active node, so they do not match here
+                    if (done.get(target) && colors.get(target) == color) {
+                        assign(nodeId, color);
+                        assigned.increment();
+                        changed.lazySet(true);
+                        return false;
+                    }
+                    return true;
+                });
+            });
+        }
+
+        return assigned.sum();
+    }
+
+    private boolean lowerColor(long nodeId, long color) {
+        long current = colors.get(nodeId);
+        while (color < current) {
+            long witness = colors.compareAndExchange(nodeId, current, color);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private void assign(long nodeId, long componentId) {
+        colors.set(nodeId, componentId);
+        components.set(nodeId, componentId);
+        done.set(nodeId);
+    }
+
+    private void swapFrontiers() {
+        var tmp = frontier;
+        frontier = nextFrontier;
+        nextFrontier = tmp;
+    }
+
+    private void forEachActiveNode(NodeConsumer consumer) {
+        List<Runnable> tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> new PartitionTask(partition, graph.concurrentCopy(), consumer),
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executor);
+    }
+
+    @FunctionalInterface
+    private interface NodeConsumer {
+        void accept(Graph localGraph, long nodeId);
+    }
+
+    private final class PartitionTask implements Runnable {
+
+        private final Partition partition;
+        private final Graph localGraph;
+        private final NodeConsumer consumer;
+
+        private PartitionTask(Partition partition, Graph localGraph, NodeConsumer consumer) {
+            this.partition = partition;
+            this.localGraph = localGraph;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void run() {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long nodeId = partition.startNode(); nodeId < end && running(); nodeId++) {
+                if (!done.get(nodeId)) {
+                    consumer.accept(localGraph, nodeId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTrees;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryUsage;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.dss.HugeAtomicDisjointSetStruct;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Parallel minimum weight spanning forest algorithm (Borůvka).
+ * <p>
+ * In every round, each component selects its cheapest outgoing relationship
+ * and all selected relationships are added to the forest at once. Components
+ * are tracked in a {@link HugeAtomicDisjointSetStruct}, so a round touches
+ * every relationship a constant number of times and at most log(n) rounds
+ * are needed. Ties are broken by the node ids of the relationship, which
+ * guarantees that the selected relationships never form a cycle.
+ * <p>
+ * Relationships are treated as undirected. Unlike {@link Prim}, the result
+ * spans every connected component and not only the one of a start node.
+ * The weight of every selected relationship is part of the result, see
+ * {@link SpanningTree#weight(int)}.
+ */
+public class Boruvka extends Algorithm<Boruvka, SpanningTree> {
+
+    private static final long NO_EDGE = Long.MAX_VALUE;
+
+    private final Graph graph;
+    private final int nodeCount;
+    private final DoubleUnaryOperator minMax;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final AllocationTracker allocationTracker;
+
+    private final HugeAtomicDisjointSetStruct components;
+    private final HugeLongArray componentOf;
+    private final HugeAtomicLongArray cheapestWeight;
+    private final HugeAtomicLongArray cheapestEdge;
+    private final HugeDoubleArray cheapestEdgeWeight;
+
+    private SpanningTree spanningTree;
+
+    public Boruvka(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        AllocationTracker allocationTracker
+    ) {
+        // the forest is stored in int arrays and edges are encoded as source * nodeCount + target
+        if (graph.nodeCount() >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Boruvka supports graphs with less than %d nodes, but the graph has %d nodes.",
+                Integer.MAX_VALUE,
+                graph.nodeCount()
+            ));
+        }
+        this.graph = graph;
+        this.nodeCount = (int) graph.nodeCount();
+        this.minMax = minMax;
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.allocationTracker = allocationTracker;
+        this.progressTracker = progressTracker;
+
+        this.components = new HugeAtomicDisjointSetStruct(nodeCount, allocationTracker, concurrency);
+        this.componentOf = HugeLongArray.newArray(nodeCount, allocationTracker);
+        this.cheapestWeight = HugeAtomicLongArray.newArray(nodeCount, allocationTracker);
+        this.cheapestEdge = HugeAtomicLongArray.newArray(nodeCount, allocationTracker);
+        this.cheapestEdgeWeight = HugeDoubleArray.newArray(nodeCount, allocationTracker);
+    }
+
+    @Override
+    public SpanningTree compute() {
+        progressTracker.beginSubTask(graph.nodeCount());
+        var forestEdges = new LongArrayList();
+        var forestWeights = new DoubleArrayList();
+
+        while (true) {
+            forEachNode((localGraph, nodeId) -> {
+                componentOf.set(nodeId, components.setIdOf(nodeId));
+                cheapestWeight.set(nodeId, NO_EDGE);
+                cheapestEdge.set(nodeId, NO_EDGE);
+            });
+
+            forEachNode((localGraph, nodeId) -> localGraph.forEachRelationship(nodeId, 0.0D, (source, target, weight) -> {
+                long sourceComponent = componentOf.get(source);
+                long targetComponent = componentOf.get(target);
+                if (sourceComponent != targetComponent) {
+                    long key = sortableWeight(weight);
+                    lower(cheapestWeight, sourceComponent, key);
+                    lower(cheapestWeight, targetComponent, key);
+                }
+                return true;
+            }));
+
+            forEachNode((localGraph, nodeId) -> localGraph.forEachRelationship(nodeId, 0.0D, (source, target, weight) -> {
+                long sourceComponent = componentOf.get(source);
+                long targetComponent = componentOf.get(target);
+                if (sourceComponent != targetComponent) {
+                    long key = sortableWeight(weight);
+                    long edge = encode(source, target);
+                    // all candidates of a component have the same key and therefore the same weight
+                    if (cheapestWeight.get(sourceComponent) == key) {
+                        cheapestEdgeWeight.set(sourceComponent, weight);
+                        lower(cheapestEdge, sourceComponent, edge);
+                    }
+                    if (cheapestWeight.get(targetComponent) == key) {
+                        cheapestEdgeWeight.set(targetComponent, weight);
+                        lower(cheapestEdge, targetComponent, edge);
+                    }
+                }
+                return true;
+            }));
+
+            int roundStart = forestEdges.size();
+            selectEdges(forestEdges, forestWeights);
+            int roundSize = forestEdges.size() - roundStart;
+            if (roundSize == 0) {
+                break;
+            }
+
+            ParallelUtil.parallelForEachNode(
+                roundSize,
+                concurrency,
+                index -> {
+                    long edge = forestEdges.get(roundStart + (int) index);
+                    components.union(edge / nodeCount, edge % nodeCount);
+                }
+            );
+            progressTracker.logProgress(roundSize);
+        }
+
+        this.spanningTree = toSpanningTree(forestEdges, forestWeights);
+        progressTracker.endSubTask();
+        return this.spanningTree;
+    }
+
+    public SpanningTree getSpanningTree() {
+        return spanningTree;
+    }
+
+    @Override
+    public Boruvka me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        componentOf.release();
+        cheapestWeight.release();
+        cheapestEdge.release();
+        cheapestEdgeWeight.release();
+    }
+
+    /**
+     * Collects the cheapest relationship of every component and its weight.
+     * A relationship that was selected by both of its components is only added once.
+     */
+    private void selectEdges(LongArrayList edges, DoubleArrayList weights) {
+        List<EdgeCollector> tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            EdgeCollector::new,
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executor);
+
+        for (EdgeCollector task : tasks) {
+            edges.addAll(task.edges);
+            weights.addAll(task.weights);
+        }
+    }
+
+    /**
+     * Roots every tree of the forest at its smallest node id.
+     */
+    private SpanningTree toSpanningTree(LongArrayList forestEdges, DoubleArrayList forestWeights) {
+        int forestSize = forestEdges.size();
+        long bufferMemory = MemoryUsage.sizeOfIntArray(nodeCount + 1)
+                            + MemoryUsage.sizeOfIntArray(2L * forestSize)
+                            + MemoryUsage.sizeOfDoubleArray(2L * forestSize)
+                            + MemoryUsage.sizeOfIntArray(nodeCount)
+                            + MemoryUsage.sizeOfByteArray(nodeCount)
+                            + MemoryUsage.sizeOfIntArray(nodeCount);
+        allocationTracker.add(bufferMemory);
+        allocationTracker.add(MemoryUsage.sizeOfIntArray(nodeCount) + MemoryUsage.sizeOfDoubleArray(nodeCount));
+
+        int[] offsets = new int[nodeCount + 1];
+        for (int i = 0; i < forestSize; i++) {
+            long edge = forestEdges.get(i);
+            offsets[(int) (edge / nodeCount) + 1]++;
+            offsets[(int) (edge % nodeCount) + 1]++;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        int[] neighbours = new int[offsets[nodeCount]];
+        double[] neighbourWeights = new double[offsets[nodeCount]];
+        int[] fill = Arrays.copyOf(offsets, nodeCount);
+        for (int i = 0; i < forestSize; i++) {
+            long edge = forestEdges.get(i);
+            double weight = forestWeights.get(i);
+            int source = (int) (edge / nodeCount);
+            int target = (int) (edge % nodeCount);
+            neighbourWeights[fill[source]] = weight;
+            neighbours[fill[source]++] = target;
+            neighbourWeights[fill[target]] = weight;
+            neighbours[fill[target]++] = source;
+        }
+
+        int[] parent = new int[nodeCount];
+        double[] weights = new double[nodeCount];
+        Arrays.fill(parent, -1);
+        boolean[] visited = new boolean[nodeCount];
+        int[] queue = new int[nodeCount];
+        for (int root = 0; root < nodeCount; root++) {
+            if (visited[root]) {
+                continue;
+            }
+            visited[root] = true;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+            while (head < tail) {
+                int node = queue[head++];
+                for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+                    int neighbour = neighbours[i];
+                    if (!visited[neighbour]) {
+                        visited[neighbour] = true;
+                        parent[neighbour] = node;
+                        weights[neighbour] = neighbourWeights[i];
+                        queue[tail++] = neighbour;
+                    }
+                }
+            }
+        }
+
+        allocationTracker.remove(bufferMemory);
+        return new SpanningTree(-1, nodeCount, nodeCount, parent, weights);
+    }
+
+    private long sortableWeight(double weight) {
+        // maps doubles onto longs with the same ordering
+        long bits = Double.doubleToLongBits(minMax.applyAsDouble(weight));
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private long encode(long source, long target) {
+        return source < target
+            ? source * nodeCount + target
+            : target * nodeCount + source;
+    }
+
+    private static void lower(HugeAtomicLongArray array, long index, long value) {
+        long current = array.get(index);
+        while (value < current) {
+            long witness = array.compareAndExchange(index, current, value);
+            if (witness == current) {
+                return;
+            }
+            current = witness;
+        }
+    }
+
+    private void forEachNode(NodeConsumer consumer) {
+        List<Runnable> tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                long end = partition.startNode() + partition.nodeCount();
+                for (long nodeId = partition.startNode(); nodeId < end && running(); nodeId++) {
+                    consumer.accept(localGraph, nodeId);
+                }
+            },
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executor);
+        assertRunning();
+    }
+
+    @FunctionalInterface
+    private interface NodeConsumer {
+        void accept(Graph localGraph, long nodeId);
+    }
+
+    private final class EdgeCollector implements Runnable {
+
+        private final Partition partition;
+        private final LongArrayList edges;
+        private final DoubleArrayList weights;
+
+        private EdgeCollector(Partition partition) {
+            this.partition = partition;
+            this.edges = new LongArrayList();
+            this.weights = new DoubleArrayList();
+        }
+
+        @Override
+        public void run() {
+            long end = partition.startNode() + partition.nodeCount();
+            for (long component = partition.startNode(); component < end; component++) {
+                long edge = cheapestEdge.get(component);
+                if (componentOf.get(component) != component || edge == NO_EDGE) {
+                    continue;
+                }
+                long source = edge / nodeCount;
+                long target = edge % nodeCount;
+                long other = componentOf.get(source) == component
+                    ? componentOf.get(target)
+                    : componentOf.get(source);
+                // both components picked the same relationship, the smaller one adds it
+                if (cheapestEdge.get(other) == edge && other < component) {
+                    continue;
+                }
+                edges.add(edge);
+                weights.add(cheapestEdgeWeight.get(component));
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTrees;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.IntPriorityQueue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The algorithm computes the minimum spanning forest of the whole graph in
+ * parallel using {@link Boruvka}.
+ * <p>
+ * Afterwards the forest is cut at its weakest relationships until it consists
+ * of k trees, which is the maximum spacing k-clustering of the graph. If the
+ * graph already has k or more connected components, no relationship is cut.
+ * The weights of the relationships are the ones selected by {@link Boruvka},
+ * so the orientation in which a relationship is stored does not matter.
+ */
+public class KSpanningForest extends Algorithm<KSpanningForest, SpanningTree> {
+
+    private Graph graph;
+    private final DoubleUnaryOperator minMax;
+    private final long k;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final AllocationTracker allocationTracker;
+
+    private SpanningTree spanningTree;
+
+    public KSpanningForest(
+        Graph graph,
+        DoubleUnaryOperator minMax,
+        long k,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        AllocationTracker allocationTracker
+    ) {
+        this.graph = graph;
+        this.minMax = minMax;
+        this.k = k;
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.progressTracker = progressTracker;
+        this.allocationTracker = allocationTracker;
+    }
+
+    @Override
+    public SpanningTree compute() {
+        Boruvka boruvka = new Boruvka(
+            graph,
+            minMax,
+            concurrency,
+            executor,
+            progressTracker,
+            allocationTracker
+        ).withTerminationFlag(getTerminationFlag());
+
+        SpanningTree forest = boruvka.compute();
+        boruvka.release();
+
+        IntPriorityQueue priorityQueue = minMax == Prim.MAX_OPERATOR ? IntPriorityQueue.min() : IntPriorityQueue.max();
+        int[] parent = forest.parent;
+        long trees = 0;
+        for (int i = 0; i < parent.length; i++) {
+            if (parent[i] == -1) {
+                trees++;
+                continue;
+            }
+            priorityQueue.add(i, forest.weight(i));
+        }
+        assertRunning();
+        // remove relationships until there are k trees
+        for (long i = trees; i < k && !priorityQueue.isEmpty(); i++) {
+            int cutNode = priorityQueue.pop();
+            parent[cutNode] = -1;
+        }
+        this.spanningTree = forest;
+        return this.spanningTree;
+    }
+
+    @Override
+    public KSpanningForest me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        graph = null;
+        spanningTree = null;
+    }
+}
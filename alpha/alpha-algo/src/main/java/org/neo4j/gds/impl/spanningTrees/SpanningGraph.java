@@ -55,9 +55,13 @@ public class SpanningGraph extends GraphAdapter {
 
     @Override
     public void forEachRelationship(long nodeId, double fallbackValue, RelationshipWithPropertyConsumer consumer) {
-        int parent = spanningTree.parent[Math.toIntExact(nodeId)];
+        int node = Math.toIntExact(nodeId);
+        int parent = spanningTree.parent[node];
         if (parent != -1) {
-            consumer.accept(parent, nodeId, relationshipProperty(parent, nodeId, fallbackValue));
+            double weight = spanningTree.hasWeights()
+                ? spanningTree.weight(node)
+                : relationshipProperty(parent, nodeId, fallbackValue);
+            consumer.accept(parent, nodeId, weight);
         }
     }
 
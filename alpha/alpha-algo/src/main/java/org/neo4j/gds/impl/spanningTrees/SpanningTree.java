@@ -34,12 +34,32 @@ public class SpanningTree {
     public final int nodeCount;
     public final int effectiveNodeCount;
     public final int[] parent;
+    private final double[] weights;
 
     public SpanningTree(int head, int nodeCount, int effectiveNodeCount, int[] parent) {
+        this(head, nodeCount, effectiveNodeCount, parent, null);
+    }
+
+    /**
+     * @param weights the weight of the relationship between each node and its parent
+     */
+    public SpanningTree(int head, int nodeCount, int effectiveNodeCount, int[] parent, double[] weights) {
         this.head = head;
         this.nodeCount = nodeCount;
         this.effectiveNodeCount = effectiveNodeCount;
         this.parent = parent;
+        this.weights = weights;
+    }
+
+    public boolean hasWeights() {
+        return weights != null;
+    }
+
+    /**
+     * @return the weight of the relationship between the node and its parent
+     */
+    public double weight(int node) {
+        return weights[node];
     }
 
     public void forEach(RelationshipConsumer consumer) {
@@ -75,6 +95,7 @@ public class SpanningTree {
             .append(nodeCount, that.nodeCount)
             .append(effectiveNodeCount, that.effectiveNodeCount)
             .append(parent, that.parent)
+            .append(weights, that.weights)
             .isEquals();
     }
 
@@ -82,6 +103,7 @@ public class SpanningTree {
     public int hashCode() {
         int result = Objects.hash(head, nodeCount, effectiveNodeCount);
         result = 31 * result + Arrays.hashCode(parent);
+        result = 31 * result + Arrays.hashCode(weights);
         return result;
     }
 }
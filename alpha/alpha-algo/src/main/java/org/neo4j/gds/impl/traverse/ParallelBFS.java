@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.traverse;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongPredicate;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Level-synchronous parallel breadth first search.
+ *
+ * Each level is expanded either top-down, where the frontier pushes to its unvisited neighbours,
+ * or bottom-up, where every unvisited node looks for a neighbour within the frontier (Beamer et al.,
+ * "Direction-Optimizing Breadth-First Search", 2012). Bottom-up steps require the reverse adjacency,
+ * which is only available for undirected graphs, and are chosen whenever the unvisited part of the
+ * graph has fewer relationships than the frontier.
+ *
+ * Within a level, nodes are ordered by the position of their first parent in the previous level and
+ * then by node id. This matches the order of a sequential queue-based BFS over sorted adjacency lists
+ * and keeps the result independent of the concurrency.
+ *
+ * Discovered nodes are sorted as a single long that packs the parent position into the upper and the
+ * node id into the lower 32 bits, which limits the graph to 2^32 nodes.
+ */
+public final class ParallelBFS extends Algorithm<ParallelBFS, long[]> {
+
+    public static final long NO_MAX_DEPTH = -1L;
+
+    private static final long NO_PARENT = Long.MAX_VALUE;
+    private static final long NODE_MASK = 0xFFFF_FFFFL;
+    private static final int PARENT_SHIFT = 32;
+    private static final long MAX_NODE_COUNT = 1L << PARENT_SHIFT;
+    // the visited nodes are returned as a single array
+    private static final int MAX_VISITED_NODES = Integer.MAX_VALUE - 8;
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final long startNodeId;
+    private final LongPredicate isTarget;
+    private final long maxDepth;
+    private final int concurrency;
+    private final ExecutorService executor;
+
+    private final HugeAtomicBitSet visited;
+    private final HugeLongArray visitIndex;
+    private final HugeAtomicLongArray parents;
+    private final LongArrayList visitOrder;
+
+    public ParallelBFS(
+        Graph graph,
+        long startNodeId,
+        LongPredicate isTarget,
+        long maxDepth,
+        int concurrency,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        AllocationTracker allocationTracker
+    ) {
+        if (graph.nodeCount() > MAX_NODE_COUNT) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Parallel BFS supports graphs with at most %d nodes, but the graph has %d nodes.",
+                MAX_NODE_COUNT,
+                graph.nodeCount()
+            ));
+        }
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.startNodeId = startNodeId;
+        this.isTarget = isTarget;
+        this.maxDepth = maxDepth;
+        this.concurrency = concurrency;
+        this.executor = executor;
+        this.progressTracker = progressTracker;
+
+        this.visited = HugeAtomicBitSet.create(nodeCount, allocationTracker);
+        this.visitIndex = HugeLongArray.newArray(nodeCount, allocationTracker);
+        this.parents = HugeAtomicLongArray.newArray(nodeCount, allocationTracker);
+        this.visitOrder = new LongArrayList();
+    }
+
+    @Override
+    public long[] compute() {
+        progressTracker.beginSubTask(nodeCount);
+        parents.setAll(NO_PARENT);
+
+        long[] startLevel = {startNodeId};
+        var levelStats = visitLevel(startLevel, 0);
+        progressTracker.logProgress(1);
+
+        long unvisitedRelationships = graph.relationshipCount() - levelStats.relationships;
+        long frontierRelationships = levelStats.relationships;
+        int levelStart = 0;
+        long depth = 0;
+
+        while (!levelStats.reachedTarget && (maxDepth == NO_MAX_DEPTH || depth < maxDepth)) {
+            assertRunning();
+
+            int levelEnd = visitOrder.size();
+            boolean bottomUp = graph.isUndirected() && unvisitedRelationships < frontierRelationships;
+            long[] nextLevel = bottomUp
+                ? bottomUpStep(levelStart, levelEnd)
+                : topDownStep(levelStart, levelEnd);
+
+            if (nextLevel.length == 0) {
+                break;
+            }
+
+            Arrays.parallelSort(nextLevel);
+            levelStats = visitLevel(nextLevel, levelEnd);
+            progressTracker.logProgress(nextLevel.length);
+
+            frontierRelationships = levelStats.relationships;
+            unvisitedRelationships -= frontierRelationships;
+            levelStart = levelEnd;
+            depth++;
+        }
+
+        progressTracker.endSubTask();
+
+        var result = visitOrder.toArray();
+        ParallelUtil.parallelForEachNode(
+            result.length,
+            concurrency,
+            index -> result[(int) index] = graph.toOriginalNodeId(result[(int) index])
+        );
+        return result;
+    }
+
+    @Override
+    public ParallelBFS me() {
+        return this;
+    }
+
+    @Override
+    public void release() {
+        parents.release();
+        visitIndex.release();
+    }
+
+    /**
+     * Every frontier node offers its position as parent to its unvisited neighbours.
+     * The smallest offered position wins.
+     */
+    private long[] topDownStep(int levelStart, int levelEnd) {
+        var frontier = visitOrder.buffer;
+        List<LevelTask> tasks = PartitionUtils.rangePartition(
+            concurrency,
+            levelEnd - levelStart,
+            partition -> new LevelTask(levelStart) {
+                @Override
+                public void run() {
+                    var localGraph = graph.concurrentCopy();
+                    long start = levelStart + partition.startNode();
+                    long end = start + partition.nodeCount();
+                    for (long position = start; position < end && running(); position++) {
+                        long parentPosition = position;
+                        localGraph.forEachRelationship(frontier[(int) position], (source, target) -> {
+                            if (!visited.get(target) && offerParent(target, parentPosition)) {
+                                discovered.add(target);
+                            }
+                            return true;
+                        });
+                    }
+                }
+            },
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executor);
+
+        // parents are final once all tasks finished
+        List<Runnable> encoders = new ArrayList<>(tasks.size());
+        for (LevelTask task : tasks) {
+            encoders.add(task::encode);
+        }
+        ParallelUtil.run(encoders, executor);
+        return concat(tasks);
+    }
+
+    /**
+     * Every unvisited node looks up the smallest frontier position among its neighbours.
+     */
+    private long[] bottomUpStep(int levelStart, int levelEnd) {
+        List<LevelTask> tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> new LevelTask(levelStart) {
+                private long minParent;
+
+                @Override
+                public void run() {
+                    var localGraph = graph.concurrentCopy();
+                    long end = partition.startNode() + partition.nodeCount();
+                    for (long nodeId = partition.startNode(); nodeId < end && running(); nodeId++) {
+                        if (visited.get(nodeId)) {
+                            continue;
+                        }
+                        minParent = NO_PARENT;
+                        localGraph.forEachRelationship(nodeId, (source, target) -> {
+                            if (visited.get(target)) {
+                                long position = visitIndex.get(target);
+                                if (position >= levelStart && position < minParent) {
+                                    minParent = position;
+                                }
+                            }
+                            return true;
+                        });
+                        if (minParent != NO_PARENT) {
+                            discovered.add(pack(minParent - levelStart, nodeId));
+                        }
+                    }
+                }
+            },
+            Optional.empty()
+        );
+        ParallelUtil.run(tasks, executor);
+        return concat(tasks);
+    }
+
+    private LevelStats visitLevel(long[] level, int levelStart) {
+        if ((long) levelStart + level.length > MAX_VISITED_NODES) {
+            throw new IllegalStateException(formatWithLocale(
+                "Parallel BFS can visit at most %d nodes.",
+                MAX_VISITED_NODES
+            ));
+        }
+        var stats = new LevelStats();
+        int firstTarget = -1;
+        for (int i = 0; i < level.length; i++) {
+            long nodeId = level[i] & NODE_MASK;
+            level[i] = nodeId;
+            visited.set(nodeId);
+            visitIndex.set(nodeId, levelStart + i);
+            stats.relationships += graph.degree(nodeId);
+            if (isTarget.test(nodeId)) {
+                firstTarget = i;
+                break;
+            }
+        }
+
+        if (firstTarget == -1) {
+            visitOrder.add(level, 0, level.length);
+        } else {
+            visitOrder.add(level, 0, firstTarget + 1);
+            stats.reachedTarget = true;
+        }
+        return stats;
+    }
+
+    private boolean offerParent(long nodeId, long position) {
+        long current = parents.get(nodeId);
+        while (position < current) {
+            long witness = parents.compareAndExchange(nodeId, current, position);
+            if (witness == current) {
+                return current == NO_PARENT;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    private static long pack(long parentPosition, long nodeId) {
+        return (parentPosition << PARENT_SHIFT) | nodeId;
+    }
+
+    private static long[] concat(List<LevelTask> tasks) {
+        int size = 0;
+        for (LevelTask task : tasks) {
+            size += task.discovered.size();
+        }
+        var level = new long[size];
+        int offset = 0;
+        for (LevelTask task : tasks) {
+            System.arraycopy(task.discovered.buffer, 0, level, offset, task.discovered.size());
+            offset += task.discovered.size();
+        }
+        return level;
+    }
+
+    private abstract class LevelTask implements Runnable {
+
+        final int levelStart;
+        final LongArrayList discovered;
+
+        LevelTask(int levelStart) {
+            this.levelStart = levelStart;
+            this.discovered = new LongArrayList();
+        }
+
+        void encode() {
+            var buffer = discovered.buffer;
+            for (int i = 0; i < discovered.size(); i++) {
+                long nodeId = buffer[i];
+                buffer[i] = pack(parents.get(nodeId) - levelStart, nodeId);
+            }
+        }
+    }
+
+    private static final class LevelStats {
+        long relationships;
+        boolean reachedTarget;
+    }
+}
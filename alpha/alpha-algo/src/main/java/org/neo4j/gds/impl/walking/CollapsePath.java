@@ -158,18 +158,14 @@ public class CollapsePath extends Algorithm<CollapsePath, Relationships> {
         @Override
         protected void prepareNextVisit(
             RelationshipIterator relationships,
-            long nodeVisit,
+            long[] nodeVisit,
+            int offset,
             long nodeId,
             HugeLongArray nextSet,
+            int wordsPerNode,
             int depth
         ) {
-            graphs[depth].forEachRelationship(
-                nodeId,
-                (src, tgt) -> {
-                    nextSet.or(tgt, nodeVisit);
-                    return true;
-                }
-            );
+            super.prepareNextVisit(graphs[depth], nodeVisit, offset, nodeId, nextSet, wordsPerNode, depth);
         }
     }
 
@@ -25,6 +25,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.ComputationContext;
+import org.neo4j.gds.ml.core.TensorArena;
 import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.batch.Batch;
 import org.neo4j.gds.ml.core.batch.BatchQueue;
@@ -148,6 +149,8 @@ public class Training {
     static class ObjectiveUpdateConsumer implements Consumer<Batch> {
         private final Objective<?> objective;
         private final long trainSize;
+        // one consumer per thread, the arena is reused for all batches of the thread
+        private final TensorArena arena;
         private List<? extends Tensor<?>> summedWeightGradients;
         private int consumedBatches;
 
@@ -157,6 +160,7 @@ public class Training {
         ) {
             this.objective = objective;
             this.trainSize = trainSize;
+            this.arena = new TensorArena();
             this.summedWeightGradients = objective
                 .weights()
                 .stream()
@@ -168,7 +172,7 @@ public class Training {
         @Override
         public void accept(Batch batch) {
             Variable<Scalar> loss = objective.loss(batch, trainSize);
-            var ctx = new ComputationContext();
+            var ctx = new ComputationContext(arena);
             ctx.forward(loss);
             ctx.backward(loss);
 
@@ -181,6 +185,7 @@ public class Training {
             for (int i = 0; i < summedWeightGradients.size(); i++) {
                 summedWeightGradients.get(i).addInPlace(localWeightGradient.get(i));
             }
+            ctx.release();
 
             consumedBatches++;
         }
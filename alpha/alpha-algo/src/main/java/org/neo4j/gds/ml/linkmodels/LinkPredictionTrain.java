@@ -22,6 +22,8 @@ package org.neo4j.gds.ml.linkmodels;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.model.Model;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -42,6 +44,7 @@ import org.neo4j.gds.ml.nodemodels.ModelStats;
 import org.neo4j.gds.ml.splitting.NodeSplit;
 import org.neo4j.gds.ml.splitting.StratifiedKFoldSplitter;
 import org.neo4j.gds.ml.util.ShuffleUtil;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -119,11 +122,18 @@ public class LinkPredictionTrain
         progressTracker.beginSubTask();
         progressTracker.beginSubTask();
         var outerTrainMetrics = computeMetric(trainGraph, nodeIds, predictor(modelData, trainExtractors),
+            config.concurrency(),
             progressTracker
         );
         progressTracker.endSubTask();
         progressTracker.beginSubTask();
-        var testMetrics = computeMetric(testGraph, nodeIds, predictor(modelData, testExtractors), progressTracker);
+        var testMetrics = computeMetric(
+            testGraph,
+            nodeIds,
+            predictor(modelData, testExtractors),
+            config.concurrency(),
+            progressTracker
+        );
         progressTracker.endSubTask();
 
         var metrics = mergeMetrics(modelSelectResult, outerTrainMetrics, testMetrics);
@@ -171,7 +181,13 @@ public class LinkPredictionTrain
         var trainStats = initStatsMap();
         var validationStats = initStatsMap();
 
-        config.paramConfigs().forEach(modelParams -> {
+        var candidates = config.paramConfigs();
+        var concurrentResults = GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.isEnabled()
+            ? evaluateCandidatesConcurrently(splits)
+            : null;
+
+        for (int candidateIndex = 0; candidateIndex < candidates.size(); candidateIndex++) {
+            var modelParams = candidates.get(candidateIndex);
             var trainStatsBuilder = new ModelStatsBuilder(
                 modelParams,
                 config.validationFolds()
@@ -180,25 +196,22 @@ public class LinkPredictionTrain
                 modelParams,
                 config.validationFolds()
             );
-            for (NodeSplit split : splits) {
-                // 3. train each model candidate on the train sets
-                var trainSet = split.trainSet();
-                var validationSet = split.testSet();
+            for (int splitIndex = 0; splitIndex < splits.size(); splitIndex++) {
+                var splitMetrics = concurrentResults == null
+                    ? evaluateCandidate(modelParams, splits.get(splitIndex), config.concurrency())
+                    : concurrentResults[candidateIndex * splits.size() + splitIndex];
                 // we use a less fine grained progress logging for LP than for NC
-                var modelData = trainModel(trainSet, modelParams, ProgressTracker.NULL_TRACKER);
-                var predictor = predictor(modelData, trainExtractors);
                 progressTracker.logProgress();
 
-                // 4. evaluate each model candidate on the train and validation sets
-                computeMetric(trainGraph, trainSet, predictor, ProgressTracker.NULL_TRACKER).forEach(trainStatsBuilder::update);
-                computeMetric(trainGraph, validationSet, predictor, ProgressTracker.NULL_TRACKER).forEach(validationStatsBuilder::update);
+                splitMetrics.trainMetrics().forEach(trainStatsBuilder::update);
+                splitMetrics.validationMetrics().forEach(validationStatsBuilder::update);
             }
             // insert the candidates metrics into trainStats and validationStats
             config.metrics().forEach(metric -> {
                 validationStats.get(metric).add(validationStatsBuilder.modelStats(metric));
                 trainStats.get(metric).add(trainStatsBuilder.modelStats(metric));
             });
-        });
+        }
 
         // 5. pick the best-scoring model candidate, according to the main metric
         var mainMetric = config.metrics().get(0);
@@ -209,6 +222,49 @@ public class LinkPredictionTrain
         return ModelSelectResult.of(bestConfig, trainStats, validationStats);
     }
 
+    private SplitMetrics evaluateCandidate(LinkLogisticRegressionTrainConfig modelParams, NodeSplit split, int concurrency) {
+        // 3. train the model candidate on the train set
+        var trainSet = split.trainSet();
+        var validationSet = split.testSet();
+        var modelData = trainModel(trainSet, modelParams, ProgressTracker.NULL_TRACKER);
+        var predictor = predictor(modelData, trainExtractors);
+
+        // 4. evaluate the model candidate on the train and validation sets
+        return ImmutableSplitMetrics.of(
+            computeMetric(trainGraph, trainSet, predictor, concurrency, ProgressTracker.NULL_TRACKER),
+            computeMetric(trainGraph, validationSet, predictor, concurrency, ProgressTracker.NULL_TRACKER)
+        );
+    }
+
+    /**
+     * Trains and evaluates every candidate on every split, indexed by {@code candidateIndex * splits.size() + splitIndex}.
+     * The concurrency is divided evenly between the jobs that run at the same time.
+     */
+    private SplitMetrics[] evaluateCandidatesConcurrently(List<NodeSplit> splits) {
+        var candidateParams = config.params();
+        int jobCount = candidateParams.size() * splits.size();
+        int concurrentJobs = Math.min(config.concurrency(), jobCount);
+        int jobConcurrency = Math.max(1, config.concurrency() / concurrentJobs);
+
+        var results = new SplitMetrics[jobCount];
+        var jobs = new ArrayList<Runnable>(jobCount);
+        for (int candidateIndex = 0; candidateIndex < candidateParams.size(); candidateIndex++) {
+            var jobParams = LinkLogisticRegressionTrainConfig.of(
+                config.featureProperties(),
+                jobConcurrency,
+                candidateParams.get(candidateIndex)
+            );
+            for (int splitIndex = 0; splitIndex < splits.size(); splitIndex++) {
+                int jobIndex = candidateIndex * splits.size() + splitIndex;
+                var split = splits.get(splitIndex);
+                jobs.add(() -> results[jobIndex] = evaluateCandidate(jobParams, split, jobConcurrency));
+            }
+        }
+        ParallelUtil.runWithConcurrency(concurrentJobs, jobs, terminationFlag, Pools.DEFAULT);
+
+        return results;
+    }
+
     private List<NodeSplit> trainValidationSplits(HugeLongArray allNodeIds) {
         var globalTargets = HugeLongArray.newArray(trainGraph.nodeCount(), allocationTracker);
         globalTargets.setAll(i -> 0L);
@@ -216,6 +272,12 @@ public class LinkPredictionTrain
         return splitter.splits();
     }
 
+    @ValueClass
+    interface SplitMetrics {
+        Map<LinkMetric, Double> trainMetrics();
+        Map<LinkMetric, Double> validationMetrics();
+    }
+
     @ValueClass
     public interface ModelSelectResult {
         LinkLogisticRegressionTrainConfig bestParameters();
@@ -243,13 +305,14 @@ public class LinkPredictionTrain
         Graph evaluationGraph,
         HugeLongArray evaluationSet,
         LinkLogisticRegressionPredictor predictor,
+        int concurrency,
         ProgressTracker progressTracker
     ) {
         var signedProbabilities = SignedProbabilities.create(evaluationGraph.relationshipCount());
 
         progressTracker.setVolume(evaluationGraph.nodeCount());
         var queue = new HugeBatchQueue(evaluationSet);
-        queue.parallelConsume(config.concurrency(), ignore -> new SignedProbabilitiesCollector(
+        queue.parallelConsume(concurrency, ignore -> new SignedProbabilitiesCollector(
                 evaluationGraph.concurrentCopy(),
                 predictor,
                 signedProbabilities,
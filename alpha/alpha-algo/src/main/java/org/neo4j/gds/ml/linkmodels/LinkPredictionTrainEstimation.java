@@ -32,6 +32,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -39,6 +40,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.ml.linkmodels.LinkPredictionTrain.estimateModelSelectResult;
+import static org.neo4j.gds.core.utils.mem.MemoryEstimations.delegateEstimation;
 import static org.neo4j.gds.core.utils.mem.MemoryEstimations.maxEstimation;
 import static org.neo4j.gds.core.utils.mem.MemoryUsage.sizeOfInstance;
 
@@ -88,6 +90,11 @@ public class LinkPredictionTrainEstimation {
                 }
             ).collect(Collectors.toList())
         );
+        if (GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.isEnabled()) {
+            // one model per concurrently running candidate and fold, the per-thread batches are overestimated
+            var concurrentJobs = Math.min(config.concurrency(), config.params().size() * config.validationFolds());
+            maxOverParams = delegateEstimation(maxOverParams.times(concurrentJobs), "concurrent models");
+        }
         return MemoryEstimations.builder("model selection")
             .add("split", StratifiedKFoldSplitter.memoryEstimation(config.validationFolds(), 1.0))
             // train and validation
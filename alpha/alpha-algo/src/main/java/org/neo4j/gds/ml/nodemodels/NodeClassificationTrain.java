@@ -26,6 +26,8 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.model.Model;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -44,8 +46,10 @@ import org.neo4j.gds.ml.splitting.FractionSplitter;
 import org.neo4j.gds.ml.splitting.NodeSplit;
 import org.neo4j.gds.ml.splitting.StratifiedKFoldSplitter;
 import org.neo4j.gds.ml.util.ShuffleUtil;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.openjdk.jol.util.Multiset;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -89,6 +93,12 @@ public class NodeClassificationTrain extends Algorithm<NodeClassificationTrain,
             fudgedFeatureCount,
             (nodeCount) -> (long) (nodeCount * holdoutFraction * (validationFolds - 1) / validationFolds)
         );
+        if (GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.isEnabled()) {
+            // every concurrently evaluated candidate trains its own model,
+            // counting the per-thread parts once per job keeps this an upper bound
+            var concurrentJobs = Math.min(config.concurrency(), config.params().size() * validationFolds);
+            modelSelection = delegateEstimation(modelSelection.times(concurrentJobs), "concurrent model selection");
+        }
         var bestModelEvaluation = delegateEstimation(
             modelTrainAndEvaluateMemoryUsage(
                 maxBatchSize,
@@ -238,25 +248,30 @@ public class NodeClassificationTrain extends Algorithm<NodeClassificationTrain,
 
     private ModelSelectResult selectBestModel(List<NodeSplit> splits) {
         progressTracker.beginSubTask();
-        for (NodeLogisticRegressionTrainConfig modelParams : config.paramsConfig()) {
+        var candidates = config.paramsConfig();
+        var concurrentResults = GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.isEnabled()
+            ? evaluateCandidatesConcurrently(splits)
+            : null;
+
+        for (int candidateIndex = 0; candidateIndex < candidates.size(); candidateIndex++) {
+            var modelParams = candidates.get(candidateIndex);
             progressTracker.beginSubTask();
             var validationStatsBuilder = new ModelStatsBuilder(modelParams, splits.size());
             var trainStatsBuilder = new ModelStatsBuilder(modelParams, splits.size());
 
-            for (NodeSplit split : splits) {
+            for (int splitIndex = 0; splitIndex < splits.size(); splitIndex++) {
+                var split = splits.get(splitIndex);
                 progressTracker.beginSubTask();
 
-                var trainSet = split.trainSet();
-                var validationSet = split.testSet();
-
-                progressTracker.beginSubTask(modelParams.maxEpochs());
-                var modelData = trainModel(trainSet, modelParams);
-                progressTracker.endSubTask();
-
-                progressTracker.beginSubTask(validationSet.size() + trainSet.size());
-                computeMetrics(classCounts, validationSet, modelData, metrics).forEach(validationStatsBuilder::update);
-                computeMetrics(classCounts, trainSet, modelData, metrics).forEach(trainStatsBuilder::update);
-                progressTracker.endSubTask();
+                SplitMetrics splitMetrics;
+                if (concurrentResults == null) {
+                    splitMetrics = evaluateCandidate(modelParams, split, config.concurrency(), progressTracker);
+                } else {
+                    splitMetrics = concurrentResults[candidateIndex * splits.size() + splitIndex];
+                    logEvaluatedSplit(modelParams, split);
+                }
+                splitMetrics.validationMetrics().forEach(validationStatsBuilder::update);
+                splitMetrics.trainMetrics().forEach(trainStatsBuilder::update);
 
                 progressTracker.endSubTask();
             }
@@ -275,6 +290,74 @@ public class NodeClassificationTrain extends Algorithm<NodeClassificationTrain,
         return ModelSelectResult.of(bestModelStats.params(), trainStats, validationStats);
     }
 
+    private SplitMetrics evaluateCandidate(
+        NodeLogisticRegressionTrainConfig modelParams,
+        NodeSplit split,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        var trainSet = split.trainSet();
+        var validationSet = split.testSet();
+
+        progressTracker.beginSubTask(modelParams.maxEpochs());
+        var modelData = trainModel(trainSet, modelParams, progressTracker);
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask(validationSet.size() + trainSet.size());
+        var validationMetrics = computeMetrics(classCounts, validationSet, modelData, metrics, concurrency, progressTracker);
+        var trainMetrics = computeMetrics(classCounts, trainSet, modelData, metrics, concurrency, progressTracker);
+        progressTracker.endSubTask();
+
+        return ImmutableSplitMetrics.of(trainMetrics, validationMetrics);
+    }
+
+    /**
+     * Trains and evaluates every candidate on every split, indexed by {@code candidateIndex * splits.size() + splitIndex}.
+     * The concurrency is divided evenly between the jobs that run at the same time.
+     */
+    private SplitMetrics[] evaluateCandidatesConcurrently(List<NodeSplit> splits) {
+        var candidateParams = config.params();
+        int jobCount = candidateParams.size() * splits.size();
+        int concurrentJobs = Math.min(config.concurrency(), jobCount);
+        int jobConcurrency = Math.max(1, config.concurrency() / concurrentJobs);
+
+        var results = new SplitMetrics[jobCount];
+        var jobs = new ArrayList<Runnable>(jobCount);
+        for (int candidateIndex = 0; candidateIndex < candidateParams.size(); candidateIndex++) {
+            var jobParams = NodeLogisticRegressionTrainConfig.of(
+                config.featureProperties(),
+                config.targetProperty(),
+                jobConcurrency,
+                candidateParams.get(candidateIndex)
+            );
+            for (int splitIndex = 0; splitIndex < splits.size(); splitIndex++) {
+                int jobIndex = candidateIndex * splits.size() + splitIndex;
+                var split = splits.get(splitIndex);
+                // the progress is logged once all jobs are done, the task tree cannot be entered concurrently
+                jobs.add(() -> results[jobIndex] = evaluateCandidate(
+                    jobParams,
+                    split,
+                    jobConcurrency,
+                    ProgressTracker.NULL_TRACKER
+                ));
+            }
+        }
+        ParallelUtil.runWithConcurrency(concurrentJobs, jobs, terminationFlag, Pools.DEFAULT);
+
+        return results;
+    }
+
+    private void logEvaluatedSplit(NodeLogisticRegressionTrainConfig modelParams, NodeSplit split) {
+        progressTracker.beginSubTask(modelParams.maxEpochs());
+        progressTracker.logProgress(modelParams.maxEpochs());
+        progressTracker.endSubTask();
+
+        var evaluatedNodes = split.testSet().size() + split.trainSet().size();
+        progressTracker.beginSubTask(evaluatedNodes);
+        progressTracker.logProgress(evaluatedNodes);
+        progressTracker.endSubTask();
+    }
+
     private Map<Metric, MetricData<NodeLogisticRegressionTrainConfig>> evaluateBestModel(
         NodeSplit outerSplit,
         ModelSelectResult modelSelectResult,
@@ -282,12 +365,26 @@ public class NodeClassificationTrain extends Algorithm<NodeClassificationTrain,
     ) {
         int maxEpochs = bestParameters.maxEpochs();
         progressTracker.beginSubTask(maxEpochs);
-        NodeLogisticRegressionData bestModelData = trainModel(outerSplit.trainSet(), bestParameters);
+        NodeLogisticRegressionData bestModelData = trainModel(outerSplit.trainSet(), bestParameters, progressTracker);
         progressTracker.endSubTask();
 
         progressTracker.beginSubTask(outerSplit.testSet().size() + outerSplit.trainSet().size());
-        var testMetrics = computeMetrics(classCounts, outerSplit.testSet(), bestModelData, metrics);
-        var outerTrainMetrics = computeMetrics(classCounts, outerSplit.trainSet(), bestModelData, metrics);
+        var testMetrics = computeMetrics(
+            classCounts,
+            outerSplit.testSet(),
+            bestModelData,
+            metrics,
+            config.concurrency(),
+            progressTracker
+        );
+        var outerTrainMetrics = computeMetrics(
+            classCounts,
+            outerSplit.trainSet(),
+            bestModelData,
+            metrics,
+            config.concurrency(),
+            progressTracker
+        );
         progressTracker.endSubTask();
 
         return mergeMetricResults(modelSelectResult, outerTrainMetrics, testMetrics);
@@ -296,7 +393,7 @@ public class NodeClassificationTrain extends Algorithm<NodeClassificationTrain,
     private NodeLogisticRegressionData retrainBestModel(NodeLogisticRegressionTrainConfig bestParameters) {
         int maxEpochs = bestParameters.maxEpochs();
         progressTracker.beginSubTask(maxEpochs);
-        var retrainedModelData = trainModel(nodeIds, bestParameters);
+        var retrainedModelData = trainModel(nodeIds, bestParameters, progressTracker);
         progressTracker.endSubTask();
         return retrainedModelData;
     }
@@ -342,7 +439,8 @@ public class NodeClassificationTrain extends Algorithm<NodeClassificationTrain,
 
     private NodeLogisticRegressionData trainModel(
         HugeLongArray trainSet,
-        NodeLogisticRegressionTrainConfig nlrConfig
+        NodeLogisticRegressionTrainConfig nlrConfig,
+        ProgressTracker progressTracker
     ) {
         var train = new NodeLogisticRegressionTrain(graph, trainSet, nlrConfig, progressTracker, terminationFlag);
         return train.compute();
@@ -352,7 +450,9 @@ public class NodeClassificationTrain extends Algorithm<NodeClassificationTrain,
         Multiset<Long> globalClassCounts,
         HugeLongArray evaluationSet,
         NodeLogisticRegressionData modelData,
-        Collection<Metric> metrics
+        Collection<Metric> metrics,
+        int concurrency,
+        ProgressTracker progressTracker
     ) {
         var predictor = new NodeLogisticRegressionPredictor(modelData, config.featureProperties());
         var predictedClasses = HugeLongArray.newArray(evaluationSet.size(), allocationTracker);
@@ -370,7 +470,7 @@ public class NodeClassificationTrain extends Algorithm<NodeClassificationTrain,
         );
 
         var queue = new BatchQueue(evaluationSet.size());
-        queue.parallelConsume(consumer, config.concurrency(), terminationFlag);
+        queue.parallelConsume(consumer, concurrency, terminationFlag);
 
         var localTargets = makeLocalTargets(evaluationSet);
         return metrics.stream().collect(Collectors.toMap(
@@ -387,6 +487,12 @@ public class NodeClassificationTrain extends Algorithm<NodeClassificationTrain,
         return targets;
     }
 
+    @ValueClass
+    interface SplitMetrics {
+        Map<Metric, Double> trainMetrics();
+        Map<Metric, Double> validationMetrics();
+    }
+
     @ValueClass
     interface ModelSelectResult {
         NodeLogisticRegressionTrainConfig bestParameters();
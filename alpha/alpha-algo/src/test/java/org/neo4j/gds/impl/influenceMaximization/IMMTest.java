@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.influenceMaximization;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+final class IMMTest {
+
+    @GdlGraph(orientation = Orientation.NATURAL)
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (i:Node)" +
+        ", (j:Node)" +
+
+        ", (a)-[:RELATIONSHIP]->(c)" +
+        ", (a)-[:RELATIONSHIP]->(d)" +
+        ", (a)-[:RELATIONSHIP]->(e)" +
+        ", (a)-[:RELATIONSHIP]->(f)" +
+        ", (a)-[:RELATIONSHIP]->(g)" +
+        ", (a)-[:RELATIONSHIP]->(h)" +
+        ", (a)-[:RELATIONSHIP]->(i)" +
+        ", (a)-[:RELATIONSHIP]->(j)" +
+
+        ", (b)-[:RELATIONSHIP]->(c)" +
+        ", (b)-[:RELATIONSHIP]->(d)" +
+        ", (b)-[:RELATIONSHIP]->(e)" +
+        ", (b)-[:RELATIONSHIP]->(f)" +
+        ", (b)-[:RELATIONSHIP]->(g)" +
+        ", (b)-[:RELATIONSHIP]->(h)" +
+        ", (b)-[:RELATIONSHIP]->(i)" +
+        ", (b)-[:RELATIONSHIP]->(j)" +
+
+        ", (c)-[:RELATIONSHIP]->(g)" +
+        ", (d)-[:RELATIONSHIP]->(h)" +
+        ", (e)-[:RELATIONSHIP]->(i)" +
+        ", (f)-[:RELATIONSHIP]->(j)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldSelectNodesReachingEveryone(int concurrency) {
+        // with a propagation probability of 1, a and b together reach every node
+        var imm = new IMM(
+            graph,
+            2,
+            1.0,
+            0.5,
+            Optional.of(42L),
+            concurrency,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        ).compute();
+
+        long a = idFunction.of("a");
+        long b = idFunction.of("b");
+        long first = imm.getNodeSpread(a) < imm.getNodeSpread(b) ? a : b;
+        long second = first == a ? b : a;
+
+        assertThat(imm.getNodeSpread(first)).isCloseTo(9.0, within(1.0));
+        assertThat(imm.getNodeSpread(second)).isEqualTo(10.0);
+    }
+
+    @Test
+    void shouldBeDeterministicForFixedSeedAndConcurrency() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(500)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(7L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var first = run(randomGraph);
+        var second = run(randomGraph);
+
+        assertThat(first).hasSize(5).isEqualTo(second);
+    }
+
+    private static List<String> run(Graph graph) {
+        return new IMM(
+            graph,
+            5,
+            0.2,
+            0.5,
+            Optional.of(1337L),
+            4,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        ).compute()
+            .resultStream()
+            .map(result -> result.nodeId + ":" + result.spread)
+            .collect(Collectors.toList());
+    }
+}
@@ -22,6 +22,8 @@ package org.neo4j.gds.impl.msbfs;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.AlgoTestBase;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.StoreLoaderBuilder;
@@ -49,6 +51,7 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -290,11 +293,12 @@ final class MultiSourceBFSTest extends AlgoTestBase {
         }
     }
 
-    @Test
-    void testSize() {
-        int maxNodes = 100;
+    @ParameterizedTest
+    @ValueSource(ints = {64, 128, 256})
+    void testSize(int omega) {
+        int maxNodes = 300;
         // [ last i, expected source from, expected source to ]
-        int[] state = {-1, 0, MultiSourceBFS.OMEGA};
+        int[] state = {-1, 0, omega};
         withGrid(
                 gb -> gb.newCompleteGraphBuilder().createCompleteGraph(maxNodes),
                 graph -> {
@@ -307,7 +311,7 @@ final class MultiSourceBFSTest extends AlgoTestBase {
                                     // we complete a source chunk and start again for the next one
                                     state[1] = state[2];
                                     state[2] = Math.min(
-                                            state[2] + MultiSourceBFS.OMEGA,
+                                            state[2] + omega,
                                             maxNodes);
                                 }
                                 state[0] = (int) i;
@@ -324,7 +328,7 @@ final class MultiSourceBFSTest extends AlgoTestBase {
                                 assertEquals(expectedSize, s.size());
                             },
                             AllocationTracker.empty()
-                    );
+                    ).withOmega(omega);
                     // run sequentially to guarantee order
                     msbfs.run(1, null);
                 });
@@ -391,6 +395,20 @@ final class MultiSourceBFSTest extends AlgoTestBase {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 32, 96, 1024})
+    void shouldFailOnInvalidOmega(int omega) {
+        var msbfs = MultiSourceBFS.aggregatedNeighborProcessing(
+            new DirectIdMapping(42),
+            mock(RelationshipIterator.class),
+            (nodeId, depth, sourceNodeIds) -> {},
+            AllocationTracker.empty()
+        );
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> msbfs.withOmega(omega));
+        assertTrue(exception.getMessage().contains("Omega must be a power of two between 64 and 512"));
+    }
+
     private void withGraph(String cypher, Consumer<? super Graph> block) {
         runQuery(cypher);
         block.accept(new StoreLoaderBuilder()
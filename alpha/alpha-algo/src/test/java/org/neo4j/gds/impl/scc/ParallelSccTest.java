@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.scc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class ParallelSccTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+        ", (h:Node)" +
+        ", (i:Node)" +
+        ", (j:Node)" +
+
+        ", (a)-[:TYPE]->(b)" +
+        ", (b)-[:TYPE]->(c)" +
+        ", (c)-[:TYPE]->(a)" +
+
+        ", (d)-[:TYPE]->(e)" +
+        ", (e)-[:TYPE]->(f)" +
+        ", (f)-[:TYPE]->(d)" +
+
+        ", (a)-[:TYPE]->(d)" +
+
+        ", (g)-[:TYPE]->(h)" +
+        ", (h)-[:TYPE]->(i)" +
+        ", (i)-[:TYPE]->(g)" +
+
+        ", (i)-[:TYPE]->(j)" +
+        ", (j)-[:TYPE]->(j)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldComputeComponents(int concurrency) {
+        var components = run(graph, concurrency);
+
+        assertThat(components.get(idFunction.of("a"))).isEqualTo(idFunction.of("a"));
+        assertThat(components.get(idFunction.of("b"))).isEqualTo(idFunction.of("a"));
+        assertThat(components.get(idFunction.of("c"))).isEqualTo(idFunction.of("a"));
+
+        assertThat(components.get(idFunction.of("d"))).isEqualTo(idFunction.of("d"));
+        assertThat(components.get(idFunction.of("e"))).isEqualTo(idFunction.of("d"));
+        assertThat(components.get(idFunction.of("f"))).isEqualTo(idFunction.of("d"));
+
+        assertThat(components.get(idFunction.of("g"))).isEqualTo(idFunction.of("g"));
+        assertThat(components.get(idFunction.of("h"))).isEqualTo(idFunction.of("g"));
+        assertThat(components.get(idFunction.of("i"))).isEqualTo(idFunction.of("g"));
+
+        assertThat(components.get(idFunction.of("j"))).isEqualTo(idFunction.of("j"));
+    }
+
+    @Test
+    void shouldMatchSequentialScc() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(2)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .allocationTracker(AllocationTracker.empty())
+            .build()
+            .generate();
+
+        var expected = new SccAlgorithm(randomGraph, AllocationTracker.empty()).compute();
+        var actual = run(randomGraph, 4);
+
+        // both algorithms must produce the same partition, regardless of the chosen ids
+        var expectedToActual = new HashMap<Long, Long>();
+        var actualToExpected = new HashMap<Long, Long>();
+        for (long nodeId = 0; nodeId < randomGraph.nodeCount(); nodeId++) {
+            long expectedId = expected.get(nodeId);
+            long actualId = actual.get(nodeId);
+            assertThat(expectedToActual.computeIfAbsent(expectedId, ignore -> actualId)).isEqualTo(actualId);
+            assertThat(actualToExpected.computeIfAbsent(actualId, ignore -> expectedId)).isEqualTo(expectedId);
+            assertThat(actualId).isLessThanOrEqualTo(nodeId);
+        }
+    }
+
+    private static HugeLongArray run(Graph graph, int concurrency) {
+        return new ParallelSccAlgorithm(
+            graph,
+            concurrency,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        ).compute();
+    }
+}
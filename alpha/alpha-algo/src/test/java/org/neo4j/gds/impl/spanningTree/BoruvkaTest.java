@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.impl.spanningTrees.Boruvka;
+import org.neo4j.gds.impl.spanningTrees.Prim;
+import org.neo4j.gds.impl.spanningTrees.SpanningTree;
+import org.neo4j.graphdb.TransactionTerminatedException;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests if Boruvka returns a valid forest
+ *
+ *         a                  a                  a
+ *     1 /   \ 2            /  \                  \
+ *      /     \            /    \                  \
+ *     b --3-- c          b      c          b       c
+ *     |       |  =min=>  |      |  =max=>  |       |
+ *     4       5          |      |          |       |
+ *     |       |          |      |          |       |
+ *     d --6-- e          d      e          d-------e
+ *
+ *     y --1-- z          y------z          y-------z
+ */
+@GdlExtension
+class BoruvkaTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (y:Node)" +
+        ", (z:Node)" +
+
+        ", (a)-[:TYPE {cost: 1.0}]->(b)" +
+        ", (a)-[:TYPE {cost: 2.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 3.0}]->(c)" +
+        ", (b)-[:TYPE {cost: 4.0}]->(d)" +
+        ", (c)-[:TYPE {cost: 5.0}]->(e)" +
+        ", (d)-[:TYPE {cost: 6.0}]->(e)" +
+        ", (y)-[:TYPE {cost: 1.0}]->(z)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testMinimumForest(int concurrency) {
+        var forest = forest(Prim.MIN_OPERATOR, concurrency);
+
+        assertThat(edges(forest)).containsExactlyInAnyOrder(
+            edge("a", "b"),
+            edge("a", "c"),
+            edge("b", "d"),
+            edge("c", "e"),
+            edge("y", "z")
+        );
+        assertThat(forest.effectiveNodeCount).isEqualTo(7);
+        assertThat(totalWeight(forest)).isEqualTo(13.0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void testMaximumForest(int concurrency) {
+        var forest = forest(Prim.MAX_OPERATOR, concurrency);
+
+        assertThat(edges(forest)).containsExactlyInAnyOrder(
+            edge("a", "c"),
+            edge("b", "d"),
+            edge("c", "e"),
+            edge("d", "e"),
+            edge("y", "z")
+        );
+        assertThat(totalWeight(forest)).isEqualTo(18.0);
+    }
+
+    @Test
+    void shouldFailWhenTerminated() {
+        TerminationFlag terminated = () -> false;
+        var boruvka = boruvka(Prim.MIN_OPERATOR, 4).withTerminationFlag(terminated);
+
+        assertThatThrownBy(boruvka::compute).isInstanceOf(TransactionTerminatedException.class);
+    }
+
+    private SpanningTree forest(DoubleUnaryOperator minMax, int concurrency) {
+        return boruvka(minMax, concurrency).compute();
+    }
+
+    private Boruvka boruvka(DoubleUnaryOperator minMax, int concurrency) {
+        return new Boruvka(
+            graph,
+            minMax,
+            concurrency,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        );
+    }
+
+    private double totalWeight(SpanningTree forest) {
+        double totalWeight = 0.0D;
+        for (int node = 0; node < forest.nodeCount; node++) {
+            if (forest.parent[node] != -1) {
+                totalWeight += forest.weight(node);
+            }
+        }
+        return totalWeight;
+    }
+
+    private Set<Set<Long>> edges(SpanningTree forest) {
+        var edges = new HashSet<Set<Long>>();
+        forest.forEach((source, target) -> {
+            edges.add(Set.of(source, target));
+            return true;
+        });
+        return edges;
+    }
+
+    private Set<Long> edge(String source, String target) {
+        return Set.of(idFunction.of(source), idFunction.of(target));
+    }
+}
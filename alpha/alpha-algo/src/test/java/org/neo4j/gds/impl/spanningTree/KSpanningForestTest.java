@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.spanningTree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.impl.spanningTrees.KSpanningForest;
+import org.neo4j.gds.impl.spanningTrees.Prim;
+import org.neo4j.gds.impl.spanningTrees.SpanningTree;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ *          1
+ *  (x)  (a)---(d)    (x)  (a)   (d)
+ *      /3 \2 /3   =>     /     /
+ *    (b)---(c)         (b)   (c)
+ *        1
+ */
+@GdlExtension
+class KSpanningForestTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    @GdlGraph(graphNamePrefix = "natural", orientation = Orientation.NATURAL)
+    private static final String DB_CYPHER =
+            "CREATE " +
+            "  (a:Node)" +
+            ", (b:Node)" +
+            ", (c:Node)" +
+            ", (d:Node)" +
+            ", (x:Node)" +
+
+            ", (a)-[:TYPE {w: 3.0}]->(b)" +
+            ", (a)-[:TYPE {w: 2.0}]->(c)" +
+            ", (a)-[:TYPE {w: 1.0}]->(d)" +
+            ", (b)-[:TYPE {w: 1.0}]->(c)" +
+            ", (d)-[:TYPE {w: 3.0}]->(c)";
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private Graph naturalGraph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    private int a, b, c, d, x;
+
+    @BeforeEach
+    void setUp() {
+        a = (int) idFunction.of("a");
+        b = (int) idFunction.of("b");
+        c = (int) idFunction.of("c");
+        d = (int) idFunction.of("d");
+        x = (int) idFunction.of("x");
+    }
+
+    @Test
+    void testMaximumKSpanningForest() {
+        SpanningTree spanningTree = kSpanningForest(graph, Prim.MAX_OPERATOR, 3);
+
+        assertEquals(spanningTree.head(a), spanningTree.head(b));
+        assertEquals(spanningTree.head(c), spanningTree.head(d));
+        assertNotEquals(spanningTree.head(a), spanningTree.head(c));
+        assertNotEquals(spanningTree.head(a), spanningTree.head(x));
+        assertNotEquals(spanningTree.head(c), spanningTree.head(x));
+    }
+
+    @Test
+    void testMinimumKSpanningForest() {
+        SpanningTree spanningTree = kSpanningForest(graph, Prim.MIN_OPERATOR, 3);
+
+        assertEquals(spanningTree.head(a), spanningTree.head(d));
+        assertEquals(spanningTree.head(b), spanningTree.head(c));
+        assertNotEquals(spanningTree.head(a), spanningTree.head(b));
+        assertNotEquals(spanningTree.head(a), spanningTree.head(x));
+        assertNotEquals(spanningTree.head(b), spanningTree.head(x));
+    }
+
+    @Test
+    void shouldNotCutBelowComponentCount() {
+        SpanningTree spanningTree = kSpanningForest(graph, Prim.MIN_OPERATOR, 2);
+
+        assertEquals(spanningTree.head(a), spanningTree.head(b));
+        assertEquals(spanningTree.head(a), spanningTree.head(c));
+        assertEquals(spanningTree.head(a), spanningTree.head(d));
+        assertNotEquals(spanningTree.head(a), spanningTree.head(x));
+    }
+
+    @Test
+    void shouldCutByTheWeightsOfTheSelectedRelationships() {
+        // the forest relationship between c and d is only stored from d to c
+        SpanningTree spanningTree = kSpanningForest(naturalGraph, Prim.MAX_OPERATOR, 3);
+
+        assertEquals(c, spanningTree.parent[d]);
+        assertEquals(3.0, spanningTree.weight(d));
+        assertEquals(spanningTree.head(a), spanningTree.head(b));
+        assertEquals(spanningTree.head(c), spanningTree.head(d));
+        assertNotEquals(spanningTree.head(a), spanningTree.head(c));
+    }
+
+    private SpanningTree kSpanningForest(Graph graph, DoubleUnaryOperator minMax, long k) {
+        return new KSpanningForest(
+            graph,
+            minMax,
+            k,
+            4,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        ).compute();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.impl.traverse;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *
+ * Graph:
+ *
+ *     (b)   (e)
+ *    /   \ /   \
+ * >(a)  (d)  ((g))
+ *    \   / \   /
+ *     (c)   (f)
+ */
+@GdlExtension
+class ParallelBFSTest {
+
+    @GdlGraph(graphNamePrefix = "natural")
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String CYPHER =
+        "CREATE (a:Node)" +
+        ", (b:Node)" +
+        ", (c:Node)" +
+        ", (d:Node)" +
+        ", (e:Node)" +
+        ", (f:Node)" +
+        ", (g:Node)" +
+
+        ", (a)-[:REL]->(b)" +
+        ", (a)-[:REL]->(c)" +
+        ", (b)-[:REL]->(d)" +
+        ", (c)-[:REL]->(d)" +
+        ", (d)-[:REL]->(e)" +
+        ", (d)-[:REL]->(f)" +
+        ", (e)-[:REL]->(g)" +
+        ", (f)-[:REL]->(g)";
+
+    @Inject
+    private static TestGraph naturalGraph;
+
+    @Inject
+    private static TestGraph undirectedGraph;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldVisitLevelByLevel(int concurrency) {
+        var nodes = bfs(naturalGraph, "a", nodeId -> false, ParallelBFS.NO_MAX_DEPTH, concurrency);
+
+        assertThat(nodes).containsExactly(originalIds(naturalGraph, "a", "b", "c", "d", "e", "f", "g"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldVisitBottomUpOnUndirectedGraphs(int concurrency) {
+        var nodes = bfs(undirectedGraph, "d", nodeId -> false, ParallelBFS.NO_MAX_DEPTH, concurrency);
+
+        assertThat(nodes).containsExactly(originalIds(undirectedGraph, "d", "b", "c", "e", "f", "a", "g"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldStopAtMaxDepth(int concurrency) {
+        var nodes = bfs(naturalGraph, "a", nodeId -> false, 2, concurrency);
+
+        assertThat(nodes).containsExactly(originalIds(naturalGraph, "a", "b", "c", "d"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldStopAtFirstTarget(int concurrency) {
+        var targets = Set.of(naturalGraph.toMappedNodeId("e"), naturalGraph.toMappedNodeId("f"));
+        var nodes = bfs(naturalGraph, "a", targets::contains, ParallelBFS.NO_MAX_DEPTH, concurrency);
+
+        assertThat(nodes).containsExactly(originalIds(naturalGraph, "a", "b", "c", "d", "e"));
+    }
+
+    private static long[] bfs(TestGraph graph, String startNode, LongPredicate isTarget, long maxDepth, int concurrency) {
+        return new ParallelBFS(
+            graph,
+            graph.toMappedNodeId(startNode),
+            isTarget,
+            maxDepth,
+            concurrency,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            AllocationTracker.empty()
+        ).compute();
+    }
+
+    private static long[] originalIds(TestGraph graph, String... variables) {
+        return Arrays.stream(variables)
+            .mapToLong(variable -> graph.toOriginalNodeId(graph.toMappedNodeId(variable)))
+            .toArray();
+    }
+}
@@ -24,11 +24,14 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.utils.mem.MemoryTree;
 import org.neo4j.gds.junit.annotation.Edition;
 import org.neo4j.gds.junit.annotation.GdsEditionTest;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -139,6 +142,25 @@ class LinkPredictionTrainFactoryTest {
         assertThat(10 * lowRelCountUsage).isCloseTo(highRelCountUsage, Percentage.withPercentage(1));
     }
 
+    @Test
+    @GdsEditionTest(Edition.EE)
+    void concurrentlyTrainedModelsShouldScaleModelSelection() {
+        var dimensions = graphDimensions(1_100L, 7_000L, 3_000L);
+        var sequentialEstimate = new LinkPredictionTrainFactory().memoryEstimation(getConfig(4, "L2", 100000, 5))
+            .estimate(dimensions, 4);
+        var parallelEstimate = new AtomicReference<MemoryTree>();
+        GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.enableAndRun(
+            () -> parallelEstimate.set(new LinkPredictionTrainFactory().memoryEstimation(getConfig(4, "L2", 100000, 5))
+                .estimate(dimensions, 4))
+        );
+
+        // one candidate on five folds, of which four are trained at the same time
+        var sequentialModels = subTree(sequentialEstimate, List.of("max", "model selection", "max over models"));
+        var parallelModels = subTree(parallelEstimate.get(), List.of("max", "model selection", "concurrent models"));
+        assertThat(parallelModels.memoryUsage()).isEqualTo(sequentialModels.memoryUsage().times(4));
+        assertThat(parallelEstimate.get().memoryUsage().max).isGreaterThan(sequentialEstimate.memoryUsage().max);
+    }
+
     private LinkPredictionTrainConfig getConfig(int concurrency, String linkFeatureCombiner, int batchSize, int nodeProperties) {
         return ImmutableLinkPredictionTrainConfig.builder()
             .modelName("model")
@@ -21,6 +21,7 @@ package org.neo4j.gds.ml.linkmodels;
 
 import org.assertj.core.api.AssertionsForInterfaceTypes;
 import org.assertj.core.data.Percentage;
+import org.assertj.core.util.DoubleComparator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -41,10 +42,13 @@ import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionTrainConfig;
 import org.neo4j.gds.ml.linkmodels.logisticregression.LinkLogisticRegressionTrainConfigImpl;
 import org.neo4j.gds.ml.linkmodels.metrics.LinkMetric;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.neo4j.gds.TestLog.INFO;
@@ -261,6 +265,54 @@ class LinkPredictionTrainTest {
             .matches(matrix -> matrix.equals(secondResult.data().weights().data(), 1e-10));
     }
 
+    @Test
+    void parallelModelSelectionShouldMatchSequentialModelSelection() {
+        var trainGraph = (CSRGraph) graphStore.getGraph(RelationshipType.of("TRAIN"), Optional.of("label"));
+        var testGraph = (CSRGraph) graphStore.getGraph(RelationshipType.of("TEST"), Optional.of("label"));
+
+        var nodeCount = 15;
+        var totalPositives = 16;
+        double maxNumberOfRelationships = nodeCount * (nodeCount - 1) / 2d;
+        double totalNegatives = maxNumberOfRelationships - totalPositives;
+        var classRatio = totalNegatives / totalPositives;
+
+        // a single batch per epoch keeps the training independent of the concurrency
+        var config = ImmutableLinkPredictionTrainConfig.builder()
+            .trainRelationshipType(RelationshipType.of("TRAIN"))
+            .testRelationshipType(RelationshipType.of("TEST"))
+            .featureProperties(List.of("z", "array"))
+            .modelName("model")
+            .concurrency(4)
+            .validationFolds(2)
+            .randomSeed(1337L)
+            .negativeClassWeight(classRatio)
+            .params(List.of(
+                Map.of("maxEpochs", 10, "penalty", 1000000),
+                Map.of("maxEpochs", 1000, "minEpochs", 10),
+                Map.of("maxEpochs", 100, "linkFeatureCombiner", "L2")
+            )).build();
+
+        Supplier<LinkPredictionTrain> algoSupplier = () -> new LinkPredictionTrain(
+            UnionGraph.of(List.of(trainGraph, testGraph)),
+            config,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var sequentialInfo = algoSupplier.get().compute().customInfo();
+        var parallelInfo = new AtomicReference<LinkPredictionModelInfo>();
+        GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.enableAndRun(
+            () -> parallelInfo.set(algoSupplier.get().compute().customInfo())
+        );
+
+        assertThat(parallelInfo.get().bestParameters())
+            .usingRecursiveComparison()
+            .isEqualTo(sequentialInfo.bestParameters());
+        assertThat(parallelInfo.get().metrics())
+            .usingRecursiveComparison()
+            .withComparatorForType(new DoubleComparator(1e-10), Double.class)
+            .isEqualTo(sequentialInfo.metrics());
+    }
+
     @Test
     void testLogging() {
         var nodeCount = 15;
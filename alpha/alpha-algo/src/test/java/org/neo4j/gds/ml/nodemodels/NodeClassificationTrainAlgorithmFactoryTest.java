@@ -22,37 +22,23 @@ package org.neo4j.gds.ml.nodemodels;
 import org.assertj.core.data.Percentage;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.utils.mem.MemoryTree;
 import org.neo4j.gds.junit.annotation.Edition;
 import org.neo4j.gds.junit.annotation.GdsEditionTest;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.MemoryEstimationTestUtil.subTree;
 
 class NodeClassificationTrainAlgorithmFactoryTest {
     @Test
     @GdsEditionTest(Edition.EE)
     void shouldEstimateMemoryUsage() {
-        var config = ImmutableNodeClassificationTrainConfig.builder()
-            .modelName("model")
-            .targetProperty("target")
-            .addAllMetrics(List.of())
-            .holdoutFraction(0.2)
-            .validationFolds(5)
-            .concurrency(64)
-            .params(
-                List.of(
-                    Map.of("penalty", 1.0, "batchSize", 100),
-                    Map.of("penalty", 2.0, "batchSize", 1000),
-                    Map.of("penalty", 3.0, "batchSize", 10000),
-                    Map.of("penalty", 4.0, "batchSize", 10),
-                    Map.of("penalty", 5.0, "batchSize", 110),
-                    Map.of("penalty", 6.0, "batchSize", 110),
-                    Map.of("penalty", 7.0, "batchSize", 1020)
-                )
-            )
-            .build();
+        var config = config();
 
         // at small scales and little concurrency, storing nodes matters most
         var estimateOnSmallishGraph = new NodeClassificationTrainAlgorithmFactory()
@@ -73,4 +59,50 @@ class NodeClassificationTrainAlgorithmFactoryTest {
             .estimate(GraphDimensions.of(10_000_000_000L, 100_000_000_000L), 64);
         assertThat(estimateOnLargeGraph.memoryUsage().max).isCloseTo(550L * 1024 * 1024 * 1024, Percentage.withPercentage(8));
     }
+
+    @Test
+    @GdsEditionTest(Edition.EE)
+    void shouldEstimateConcurrentlyTrainedCandidates() {
+        var config = config();
+        var dimensions = GraphDimensions.of(10_000_000L, 100_000_000L);
+
+        var sequentialEstimate = new NodeClassificationTrainAlgorithmFactory()
+            .memoryEstimation(config)
+            .estimate(dimensions, 64);
+        var parallelEstimate = new AtomicReference<MemoryTree>();
+        GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.enableAndRun(
+            () -> parallelEstimate.set(new NodeClassificationTrainAlgorithmFactory()
+                .memoryEstimation(config)
+                .estimate(dimensions, 64))
+        );
+
+        // 7 candidates times 5 folds are fewer jobs than threads, so all 35 models are trained at the same time
+        var maxPath = List.of("algorithm", "max of model selection and best model evaluation");
+        var sequentialModelSelection = subTree(subTree(sequentialEstimate, maxPath), "model selection");
+        var parallelModelSelection = subTree(subTree(parallelEstimate.get(), maxPath), "concurrent model selection");
+        assertThat(parallelModelSelection.memoryUsage()).isEqualTo(sequentialModelSelection.memoryUsage().times(35));
+        assertThat(parallelEstimate.get().memoryUsage().max).isGreaterThan(sequentialEstimate.memoryUsage().max);
+    }
+
+    private static NodeClassificationTrainConfig config() {
+        return ImmutableNodeClassificationTrainConfig.builder()
+            .modelName("model")
+            .targetProperty("target")
+            .addAllMetrics(List.of())
+            .holdoutFraction(0.2)
+            .validationFolds(5)
+            .concurrency(64)
+            .params(
+                List.of(
+                    Map.of("penalty", 1.0, "batchSize", 100),
+                    Map.of("penalty", 2.0, "batchSize", 1000),
+                    Map.of("penalty", 3.0, "batchSize", 10000),
+                    Map.of("penalty", 4.0, "batchSize", 10),
+                    Map.of("penalty", 5.0, "batchSize", 110),
+                    Map.of("penalty", 6.0, "batchSize", 110),
+                    Map.of("penalty", 7.0, "batchSize", 1020)
+                )
+            )
+            .build();
+    }
 }
@@ -20,6 +20,8 @@
 package org.neo4j.gds.ml.nodemodels;
 
 import org.assertj.core.data.Percentage;
+import org.assertj.core.util.DoubleComparator;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -36,10 +38,12 @@ import org.neo4j.gds.junit.annotation.Edition;
 import org.neo4j.gds.junit.annotation.GdsEditionTest;
 import org.neo4j.gds.ml.nodemodels.metrics.AllClassMetric;
 import org.neo4j.gds.ml.nodemodels.metrics.MetricSpecification;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -336,6 +340,45 @@ class NodeClassificationTrainTest {
             .matches(matrix -> matrix.equals(secondResult.data().weights().data(), 1e-10));
     }
 
+    @Test
+    void parallelModelSelectionShouldMatchSequentialModelSelection() {
+        // a single batch per epoch keeps the training independent of the concurrency
+        var config = ImmutableNodeClassificationTrainConfig.builder()
+            .modelName("model")
+            .featureProperties(List.of("a", "b"))
+            .holdoutFraction(0.33)
+            .validationFolds(2)
+            .randomSeed(42L)
+            .targetProperty("t")
+            .metrics(List.of(MetricSpecification.parse("Accuracy"), MetricSpecification.parse("F1_WEIGHTED")))
+            .params(List.of(
+                Map.of("penalty", 0.0625, "maxEpochs", 100),
+                Map.of("penalty", 1, "maxEpochs", 10),
+                Map.of("penalty", 0.5, "maxEpochs", 1000, "tolerance", 1e-5)
+            ))
+            .concurrency(4)
+            .build();
+
+        Supplier<NodeClassificationTrain> algoSupplier = () -> NodeClassificationTrain.create(
+            graph,
+            config,
+            AllocationTracker.empty(),
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var sequentialInfo = algoSupplier.get().compute().customInfo();
+        var parallelInfo = new AtomicReference<NodeClassificationModelInfo>();
+        GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.enableAndRun(
+            () -> parallelInfo.set(algoSupplier.get().compute().customInfo())
+        );
+
+        assertThat(parallelInfo.get().bestParameters()).isEqualTo(sequentialInfo.bestParameters());
+        assertThat(parallelInfo.get().metrics())
+            .usingRecursiveComparison()
+            .withComparatorForType(new DoubleComparator(1e-10), Double.class)
+            .isEqualTo(sequentialInfo.metrics());
+    }
+
     private NodeClassificationTrainConfig createConfig(
         Iterable<Map<String, Object>> modelCandidates,
         String modelName,
@@ -33,6 +33,7 @@ import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.write.NodePropertyExporter;
+import org.neo4j.gds.impl.scc.ParallelSccAlgorithm;
 import org.neo4j.gds.impl.scc.SccAlgorithm;
 import org.neo4j.gds.impl.scc.SccConfig;
 import org.neo4j.gds.result.AbstractCommunityResultBuilder;
@@ -50,7 +51,7 @@ import java.util.stream.Stream;
 import static org.neo4j.procedure.Mode.READ;
 import static org.neo4j.procedure.Mode.WRITE;
 
-public class SccProc extends NodePropertiesWriter<SccAlgorithm, HugeLongArray, SccConfig> {
+public class SccProc extends NodePropertiesWriter<ParallelSccAlgorithm, HugeLongArray, SccConfig> {
 
     private static final String DESCRIPTION =
         "The SCC algorithm finds sets of connected nodes in an directed graph, " +
@@ -62,9 +63,9 @@ public class SccProc extends NodePropertiesWriter<SccAlgorithm, HugeLongArray, S
         @Name(value = "graphName") Object graphNameOrConfig,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
-        ComputationResult<SccAlgorithm, HugeLongArray, SccConfig> computationResult = compute(graphNameOrConfig, configuration);
+        ComputationResult<ParallelSccAlgorithm, HugeLongArray, SccConfig> computationResult = compute(graphNameOrConfig, configuration);
 
-        SccAlgorithm algorithm = computationResult.algorithm();
+        ParallelSccAlgorithm algorithm = computationResult.algorithm();
         HugeLongArray components = computationResult.result();
         SccConfig config = computationResult.config();
         AllocationTracker allocationTracker = allocationTracker();
@@ -129,7 +130,7 @@ public class SccProc extends NodePropertiesWriter<SccAlgorithm, HugeLongArray, S
         @Name(value = "graphName") Object graphNameOrConfig,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
-        ComputationResult<SccAlgorithm, HugeLongArray, SccConfig> computationResult = compute(graphNameOrConfig, configuration);
+        ComputationResult<ParallelSccAlgorithm, HugeLongArray, SccConfig> computationResult = compute(graphNameOrConfig, configuration);
 
         AllocationTracker allocationTracker = allocationTracker();
         Graph graph = computationResult.graph();
@@ -159,7 +160,7 @@ public class SccProc extends NodePropertiesWriter<SccAlgorithm, HugeLongArray, S
     }
 
     @Override
-    protected AlgorithmFactory<SccAlgorithm, SccConfig> algorithmFactory() {
+    protected AlgorithmFactory<ParallelSccAlgorithm, SccConfig> algorithmFactory() {
         return new AlgorithmFactory<>() {
             @Override
             protected String taskName() {
@@ -167,10 +168,16 @@ public class SccProc extends NodePropertiesWriter<SccAlgorithm, HugeLongArray, S
             }
 
             @Override
-            protected SccAlgorithm build(
+            protected ParallelSccAlgorithm build(
                 Graph graph, SccConfig configuration, AllocationTracker allocationTracker, ProgressTracker progressTracker
             ) {
-                return new SccAlgorithm(graph, allocationTracker).withTerminationFlag(TerminationFlag.wrap(transaction));
+                return new ParallelSccAlgorithm(
+                    graph,
+                    configuration.concurrency(),
+                    Pools.DEFAULT,
+                    progressTracker,
+                    allocationTracker
+                ).withTerminationFlag(TerminationFlag.wrap(transaction));
             }
         };
     }
@@ -19,14 +19,6 @@
  */
 package org.neo4j.gds.spanningtree;
 
-import org.neo4j.gds.config.AlgoBaseConfig;
-import org.neo4j.gds.config.RelationshipWeightConfig;
-import org.neo4j.gds.config.WritePropertyConfig;
-
-public interface SpanningTreeBaseConfig extends
-    AlgoBaseConfig,
-    WritePropertyConfig,
-    RelationshipWeightConfig
-{
+public interface SpanningTreeBaseConfig extends SpanningForestBaseConfig {
     long startNodeId();
 }
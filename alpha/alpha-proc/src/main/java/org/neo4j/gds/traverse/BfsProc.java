@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.traverse;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.AlgoBaseProc;
+import org.neo4j.gds.AlgorithmFactory;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.config.GraphCreateConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.impl.traverse.ParallelBFS;
+import org.neo4j.gds.impl.traverse.TraverseConfig;
+import org.neo4j.gds.impl.walking.WalkPath;
+import org.neo4j.gds.impl.walking.WalkResult;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.InputNodeValidator.validateEndNode;
+import static org.neo4j.gds.utils.InputNodeValidator.validateStartNode;
+import static org.neo4j.procedure.Mode.READ;
+
+public class BfsProc extends AlgoBaseProc<ParallelBFS, long[], TraverseConfig> {
+
+    private static final String DESCRIPTION =
+        "BFS is a traversal algorithm, which explores all of the neighbor nodes at " +
+        "the present depth prior to moving on to the nodes at the next depth level.";
+
+    @Procedure(name = "gds.alpha.bfs.stream", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<WalkResult> stream(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ComputationResult<ParallelBFS, long[], TraverseConfig> computationResult = compute(
+            graphNameOrConfig,
+            configuration
+        );
+
+        if (computationResult.graph().isEmpty()) {
+            return Stream.empty();
+        }
+
+        long[] nodes = computationResult.result();
+        return Stream.of(new WalkResult(nodes, WalkPath.toPath(transaction, nodes)));
+    }
+
+    @Override
+    protected TraverseConfig newConfig(
+        String username,
+        Optional<String> graphName,
+        Optional<GraphCreateConfig> maybeImplicitCreate,
+        CypherMapWrapper userInput
+    ) {
+        return TraverseConfig.of(graphName, maybeImplicitCreate, username, userInput);
+    }
+
+    @Override
+    protected AlgorithmFactory<ParallelBFS, TraverseConfig> algorithmFactory() {
+        return new AlgorithmFactory<>() {
+            @Override
+            protected String taskName() {
+                return "BFS";
+            }
+
+            @Override
+            protected ParallelBFS build(
+                Graph graph, TraverseConfig configuration, AllocationTracker allocationTracker, ProgressTracker progressTracker
+            ) {
+                validateStartNode(configuration.startNode(), graph);
+                configuration.targetNodes().forEach(neoId -> validateEndNode(neoId, graph));
+
+                var mappedTargets = new LongHashSet(configuration.targetNodes().size());
+                configuration.targetNodes().forEach(neoId -> mappedTargets.add(graph.toMappedNodeId(neoId)));
+
+                // like gds.alpha.dfs, maxDepth only applies if there are no target nodes
+                long maxDepth = mappedTargets.isEmpty()
+                    ? configuration.maxDepth()
+                    : ParallelBFS.NO_MAX_DEPTH;
+
+                return new ParallelBFS(
+                    graph,
+                    graph.toMappedNodeId(configuration.startNode()),
+                    mappedTargets::contains,
+                    maxDepth,
+                    configuration.concurrency(),
+                    Pools.DEFAULT,
+                    progressTracker,
+                    allocationTracker
+                );
+            }
+        };
+    }
+}
@@ -47,19 +47,8 @@ import static org.neo4j.procedure.Mode.READ;
 public class TraverseProc extends AlgoBaseProc<Traverse, Traverse, TraverseConfig> {
 
     private static final String DESCRIPTION =
-        "BFS is a traversal algorithm, which explores all of the neighbor nodes at " +
-        "the present depth prior to moving on to the nodes at the next depth level.";
-    private static boolean isBfs;
-
-    @Procedure(name = "gds.alpha.bfs.stream", mode = READ)
-    @Description(DESCRIPTION)
-    public Stream<WalkResult> bfs(
-        @Name(value = "graphName") Object graphNameOrConfig,
-        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
-    ) {
-        isBfs = true;
-        return stream(graphNameOrConfig, configuration);
-    }
+        "DFS is a traversal algorithm, which explores as far as possible along " +
+        "each branch before backtracking to the next one.";
 
     @Procedure(name = "gds.alpha.dfs.stream", mode = READ)
     @Description(DESCRIPTION)
@@ -67,7 +56,6 @@ public class TraverseProc extends AlgoBaseProc<Traverse, Traverse, TraverseConfi
         @Name(value = "graphName") Object graphNameOrConfig,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
     ) {
-        isBfs = false;
         return stream(graphNameOrConfig, configuration);
     }
 
@@ -106,7 +94,7 @@ public class TraverseProc extends AlgoBaseProc<Traverse, Traverse, TraverseConfi
                 } else if (configuration.maxDepth() != -1) {
                     exitFunction = (s, t, w) -> w > configuration.maxDepth() ? Traverse.ExitPredicate.Result.CONTINUE : Traverse.ExitPredicate.Result.FOLLOW;
                     aggregatorFunction = (s, t, w) -> w + 1.;
-                    // do complete BFS until all nodes have been visited
+                    // do complete DFS until all nodes have been visited
                 } else {
                     exitFunction = (s, t, w) -> Traverse.ExitPredicate.Result.FOLLOW;
                     aggregatorFunction = (s, t, w) -> .0;
@@ -117,9 +105,7 @@ public class TraverseProc extends AlgoBaseProc<Traverse, Traverse, TraverseConfi
 
                 var mappedStartNodeId = graph.toMappedNodeId(configuration.startNode());
 
-                return isBfs
-                    ? Traverse.bfs(graph, mappedStartNodeId, exitFunction, aggregatorFunction)
-                    : Traverse.dfs(graph, mappedStartNodeId, exitFunction, aggregatorFunction);
+                return Traverse.dfs(graph, mappedStartNodeId, exitFunction, aggregatorFunction);
             }
         };
     }
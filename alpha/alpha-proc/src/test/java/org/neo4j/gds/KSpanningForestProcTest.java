@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.spanningtree.KSpanningForestProc;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class KSpanningForestProcTest extends BaseProcTest {
+
+    @BeforeEach
+    void setupGraph() throws Exception {
+        final String cypher =
+                "CREATE (a:Node {name:'a'})\n" +
+                "CREATE (b:Node {name:'b'})\n" +
+                "CREATE (c:Node {name:'c'})\n" +
+                "CREATE (d:Node {name:'d'})\n" +
+                "CREATE (x:Node {name:'x'})\n" +
+
+                "CREATE" +
+                " (a)-[:TYPE {w:3.0}]->(b),\n" +
+                " (a)-[:TYPE {w:2.0}]->(c),\n" +
+                " (a)-[:TYPE {w:1.0}]->(d),\n" +
+                " (b)-[:TYPE {w:1.0}]->(c),\n" +
+                " (d)-[:TYPE {w:3.0}]->(c)";
+
+        registerProcedures(KSpanningForestProc.class);
+        runQuery(cypher);
+    }
+
+    @Test
+    void testMax() {
+        // the relationship between c and d is only stored from d to c
+        String query = GdsCypher.call()
+            .withRelationshipProperty("w")
+            .loadEverything(Orientation.NATURAL)
+            .algo("gds.alpha.spanningForest.kmax")
+            .writeMode()
+            .addParameter("relationshipWeightProperty", "w")
+            .addParameter("k", 3)
+            .yields("effectiveNodeCount");
+
+        runQueryWithRowConsumer(query, row -> assertEquals(5, row.getNumber("effectiveNodeCount").intValue()));
+
+        var communities = partitions();
+
+        assertEquals(communities.get("a"), communities.get("b"));
+        assertEquals(communities.get("d"), communities.get("c"));
+        assertNotEquals(communities.get("a"), communities.get("c"));
+        assertNotEquals(communities.get("a"), communities.get("x"));
+        assertNotEquals(communities.get("c"), communities.get("x"));
+    }
+
+    @Test
+    void testMin() {
+        String query = GdsCypher.call()
+            .withRelationshipProperty("w")
+            .loadEverything(Orientation.UNDIRECTED)
+            .algo("gds.alpha.spanningForest.kmin")
+            .writeMode()
+            .addParameter("relationshipWeightProperty", "w")
+            .addParameter("k", 3)
+            .yields("effectiveNodeCount");
+
+        runQueryWithRowConsumer(query, row -> assertEquals(5, row.getNumber("effectiveNodeCount").intValue()));
+
+        var communities = partitions();
+
+        assertEquals(communities.get("a"), communities.get("d"));
+        assertEquals(communities.get("b"), communities.get("c"));
+        assertNotEquals(communities.get("a"), communities.get("b"));
+        assertNotEquals(communities.get("a"), communities.get("x"));
+        assertNotEquals(communities.get("b"), communities.get("x"));
+    }
+
+    private HashMap<String, Integer> partitions() {
+        final HashMap<String, Integer> communities = new HashMap<>();
+        runQueryWithRowConsumer("MATCH (n) WHERE exists(n.partition) RETURN n.name as name, n.partition as p", row -> {
+            final String name = row.getString("name");
+            final int p = row.getNumber("p").intValue();
+            communities.put(name, p);
+        });
+        return communities;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.spanningtree.SpanningForestProc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ *
+ *         a                a                  a
+ *     1 /   \ 2          /  \                  \
+ *      /     \          /    \                  \
+ *     b --3-- c        b      c          b       c
+ *     |       | =min=> |      |  =max=>  |       |
+ *     4       5        |      |          |       |
+ *     |       |        |      |          |       |
+ *     d --6-- e        d      e          d-------e
+ *
+ *     y --1-- z        y------z          y-------z
+ */
+class SpanningForestProcTest extends BaseProcTest {
+
+    @BeforeEach
+    void setup() throws Exception {
+        String cypher = "CREATE(a:Node) " +
+                        "CREATE(b:Node) " +
+                        "CREATE(c:Node) " +
+                        "CREATE(d:Node) " +
+                        "CREATE(e:Node) " +
+                        "CREATE(y:Node) " +
+                        "CREATE(z:Node) " +
+                        "CREATE (a)-[:TYPE {cost:1.0}]->(b) " +
+                        "CREATE (a)-[:TYPE {cost:2.0}]->(c) " +
+                        "CREATE (b)-[:TYPE {cost:3.0}]->(c) " +
+                        "CREATE (b)-[:TYPE {cost:4.0}]->(d) " +
+                        "CREATE (c)-[:TYPE {cost:5.0}]->(e) " +
+                        "CREATE (d)-[:TYPE {cost:6.0}]->(e) " +
+                        "CREATE (y)-[:TYPE {cost:1.0}]->(z)";
+        runQuery(cypher);
+        registerProcedures(SpanningForestProc.class);
+    }
+
+    @Test
+    void testMinimum() {
+        String query = GdsCypher.call()
+            .withNodeLabel("Node")
+            .withRelationshipType("TYPE", Orientation.UNDIRECTED)
+            .withRelationshipProperty("cost")
+            .algo("gds.alpha.spanningForest.minimum")
+            .writeMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("weightWriteProperty", "cost")
+            .yields("effectiveNodeCount");
+
+        runQueryWithRowConsumer(
+            query,
+            res -> assertEquals(7, res.getNumber("effectiveNodeCount").intValue())
+        );
+
+        runQueryWithRowConsumer(
+            "MATCH ()-[r:MST]->() RETURN count(r) AS relCount, sum(r.cost) AS totalWeight",
+            row -> {
+                assertEquals(5, row.getNumber("relCount").intValue());
+                assertEquals(13.0, row.getNumber("totalWeight").doubleValue());
+            }
+        );
+    }
+
+    @Test
+    void testMaximum() {
+        String query = GdsCypher.call()
+            .withNodeLabel("Node")
+            .withRelationshipType("TYPE", Orientation.NATURAL)
+            .withRelationshipProperty("cost")
+            .algo("gds.alpha.spanningForest.maximum")
+            .writeMode()
+            .addParameter("relationshipWeightProperty", "cost")
+            .addParameter("weightWriteProperty", "cost")
+            .yields("effectiveNodeCount");
+
+        runQueryWithRowConsumer(
+            query,
+            res -> assertEquals(7, res.getNumber("effectiveNodeCount").intValue())
+        );
+
+        runQueryWithRowConsumer(
+            "MATCH ()-[r:MST]->() RETURN count(r) AS relCount, sum(r.cost) AS totalWeight",
+            row -> {
+                assertEquals(5, row.getNumber("relCount").intValue());
+                assertEquals(18.0, row.getNumber("totalWeight").doubleValue());
+            }
+        );
+    }
+}
@@ -66,7 +66,7 @@ class TraverseProcTest extends BaseProcTest {
 
     @BeforeEach
     void setupGraph() throws Exception {
-        registerProcedures(TraverseProc.class);
+        registerProcedures(TraverseProc.class, BfsProc.class);
         runQuery(DB_CYPHER);
     }
 
@@ -208,6 +208,25 @@ class TraverseProcTest extends BaseProcTest {
         });
     }
 
+    @Test
+    void testBfsIgnoresMaxDepthWithTargetNodes() {
+        long id = id("a");
+        String query = GdsCypher.call()
+            .withNodeLabel("Node")
+            .withRelationshipType("TYPE")
+            .algo("gds.alpha.bfs")
+            .streamMode()
+            .addParameter("startNode", id)
+            .addParameter("targetNodes", Arrays.asList(id("g")))
+            .addParameter("maxDepth", 1)
+            .yields("startNodeId, nodeIds");
+        runQueryWithRowConsumer(query, row -> {
+            @SuppressWarnings("unchecked") List<Long> nodeIds = (List<Long>) row.get("nodeIds");
+            assertContains(new String[]{"a", "b", "c", "d", "e", "f", "g"}, nodeIds);
+            assertEquals(id("g"), nodeIds.get(nodeIds.size() - 1).longValue());
+        });
+    }
+
     @Test
     void worksOnGraphWithLoop() {
         long id = id("a");
@@ -23,6 +23,7 @@ import org.immutables.value.Value;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.DataClass;
 import org.neo4j.gds.core.ConfigKeyValidation;
+import org.neo4j.gds.core.PropertyStorage;
 
 import java.util.List;
 import java.util.Map;
@@ -47,6 +48,19 @@ public abstract class AbstractNodeProjection extends ElementProjection {
         return label().equals(PROJECT_ALL);
     }
 
+    @Value.Check
+    public void validatePropertyStorage() {
+        properties().mappings().forEach(mapping -> {
+            if (mapping.storage() != PropertyStorage.DOUBLE) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node property `%s` cannot use the `%s` key, property storage can only be configured for relationship properties.",
+                    mapping.propertyKey(),
+                    PropertyMapping.STORAGE_KEY
+                ));
+            }
+        });
+    }
+
     public static final String LABEL_KEY = "label";
 
     public static NodeProjection of(String label) {
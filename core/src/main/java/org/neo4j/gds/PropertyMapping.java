@@ -25,6 +25,7 @@ import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.PropertyStorage;
 
 import java.util.AbstractMap;
 import java.util.Collections;
@@ -38,6 +39,7 @@ public abstract class PropertyMapping {
 
     public static final String PROPERTY_KEY = "property";
     public static final String DEFAULT_VALUE_KEY = "defaultValue";
+    public static final String STORAGE_KEY = "storage";
 
     /**
      * property key in the result map Graph.nodeProperties(`propertyKey`)
@@ -62,6 +64,15 @@ public abstract class PropertyMapping {
         return Aggregation.DEFAULT;
     }
 
+    /**
+     * How the values are stored in the in-memory graph. Only applies to relationship properties.
+     */
+    @Value.Default
+    @Value.Parameter(false)
+    public PropertyStorage storage() {
+        return PropertyStorage.DOUBLE;
+    }
+
     @Value.Check
     public void validateProperties() {
         if (neoPropertyKey().equals(ElementProjection.PROJECT_ALL) && aggregation() != Aggregation.COUNT) {
@@ -105,12 +116,17 @@ public abstract class PropertyMapping {
 
             Object defaultValue = propertyMap.get(DEFAULT_VALUE_KEY);
             boolean isUserDefined = propertyMap.containsKey(DEFAULT_VALUE_KEY);
-            return PropertyMapping.of(
+            var propertyMapping = PropertyMapping.of(
                 propertyKey,
                 neoPropertyKey,
                 DefaultValue.of(defaultValue, isUserDefined),
                 aggregation
             );
+
+            Object storageValue = propertyMap.get(STORAGE_KEY);
+            return storageValue == null
+                ? propertyMapping
+                : ((ImmutablePropertyMapping) propertyMapping).withStorage(PropertyStorage.parse(storageValue));
         } else {
             throw new IllegalStateException(formatWithLocale(
                 "Expected stringOrMap to be of type String or Map, but got %s",
@@ -135,6 +151,9 @@ public abstract class PropertyMapping {
         if (includeAggregation) {
             value.put(RelationshipProjection.AGGREGATION_KEY, aggregation().name());
         }
+        if (storage() != PropertyStorage.DOUBLE) {
+            value.put(STORAGE_KEY, storage().name());
+        }
         return new AbstractMap.SimpleImmutableEntry<>(propertyKey(), value);
     }
 
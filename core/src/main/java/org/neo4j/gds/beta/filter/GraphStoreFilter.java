@@ -54,6 +54,18 @@ public final class GraphStoreFilter {
     ) throws ParseException, SemanticErrors {
         var expressions = parseAndValidate(graphStore, config.nodeFilter(), config.relationshipFilter());
 
+        if (config.lazy()) {
+            return LazyFilteredGraphStore.create(
+                graphStore,
+                expressions.nodeExpression(),
+                expressions.relationshipExpression(),
+                config.relationshipFilter(),
+                config.concurrency(),
+                executorService,
+                allocationTracker
+            );
+        }
+
         var nodesTask = Tasks.leaf("Nodes", graphStore.nodeCount());
 
         var nodePropertyCount = graphStore.nodePropertyKeys().values().stream().mapToInt(Set::size).sum();
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.huge.NodeFilteredGraph;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A graph of a lazily filtered subgraph, backed by a graph of the parent graph store.
+ *
+ * In contrast to a plain {@link NodeFilteredGraph}, degrees and relationship counts only
+ * consider relationships between nodes of the subgraph, same as for a materialized subgraph.
+ */
+final class LazyFilteredGraph extends NodeFilteredGraph {
+
+    static final long UNKNOWN_RELATIONSHIP_COUNT = -1L;
+
+    private final SubgraphNodeMapping nodes;
+    private volatile long relationshipCount;
+
+    LazyFilteredGraph(CSRGraph parentGraph, SubgraphNodeMapping nodes, long relationshipCount) {
+        super(parentGraph, nodes);
+        this.nodes = nodes;
+        this.relationshipCount = relationshipCount;
+    }
+
+    static long countRelationships(CSRGraph graph, int concurrency, ExecutorService executorService) {
+        var relationshipCount = new LongAdder();
+        var tasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var localGraph = graph.concurrentCopy();
+                var localCount = new long[1];
+                partition.consume(nodeId -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+                    localCount[0]++;
+                    return true;
+                }));
+                relationshipCount.add(localCount[0]);
+            },
+            Optional.empty()
+        );
+        ParallelUtil.runWithConcurrency(concurrency, tasks, executorService);
+        return relationshipCount.sum();
+    }
+
+    @Override
+    public int degree(long nodeId) {
+        var degree = new int[1];
+        forEachRelationship(nodeId, (source, target) -> {
+            degree[0]++;
+            return true;
+        });
+        return degree[0];
+    }
+
+    @Override
+    public int degreeWithoutParallelRelationships(long nodeId) {
+        if (!isMultiGraph()) {
+            return degree(nodeId);
+        }
+        // the filtered targets keep the sorted order of the parent adjacency list
+        var degreeAndPreviousTarget = new long[]{0, NOT_FOUND};
+        forEachRelationship(nodeId, (source, target) -> {
+            if (target != degreeAndPreviousTarget[1]) {
+                degreeAndPreviousTarget[0]++;
+                degreeAndPreviousTarget[1] = target;
+            }
+            return true;
+        });
+        return (int) degreeAndPreviousTarget[0];
+    }
+
+    @Override
+    public long relationshipCount() {
+        if (relationshipCount == UNKNOWN_RELATIONSHIP_COUNT) {
+            relationshipCount = countRelationships(this, 1, null);
+        }
+        return relationshipCount;
+    }
+
+    /**
+     * Mutated node properties are indexed by the ids of the subgraph, which are the root ids of this graph.
+     */
+    @Override
+    public long getFilteredMappedNodeId(long rootNodeId) {
+        return nodes.fromRootNodeId(rootNodeId);
+    }
+
+    @Override
+    public CSRGraph concurrentCopy() {
+        return new LazyFilteredGraph(graph.concurrentCopy(), nodes, relationshipCount);
+    }
+}
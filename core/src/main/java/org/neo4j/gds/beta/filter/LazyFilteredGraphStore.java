@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.NodeMapping;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.core.loading.DeletionResult;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.kernel.database.NamedDatabaseId;
+import org.neo4j.values.storable.NumberType;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A subgraph that shares the data of its parent graph store instead of copying it.
+ *
+ * Reads are served by a {@link SubgraphView} on the parent graph store.
+ * The first modification, as well as reading a composite relationship iterator,
+ * materializes the subgraph into its own graph store. Node ids do not change
+ * during materialization, so node properties computed on the view remain valid.
+ */
+public final class LazyFilteredGraphStore implements GraphStore {
+
+    private volatile GraphStore current;
+    private volatile boolean canRelease = true;
+
+    static LazyFilteredGraphStore create(
+        GraphStore parent,
+        Expression nodeExpression,
+        Expression relationshipExpression,
+        String relationshipFilter,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker
+    ) {
+        var view = SubgraphView.create(
+            parent,
+            nodeExpression,
+            relationshipExpression,
+            relationshipFilter,
+            concurrency,
+            executorService,
+            allocationTracker
+        );
+        var graphStore = new LazyFilteredGraphStore(view);
+        // a graph store must contain at least one relationship type, which the view cannot provide
+        if (view.relationshipTypes().isEmpty()) {
+            graphStore.materialize();
+        }
+        return graphStore;
+    }
+
+    private LazyFilteredGraphStore(SubgraphView view) {
+        this.current = view;
+    }
+
+    /**
+     * Returns true if this graph store still reads the data of the given graph store,
+     * either directly or through another lazily filtered graph store.
+     * This remains true if that other graph store has been materialized in the meantime.
+     */
+    public boolean isViewOf(GraphStore graphStore) {
+        var state = current;
+        return state instanceof SubgraphView && ((SubgraphView) state).isViewOf(graphStore);
+    }
+
+    Set<GraphStore> dataOwners() {
+        var state = current;
+        return state instanceof SubgraphView ? ((SubgraphView) state).dataOwners() : Set.of();
+    }
+
+    public boolean isMaterialized() {
+        return !(current instanceof SubgraphView);
+    }
+
+    private GraphStore materialize() {
+        var state = current;
+        if (state instanceof SubgraphView) {
+            synchronized (this) {
+                state = current;
+                if (state instanceof SubgraphView) {
+                    state = ((SubgraphView) state).materialize();
+                    state.canRelease(canRelease);
+                    current = state;
+                }
+            }
+        }
+        return state;
+    }
+
+    @Override
+    public NamedDatabaseId databaseId() {
+        return current.databaseId();
+    }
+
+    @Override
+    public GraphSchema schema() {
+        return current.schema();
+    }
+
+    @Override
+    public ZonedDateTime modificationTime() {
+        return current.modificationTime();
+    }
+
+    @Override
+    public long nodeCount() {
+        return current.nodeCount();
+    }
+
+    @Override
+    public NodeMapping nodes() {
+        return current.nodes();
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels() {
+        return current.nodeLabels();
+    }
+
+    @Override
+    public Set<String> nodePropertyKeys(NodeLabel label) {
+        return current.nodePropertyKeys(label);
+    }
+
+    @Override
+    public Map<NodeLabel, Set<String>> nodePropertyKeys() {
+        return current.nodePropertyKeys();
+    }
+
+    @Override
+    public boolean hasNodeProperty(NodeLabel label, String propertyKey) {
+        return current.hasNodeProperty(label, propertyKey);
+    }
+
+    @Override
+    public boolean hasNodeProperty(Collection<NodeLabel> labels, String propertyKey) {
+        return current.hasNodeProperty(labels, propertyKey);
+    }
+
+    @Override
+    public ValueType nodePropertyType(NodeLabel label, String propertyKey) {
+        return current.nodePropertyType(label, propertyKey);
+    }
+
+    @Override
+    public PropertyState nodePropertyState(String propertyKey) {
+        return current.nodePropertyState(propertyKey);
+    }
+
+    @Override
+    public NodeProperties nodePropertyValues(String propertyKey) {
+        return current.nodePropertyValues(propertyKey);
+    }
+
+    @Override
+    public NodeProperties nodePropertyValues(NodeLabel label, String propertyKey) {
+        return current.nodePropertyValues(label, propertyKey);
+    }
+
+    @Override
+    public void addNodeProperty(NodeLabel nodeLabel, String propertyKey, NodeProperties propertyValues) {
+        materialize().addNodeProperty(nodeLabel, propertyKey, propertyValues);
+    }
+
+    @Override
+    public void removeNodeProperty(NodeLabel nodeLabel, String propertyKey) {
+        materialize().removeNodeProperty(nodeLabel, propertyKey);
+    }
+
+    @Override
+    public long relationshipCount() {
+        return current.relationshipCount();
+    }
+
+    @Override
+    public long relationshipCount(RelationshipType relationshipType) {
+        return current.relationshipCount(relationshipType);
+    }
+
+    @Override
+    public Set<RelationshipType> relationshipTypes() {
+        return current.relationshipTypes();
+    }
+
+    @Override
+    public boolean hasRelationshipType(RelationshipType relationshipType) {
+        return current.hasRelationshipType(relationshipType);
+    }
+
+    @Override
+    public boolean hasRelationshipProperty(RelationshipType relType, String propertyKey) {
+        return current.hasRelationshipProperty(relType, propertyKey);
+    }
+
+    @Override
+    public ValueType relationshipPropertyType(String propertyKey) {
+        return current.relationshipPropertyType(propertyKey);
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys() {
+        return current.relationshipPropertyKeys();
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys(RelationshipType relationshipType) {
+        return current.relationshipPropertyKeys(relationshipType);
+    }
+
+    @Override
+    public void addRelationshipType(
+        RelationshipType relationshipType,
+        Optional<String> relationshipPropertyKey,
+        Optional<NumberType> relationshipPropertyType,
+        Relationships relationships
+    ) {
+        materialize().addRelationshipType(
+            relationshipType,
+            relationshipPropertyKey,
+            relationshipPropertyType,
+            relationships
+        );
+    }
+
+    @Override
+    public DeletionResult deleteRelationships(RelationshipType relationshipType) {
+        return materialize().deleteRelationships(relationshipType);
+    }
+
+    @Override
+    public Graph getGraph(
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        return current.getGraph(nodeLabels, relationshipTypes, maybeRelationshipProperty);
+    }
+
+    @Override
+    public Graph getUnion() {
+        return current.getUnion();
+    }
+
+    @Override
+    public CompositeRelationshipIterator getCompositeRelationshipIterator(
+        RelationshipType relationshipType,
+        List<String> propertyKeys
+    ) {
+        return materialize().getCompositeRelationshipIterator(relationshipType, propertyKeys);
+    }
+
+    @Override
+    public void canRelease(boolean canRelease) {
+        this.canRelease = canRelease;
+        current.canRelease(canRelease);
+    }
+
+    @Override
+    public void release() {
+        current.release();
+    }
+}
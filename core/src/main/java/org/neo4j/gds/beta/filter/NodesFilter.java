@@ -30,8 +30,8 @@ import org.neo4j.gds.api.NodeMapping;
 import org.neo4j.gds.api.NodeProperties;
 import org.neo4j.gds.api.NodeProperty;
 import org.neo4j.gds.api.NodePropertyStore;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
 import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.loading.IdMapImplementations;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
@@ -55,6 +55,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.core.utils.paged.SparseLongArray.SUPER_BLOCK_SHIFT;
@@ -198,7 +199,7 @@ final class NodesFilter {
         return originalIds;
     }
 
-    private static Map<NodeLabel, NodePropertyStore> filterNodeProperties(
+    static Map<NodeLabel, NodePropertyStore> filterNodeProperties(
         NodeMapping filteredNodeMapping,
         GraphStore inputGraphStore,
         int concurrency,
@@ -358,9 +359,11 @@ final class NodesFilter {
     private NodesFilter() {}
 
     private static final class NodeFilterTask implements Runnable {
+        // progress is logged once per batch instead of once per node
+        private static final int PROGRESS_BATCH_SIZE = 1 << 12;
+
         private final Partition partition;
-        private final Expression expression;
-        private final EvaluationContext.NodeEvaluationContext nodeContext;
+        private final LongPredicate nodeFilter;
         private final ProgressTracker progressTracker;
         private final GraphStore graphStore;
         private final LongToLongFunction originalIdFunction;
@@ -406,12 +409,11 @@ final class NodesFilter {
             ProgressTracker progressTracker
         ) {
             this.partition = partition;
-            this.expression = expression;
+            this.nodeFilter = ExpressionCompiler.compileNodeFilter(expression, graphStore);
             this.graphStore = graphStore;
             this.originalIdFunction = originalIdFunction;
             this.internalIdFunction = internalIdFunction;
             this.nodesBuilder = nodesBuilder;
-            this.nodeContext = new EvaluationContext.NodeEvaluationContext(graphStore);
             this.progressTracker = progressTracker;
         }
 
@@ -420,16 +422,22 @@ final class NodesFilter {
             var nodeMapping = graphStore.nodes();
             var originalIdFunction = this.originalIdFunction;
             var internalIdFunction = this.internalIdFunction;
-            partition.consume(node -> {
-                var internalId = internalIdFunction.applyAsLong(node);
-                nodeContext.init(internalId);
-                if (expression.evaluate(nodeContext) == Expression.TRUE) {
-                    var originalId = originalIdFunction.applyAsLong(node);
-                    NodeLabel[] labels = nodeMapping.nodeLabels(internalId).toArray(NodeLabel[]::new);
-                    nodesBuilder.addNode(originalId, labels);
+            var nodeFilter = this.nodeFilter;
+
+            var startNode = partition.startNode();
+            var endNode = startNode + partition.nodeCount();
+            for (long batchStart = startNode; batchStart < endNode; batchStart += PROGRESS_BATCH_SIZE) {
+                var batchEnd = Math.min(endNode, batchStart + PROGRESS_BATCH_SIZE);
+                for (long node = batchStart; node < batchEnd; node++) {
+                    var internalId = internalIdFunction.applyAsLong(node);
+                    if (nodeFilter.test(internalId)) {
+                        var originalId = originalIdFunction.applyAsLong(node);
+                        NodeLabel[] labels = nodeMapping.nodeLabels(internalId).toArray(NodeLabel[]::new);
+                        nodesBuilder.addNode(originalId, labels);
+                    }
                 }
-                progressTracker.logProgress();
-            });
+                progressTracker.logProgress(batchEnd - batchStart);
+            }
         }
     }
 
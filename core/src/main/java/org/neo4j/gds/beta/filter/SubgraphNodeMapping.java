@@ -0,0 +1,334 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.NodeMapping;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.LazyBatchCollection;
+import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeSparseLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Maps the nodes of a lazily filtered subgraph to the internal ids of its parent graph store.
+ *
+ * Like the node mappings used by {@link org.neo4j.gds.core.huge.NodeFilteredGraph}, original ids
+ * are the internal ids of the parent graph store. Root ids are the ids of the subgraph itself,
+ * which is the root mapping. Subgraph ids follow the order of the parent ids.
+ */
+final class SubgraphNodeMapping implements NodeMapping {
+
+    private final NodeMapping parentNodes;
+    private final @Nullable SubgraphNodeMapping rootMapping;
+    private final HugeLongArray parentIds;
+    private final HugeSparseLongArray subgraphIds;
+    private final Set<NodeLabel> availableNodeLabels;
+
+    /**
+     * Creates the mapping for all parent nodes that match the filter.
+     * The filter is tested with parent ids, every task requests its own filter from the supplier.
+     */
+    static SubgraphNodeMapping of(
+        NodeMapping parentNodes,
+        Supplier<LongPredicate> filterSupplier,
+        Collection<NodeLabel> candidateLabels,
+        @Nullable SubgraphNodeMapping rootMapping,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker
+    ) {
+        var parentNodeCount = parentNodes.nodeCount();
+        var partitions = PartitionUtils.rangePartition(
+            concurrency,
+            parentNodeCount,
+            Function.identity(),
+            Optional.empty()
+        );
+
+        // first pass: find the matching nodes and count them per partition
+        var matches = HugeAtomicBitSet.create(parentNodeCount, allocationTracker);
+        var matchesPerPartition = new long[partitions.size() + 1];
+        var countTasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            var partitionIndex = i;
+            countTasks.add(() -> {
+                var partition = partitions.get(partitionIndex);
+                var filter = filterSupplier.get();
+                long count = 0;
+                var end = partition.startNode() + partition.nodeCount();
+                for (long parentId = partition.startNode(); parentId < end; parentId++) {
+                    if (filter.test(parentId)) {
+                        matches.set(parentId);
+                        count++;
+                    }
+                }
+                matchesPerPartition[partitionIndex + 1] = count;
+            });
+        }
+        ParallelUtil.runWithConcurrency(concurrency, countTasks, executorService);
+
+        for (int i = 1; i < matchesPerPartition.length; i++) {
+            matchesPerPartition[i] += matchesPerPartition[i - 1];
+        }
+        var nodeCount = matchesPerPartition[partitions.size()];
+
+        // second pass: assign consecutive ids, which keeps the order of the parent ids
+        var parentIds = HugeLongArray.newArray(nodeCount, allocationTracker);
+        var subgraphIdsBuilder = HugeSparseLongArray.builder(parentNodeCount, allocationTracker);
+        var mappingTasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            var partitionIndex = i;
+            mappingTasks.add(() -> {
+                var partition = partitions.get(partitionIndex);
+                long subgraphId = matchesPerPartition[partitionIndex];
+                var end = partition.startNode() + partition.nodeCount();
+                for (long parentId = partition.startNode(); parentId < end; parentId++) {
+                    if (matches.get(parentId)) {
+                        parentIds.set(subgraphId, parentId);
+                        subgraphIdsBuilder.set(parentId, subgraphId);
+                        subgraphId++;
+                    }
+                }
+            });
+        }
+        ParallelUtil.runWithConcurrency(concurrency, mappingTasks, executorService);
+
+        var subgraphIds = subgraphIdsBuilder.build();
+        var availableNodeLabels = candidateLabels
+            .stream()
+            .filter(label -> containsLabel(parentNodes, parentIds, label))
+            .collect(Collectors.toSet());
+
+        return new SubgraphNodeMapping(parentNodes, rootMapping, parentIds, subgraphIds, availableNodeLabels);
+    }
+
+    private static boolean containsLabel(NodeMapping parentNodes, HugeLongArray parentIds, NodeLabel label) {
+        for (long nodeId = 0; nodeId < parentIds.size(); nodeId++) {
+            if (parentNodes.hasLabel(parentIds.get(nodeId), label)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private SubgraphNodeMapping(
+        NodeMapping parentNodes,
+        @Nullable SubgraphNodeMapping rootMapping,
+        HugeLongArray parentIds,
+        HugeSparseLongArray subgraphIds,
+        Set<NodeLabel> availableNodeLabels
+    ) {
+        this.parentNodes = parentNodes;
+        this.rootMapping = rootMapping;
+        this.parentIds = parentIds;
+        this.subgraphIds = subgraphIds;
+        this.availableNodeLabels = availableNodeLabels;
+    }
+
+    /**
+     * Maps a root id of the subgraph to an id of this mapping, or {@link #NOT_FOUND} if this mapping does not contain the node.
+     */
+    long fromRootNodeId(long rootNodeId) {
+        return rootMapping == null
+            ? rootNodeId
+            : toMappedNodeId(rootMapping.toOriginalNodeId(rootNodeId));
+    }
+
+    /**
+     * Returns a view on this mapping that maps to the original ids of the Neo4j database,
+     * as expected from the nodes of a graph store.
+     */
+    NodeMapping graphStoreNodes() {
+        return new GraphStoreNodes();
+    }
+
+    @Override
+    public long toMappedNodeId(long parentId) {
+        return subgraphIds.get(parentId);
+    }
+
+    @Override
+    public long toOriginalNodeId(long nodeId) {
+        return parentIds.get(nodeId);
+    }
+
+    @Override
+    public long toRootNodeId(long nodeId) {
+        return rootMapping == null
+            ? nodeId
+            : rootMapping.toMappedNodeId(parentIds.get(nodeId));
+    }
+
+    @Override
+    public boolean contains(long parentId) {
+        return subgraphIds.contains(parentId);
+    }
+
+    @Override
+    public long nodeCount() {
+        return parentIds.size();
+    }
+
+    @Override
+    public long rootNodeCount() {
+        return rootMapping == null ? nodeCount() : rootMapping.nodeCount();
+    }
+
+    @Override
+    public long highestNeoId() {
+        return parentNodes.highestNeoId();
+    }
+
+    @Override
+    public void forEachNode(LongPredicate consumer) {
+        var count = nodeCount();
+        for (long nodeId = 0; nodeId < count; nodeId++) {
+            if (!consumer.test(nodeId)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveLongIterator nodeIterator() {
+        return new IdIterator(nodeCount());
+    }
+
+    @Override
+    public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+        return LazyBatchCollection.of(nodeCount(), batchSize, IdIterable::new);
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels(long nodeId) {
+        var nodeLabels = new HashSet<>(parentNodes.nodeLabels(parentIds.get(nodeId)));
+        nodeLabels.retainAll(availableNodeLabels);
+        return nodeLabels;
+    }
+
+    @Override
+    public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+        parentNodes.forEachNodeLabel(
+            parentIds.get(nodeId),
+            nodeLabel -> !availableNodeLabels.contains(nodeLabel) || consumer.accept(nodeLabel)
+        );
+    }
+
+    @Override
+    public Set<NodeLabel> availableNodeLabels() {
+        return availableNodeLabels;
+    }
+
+    @Override
+    public boolean hasLabel(long nodeId, NodeLabel label) {
+        return availableNodeLabels.contains(label) && parentNodes.hasLabel(parentIds.get(nodeId), label);
+    }
+
+    private final class GraphStoreNodes implements NodeMapping {
+
+        @Override
+        public long toMappedNodeId(long neoId) {
+            var parentId = parentNodes.toMappedNodeId(neoId);
+            return parentId == NOT_FOUND ? NOT_FOUND : SubgraphNodeMapping.this.toMappedNodeId(parentId);
+        }
+
+        @Override
+        public long toOriginalNodeId(long nodeId) {
+            return parentNodes.toOriginalNodeId(parentIds.get(nodeId));
+        }
+
+        @Override
+        public long toRootNodeId(long nodeId) {
+            return nodeId;
+        }
+
+        @Override
+        public boolean contains(long neoId) {
+            return toMappedNodeId(neoId) != NOT_FOUND;
+        }
+
+        @Override
+        public long nodeCount() {
+            return SubgraphNodeMapping.this.nodeCount();
+        }
+
+        @Override
+        public long rootNodeCount() {
+            return nodeCount();
+        }
+
+        @Override
+        public long highestNeoId() {
+            return SubgraphNodeMapping.this.highestNeoId();
+        }
+
+        @Override
+        public void forEachNode(LongPredicate consumer) {
+            SubgraphNodeMapping.this.forEachNode(consumer);
+        }
+
+        @Override
+        public PrimitiveLongIterator nodeIterator() {
+            return SubgraphNodeMapping.this.nodeIterator();
+        }
+
+        @Override
+        public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+            return SubgraphNodeMapping.this.batchIterables(batchSize);
+        }
+
+        @Override
+        public Set<NodeLabel> nodeLabels(long nodeId) {
+            return SubgraphNodeMapping.this.nodeLabels(nodeId);
+        }
+
+        @Override
+        public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+            SubgraphNodeMapping.this.forEachNodeLabel(nodeId, consumer);
+        }
+
+        @Override
+        public Set<NodeLabel> availableNodeLabels() {
+            return SubgraphNodeMapping.this.availableNodeLabels();
+        }
+
+        @Override
+        public boolean hasLabel(long nodeId, NodeLabel label) {
+            return SubgraphNodeMapping.this.hasLabel(nodeId, label);
+        }
+    }
+}
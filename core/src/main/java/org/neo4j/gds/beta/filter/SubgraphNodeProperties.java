@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.values.storable.Value;
+
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+/**
+ * Reads the node properties of the parent graph store with the ids of a lazily filtered subgraph.
+ */
+final class SubgraphNodeProperties implements NodeProperties {
+
+    private final NodeProperties parentProperties;
+    private final SubgraphNodeMapping nodes;
+
+    SubgraphNodeProperties(NodeProperties parentProperties, SubgraphNodeMapping nodes) {
+        this.parentProperties = parentProperties;
+        this.nodes = nodes;
+    }
+
+    @Override
+    public double doubleValue(long nodeId) {
+        return parentProperties.doubleValue(nodes.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public long longValue(long nodeId) {
+        return parentProperties.longValue(nodes.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public double[] doubleArrayValue(long nodeId) {
+        return parentProperties.doubleArrayValue(nodes.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public float[] floatArrayValue(long nodeId) {
+        return parentProperties.floatArrayValue(nodes.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public long[] longArrayValue(long nodeId) {
+        return parentProperties.longArrayValue(nodes.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public Object getObject(long nodeId) {
+        return parentProperties.getObject(nodes.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public ValueType valueType() {
+        return parentProperties.valueType();
+    }
+
+    @Override
+    public Value value(long nodeId) {
+        return parentProperties.value(nodes.toOriginalNodeId(nodeId));
+    }
+
+    @Override
+    public long size() {
+        return nodes.nodeCount();
+    }
+
+    @Override
+    public OptionalLong getMaxLongPropertyValue() {
+        if (valueType() == ValueType.LONG) {
+            var max = Long.MIN_VALUE;
+            for (long nodeId = 0; nodeId < nodes.nodeCount(); nodeId++) {
+                max = Math.max(max, longValue(nodeId));
+            }
+            return max == Long.MIN_VALUE ? OptionalLong.empty() : OptionalLong.of(max);
+        }
+        if (valueType() == ValueType.DOUBLE) {
+            var max = getMaxDoublePropertyValue();
+            return max.isPresent() ? OptionalLong.of((long) max.getAsDouble()) : OptionalLong.empty();
+        }
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public OptionalDouble getMaxDoublePropertyValue() {
+        if (valueType() == ValueType.DOUBLE) {
+            var max = Double.NEGATIVE_INFINITY;
+            for (long nodeId = 0; nodeId < nodes.nodeCount(); nodeId++) {
+                max = Math.max(max, doubleValue(nodeId));
+            }
+            return max == Double.NEGATIVE_INFINITY ? OptionalDouble.empty() : OptionalDouble.of(max);
+        }
+        if (valueType() == ValueType.LONG) {
+            var max = getMaxLongPropertyValue();
+            return max.isPresent() ? OptionalDouble.of(max.getAsLong()) : OptionalDouble.empty();
+        }
+        return OptionalDouble.empty();
+    }
+}
@@ -0,0 +1,563 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.CompositeRelationshipIterator;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.NodeMapping;
+import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.api.UnionNodeProperties;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.beta.filter.expression.ExpressionCompiler;
+import org.neo4j.gds.core.ProcedureConstants;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.huge.UnionGraph;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.DeletionResult;
+import org.neo4j.gds.core.loading.IdMap;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.utils.TimeUtil;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeSparseLongArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.kernel.database.NamedDatabaseId;
+import org.neo4j.values.storable.NumberType;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The read-only state of a {@link LazyFilteredGraphStore} before it is materialized.
+ *
+ * The node properties and graphs of the parent graph store are captured when the view is created,
+ * so that later changes to the parent graph store do not affect the view.
+ * Relationships are counted once during creation, relationship types without any remaining
+ * relationships are dropped, same as for a materialized subgraph.
+ */
+final class SubgraphView implements GraphStore {
+
+    private final GraphStore parent;
+    private final Set<GraphStore> dataOwners;
+    private final Expression relationshipExpression;
+    private final SubgraphNodeMapping subgraphNodes;
+    private final NodeMapping nodes;
+    private final GraphSchema parentSchema;
+    private final Map<NodeLabel, Map<String, NodeProperties>> parentNodeProperties;
+    private final Map<String, PropertyState> nodePropertyStates;
+    private final Map<RelationshipType, Map<Optional<String>, CSRGraph>> parentGraphs;
+    private final Map<RelationshipType, Long> relationshipCounts;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final AllocationTracker allocationTracker;
+    private final ZonedDateTime creationTime;
+
+    static SubgraphView create(
+        GraphStore parent,
+        Expression nodeExpression,
+        Expression relationshipExpression,
+        String relationshipFilter,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker
+    ) {
+        // collected before the parent graphs are captured, so that a parent that materializes
+        // concurrently can only add graph stores which are not read, but never miss one
+        var dataOwners = Collections.newSetFromMap(new IdentityHashMap<GraphStore, Boolean>());
+        dataOwners.add(parent);
+        if (parent instanceof LazyFilteredGraphStore) {
+            dataOwners.addAll(((LazyFilteredGraphStore) parent).dataOwners());
+        }
+
+        var candidateTypes = new ArrayList<RelationshipType>();
+        for (RelationshipType relationshipType : parent.relationshipTypes()) {
+            var acceptsAll = ExpressionCompiler
+                .constantRelationshipFilter(relationshipExpression, relationshipType.name)
+                .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                    "Lazy subgraphs only support relationship filters on relationship types, " +
+                    "but the relationship filter `%s` depends on the properties of relationship type `%s`.",
+                    relationshipFilter,
+                    relationshipType.name
+                )));
+            if (acceptsAll) {
+                candidateTypes.add(relationshipType);
+            }
+        }
+
+        var subgraphNodes = SubgraphNodeMapping.of(
+            parent.nodes(),
+            () -> ExpressionCompiler.compileNodeFilter(nodeExpression, parent),
+            parent.nodeLabels(),
+            null,
+            concurrency,
+            executorService,
+            allocationTracker
+        );
+
+        var parentNodeProperties = new HashMap<NodeLabel, Map<String, NodeProperties>>();
+        var nodePropertyStates = new HashMap<String, PropertyState>();
+        for (NodeLabel nodeLabel : subgraphNodes.availableNodeLabels()) {
+            var propertiesOfLabel = new HashMap<String, NodeProperties>();
+            for (String propertyKey : parent.nodePropertyKeys(nodeLabel)) {
+                propertiesOfLabel.put(propertyKey, parent.nodePropertyValues(nodeLabel, propertyKey));
+                nodePropertyStates.put(propertyKey, parent.nodePropertyState(propertyKey));
+            }
+            parentNodeProperties.put(nodeLabel, propertiesOfLabel);
+        }
+
+        var parentGraphs = new HashMap<RelationshipType, Map<Optional<String>, CSRGraph>>();
+        var relationshipCounts = new LinkedHashMap<RelationshipType, Long>();
+        for (RelationshipType relationshipType : candidateTypes) {
+            var graphs = new HashMap<Optional<String>, CSRGraph>();
+            var topologyGraph = (CSRGraph) parent.getGraph(relationshipType);
+            graphs.put(Optional.empty(), topologyGraph);
+            for (String propertyKey : parent.relationshipPropertyKeys(relationshipType)) {
+                var propertyKeyOption = Optional.of(propertyKey);
+                graphs.put(propertyKeyOption, (CSRGraph) parent.getGraph(relationshipType, propertyKeyOption));
+            }
+
+            var relationshipCount = LazyFilteredGraph.countRelationships(
+                new LazyFilteredGraph(topologyGraph, subgraphNodes, LazyFilteredGraph.UNKNOWN_RELATIONSHIP_COUNT),
+                concurrency,
+                executorService
+            );
+            if (relationshipCount > 0) {
+                parentGraphs.put(relationshipType, graphs);
+                relationshipCounts.put(relationshipType, relationshipCount);
+            }
+        }
+
+        return new SubgraphView(
+            parent,
+            dataOwners,
+            relationshipExpression,
+            subgraphNodes,
+            parent.schema(),
+            parentNodeProperties,
+            nodePropertyStates,
+            parentGraphs,
+            relationshipCounts,
+            concurrency,
+            executorService,
+            allocationTracker
+        );
+    }
+
+    private SubgraphView(
+        GraphStore parent,
+        Set<GraphStore> dataOwners,
+        Expression relationshipExpression,
+        SubgraphNodeMapping subgraphNodes,
+        GraphSchema parentSchema,
+        Map<NodeLabel, Map<String, NodeProperties>> parentNodeProperties,
+        Map<String, PropertyState> nodePropertyStates,
+        Map<RelationshipType, Map<Optional<String>, CSRGraph>> parentGraphs,
+        Map<RelationshipType, Long> relationshipCounts,
+        int concurrency,
+        ExecutorService executorService,
+        AllocationTracker allocationTracker
+    ) {
+        this.parent = parent;
+        this.dataOwners = dataOwners;
+        this.relationshipExpression = relationshipExpression;
+        this.subgraphNodes = subgraphNodes;
+        this.nodes = subgraphNodes.graphStoreNodes();
+        this.parentSchema = parentSchema;
+        this.parentNodeProperties = parentNodeProperties;
+        this.nodePropertyStates = nodePropertyStates;
+        this.parentGraphs = parentGraphs;
+        this.relationshipCounts = relationshipCounts;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.allocationTracker = allocationTracker;
+        this.creationTime = TimeUtil.now();
+    }
+
+    /**
+     * The parent graph store and, if the parent was still lazy when this view was created, the graph
+     * stores the parent read from. The set is fixed at creation, as the captured graphs of a lazy
+     * parent keep reading its data owners even after the parent has been materialized.
+     */
+    Set<GraphStore> dataOwners() {
+        return dataOwners;
+    }
+
+    boolean isViewOf(GraphStore graphStore) {
+        return dataOwners.contains(graphStore);
+    }
+
+    /**
+     * Copies the view into a new graph store.
+     * The node ids of the new graph store are the same as the node ids of the view,
+     * so that node properties computed on the view can be added to the new graph store.
+     */
+    GraphStore materialize() {
+        var nodeCount = nodes.nodeCount();
+        var highestNeoId = nodes.highestNeoId();
+        var graphIds = HugeLongArray.newArray(nodeCount, allocationTracker);
+        var nodeToGraphIdsBuilder = HugeSparseLongArray.builder(highestNeoId + 1, allocationTracker);
+        var labelInformationBuilder = LabelInformation.emptyBuilder(allocationTracker);
+
+        ParallelUtil.parallelForEachNode(nodeCount, concurrency, nodeId -> {
+            var neoId = nodes.toOriginalNodeId(nodeId);
+            graphIds.set(nodeId, neoId);
+            nodeToGraphIdsBuilder.set(neoId, nodeId);
+            nodes.forEachNodeLabel(nodeId, nodeLabel -> {
+                labelInformationBuilder.addNodeIdToLabel(nodeLabel, nodeId, nodeCount);
+                return true;
+            });
+        });
+
+        var idMap = new IdMap(
+            graphIds,
+            nodeToGraphIdsBuilder.build(),
+            labelInformationBuilder.build(),
+            nodeCount,
+            highestNeoId,
+            allocationTracker
+        );
+
+        // the view itself provides the captured node properties
+        var nodePropertyStores = NodesFilter.filterNodeProperties(
+            idMap,
+            this,
+            concurrency,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var filteredRelationships = RelationshipsFilter.filterRelationships(
+            parent,
+            relationshipExpression,
+            parent.nodes(),
+            idMap,
+            concurrency,
+            executorService,
+            ProgressTracker.NULL_TRACKER,
+            allocationTracker
+        );
+
+        return CSRGraphStore.of(
+            parent.databaseId(),
+            idMap,
+            nodePropertyStores,
+            filteredRelationships.topology(),
+            filteredRelationships.propertyStores(),
+            concurrency,
+            allocationTracker
+        );
+    }
+
+    @Override
+    public NamedDatabaseId databaseId() {
+        return parent.databaseId();
+    }
+
+    @Override
+    public GraphSchema schema() {
+        return parentSchema
+            .filterNodeLabels(nodeLabels())
+            .filterRelationshipTypes(relationshipTypes());
+    }
+
+    @Override
+    public ZonedDateTime modificationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodes.nodeCount();
+    }
+
+    @Override
+    public NodeMapping nodes() {
+        return nodes;
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels() {
+        return subgraphNodes.availableNodeLabels();
+    }
+
+    @Override
+    public Set<String> nodePropertyKeys(NodeLabel label) {
+        return new HashSet<>(parentNodeProperties.getOrDefault(label, Map.of()).keySet());
+    }
+
+    @Override
+    public Map<NodeLabel, Set<String>> nodePropertyKeys() {
+        return nodeLabels().stream().collect(Collectors.toMap(Function.identity(), this::nodePropertyKeys));
+    }
+
+    @Override
+    public boolean hasNodeProperty(NodeLabel label, String propertyKey) {
+        return parentNodeProperties.getOrDefault(label, Map.of()).containsKey(propertyKey);
+    }
+
+    @Override
+    public boolean hasNodeProperty(Collection<NodeLabel> labels, String propertyKey) {
+        return labels.stream().allMatch(label -> hasNodeProperty(label, propertyKey));
+    }
+
+    @Override
+    public ValueType nodePropertyType(NodeLabel label, String propertyKey) {
+        return parentNodeProperties.get(label).get(propertyKey).valueType();
+    }
+
+    @Override
+    public PropertyState nodePropertyState(String propertyKey) {
+        return nodePropertyStates.get(propertyKey);
+    }
+
+    @Override
+    public NodeProperties nodePropertyValues(String propertyKey) {
+        if (nodeLabels().size() == 1) {
+            return nodePropertyValues(nodeLabels().iterator().next(), propertyKey);
+        }
+
+        var propertiesByLabel = new HashMap<NodeLabel, NodeProperties>();
+        parentNodeProperties.forEach((nodeLabel, properties) -> {
+            if (properties.containsKey(propertyKey)) {
+                propertiesByLabel.put(nodeLabel, properties.get(propertyKey));
+            }
+        });
+        return new SubgraphNodeProperties(new UnionNodeProperties(parent.nodes(), propertiesByLabel), subgraphNodes);
+    }
+
+    @Override
+    public NodeProperties nodePropertyValues(NodeLabel label, String propertyKey) {
+        return new SubgraphNodeProperties(parentNodeProperties.get(label).get(propertyKey), subgraphNodes);
+    }
+
+    @Override
+    public void addNodeProperty(NodeLabel nodeLabel, String propertyKey, NodeProperties propertyValues) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeNodeProperty(NodeLabel nodeLabel, String propertyKey) {
+        throw readOnly();
+    }
+
+    @Override
+    public long relationshipCount() {
+        return relationshipCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public long relationshipCount(RelationshipType relationshipType) {
+        return relationshipCounts.get(relationshipType);
+    }
+
+    @Override
+    public Set<RelationshipType> relationshipTypes() {
+        return relationshipCounts.keySet();
+    }
+
+    @Override
+    public boolean hasRelationshipType(RelationshipType relationshipType) {
+        return relationshipCounts.containsKey(relationshipType);
+    }
+
+    @Override
+    public boolean hasRelationshipProperty(RelationshipType relType, String propertyKey) {
+        return parentGraphs.containsKey(relType) && parentGraphs.get(relType).containsKey(Optional.of(propertyKey));
+    }
+
+    @Override
+    public ValueType relationshipPropertyType(String propertyKey) {
+        return relationshipPropertyKeys().contains(propertyKey)
+            ? parent.relationshipPropertyType(propertyKey)
+            : ValueType.UNKNOWN;
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys() {
+        return relationshipTypes()
+            .stream()
+            .flatMap(relationshipType -> relationshipPropertyKeys(relationshipType).stream())
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> relationshipPropertyKeys(RelationshipType relationshipType) {
+        return parentGraphs
+            .getOrDefault(relationshipType, Map.of())
+            .keySet()
+            .stream()
+            .flatMap(Optional::stream)
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void addRelationshipType(
+        RelationshipType relationshipType,
+        Optional<String> relationshipPropertyKey,
+        Optional<NumberType> relationshipPropertyType,
+        Relationships relationships
+    ) {
+        throw readOnly();
+    }
+
+    @Override
+    public DeletionResult deleteRelationships(RelationshipType relationshipType) {
+        throw readOnly();
+    }
+
+    @Override
+    public CSRGraph getGraph(
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        validateInput(relationshipTypes, maybeRelationshipProperty);
+
+        var filteredNodes = nodeLabels.contains(NodeLabel.ALL_NODES) || nodeLabels.containsAll(nodeLabels())
+            ? subgraphNodes
+            : filterNodeLabels(nodeLabels);
+
+        var graphs = relationshipTypes()
+            .stream()
+            .filter(relationshipTypes::contains)
+            .map(relationshipType -> createGraph(filteredNodes, relationshipType, maybeRelationshipProperty))
+            .collect(Collectors.toList());
+
+        return UnionGraph.of(graphs);
+    }
+
+    @Override
+    public CSRGraph getUnion() {
+        var graphs = new ArrayList<CSRGraph>();
+        parentGraphs.forEach((relationshipType, graphsByProperty) -> {
+            if (graphsByProperty.size() == 1) {
+                graphs.add(createGraph(subgraphNodes, relationshipType, Optional.empty()));
+            } else {
+                graphsByProperty.keySet().stream()
+                    .filter(Optional::isPresent)
+                    .forEach(propertyKey -> graphs.add(createGraph(subgraphNodes, relationshipType, propertyKey)));
+            }
+        });
+        return UnionGraph.of(graphs);
+    }
+
+    @Override
+    public CompositeRelationshipIterator getCompositeRelationshipIterator(
+        RelationshipType relationshipType,
+        List<String> propertyKeys
+    ) {
+        throw readOnly();
+    }
+
+    @Override
+    public void canRelease(boolean canRelease) {
+        // the graphs of the parent graph store are never released by the view
+    }
+
+    @Override
+    public void release() {
+        // the view does not own any data besides the node mapping
+    }
+
+    private CSRGraph createGraph(
+        SubgraphNodeMapping filteredNodes,
+        RelationshipType relationshipType,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        var relationshipCount = filteredNodes == subgraphNodes
+            ? relationshipCounts.get(relationshipType)
+            : LazyFilteredGraph.UNKNOWN_RELATIONSHIP_COUNT;
+        return new LazyFilteredGraph(
+            parentGraphs.get(relationshipType).get(maybeRelationshipProperty),
+            filteredNodes,
+            relationshipCount
+        );
+    }
+
+    private SubgraphNodeMapping filterNodeLabels(Collection<NodeLabel> nodeLabels) {
+        var parentNodes = parent.nodes();
+        var labels = List.copyOf(nodeLabels);
+        return SubgraphNodeMapping.of(
+            parentNodes,
+            () -> parentId -> subgraphNodes.contains(parentId)
+                              && labels.stream().anyMatch(label -> parentNodes.hasLabel(parentId, label)),
+            labels,
+            subgraphNodes,
+            concurrency,
+            executorService,
+            allocationTracker
+        );
+    }
+
+    private void validateInput(
+        Collection<RelationshipType> relationshipTypes,
+        Optional<String> maybeRelationshipProperty
+    ) {
+        if (relationshipTypes.isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The parameter '%s' should not be empty. Use '*' to load all relationship types.",
+                ProcedureConstants.RELATIONSHIP_TYPES
+            ));
+        }
+
+        relationshipTypes.forEach(relationshipType -> {
+            if (!hasRelationshipType(relationshipType)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "No relationships have been loaded for relationship type '%s'",
+                    relationshipType
+                ));
+            }
+
+            maybeRelationshipProperty.ifPresent(relationshipProperty -> {
+                if (!hasRelationshipProperty(relationshipType, relationshipProperty)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Property '%s' does not exist for relationships with type '%s'.",
+                        relationshipProperty,
+                        relationshipType
+                    ));
+                }
+            });
+        });
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("A lazy subgraph must be materialized before it can be modified.");
+    }
+}
@@ -0,0 +1,505 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.NodeMapping;
+import org.neo4j.gds.api.NodeProperties;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import static org.neo4j.gds.beta.filter.expression.Expression.EPSILON;
+import static org.neo4j.gds.beta.filter.expression.Expression.FALSE;
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+import static org.neo4j.gds.beta.filter.expression.Expression.VARIABLE;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Compiles a validated {@link Expression} into a tree of predicates and value functions.
+ *
+ * In contrast to {@link Expression#evaluate(EvaluationContext)}, boolean sub-expressions are not encoded as doubles,
+ * property lookups are resolved once during compilation and constant sub-expressions are folded.
+ * The compiled predicates return the same result as comparing the evaluated expression with {@link Expression#TRUE}.
+ * They are not thread-safe, every thread needs to compile its own predicate.
+ */
+public final class ExpressionCompiler {
+
+    private ExpressionCompiler() {}
+
+    public static LongPredicate compileNodeFilter(Expression expression, GraphStore graphStore) {
+        return new NodeCompiler(graphStore).predicate(expression);
+    }
+
+    public static Predicate<double[]> compileRelationshipFilter(
+        Expression expression,
+        String relationshipType,
+        Map<String, Integer> propertyIndices
+    ) {
+        return new RelationshipCompiler(relationshipType, propertyIndices).predicate(expression);
+    }
+
+    /**
+     * Returns whether the relationship filter accepts or rejects all relationships of the given type.
+     * The result is empty if the filter depends on the properties of the relationships.
+     */
+    public static Optional<Boolean> constantRelationshipFilter(Expression expression, String relationshipType) {
+        Compiler<Predicate<double[]>, ?> compiler = new RelationshipCompiler(relationshipType, Map.of());
+        var predicate = compiler.predicate(expression);
+        return compiler.isConstant(predicate)
+            ? Optional.of(predicate == compiler.constant(true))
+            : Optional.empty();
+    }
+
+    enum Comparison {
+        EQUAL {
+            @Override
+            boolean test(double lhs, double rhs) {
+                return Math.abs(lhs - rhs) < EPSILON;
+            }
+        },
+        NOT_EQUAL {
+            @Override
+            boolean test(double lhs, double rhs) {
+                return Math.abs(lhs - rhs) > EPSILON;
+            }
+        },
+        GREATER_THAN {
+            @Override
+            boolean test(double lhs, double rhs) {
+                return (lhs - rhs) > EPSILON;
+            }
+        },
+        GREATER_THAN_OR_EQUALS {
+            @Override
+            boolean test(double lhs, double rhs) {
+                return lhs > rhs || Math.abs(lhs - rhs) < EPSILON;
+            }
+        },
+        LESS_THAN {
+            @Override
+            boolean test(double lhs, double rhs) {
+                return (rhs - lhs) > EPSILON;
+            }
+        },
+        LESS_THAN_OR_EQUALS {
+            @Override
+            boolean test(double lhs, double rhs) {
+                return lhs < rhs || (rhs - lhs) > -EPSILON;
+            }
+        };
+
+        abstract boolean test(double lhs, double rhs);
+    }
+
+    /**
+     * Walks the expression tree and folds constants, the construction of predicates and values
+     * is left to the implementations for nodes and relationships.
+     *
+     * @param <P> the predicate type
+     * @param <V> the value function type
+     */
+    private abstract static class Compiler<P, V> {
+
+        private final P alwaysTrue;
+        private final P alwaysFalse;
+
+        Compiler(P alwaysTrue, P alwaysFalse) {
+            this.alwaysTrue = alwaysTrue;
+            this.alwaysFalse = alwaysFalse;
+        }
+
+        abstract P not(P in);
+
+        abstract P and(P lhs, P rhs);
+
+        abstract P or(P lhs, P rhs);
+
+        abstract P xor(P lhs, P rhs);
+
+        abstract P compare(V lhs, V rhs, Comparison comparison);
+
+        abstract P compareWithConstant(V lhs, double rhs, Comparison comparison);
+
+        abstract P hasLabelsOrTypes(List<String> labelsOrTypes);
+
+        abstract P isTrue(V value);
+
+        abstract V constant(double value);
+
+        abstract V property(String propertyKey);
+
+        abstract V booleanValue(P predicate);
+
+        P constant(boolean value) {
+            return value ? alwaysTrue : alwaysFalse;
+        }
+
+        P predicate(Expression expression) {
+            if (expression instanceof Expression.Literal.TrueLiteral) {
+                return alwaysTrue;
+            }
+            if (expression instanceof Expression.Literal.FalseLiteral) {
+                return alwaysFalse;
+            }
+            if (expression instanceof Expression.UnaryExpression.Not) {
+                var in = predicate(((Expression.UnaryExpression.Not) expression).in());
+                return isConstant(in) ? constant(in != alwaysTrue) : not(in);
+            }
+            if (expression instanceof Expression.UnaryExpression.HasLabelsOrTypes) {
+                return hasLabelsOrTypes(((Expression.UnaryExpression.HasLabelsOrTypes) expression).labelsOrTypes());
+            }
+            if (expression instanceof Expression.BinaryExpression.And) {
+                var binary = (Expression.BinaryExpression) expression;
+                var lhs = predicate(binary.lhs());
+                var rhs = predicate(binary.rhs());
+                if (lhs == alwaysFalse || rhs == alwaysFalse) {
+                    return alwaysFalse;
+                }
+                if (lhs == alwaysTrue) {
+                    return rhs;
+                }
+                return rhs == alwaysTrue ? lhs : and(lhs, rhs);
+            }
+            if (expression instanceof Expression.BinaryExpression.Or) {
+                var binary = (Expression.BinaryExpression) expression;
+                var lhs = predicate(binary.lhs());
+                var rhs = predicate(binary.rhs());
+                if (lhs == alwaysTrue || rhs == alwaysTrue) {
+                    return alwaysTrue;
+                }
+                if (lhs == alwaysFalse) {
+                    return rhs;
+                }
+                return rhs == alwaysFalse ? lhs : or(lhs, rhs);
+            }
+            if (expression instanceof Expression.BinaryExpression.Xor) {
+                var binary = (Expression.BinaryExpression) expression;
+                var lhs = predicate(binary.lhs());
+                var rhs = predicate(binary.rhs());
+                if (isConstant(lhs) && isConstant(rhs)) {
+                    return constant(lhs != rhs);
+                }
+                if (isConstant(lhs)) {
+                    return lhs == alwaysTrue ? not(rhs) : rhs;
+                }
+                if (isConstant(rhs)) {
+                    return rhs == alwaysTrue ? not(lhs) : lhs;
+                }
+                return xor(lhs, rhs);
+            }
+            if (expression instanceof Expression.BinaryExpression.Equal) {
+                return comparison((Expression.BinaryExpression) expression, Comparison.EQUAL);
+            }
+            if (expression instanceof Expression.BinaryExpression.NotEqual) {
+                return comparison((Expression.BinaryExpression) expression, Comparison.NOT_EQUAL);
+            }
+            if (expression instanceof Expression.BinaryExpression.GreaterThan) {
+                return comparison((Expression.BinaryExpression) expression, Comparison.GREATER_THAN);
+            }
+            if (expression instanceof Expression.BinaryExpression.GreaterThanOrEquals) {
+                return comparison((Expression.BinaryExpression) expression, Comparison.GREATER_THAN_OR_EQUALS);
+            }
+            if (expression instanceof Expression.BinaryExpression.LessThan) {
+                return comparison((Expression.BinaryExpression) expression, Comparison.LESS_THAN);
+            }
+            if (expression instanceof Expression.BinaryExpression.LessThanOrEquals) {
+                return comparison((Expression.BinaryExpression) expression, Comparison.LESS_THAN_OR_EQUALS);
+            }
+            if (isValueExpression(expression)) {
+                // a value is only true if it equals the encoded TRUE
+                var constantValue = constantValue(expression);
+                return Double.isNaN(constantValue) ? isTrue(value(expression)) : constant(constantValue == TRUE);
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unsupported expression: %s",
+                expression.getClass().getSimpleName()
+            ));
+        }
+
+        private P comparison(Expression.BinaryExpression expression, Comparison comparison) {
+            var lhsConstant = constantValue(expression.lhs());
+            var rhsConstant = constantValue(expression.rhs());
+            if (!Double.isNaN(lhsConstant) && !Double.isNaN(rhsConstant)) {
+                return constant(comparison.test(lhsConstant, rhsConstant));
+            }
+            if (!Double.isNaN(rhsConstant)) {
+                return compareWithConstant(value(expression.lhs()), rhsConstant, comparison);
+            }
+            return compare(value(expression.lhs()), value(expression.rhs()), comparison);
+        }
+
+        private V value(Expression expression) {
+            if (expression instanceof Expression.UnaryExpression.Property) {
+                return property(((Expression.UnaryExpression.Property) expression).propertyKey());
+            }
+            if (isValueExpression(expression)) {
+                return constant(constantValue(expression));
+            }
+            var predicate = predicate(expression);
+            if (isConstant(predicate)) {
+                return constant(predicate == alwaysTrue ? TRUE : FALSE);
+            }
+            return booleanValue(predicate);
+        }
+
+        /**
+         * Returns the value of literals and {@link Double#NaN} for all other expressions.
+         * Variables evaluate to {@link Double#NaN} as well, so they are never folded.
+         */
+        private double constantValue(Expression expression) {
+            if (expression instanceof Expression.Literal.LongLiteral) {
+                return (double) ((Expression.Literal.LongLiteral) expression).value();
+            }
+            if (expression instanceof Expression.Literal.DoubleLiteral) {
+                return ((Expression.Literal.DoubleLiteral) expression).value();
+            }
+            if (expression instanceof Expression.Literal.TrueLiteral) {
+                return TRUE;
+            }
+            if (expression instanceof Expression.Literal.FalseLiteral) {
+                return FALSE;
+            }
+            return VARIABLE;
+        }
+
+        private boolean isValueExpression(Expression expression) {
+            return expression instanceof Expression.Literal.LongLiteral
+                   || expression instanceof Expression.Literal.DoubleLiteral
+                   || expression instanceof Expression.LeafExpression.Variable
+                   || expression instanceof Expression.UnaryExpression.Property;
+        }
+
+        private boolean isConstant(P predicate) {
+            return predicate == alwaysTrue || predicate == alwaysFalse;
+        }
+    }
+
+    private static final class NodeCompiler extends Compiler<LongPredicate, LongToDoubleFunction> {
+
+        private final GraphStore graphStore;
+
+        NodeCompiler(GraphStore graphStore) {
+            super(node -> true, node -> false);
+            this.graphStore = graphStore;
+        }
+
+        @Override
+        LongPredicate not(LongPredicate in) {
+            return node -> !in.test(node);
+        }
+
+        @Override
+        LongPredicate and(LongPredicate lhs, LongPredicate rhs) {
+            return node -> lhs.test(node) && rhs.test(node);
+        }
+
+        @Override
+        LongPredicate or(LongPredicate lhs, LongPredicate rhs) {
+            return node -> lhs.test(node) || rhs.test(node);
+        }
+
+        @Override
+        LongPredicate xor(LongPredicate lhs, LongPredicate rhs) {
+            return node -> lhs.test(node) ^ rhs.test(node);
+        }
+
+        @Override
+        LongPredicate compare(LongToDoubleFunction lhs, LongToDoubleFunction rhs, Comparison comparison) {
+            return node -> comparison.test(lhs.applyAsDouble(node), rhs.applyAsDouble(node));
+        }
+
+        @Override
+        LongPredicate compareWithConstant(LongToDoubleFunction lhs, double rhs, Comparison comparison) {
+            return node -> comparison.test(lhs.applyAsDouble(node), rhs);
+        }
+
+        @Override
+        LongPredicate hasLabelsOrTypes(List<String> labels) {
+            var nodes = graphStore.nodes();
+            var nodeLabels = labels.stream().map(NodeLabel::of).toArray(NodeLabel[]::new);
+            if (nodeLabels.length == 1) {
+                var nodeLabel = nodeLabels[0];
+                return node -> nodes.hasLabel(node, nodeLabel);
+            }
+            return node -> {
+                for (NodeLabel nodeLabel : nodeLabels) {
+                    if (!nodes.hasLabel(node, nodeLabel)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        @Override
+        LongPredicate isTrue(LongToDoubleFunction value) {
+            return node -> value.applyAsDouble(node) == TRUE;
+        }
+
+        @Override
+        LongToDoubleFunction constant(double value) {
+            return node -> value;
+        }
+
+        @Override
+        LongToDoubleFunction property(String propertyKey) {
+            var propertiesByLabel = new HashMap<NodeLabel, NodeProperties>();
+            for (NodeLabel nodeLabel : graphStore.nodeLabels()) {
+                if (graphStore.hasNodeProperty(nodeLabel, propertyKey)) {
+                    propertiesByLabel.put(nodeLabel, graphStore.nodePropertyValues(nodeLabel, propertyKey));
+                }
+            }
+
+            if (propertiesByLabel.isEmpty()) {
+                return constant(DefaultValue.DOUBLE_DEFAULT_FALLBACK);
+            }
+
+            // if all labels share the same values, every node has the property and the labels need not be checked
+            var anyProperties = propertiesByLabel.values().iterator().next();
+            var isSharedByAllLabels = propertiesByLabel.size() == graphStore.nodeLabels().size()
+                                      && propertiesByLabel.values().stream().allMatch(p -> p == anyProperties);
+            if (isSharedByAllLabels) {
+                return anyProperties::doubleValue;
+            }
+
+            return new LabelDependentProperty(graphStore.nodes(), propertiesByLabel);
+        }
+
+        @Override
+        LongToDoubleFunction booleanValue(LongPredicate predicate) {
+            return node -> predicate.test(node) ? TRUE : FALSE;
+        }
+    }
+
+    /**
+     * Reads the property values of the first label of a node that has the property,
+     * same as {@link EvaluationContext.NodeEvaluationContext}.
+     */
+    private static final class LabelDependentProperty implements LongToDoubleFunction, NodeMapping.NodeLabelConsumer {
+
+        private final NodeMapping nodes;
+        private final Map<NodeLabel, NodeProperties> propertiesByLabel;
+
+        private NodeProperties properties;
+
+        LabelDependentProperty(NodeMapping nodes, Map<NodeLabel, NodeProperties> propertiesByLabel) {
+            this.nodes = nodes;
+            this.propertiesByLabel = propertiesByLabel;
+        }
+
+        @Override
+        public double applyAsDouble(long node) {
+            properties = null;
+            nodes.forEachNodeLabel(node, this);
+            return properties == null
+                ? DefaultValue.DOUBLE_DEFAULT_FALLBACK
+                : properties.doubleValue(node);
+        }
+
+        @Override
+        public boolean accept(NodeLabel nodeLabel) {
+            properties = propertiesByLabel.get(nodeLabel);
+            return properties == null;
+        }
+    }
+
+    private static final class RelationshipCompiler extends Compiler<Predicate<double[]>, ToDoubleFunction<double[]>> {
+
+        private final String relationshipType;
+        private final Map<String, Integer> propertyIndices;
+
+        RelationshipCompiler(String relationshipType, Map<String, Integer> propertyIndices) {
+            super(properties -> true, properties -> false);
+            this.relationshipType = relationshipType;
+            this.propertyIndices = propertyIndices;
+        }
+
+        @Override
+        Predicate<double[]> not(Predicate<double[]> in) {
+            return properties -> !in.test(properties);
+        }
+
+        @Override
+        Predicate<double[]> and(Predicate<double[]> lhs, Predicate<double[]> rhs) {
+            return properties -> lhs.test(properties) && rhs.test(properties);
+        }
+
+        @Override
+        Predicate<double[]> or(Predicate<double[]> lhs, Predicate<double[]> rhs) {
+            return properties -> lhs.test(properties) || rhs.test(properties);
+        }
+
+        @Override
+        Predicate<double[]> xor(Predicate<double[]> lhs, Predicate<double[]> rhs) {
+            return properties -> lhs.test(properties) ^ rhs.test(properties);
+        }
+
+        @Override
+        Predicate<double[]> compare(
+            ToDoubleFunction<double[]> lhs,
+            ToDoubleFunction<double[]> rhs,
+            Comparison comparison
+        ) {
+            return properties -> comparison.test(lhs.applyAsDouble(properties), rhs.applyAsDouble(properties));
+        }
+
+        @Override
+        Predicate<double[]> compareWithConstant(ToDoubleFunction<double[]> lhs, double rhs, Comparison comparison) {
+            return properties -> comparison.test(lhs.applyAsDouble(properties), rhs);
+        }
+
+        @Override
+        Predicate<double[]> hasLabelsOrTypes(List<String> types) {
+            // all relationships of a filter task have the same type
+            return constant(types.contains(relationshipType));
+        }
+
+        @Override
+        Predicate<double[]> isTrue(ToDoubleFunction<double[]> value) {
+            return properties -> value.applyAsDouble(properties) == TRUE;
+        }
+
+        @Override
+        ToDoubleFunction<double[]> constant(double value) {
+            return properties -> value;
+        }
+
+        @Override
+        ToDoubleFunction<double[]> property(String propertyKey) {
+            int index = propertyIndices.getOrDefault(propertyKey, 0);
+            return properties -> properties[index];
+        }
+
+        @Override
+        ToDoubleFunction<double[]> booleanValue(Predicate<double[]> predicate) {
+            return properties -> predicate.test(properties) ? TRUE : FALSE;
+        }
+    }
+}
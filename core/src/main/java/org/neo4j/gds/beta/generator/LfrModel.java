@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.generator;
+
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.statistics.DistributionHelper;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A community structured graph following the Lancichinetti-Fortunato-Radicchi (LFR) benchmark.
+ *
+ * Degrees and community sizes follow power-law distributions. Every relationship connects
+ * to a node of the same community, except for a fraction of {@link #MIXING} relationships,
+ * which connect to a node outside of the community. Communities are consecutive ranges of
+ * node ids, their layout is computed once from the seed and shared by all producers.
+ *
+ * Unlike the original benchmark, degrees are not matched exactly by a configuration model,
+ * which allows to sample the relationships of every node independently.
+ */
+final class LfrModel {
+
+    static final double MIXING = 0.2;
+    static final double DEGREE_EXPONENT = 2.5;
+    static final double COMMUNITY_SIZE_EXPONENT = 1.5;
+    static final long MIN_COMMUNITY_SIZE = 8;
+    static final long COMMUNITY_SIZE_RANGE = 50;
+
+    private final long nodeCount;
+    private final double minDegree;
+    private final double maxDegree;
+    private final HugeLongArray communityStarts;
+    private final long communityCount;
+
+    LfrModel(long nodeCount, long averageDegree, long seed) {
+        this.nodeCount = nodeCount;
+
+        var minCommunitySize = Math.min(nodeCount, Math.max(MIN_COMMUNITY_SIZE, averageDegree));
+        var maxCommunitySize = Math.min(nodeCount, minCommunitySize * COMMUNITY_SIZE_RANGE);
+
+        this.maxDegree = Math.max(1, Math.min(nodeCount - 1, maxCommunitySize));
+        this.minDegree = minDegreeForMean(averageDegree, maxDegree);
+
+        this.communityStarts = HugeLongArray.newArray(nodeCount / minCommunitySize + 1, AllocationTracker.empty());
+        var random = new SplittableRandom(seed);
+        long start = 0;
+        long communities = 0;
+        while (start < nodeCount) {
+            var size = Math.round(powerLawSample(
+                minCommunitySize,
+                maxCommunitySize,
+                COMMUNITY_SIZE_EXPONENT,
+                random.nextDouble()
+            ));
+            // the last community absorbs a remainder that is too small to be a community on its own
+            if (nodeCount - start - size < minCommunitySize) {
+                size = nodeCount - start;
+            }
+            communityStarts.set(communities++, start);
+            start += size;
+        }
+        this.communityCount = communities;
+    }
+
+    long degree(Random random) {
+        var degree = powerLawSample(minDegree, maxDegree, DEGREE_EXPONENT, random.nextDouble());
+        // randomized rounding keeps the expected degree
+        return (long) (degree + random.nextDouble());
+    }
+
+    /**
+     * The returned operator caches the community of the last source node and must not be shared between threads.
+     */
+    LongUnaryOperator targets(Random random) {
+        return new LongUnaryOperator() {
+            private long communityStart = 0;
+            private long communityEnd = 0;
+
+            @Override
+            public long applyAsLong(long sourceNode) {
+                if (sourceNode < communityStart || sourceNode >= communityEnd) {
+                    var community = community(sourceNode);
+                    communityStart = communityStarts.get(community);
+                    communityEnd = community + 1 < communityCount ? communityStarts.get(community + 1) : nodeCount;
+                }
+
+                var communitySize = communityEnd - communityStart;
+                if (communitySize == nodeCount || random.nextDouble() >= MIXING) {
+                    return communityStart + DistributionHelper.uniformSample(communitySize, random);
+                }
+
+                // sample from all nodes outside of the community
+                var target = DistributionHelper.uniformSample(nodeCount - communitySize, random);
+                return target < communityStart ? target : target + communitySize;
+            }
+        };
+    }
+
+    long community(long nodeId) {
+        long low = 0;
+        long high = communityCount - 1;
+        while (low < high) {
+            var mid = (low + high + 1) >>> 1;
+            if (communityStarts.get(mid) <= nodeId) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    private static double powerLawSample(double min, double max, double exponent, double uniform) {
+        var minPower = Math.pow(min, 1.0 - exponent);
+        var maxPower = Math.pow(max, 1.0 - exponent);
+        return Math.pow(minPower + (maxPower - minPower) * uniform, 1.0 / (1.0 - exponent));
+    }
+
+    // finds the lower bound of the truncated degree distribution for which the mean degree is the average degree
+    private static double minDegreeForMean(double averageDegree, double maxDegree) {
+        if (averageDegree >= maxDegree) {
+            return maxDegree;
+        }
+        double low = Math.min(1.0, averageDegree);
+        double high = averageDegree;
+        for (int i = 0; i < 64; i++) {
+            var mid = (low + high) / 2;
+            if (truncatedMean(mid, maxDegree) < averageDegree) {
+                low = mid;
+            } else {
+                high = mid;
+            }
+        }
+        return high;
+    }
+
+    private static double truncatedMean(double min, double max) {
+        var exponent = DEGREE_EXPONENT;
+        return (exponent - 1) / (exponent - 2)
+               * (Math.pow(min, 2 - exponent) - Math.pow(max, 2 - exponent))
+               / (Math.pow(min, 1 - exponent) - Math.pow(max, 1 - exponent));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.generator;
+
+import org.neo4j.gds.core.utils.statistics.DistributionHelper;
+
+import java.util.Random;
+
+/**
+ * The recursive matrix (R-MAT) model, which is a stochastic Kronecker graph with a 2x2 initiator matrix.
+ *
+ * Instead of sampling one relationship at a time over the whole adjacency matrix, relationships
+ * are sampled per source node from the row of that node, so that nodes can be processed independently.
+ * The expected out-degree of a node is the number of relationships times the probability of its row,
+ * the target is sampled bit by bit from the initiator probabilities conditioned on the source bit.
+ */
+final class RMatModel {
+
+    // initiator probabilities as used by the Graph500 benchmark
+    static final double A = 0.57;
+    static final double B = 0.19;
+    static final double C = 0.19;
+    static final double D = 0.05;
+
+    private final long nodeCount;
+    private final int scale;
+    private final double relationshipsPerProbability;
+
+    RMatModel(long nodeCount, long averageDegree) {
+        this.nodeCount = nodeCount;
+        this.scale = 64 - Long.numberOfLeadingZeros(nodeCount - 1);
+        // rows beyond the node count are never sampled, the remaining rows share all relationships
+        this.relationshipsPerProbability = (double) nodeCount * averageDegree / rowProbabilityBelow(nodeCount);
+    }
+
+    long degree(long sourceNode, Random random) {
+        double rowProbability = 1.0;
+        for (int bit = scale - 1; bit >= 0; bit--) {
+            rowProbability *= ((sourceNode >>> bit) & 1L) == 0 ? A + B : C + D;
+        }
+        return DistributionHelper.poissonSample(rowProbability * relationshipsPerProbability, random);
+    }
+
+    long target(long sourceNode, Random random) {
+        long target;
+        do {
+            target = 0;
+            for (int bit = scale - 1; bit >= 0; bit--) {
+                var firstColumnProbability = ((sourceNode >>> bit) & 1L) == 0 ? A / (A + B) : C / (C + D);
+                target = (target << 1) | (random.nextDouble() < firstColumnProbability ? 0L : 1L);
+            }
+        } while (target >= nodeCount);
+        return target;
+    }
+
+    private double rowProbabilityBelow(long limit) {
+        double probability = 0.0;
+        double prefixProbability = 1.0;
+        var lastRow = limit - 1;
+        for (int bit = scale - 1; bit >= 0; bit--) {
+            if (((lastRow >>> bit) & 1L) == 0) {
+                prefixProbability *= A + B;
+            } else {
+                // all rows with a 0 at this bit and the same prefix are below the limit
+                probability += prefixProbability * (A + B);
+                prefixProbability *= C + D;
+            }
+        }
+        return probability + prefixProbability;
+    }
+}
@@ -31,10 +31,12 @@ import org.neo4j.gds.api.UnionNodeProperties;
 import org.neo4j.gds.api.schema.NodeSchema;
 import org.neo4j.gds.config.RandomGraphGeneratorConfig.AllowSelfLoops;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.NodesBuilder;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.utils.BitUtil;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.paged.HugeArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
@@ -48,18 +50,25 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.function.Function;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class RandomGraphGenerator {
 
+    // the partitioning must not depend on the concurrency in order to generate the same graph for any concurrency
+    static final long RELATIONSHIP_BATCH_SIZE = 10_000L;
+
     private final AllocationTracker allocationTracker;
     private final long nodeCount;
     private final long averageDegree;
+    private final long seed;
     private final Random random;
+    private final Optional<Integer> maybeConcurrency;
     private final RelationshipType relationshipType;
     private final RelationshipDistribution relationshipDistribution;
     private final Aggregation aggregation;
@@ -82,6 +91,7 @@ public final class RandomGraphGenerator {
         Aggregation aggregation,
         Orientation orientation,
         AllowSelfLoops allowSelfLoops,
+        Optional<Integer> maybeConcurrency,
         AllocationTracker allocationTracker
     ) {
         this.relationshipType = relationshipType;
@@ -95,12 +105,10 @@ public final class RandomGraphGenerator {
         this.aggregation = aggregation;
         this.orientation = orientation;
         this.allowSelfLoops = allowSelfLoops;
+        this.maybeConcurrency = maybeConcurrency;
+        this.seed = seed != null ? seed : 1;
         this.random = new Random();
-        if (seed != null) {
-            this.random.setSeed(seed);
-        } else {
-            this.random.setSeed(1);
-        }
+        this.random.setSeed(this.seed);
     }
 
     public static RandomGraphGeneratorBuilder builder() {
@@ -129,10 +137,15 @@ public final class RandomGraphGenerator {
                 : List.of()
             )
             .aggregation(aggregation)
+            .concurrency(maybeConcurrency)
             .allocationTracker(allocationTracker)
             .build();
 
-        generateRelationships(relationshipsBuilder);
+        if (maybeConcurrency.isPresent()) {
+            generateRelationshipsInParallel(relationshipsBuilder, maybeConcurrency.get());
+        } else {
+            generateRelationships(relationshipsBuilder);
+        }
 
         if (!nodePropertyProducers.isEmpty()) {
             var nodeProperties = generateNodeProperties(idMap);
@@ -175,19 +188,58 @@ public final class RandomGraphGenerator {
     }
 
     private void generateRelationships(RelationshipsBuilder relationshipsImporter) {
-        LongUnaryOperator degreeProducer = relationshipDistribution.degreeProducer(nodeCount, averageDegree, random);
-        LongUnaryOperator relationshipProducer = relationshipDistribution.relationshipProducer(
-            nodeCount,
-            averageDegree,
-            random
+        var producers = relationshipDistribution.producers(nodeCount, averageDegree, seed);
+        generateRelationships(relationshipsImporter, producers, 0, nodeCount, random);
+    }
+
+    /**
+     * Generates the relationships of fixed-size node batches in parallel.
+     * Every batch uses its own random stream, which is split from the seed in batch order,
+     * so that the generated graph does not depend on the concurrency or the scheduling of the batches.
+     */
+    private void generateRelationshipsInParallel(RelationshipsBuilder relationshipsImporter, int concurrency) {
+        var producers = relationshipDistribution.producers(nodeCount, averageDegree, seed);
+
+        var batchCount = Math.toIntExact(BitUtil.ceilDiv(nodeCount, RELATIONSHIP_BATCH_SIZE));
+        var batchSeeds = new long[batchCount];
+        var seeds = new SplittableRandom(seed);
+        for (int batch = 0; batch < batchCount; batch++) {
+            batchSeeds[batch] = seeds.split().nextLong();
+        }
+
+        ParallelUtil.parallelStreamConsume(
+            IntStream.range(0, batchCount),
+            concurrency,
+            batches -> batches.forEach(batch -> {
+                var startNode = batch * RELATIONSHIP_BATCH_SIZE;
+                var endNode = Math.min(startNode + RELATIONSHIP_BATCH_SIZE, nodeCount);
+                generateRelationships(
+                    relationshipsImporter,
+                    producers,
+                    startNode,
+                    endNode,
+                    new Random(batchSeeds[batch])
+                );
+            })
         );
+    }
+
+    private void generateRelationships(
+        RelationshipsBuilder relationshipsImporter,
+        RelationshipDistribution.RelationshipProducers producers,
+        long startNode,
+        long endNode,
+        Random random
+    ) {
+        LongUnaryOperator degreeProducer = producers.degreeProducer(random);
+        LongUnaryOperator relationshipProducer = producers.relationshipProducer(random);
         PropertyProducer<double[]> relationshipPropertyProducer =
             maybeRelationshipPropertyProducer.orElseGet(PropertyProducer.EmptyPropertyProducer::new);
 
         long degree, targetId;
         double[] property = new double[1];
 
-        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+        for (long nodeId = startNode; nodeId < endNode; nodeId++) {
             degree = degreeProducer.applyAsLong(nodeId);
 
             for (int j = 0; j < degree; j++) {
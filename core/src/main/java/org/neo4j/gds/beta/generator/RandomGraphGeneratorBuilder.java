@@ -43,6 +43,7 @@ public class RandomGraphGeneratorBuilder {
     private Aggregation aggregation = Aggregation.NONE;
     private Orientation orientation = Orientation.NATURAL;
     private RandomGraphGeneratorConfig.AllowSelfLoops allowSelfLoops = RandomGraphGeneratorConfig.AllowSelfLoops.NO;
+    private Optional<Integer> maybeConcurrency = Optional.empty();
     private AllocationTracker allocationTracker = AllocationTracker.empty();
     private RelationshipType relationshipType = RelationshipType.of("REL");
 
@@ -108,6 +109,15 @@ public class RandomGraphGeneratorBuilder {
         return this;
     }
 
+    /**
+     * Generates the relationships in parallel. The generated graph does not depend on the given concurrency,
+     * but differs from the graph that is generated for the same seed without a concurrency.
+     */
+    public RandomGraphGeneratorBuilder concurrency(int concurrency) {
+        this.maybeConcurrency = Optional.of(concurrency);
+        return this;
+    }
+
     public RandomGraphGeneratorBuilder allocationTracker(AllocationTracker allocationTracker) {
         this.allocationTracker = allocationTracker;
         return this;
@@ -127,6 +137,7 @@ public class RandomGraphGeneratorBuilder {
             aggregation,
             orientation,
             allowSelfLoops,
+            maybeConcurrency,
             allocationTracker
         );
     }
@@ -141,6 +152,9 @@ public class RandomGraphGeneratorBuilder {
         if (relationshipDistribution == null) {
             throw new IllegalArgumentException("Must provide a RelationshipDistribution");
         }
+        if (maybeConcurrency.isPresent() && maybeConcurrency.get() <= 0) {
+            throw new IllegalArgumentException("Must provide positive concurrency");
+        }
         if (allocationTracker == null) {
             throw new IllegalArgumentException("Must provide a AllocationTracker");
         }
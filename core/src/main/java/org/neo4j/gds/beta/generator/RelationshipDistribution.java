@@ -69,6 +69,62 @@ public enum RelationshipDistribution {
             double gamma = 1 + 1.0 / averageDegree;
             return (ignore) -> DistributionHelper.powerLawSample(min, nodeCount - 1, gamma, random);
         }
+    },
+    RMAT {
+        @Override
+        public LongUnaryOperator degreeProducer(long nodeCount, long averageDegree, Random random) {
+            var model = new RMatModel(nodeCount, averageDegree);
+            return (nodeId) -> model.degree(nodeId, random);
+        }
+
+        @Override
+        public LongUnaryOperator relationshipProducer(long nodeCount, long averageDegree, Random random) {
+            var model = new RMatModel(nodeCount, averageDegree);
+            return (nodeId) -> model.target(nodeId, random);
+        }
+
+        @Override
+        public RelationshipProducers producers(long nodeCount, long averageDegree, long seed) {
+            var model = new RMatModel(nodeCount, averageDegree);
+            return new RelationshipProducers() {
+                @Override
+                public LongUnaryOperator degreeProducer(Random random) {
+                    return (nodeId) -> model.degree(nodeId, random);
+                }
+
+                @Override
+                public LongUnaryOperator relationshipProducer(Random random) {
+                    return (nodeId) -> model.target(nodeId, random);
+                }
+            };
+        }
+    },
+    LFR {
+        @Override
+        public LongUnaryOperator degreeProducer(long nodeCount, long averageDegree, Random random) {
+            return producers(nodeCount, averageDegree, random.nextLong()).degreeProducer(random);
+        }
+
+        @Override
+        public LongUnaryOperator relationshipProducer(long nodeCount, long averageDegree, Random random) {
+            return producers(nodeCount, averageDegree, random.nextLong()).relationshipProducer(random);
+        }
+
+        @Override
+        public RelationshipProducers producers(long nodeCount, long averageDegree, long seed) {
+            var model = new LfrModel(nodeCount, averageDegree, seed);
+            return new RelationshipProducers() {
+                @Override
+                public LongUnaryOperator degreeProducer(Random random) {
+                    return (ignore) -> model.degree(random);
+                }
+
+                @Override
+                public LongUnaryOperator relationshipProducer(Random random) {
+                    return model.targets(random);
+                }
+            };
+        }
     };
 
     private static final List<String> VALUES = Arrays
@@ -118,4 +174,34 @@ public enum RelationshipDistribution {
      * @return A unary function that accepts a node id and returns another node id to wich a relationship will be created.
      */
     public abstract LongUnaryOperator relationshipProducer(long nodeCount, long averageDegree, Random random);
+
+    /**
+     * Prepares the producers for all relationships of a generated graph.
+     * State that is shared by all nodes, e.g. the community layout of {@link #LFR}, is computed once,
+     * so that the producers can be created for many partitions of the graph.
+     *
+     * @param nodeCount Expected number of nodes in the generated graph
+     * @param averageDegree Expected average degree in the generated graph
+     * @param seed Seed for the shared state of the distribution
+     * @return Producers that create the degree and target functions for a given Random instance
+     */
+    public RelationshipProducers producers(long nodeCount, long averageDegree, long seed) {
+        return new RelationshipProducers() {
+            @Override
+            public LongUnaryOperator degreeProducer(Random random) {
+                return RelationshipDistribution.this.degreeProducer(nodeCount, averageDegree, random);
+            }
+
+            @Override
+            public LongUnaryOperator relationshipProducer(Random random) {
+                return RelationshipDistribution.this.relationshipProducer(nodeCount, averageDegree, random);
+            }
+        };
+    }
+
+    public interface RelationshipProducers {
+        LongUnaryOperator degreeProducer(Random random);
+
+        LongUnaryOperator relationshipProducer(Random random);
+    }
 }
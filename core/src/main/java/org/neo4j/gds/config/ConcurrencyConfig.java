@@ -21,6 +21,7 @@ package org.neo4j.gds.config;
 
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.GdsEdition;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 
@@ -50,6 +51,7 @@ public interface ConcurrencyConfig {
     }
 
     static void validateConcurrency(int requestedConcurrency, String configKey) {
+        CypherMapWrapper.validateIntegerRange(configKey, requestedConcurrency, 1, Integer.MAX_VALUE, true, true);
         if (GdsEdition.instance().isOnCommunityEdition() && requestedConcurrency > CONCURRENCY_LIMITATION) {
             throw new IllegalArgumentException(formatWithLocale(
                 "Community users cannot exceed %1$s=%2$d (you configured %1$s=%3$d), see https://neo4j.com/docs/graph-data-science/",
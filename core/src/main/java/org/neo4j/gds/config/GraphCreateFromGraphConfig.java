@@ -51,6 +51,12 @@ public interface GraphCreateFromGraphConfig extends GraphCreateConfig {
         return ConcurrencyConfig.DEFAULT_CONCURRENCY;
     }
 
+    @Value.Default
+    @Value.Parameter(false)
+    default boolean lazy() {
+        return false;
+    }
+
     @Value.Check
     default void validateReadConcurrency() {
         ConcurrencyConfig.validateConcurrency(concurrency(), "concurrency");
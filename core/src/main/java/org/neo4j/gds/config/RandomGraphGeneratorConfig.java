@@ -75,6 +75,11 @@ public interface RandomGraphGeneratorConfig extends GraphCreateConfig {
         return false;
     }
 
+    @Value.Default
+    default boolean parallelGeneration() {
+        return false;
+    }
+
     @Value.Default
     @Configuration.ConvertWith("org.neo4j.gds.beta.generator.RelationshipDistribution#parse")
     default RelationshipDistribution relationshipDistribution() {
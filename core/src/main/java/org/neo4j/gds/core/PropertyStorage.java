@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toUpperCaseWithLocale;
+
+/**
+ * Describes how the values of a relationship property are stored in the in-memory graph.
+ * All storages except {@link #DOUBLE} trade precision or generality for a smaller memory footprint.
+ */
+public enum PropertyStorage {
+    /**
+     * Stores every value as 64 bit double, this is the default.
+     */
+    DOUBLE,
+    /**
+     * Stores every value as 32 bit float.
+     */
+    FLOAT,
+    /**
+     * Stores every value as 16 bit offset from the minimum value of its adjacency list.
+     */
+    QUANTIZED_16,
+    /**
+     * Stores every value as 8 bit offset from the minimum value of its adjacency list.
+     */
+    QUANTIZED_8,
+    /**
+     * Stores every value as variable-length index into a dictionary of all distinct values.
+     * Lossless, but only compact if the property has few distinct values.
+     */
+    DICTIONARY;
+
+    private static final List<String> VALUES = Arrays
+        .stream(PropertyStorage.values())
+        .map(PropertyStorage::name)
+        .collect(Collectors.toList());
+
+    public static PropertyStorage parse(Object input) {
+        if (input instanceof String) {
+            var inputString = toUpperCaseWithLocale((String) input);
+
+            if (VALUES.contains(inputString)) {
+                return PropertyStorage.valueOf(inputString.toUpperCase(Locale.ENGLISH));
+            }
+
+            throw new IllegalArgumentException(formatWithLocale(
+                "Property storage `%s` is not supported. Must be one of: %s.",
+                inputString,
+                VALUES
+            ));
+        } else if (input instanceof PropertyStorage) {
+            return (PropertyStorage) input;
+        }
+
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected PropertyStorage or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+}
@@ -20,6 +20,8 @@
 package org.neo4j.gds.core.compress;
 
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.PropertyStorage;
+import org.neo4j.gds.core.huge.CompactPropertiesList;
 import org.neo4j.gds.core.huge.TransientCompressedList;
 import org.neo4j.gds.core.huge.TransientUncompressedList;
 import org.neo4j.gds.utils.GdsFeatureToggles;
@@ -104,4 +106,14 @@ public interface AdjacencyFactory {
     static MemoryEstimation adjacencyPropertiesEstimation(RelationshipType relationshipType, boolean undirected) {
         return TransientUncompressedList.adjacencyPropertiesEstimation(relationshipType, undirected);
     }
+
+    static MemoryEstimation adjacencyPropertiesEstimation(
+        RelationshipType relationshipType,
+        boolean undirected,
+        PropertyStorage storage
+    ) {
+        return storage == PropertyStorage.DOUBLE
+            ? adjacencyPropertiesEstimation(relationshipType, undirected)
+            : CompactPropertiesList.adjacencyPropertiesEstimation(storage, relationshipType, undirected);
+    }
 }
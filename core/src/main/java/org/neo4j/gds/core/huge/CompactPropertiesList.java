@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.core.PropertyStorage;
+import org.neo4j.gds.core.loading.BumpAllocator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryUsage;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.PageUtil;
+
+import static org.neo4j.gds.core.utils.BitUtil.ceilDiv;
+import static org.neo4j.gds.core.utils.paged.PageUtil.indexInPage;
+import static org.neo4j.gds.core.utils.paged.PageUtil.pageIndex;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Relationship properties stored with reduced precision or dictionary encoded.
+ *
+ * The values of a single source node form a contiguous block of bytes. Depending on the {@link PropertyStorage}, a block is:
+ * <ul>
+ *     <li>{@link PropertyStorage#FLOAT}: one 4 byte float per value</li>
+ *     <li>{@link PropertyStorage#QUANTIZED_16} and {@link PropertyStorage#QUANTIZED_8}: a header of two floats,
+ *     {@code base} and {@code step}, followed by one 2 or 1 byte code per value. A value is decoded as
+ *     {@code base + code * step}, the largest code is reserved for {@code NaN}.</li>
+ *     <li>{@link PropertyStorage#DICTIONARY}: one variable-length index into the dictionary per value</li>
+ * </ul>
+ * Cursors return the values as double bits, as the uncompressed properties do.
+ */
+public final class CompactPropertiesList implements AdjacencyProperties {
+
+    public static final int QUANTIZED_HEADER_BYTES = 2 * Float.BYTES;
+    public static final int MAX_VAR_INT_BYTES = 5;
+
+    public static MemoryEstimation adjacencyPropertiesEstimation(
+        PropertyStorage storage,
+        RelationshipType relationshipType,
+        boolean undirected
+    ) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions.relationshipCounts().getOrDefault(relationshipType, dimensions.maxRelCount());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return CompactPropertiesList.adjacencyPropertiesEstimation(storage, avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation adjacencyPropertiesEstimation(PropertyStorage storage, long avgDegree, long nodeCount) {
+        long relCount = avgDegree * nodeCount;
+        long minBytes;
+        long maxBytes;
+        switch (storage) {
+            case FLOAT:
+                minBytes = maxBytes = relCount * Float.BYTES;
+                break;
+            case QUANTIZED_16:
+            case QUANTIZED_8:
+                int bytesPerValue = storage == PropertyStorage.QUANTIZED_16 ? Short.BYTES : Byte.BYTES;
+                long headerBytes = avgDegree > 0 ? nodeCount * QUANTIZED_HEADER_BYTES : 0L;
+                minBytes = maxBytes = headerBytes + relCount * bytesPerValue;
+                break;
+            case DICTIONARY:
+                // best case: every code fits into a single byte, worst case: every code needs the full var int
+                minBytes = relCount;
+                maxBytes = relCount * MAX_VAR_INT_BYTES;
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unexpected property storage: %s", storage));
+        }
+
+        var builder = MemoryEstimations
+            .builder(CompactPropertiesList.class)
+            .fixed("pages", MemoryRange.of(pagesSize(minBytes), pagesSize(maxBytes)))
+            // the degrees are shared with the adjacency list
+            .perNode("offsets", HugeLongArray::memoryEstimation);
+        if (storage == PropertyStorage.DICTIONARY) {
+            // between a single distinct value and one distinct value per relationship
+            builder.fixed(
+                "dictionary",
+                MemoryRange.of(MemoryUsage.sizeOfLongArray(1), MemoryUsage.sizeOfLongArray(relCount))
+            );
+        }
+        return builder.build();
+    }
+
+    private static long pagesSize(long bytes) {
+        int pages = PageUtil.numPagesFor(bytes, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        return pages * MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE) + MemoryUsage.sizeOfObjectArray(pages);
+    }
+
+    private final PropertyStorage storage;
+    private byte[][] pages;
+    private HugeIntArray degrees;
+    private HugeLongArray offsets;
+    private long[] dictionary;
+
+    public CompactPropertiesList(
+        PropertyStorage storage,
+        byte[][] pages,
+        HugeIntArray degrees,
+        HugeLongArray offsets,
+        @Nullable long[] dictionary
+    ) {
+        this.storage = storage;
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+        this.dictionary = dictionary;
+    }
+
+    public PropertyStorage storage() {
+        return storage;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        var cursor = rawPropertyCursor();
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return PropertyCursor.empty();
+        }
+        if (reuse instanceof Cursor && ((Cursor) reuse).pages == pages) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        switch (storage) {
+            case FLOAT:
+                return new FloatCursor(pages);
+            case QUANTIZED_16:
+                return new QuantizedCursor(pages, Short.BYTES);
+            case QUANTIZED_8:
+                return new QuantizedCursor(pages, Byte.BYTES);
+            case DICTIONARY:
+                return new DictionaryCursor(pages, dictionary);
+            default:
+                throw new IllegalStateException(formatWithLocale("Unexpected property storage: %s", storage));
+        }
+    }
+
+    @Override
+    public void close() {
+        pages = null;
+        degrees = null;
+        offsets = null;
+        dictionary = null;
+    }
+
+    public static int maxQuantizedCode(int bytesPerValue) {
+        // the code with all bits set is reserved for NaN
+        return (1 << (bytesPerValue * Byte.SIZE)) - 2;
+    }
+
+    public static int writeInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >>> 8);
+        buffer[offset + 2] = (byte) (value >>> 16);
+        buffer[offset + 3] = (byte) (value >>> 24);
+        return offset + Integer.BYTES;
+    }
+
+    public static int writeVarInt(byte[] buffer, int offset, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[offset++] = (byte) value;
+        return offset;
+    }
+
+    private abstract static class Cursor implements PropertyCursor {
+
+        final byte[][] pages;
+
+        byte[] page;
+        int offset;
+        int remaining;
+
+        Cursor(byte[][] pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            page = pages[pageIndex(index, BumpAllocator.PAGE_SHIFT)];
+            offset = indexInPage(index, BumpAllocator.PAGE_MASK);
+            remaining = degree;
+        }
+
+        @Override
+        public boolean hasNextLong() {
+            return remaining > 0;
+        }
+
+        int readInt() {
+            int value = (page[offset] & 0xFF)
+                        | (page[offset + 1] & 0xFF) << 8
+                        | (page[offset + 2] & 0xFF) << 16
+                        | (page[offset + 3] & 0xFF) << 24;
+            offset += Integer.BYTES;
+            return value;
+        }
+
+        @Override
+        public void close() {
+            page = null;
+        }
+    }
+
+    private static final class FloatCursor extends Cursor {
+
+        FloatCursor(byte[][] pages) {
+            super(pages);
+        }
+
+        @Override
+        public long nextLong() {
+            remaining--;
+            return Double.doubleToLongBits(Float.intBitsToFloat(readInt()));
+        }
+    }
+
+    private static final class QuantizedCursor extends Cursor {
+
+        private final int bytesPerValue;
+        private final int nanCode;
+
+        private double base;
+        private double step;
+
+        QuantizedCursor(byte[][] pages, int bytesPerValue) {
+            super(pages);
+            this.bytesPerValue = bytesPerValue;
+            this.nanCode = maxQuantizedCode(bytesPerValue) + 1;
+        }
+
+        @Override
+        public void init(long index, int degree) {
+            super.init(index, degree);
+            base = Float.intBitsToFloat(readInt());
+            step = Float.intBitsToFloat(readInt());
+        }
+
+        @Override
+        public long nextLong() {
+            remaining--;
+            int code = page[offset++] & 0xFF;
+            if (bytesPerValue == Short.BYTES) {
+                code |= (page[offset++] & 0xFF) << 8;
+            }
+            return Double.doubleToLongBits(code == nanCode ? Double.NaN : base + code * step);
+        }
+    }
+
+    private static final class DictionaryCursor extends Cursor {
+
+        private final long[] dictionary;
+
+        DictionaryCursor(byte[][] pages, long[] dictionary) {
+            super(pages);
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public long nextLong() {
+            remaining--;
+            int code = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = page[offset++];
+                code |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return dictionary[code];
+        }
+    }
+}
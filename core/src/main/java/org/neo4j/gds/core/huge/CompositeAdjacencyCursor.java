@@ -24,29 +24,46 @@ import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.AdjacencyCursor;
 
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
 
+/**
+ * Merges the adjacency cursors of several relationship types into a single sorted cursor.
+ *
+ * The cursors are kept in a binary min-heap that is ordered by the next target of each cursor.
+ * The next targets are cached in a primitive array, so moving a cursor within the heap
+ * does not call back into the cursors or box any values.
+ */
 public class CompositeAdjacencyCursor implements AdjacencyCursor {
 
-    private final PriorityQueue<AdjacencyCursor> cursorQueue;
     private final List<AdjacencyCursor> cursors;
-
+    private final AdjacencyCursor[] heap;
+    private final long[] heads;
+    private int heapSize;
 
     public CompositeAdjacencyCursor(List<AdjacencyCursor> cursors) {
         this.cursors = cursors;
-        this.cursorQueue = new PriorityQueue<>(cursors.size(), Comparator.comparingLong(AdjacencyCursor::peekVLong));
+        this.heap = new AdjacencyCursor[cursors.size()];
+        this.heads = new long[cursors.size()];
 
-        initializeQueue();
+        initializeHeap();
     }
 
-    private void initializeQueue() {
-        cursors.forEach(cursor -> {
+    /**
+     * Rebuilds the heap from the current state of all cursors.
+     * Must be called whenever the underlying cursors have been re-initialized or advanced directly.
+     */
+    void initializeHeap() {
+        heapSize = 0;
+        for (var cursor : cursors) {
             if (cursor != null && cursor.hasNextVLong()) {
-                cursorQueue.add(cursor);
+                heap[heapSize] = cursor;
+                heads[heapSize] = cursor.peekVLong();
+                heapSize++;
             }
-        });
+        }
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
     }
 
     public List<AdjacencyCursor> cursors() {
@@ -65,22 +82,26 @@ public class CompositeAdjacencyCursor implements AdjacencyCursor {
 
     @Override
     public boolean hasNextVLong() {
-        return !cursorQueue.isEmpty();
+        return heapSize > 0;
     }
 
     @Override
     public long nextVLong() {
-        AdjacencyCursor current = cursorQueue.poll();
+        var current = heap[0];
         long targetNodeId = current.nextVLong();
-        if (current.hasNextVLong()) {
-            cursorQueue.add(current);
+        if (!current.hasNextVLong()) {
+            removeTop();
+        } else if (heapSize > 1) {
+            // with a single cursor left, the heads are not compared anymore
+            heads[0] = current.peekVLong();
+            siftDown(0);
         }
         return targetNodeId;
     }
 
     @Override
     public long peekVLong() {
-        return cursorQueue.peek().peekVLong();
+        return heap[0].peekVLong();
     }
 
     @Override
@@ -100,36 +121,32 @@ public class CompositeAdjacencyCursor implements AdjacencyCursor {
 
     @Override
     public long skipUntil(long target) {
-        for (var cursor : cursors) {
-            cursorQueue.remove(cursor);
+        for (int i = 0; i < heapSize; i++) {
+            var cursor = heap[i];
             // an implementation aware cursor would probably be much faster and could skip whole blocks
             // see AdjacencyDecompressingReader#skipUntil
             while (cursor.hasNextVLong() && cursor.peekVLong() <= target) {
                 cursor.nextVLong();
             }
-            if (cursor.hasNextVLong()) {
-                cursorQueue.add(cursor);
-            }
         }
+        initializeHeap();
 
-        return cursorQueue.isEmpty() ? AdjacencyCursor.NOT_FOUND : nextVLong();
+        return heapSize == 0 ? AdjacencyCursor.NOT_FOUND : nextVLong();
     }
 
     @Override
     public long advance(long target) {
-        for (var cursor : cursors) {
-            cursorQueue.remove(cursor);
+        for (int i = 0; i < heapSize; i++) {
+            var cursor = heap[i];
             // an implementation aware cursor would probably be much faster and could skip whole blocks
             // see AdjacencyDecompressingReader#advance
             while (cursor.hasNextVLong() && cursor.peekVLong() < target) {
                 cursor.nextVLong();
             }
-            if (cursor.hasNextVLong()) {
-                cursorQueue.add(cursor);
-            }
         }
+        initializeHeap();
 
-        return cursorQueue.isEmpty() ? AdjacencyCursor.NOT_FOUND : nextVLong();
+        return heapSize == 0 ? AdjacencyCursor.NOT_FOUND : nextVLong();
     }
 
     @Override
@@ -145,6 +162,37 @@ public class CompositeAdjacencyCursor implements AdjacencyCursor {
         return new CompositeAdjacencyCursor(destCursors);
     }
 
+    private void removeTop() {
+        heapSize--;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize];
+            heads[0] = heads[heapSize];
+            siftDown(0);
+        }
+        heap[heapSize] = null;
+    }
+
+    private void siftDown(int index) {
+        var cursor = heap[index];
+        long head = heads[index];
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < heapSize && heads[right] < heads[child]) {
+                child = right;
+            }
+            if (head <= heads[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            heads[index] = heads[child];
+            index = child;
+        }
+        heap[index] = cursor;
+        heads[index] = head;
+    }
+
     private List<AdjacencyCursor> emptyList(int size) {
         return Arrays.asList(new AdjacencyCursor[size]);
     }
@@ -79,6 +79,7 @@ public class CompositeAdjacencyList implements AdjacencyList {
                     iter.set(newCursor);
                 }
             }
+            compositeReuse.initializeHeap();
             return compositeReuse;
         }
         return adjacencyCursor(node, fallbackValue);
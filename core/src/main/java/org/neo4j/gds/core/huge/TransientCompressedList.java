@@ -34,6 +34,7 @@ import org.neo4j.gds.core.utils.mem.MemoryUsage;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.PageUtil;
+import org.neo4j.gds.core.utils.paged.SpilledPages;
 
 import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
 import static org.neo4j.gds.core.loading.VarLongEncoding.encodedVLongSize;
@@ -43,6 +44,12 @@ import static org.neo4j.gds.core.utils.paged.PageUtil.pageIndex;
 
 public final class TransientCompressedList implements AdjacencyList {
 
+    /**
+     * Describes the pages in the memory estimation. With spilling to disk they are kept on disk
+     * from the moment they are filled, which the memory validation accounts for.
+     */
+    public static final String PAGES_DESCRIPTION = "compressed pages";
+
     public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
         return MemoryEstimations.setup("", dimensions -> {
             long nodeCount = dimensions.nodeCount();
@@ -78,7 +85,7 @@ public final class TransientCompressedList implements AdjacencyList {
 
         return MemoryEstimations
             .builder(TransientCompressedList.class)
-            .fixed("pages", pagesMemoryRange)
+            .fixed(PAGES_DESCRIPTION, pagesMemoryRange)
             .perNode("degrees", HugeIntArray::memoryEstimation)
             .perNode("offsets", HugeLongArray::memoryEstimation)
             .build();
@@ -98,6 +105,7 @@ public final class TransientCompressedList implements AdjacencyList {
     }
 
     private byte[][] pages;
+    private @Nullable SpilledPages<byte[]> spilledPages;
     private HugeIntArray degrees;
     private HugeLongArray offsets;
 
@@ -107,8 +115,21 @@ public final class TransientCompressedList implements AdjacencyList {
         this.offsets = offsets;
     }
 
+    /**
+     * Creates an adjacency list whose pages are loaded from disk on demand.
+     */
+    public TransientCompressedList(SpilledPages<byte[]> spilledPages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.spilledPages = spilledPages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
     @Override
     public void close() {
+        if (spilledPages != null) {
+            spilledPages.release();
+            spilledPages = null;
+        }
         pages = null;
         degrees = null;
         offsets = null;
@@ -127,7 +148,7 @@ public final class TransientCompressedList implements AdjacencyList {
         if (degree == 0) {
             return AdjacencyCursor.empty();
         }
-        var cursor = new DecompressingCursor(pages);
+        var cursor = new DecompressingCursor(pages, spilledPages);
         var offset = offsets.get(node);
         cursor.init(offset, degree);
         return cursor;
@@ -148,37 +169,44 @@ public final class TransientCompressedList implements AdjacencyList {
 
     @Override
     public AdjacencyCursor rawAdjacencyCursor() {
-        return new DecompressingCursor(pages);
+        return new DecompressingCursor(pages, spilledPages);
     }
 
     public static final class DecompressingCursor extends MutableIntValue implements AdjacencyCursor {
 
         private byte[][] pages;
+        private @Nullable SpilledPages<byte[]> spilledPages;
         private final AdjacencyDecompressingReader decompress;
 
         private int maxTargets;
         private int currentPosition;
 
-        private DecompressingCursor(byte[][] pages) {
+        private DecompressingCursor(byte[][] pages, @Nullable SpilledPages<byte[]> spilledPages) {
             this.pages = pages;
+            this.spilledPages = spilledPages;
             this.decompress = new AdjacencyDecompressingReader();
         }
 
         @Override
         public void init(long fromIndex, int degree) {
             maxTargets = decompress.reset(
-                pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)],
+                page(pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)),
                 indexInPage(fromIndex, BumpAllocator.PAGE_MASK),
                 degree
             );
             currentPosition = 0;
         }
 
+        // a spilled page remains readable after it has been evicted, so the cursor does not need to pin it
+        private byte[] page(int pageIndex) {
+            return spilledPages == null ? pages[pageIndex] : spilledPages.page(pageIndex);
+        }
+
         @Override
         public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
             var dest = destination instanceof DecompressingCursor
                 ? (DecompressingCursor) destination
-                : new DecompressingCursor(pages);
+                : new DecompressingCursor(pages, spilledPages);
             dest.decompress.copyFrom(this.decompress);
             dest.currentPosition = this.currentPosition;
             dest.maxTargets = this.maxTargets;
@@ -250,6 +278,7 @@ public final class TransientCompressedList implements AdjacencyList {
         @Override
         public void close() {
             pages = null;
+            spilledPages = null;
         }
     }
 }
@@ -63,7 +63,7 @@ public final class TransientUncompressedList implements AdjacencyList, Adjacency
 
     public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
         return MemoryEstimations
-            .builder(TransientCompressedList.class)
+            .builder(TransientUncompressedList.class)
             .fixed("pages", listSize(avgDegree, nodeCount))
             .perNode("degrees", HugeIntArray::memoryEstimation)
             .perNode("offsets", HugeLongArray::memoryEstimation)
@@ -31,6 +31,7 @@ import org.neo4j.gds.utils.ExceptionUtil;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.LongAdder;
 
 import static org.neo4j.gds.core.utils.mem.MemoryUsage.sizeOfLongArray;
@@ -74,6 +75,34 @@ public final class AdjacencyBuilder {
         return compressingPagedAdjacency;
     }
 
+    /**
+     * Creates a builder for a two-pass import. All relationships need to be counted using
+     * {@link #countDegrees(long[], int)} and {@link #degreeCountingFlushTasks()} must have run
+     * before the first call to {@link #addAll(long[], long[], long[][], int[], int, AllocationTracker)}.
+     * The {@link CompressedLongArray} of every node is then created with the counted capacity instead of
+     * growing by powers of two, which trades an additional store scan for a lower peak memory.
+     */
+    public static AdjacencyBuilder preallocating(
+        @NotNull AdjacencyListWithPropertiesBuilder globalBuilder,
+        long nodeCount,
+        int numPages,
+        int pageSize,
+        AllocationTracker allocationTracker,
+        LongAdder relationshipCounter,
+        boolean preAggregate
+    ) {
+        var adjacencyBuilder = compressing(
+            globalBuilder,
+            numPages,
+            pageSize,
+            allocationTracker,
+            relationshipCounter,
+            preAggregate
+        );
+        adjacencyBuilder.preallocatedAdjacency = new PreallocatedAdjacency(nodeCount, allocationTracker);
+        return adjacencyBuilder;
+    }
+
     private final AdjacencyListWithPropertiesBuilder globalBuilder;
     private final ThreadLocalRelationshipsBuilder[] localBuilders;
     private final CompressedLongArray[][] compressedAdjacencyLists;
@@ -90,6 +119,8 @@ public final class AdjacencyBuilder {
     private final boolean atLeastOnePropertyToLoad;
     private final boolean preAggregate;
 
+    private @Nullable PreallocatedAdjacency preallocatedAdjacency;
+
     private AdjacencyBuilder(
         AdjacencyListWithPropertiesBuilder globalBuilder,
         ThreadLocalRelationshipsBuilder[] localBuilders,
@@ -165,10 +196,10 @@ public final class AdjacencyBuilder {
 
                 CompressedLongArray compressedTargets = this.compressedAdjacencyLists[pageIndex][localId];
                 if (compressedTargets == null) {
-                    compressedTargets = new CompressedLongArray(
-                        allocationTracker,
-                        propertyValues == null ? 0 : propertyValues.length
-                    );
+                    int numberOfProperties = propertyValues == null ? 0 : propertyValues.length;
+                    compressedTargets = preallocatedAdjacency != null
+                        ? preallocatedAdjacency.newArray(source, numberOfProperties)
+                        : new CompressedLongArray(allocationTracker, numberOfProperties);
                     this.compressedAdjacencyLists[pageIndex][localId] = compressedTargets;
                 }
 
@@ -192,7 +223,41 @@ public final class AdjacencyBuilder {
         }
     }
 
+    /**
+     * Counts the relationships of every source node within the given batch.
+     *
+     * @param batch  source-target pairs sorted by source
+     * @param length length of the batch
+     */
+    void countDegrees(long[] batch, int length) {
+        assert preallocatedAdjacency != null;
+        int runStart = 0;
+        for (int i = 2; i <= length; i += 2) {
+            if (i == length || batch[i] != batch[runStart]) {
+                preallocatedAdjacency.count(batch[runStart], batch, runStart, i);
+                runStart = i;
+            }
+        }
+    }
+
+    boolean requiresDegreeCounting() {
+        return preallocatedAdjacency != null;
+    }
+
+    /**
+     * Tasks to run once all degrees have been counted.
+     * The counted capacities are read when a node is imported, so there is nothing to flush.
+     */
+    Collection<Runnable> degreeCountingFlushTasks() {
+        assert preallocatedAdjacency != null;
+        return List.of();
+    }
+
     Collection<Runnable> flushTasks() {
+        // all nodes have been imported, their lists do not need to be created any more
+        if (preallocatedAdjacency != null) {
+            preallocatedAdjacency.release();
+        }
         Runnable[] runnables = new Runnable[localBuilders.length];
         Arrays.setAll(runnables, index -> () -> {
             long baseId = ((long) index) << pageShift;
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.kernel.database.NamedDatabaseId;
+
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps the results of algorithm runs on named graphs, so that repeated procedure calls
+ * with the same configuration do not run the algorithm again.
+ *
+ * An entry is only valid as long as its graph store has not been modified since the algorithm ran,
+ * and it is removed once the graph is dropped.
+ * Once the tracked memory of all entries exceeds {@link GdsFeatureToggles#ALGORITHM_RESULT_CACHE_MAX_BYTES},
+ * the least recently used entries are evicted.
+ * Results of randomized algorithms are only cached if they have been computed with a fixed random seed.
+ */
+public final class AlgorithmResultCache {
+
+    private static final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private static long cachedBytes = 0L;
+
+    private AlgorithmResultCache() {}
+
+    public static boolean isCacheable(AlgoBaseConfig config) {
+        if (config.graphName().isEmpty() || config.implicitCreateConfig().isPresent()) {
+            return false;
+        }
+        return !(config instanceof RandomSeedConfig) || ((RandomSeedConfig) config).randomSeed().isPresent();
+    }
+
+    public static synchronized Optional<Object> get(
+        NamedDatabaseId databaseId,
+        GraphStore graphStore,
+        String procedure,
+        AlgoBaseConfig config
+    ) {
+        var key = keyFor(databaseId, graphStore, procedure, config);
+        if (key == null) {
+            return Optional.empty();
+        }
+        var entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (!entry.modificationTime().equals(graphStore.modificationTime())) {
+            removeOutdated(graphStore);
+            return Optional.empty();
+        }
+        return Optional.of(entry.result());
+    }
+
+    /**
+     * Caches the result unless it alone exceeds the maximum cache size,
+     * or the graph store has been modified since the given modification time, at which the algorithm started.
+     * The result must not be released by the caller afterwards, as it is shared between all callers.
+     */
+    public static synchronized void put(
+        NamedDatabaseId databaseId,
+        GraphStore graphStore,
+        ZonedDateTime modificationTime,
+        String procedure,
+        AlgoBaseConfig config,
+        Object result,
+        long sizeInBytes
+    ) {
+        var key = keyFor(databaseId, graphStore, procedure, config);
+        var maxBytes = GdsFeatureToggles.ALGORITHM_RESULT_CACHE_MAX_BYTES.get();
+        if (key == null || sizeInBytes > maxBytes || !modificationTime.equals(graphStore.modificationTime())) {
+            return;
+        }
+
+        remove(key);
+        entries.put(key, ImmutableCacheEntry.of(result, modificationTime, sizeInBytes));
+        cachedBytes += sizeInBytes;
+
+        Iterator<Map.Entry<CacheKey, CacheEntry>> leastRecentlyUsed = entries.entrySet().iterator();
+        while (cachedBytes > maxBytes && leastRecentlyUsed.hasNext()) {
+            cachedBytes -= leastRecentlyUsed.next().getValue().sizeInBytes();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    /**
+     * Removes all results that have been computed on the given graph store, used when the graph is dropped.
+     */
+    public static synchronized void remove(GraphStore graphStore) {
+        var iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.getKey().graphStore() == graphStore) {
+                cachedBytes -= entry.getValue().sizeInBytes();
+                iterator.remove();
+            }
+        }
+    }
+
+    public static synchronized void removeAll(NamedDatabaseId databaseId) {
+        var iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.getKey().databaseId().equals(databaseId)) {
+                cachedBytes -= entry.getValue().sizeInBytes();
+                iterator.remove();
+            }
+        }
+    }
+
+    public static synchronized int size() {
+        return entries.size();
+    }
+
+    public static synchronized long cachedBytes() {
+        return cachedBytes;
+    }
+
+    public static synchronized void clear() {
+        entries.clear();
+        cachedBytes = 0L;
+    }
+
+    private static void remove(CacheKey key) {
+        var removed = entries.remove(key);
+        if (removed != null) {
+            cachedBytes -= removed.sizeInBytes();
+        }
+    }
+
+    private static void removeOutdated(GraphStore graphStore) {
+        var modificationTime = graphStore.modificationTime();
+        var iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.getKey().graphStore() == graphStore && !entry.getValue().modificationTime().equals(modificationTime)) {
+                cachedBytes -= entry.getValue().sizeInBytes();
+                iterator.remove();
+            }
+        }
+    }
+
+    private static @Nullable CacheKey keyFor(
+        NamedDatabaseId databaseId,
+        GraphStore graphStore,
+        String procedure,
+        AlgoBaseConfig config
+    ) {
+        if (!isCacheable(config)) {
+            return null;
+        }
+        // the config map contains all defaults, only the keys that do not affect the result are removed
+        var normalizedConfig = new HashMap<>(config.toMap());
+        normalizedConfig.remove(BaseConfig.SUDO_KEY);
+        normalizedConfig.remove("username");
+        normalizedConfig.values().removeIf(Objects::isNull);
+        return ImmutableCacheKey.of(databaseId, graphStore, procedure, normalizedConfig);
+    }
+
+    @ValueClass
+    interface CacheKey {
+        NamedDatabaseId databaseId();
+
+        // graph stores are compared by identity, a graph that is dropped and created again does not share any results
+        GraphStore graphStore();
+
+        String procedure();
+
+        Map<String, Object> config();
+    }
+
+    @ValueClass
+    interface CacheEntry {
+        Object result();
+
+        ZonedDateTime modificationTime();
+
+        long sizeInBytes();
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.paged.PageUtil;
 
@@ -26,6 +27,7 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.util.Arrays;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ObjIntConsumer;
 
 import static org.neo4j.gds.core.utils.mem.MemoryUsage.sizeOfObjectArray;
 import static org.neo4j.gds.core.utils.mem.MemoryUsage.sizeOfObjectArrayElements;
@@ -54,10 +56,25 @@ public final class BumpAllocator<PAGE> {
     private final Factory<PAGE> pageFactory;
     private final ReentrantLock growLock;
     private final AllocationTracker allocationTracker;
+    private final @Nullable ObjIntConsumer<PAGE> completedPages;
 
     BumpAllocator(AllocationTracker allocationTracker, Factory<PAGE> pageFactory) {
+        this(allocationTracker, pageFactory, null);
+    }
+
+    /**
+     * Pages that no longer change are handed to {@code completedPages} together with their index
+     * and are dropped from the allocator. These are pages that a local allocator has filled up or
+     * has been closed with, as well as oversized pages.
+     */
+    BumpAllocator(
+        AllocationTracker allocationTracker,
+        Factory<PAGE> pageFactory,
+        @Nullable ObjIntConsumer<PAGE> completedPages
+    ) {
         this.pageFactory = pageFactory;
         this.allocationTracker = allocationTracker;
+        this.completedPages = completedPages;
         this.growLock = new ReentrantLock(true);
         this.pages = pageFactory.newEmptyPages();
         allocationTracker.add(sizeOfObjectArray(0));
@@ -106,9 +123,30 @@ public final class BumpAllocator<PAGE> {
         } finally {
             growLock.unlock();
         }
+        completePage(pageIndex);
         return PageUtil.capacityFor(pageIndex, PAGE_SHIFT);
     }
 
+    private void completePage(int pageIndex) {
+        if (completedPages == null) {
+            return;
+        }
+        PAGE page;
+        // `pages` must not be copied by `grow()` while the page is removed
+        growLock.lock();
+        try {
+            var pages = this.pages;
+            page = pages[pageIndex];
+            pages[pageIndex] = null;
+        } finally {
+            growLock.unlock();
+        }
+        if (page != null) {
+            completedPages.accept(page, pageIndex);
+            allocationTracker.remove(pageFactory.memorySizeOfPage(page));
+        }
+    }
+
     private void grow(int newNumPages, int skipPage) {
         if (capacityLeft(newNumPages)) {
             return;
@@ -173,6 +211,7 @@ public final class BumpAllocator<PAGE> {
         private long top;
 
         private PAGE page;
+        private int pageIndex;
         private int offset;
 
         private LocalAllocator(BumpAllocator<PAGE> globalAllocator) {
@@ -227,14 +266,26 @@ public final class BumpAllocator<PAGE> {
         }
 
         private long prefetchAllocate() {
+            close();
             long address = top = globalAllocator.insertDefaultSizedPage();
             assert PageUtil.indexInPage(address, PAGE_MASK) == 0;
-            var currentPageIndex = PageUtil.pageIndex(address, PAGE_SHIFT);
-            this.page = globalAllocator.pages[currentPageIndex];
+            this.pageIndex = PageUtil.pageIndex(address, PAGE_SHIFT);
+            this.page = globalAllocator.pages[pageIndex];
             this.offset = 0;
             return address;
         }
 
+        /**
+         * Completes the current page, the next insert starts a new page.
+         */
+        void close() {
+            if (page != null) {
+                globalAllocator.completePage(pageIndex);
+                page = null;
+                offset = PAGE_SIZE;
+            }
+        }
+
         @SuppressWarnings("SuspiciousSystemArraycopy")
         private void doAllocate(PAGE targets, int length) {
             System.arraycopy(targets, 0, page, offset, length);
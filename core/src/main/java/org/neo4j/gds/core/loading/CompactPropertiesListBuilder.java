@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.PropertyStorage;
+import org.neo4j.gds.core.huge.CompactPropertiesList;
+import org.neo4j.gds.core.utils.BitUtil;
+import org.neo4j.gds.core.utils.PageReordering;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Builds relationship properties for any {@link PropertyStorage} other than {@link PropertyStorage#DOUBLE}.
+ * The property values of a single source node are encoded into a contiguous block of bytes,
+ * see {@link CompactPropertiesList} for the layout of a block.
+ */
+public final class CompactPropertiesListBuilder implements CsrListBuilder<long[], CompactPropertiesList> {
+
+    private final PropertyStorage storage;
+    private final BumpAllocator<byte[]> builder;
+    private final @Nullable Dictionary dictionary;
+
+    public CompactPropertiesListBuilder(PropertyStorage storage, AllocationTracker allocationTracker) {
+        if (storage == PropertyStorage.DOUBLE) {
+            throw new IllegalArgumentException("Double properties are stored uncompressed.");
+        }
+        this.storage = storage;
+        this.builder = new BumpAllocator<>(allocationTracker, TransientCompressedListBuilder.Factory.INSTANCE);
+        this.dictionary = storage == PropertyStorage.DICTIONARY ? new Dictionary() : null;
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(builder.newLocalAllocator(), storage, dictionary);
+    }
+
+    @Override
+    public CompactPropertiesList build(HugeIntArray degrees, HugeLongArray offsets) {
+        var intoPages = builder.intoPages();
+        if (GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled() && intoPages.length > 0) {
+            PageReordering.reorder(intoPages, offsets, degrees);
+        }
+        return new CompactPropertiesList(
+            storage,
+            intoPages,
+            degrees,
+            offsets,
+            dictionary == null ? null : dictionary.values()
+        );
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    public static final class Allocator implements CsrListBuilder.Allocator<long[]> {
+
+        private final BumpAllocator.LocalAllocator<byte[]> allocator;
+        private final PropertyStorage storage;
+        private final @Nullable Dictionary dictionary;
+        private final LongIntHashMap localCodes;
+
+        private byte[] buffer;
+
+        private Allocator(
+            BumpAllocator.LocalAllocator<byte[]> allocator,
+            PropertyStorage storage,
+            @Nullable Dictionary dictionary
+        ) {
+            this.allocator = allocator;
+            this.storage = storage;
+            this.dictionary = dictionary;
+            this.localCodes = new LongIntHashMap();
+            this.buffer = new byte[0];
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public long write(long[] properties, int length) {
+            int bytesWritten;
+            switch (storage) {
+                case FLOAT:
+                    bytesWritten = writeFloats(properties, length);
+                    break;
+                case QUANTIZED_16:
+                    bytesWritten = writeQuantized(properties, length, Short.BYTES);
+                    break;
+                case QUANTIZED_8:
+                    bytesWritten = writeQuantized(properties, length, Byte.BYTES);
+                    break;
+                case DICTIONARY:
+                    bytesWritten = writeDictionaryCodes(properties, length);
+                    break;
+                default:
+                    throw new IllegalStateException(formatWithLocale("Unexpected property storage: %s", storage));
+            }
+            return allocator.insert(buffer, bytesWritten);
+        }
+
+        private int writeFloats(long[] properties, int length) {
+            ensureCapacity(length * Float.BYTES);
+            int offset = 0;
+            for (int i = 0; i < length; i++) {
+                float value = (float) Double.longBitsToDouble(properties[i]);
+                offset = CompactPropertiesList.writeInt(buffer, offset, Float.floatToIntBits(value));
+            }
+            return offset;
+        }
+
+        private int writeQuantized(long[] properties, int length, int bytesPerValue) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < length; i++) {
+                double value = Double.longBitsToDouble(properties[i]);
+                if (Double.isInfinite(value)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Property storage `%s` does not support infinite values.",
+                        storage
+                    ));
+                }
+                if (!Double.isNaN(value)) {
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            if (min > max) {
+                // all values are NaN
+                min = max = 0.0;
+            }
+
+            int maxCode = CompactPropertiesList.maxQuantizedCode(bytesPerValue);
+            // the header is stored as floats, round such that all values stay within [base, base + maxCode * step]
+            float base = (float) min;
+            if (base > min) {
+                base = Math.nextDown(base);
+            }
+            float step = (float) ((max - base) / maxCode);
+            if (step * (double) maxCode < max - base) {
+                step = Math.nextUp(step);
+            }
+
+            ensureCapacity(CompactPropertiesList.QUANTIZED_HEADER_BYTES + length * bytesPerValue);
+            int offset = CompactPropertiesList.writeInt(buffer, 0, Float.floatToIntBits(base));
+            offset = CompactPropertiesList.writeInt(buffer, offset, Float.floatToIntBits(step));
+            for (int i = 0; i < length; i++) {
+                double value = Double.longBitsToDouble(properties[i]);
+                int code;
+                if (Double.isNaN(value)) {
+                    code = maxCode + 1;
+                } else if (step == 0F) {
+                    code = 0;
+                } else {
+                    code = (int) Math.min(maxCode, Math.max(0, Math.round((value - base) / step)));
+                }
+                for (int b = 0; b < bytesPerValue; b++) {
+                    buffer[offset++] = (byte) (code >>> (b * Byte.SIZE));
+                }
+            }
+            return offset;
+        }
+
+        private int writeDictionaryCodes(long[] properties, int length) {
+            assert dictionary != null;
+            ensureCapacity(length * CompactPropertiesList.MAX_VAR_INT_BYTES);
+            int offset = 0;
+            for (int i = 0; i < length; i++) {
+                long value = properties[i];
+                int code = localCodes.getOrDefault(value, -1);
+                if (code == -1) {
+                    code = dictionary.code(value);
+                    localCodes.put(value, code);
+                }
+                offset = CompactPropertiesList.writeVarInt(buffer, offset, code);
+            }
+            return offset;
+        }
+
+        private void ensureCapacity(int length) {
+            // the buffer must stay larger than the written data,
+            // otherwise the allocator takes ownership of it for oversized blocks
+            if (buffer.length <= length) {
+                buffer = new byte[BitUtil.nextHighestPowerOfTwo(length + 1)];
+            }
+        }
+    }
+
+    /**
+     * Assigns dense codes to the distinct property values, shared by all allocators of a builder.
+     */
+    private static final class Dictionary {
+
+        private final ConcurrentHashMap<Long, Integer> codes = new ConcurrentHashMap<>();
+        private final AtomicInteger nextCode = new AtomicInteger();
+
+        int code(long value) {
+            return codes.computeIfAbsent(value, ignore -> nextCode.getAndIncrement());
+        }
+
+        long[] values() {
+            var values = new long[codes.size()];
+            codes.forEach((value, code) -> values[code] = value);
+            return values;
+        }
+    }
+}
@@ -54,6 +54,26 @@ public final class CompressedLongArray {
         weights = new long[numberOfProperties][0];
     }
 
+    /**
+     * Creates an array that can hold {@code length} values and properties,
+     * which take {@code byteLength} bytes once encoded, without growing.
+     */
+    CompressedLongArray(AllocationTracker allocationTracker, int numberOfProperties, int length, int byteLength) {
+        this.allocationTracker = allocationTracker;
+        storage = EMPTY_BYTES;
+        weights = new long[numberOfProperties][0];
+        if (byteLength > 0) {
+            storage = new byte[byteLength];
+            allocationTracker.add(sizeOfByteArray(byteLength));
+        }
+        if (length > 0) {
+            for (int i = 0; i < numberOfProperties; i++) {
+                weights[i] = new long[length];
+                allocationTracker.add(sizeOfDoubleArray(length));
+            }
+        }
+    }
+
     /**
      * For memory efficiency, we reuse the {@code values}. They cannot be reused after calling this method.
      *
@@ -128,9 +148,9 @@ public final class CompressedLongArray {
                 pos,
                 required
             ));
-        } else if (storage.length <= targetLength) {
+        } else if (storage.length < targetLength) {
             int newLength = BitUtil.nextHighestPowerOfTwo(targetLength);
-            allocationTracker.remove(sizeOfByteArray(storage.length));
+            untrack(sizeOfByteArray(storage.length), storage.length);
             allocationTracker.add(sizeOfByteArray(newLength));
             this.storage = Arrays.copyOf(storage, newLength);
         }
@@ -144,9 +164,9 @@ public final class CompressedLongArray {
                 pos,
                 required
             ));
-        } else if (weights[weightIndex].length <= pos + required) {
-            int newLength = BitUtil.nextHighestPowerOfTwo(pos + required);
-            allocationTracker.remove(sizeOfDoubleArray(weights[weightIndex].length));
+        } else if (weights[weightIndex].length < targetLength) {
+            int newLength = BitUtil.nextHighestPowerOfTwo(targetLength);
+            untrack(sizeOfDoubleArray(weights[weightIndex].length), weights[weightIndex].length);
             allocationTracker.add(sizeOfDoubleArray(newLength));
             weights[weightIndex] = Arrays.copyOf(weights[weightIndex], newLength);
         }
@@ -174,13 +194,20 @@ public final class CompressedLongArray {
     }
 
     public void release() {
-        if (storage.length > 0) {
-            allocationTracker.remove(sizeOfByteArray(storage.length));
-            allocationTracker.remove(sizeOfDoubleArray(weights.length));
+        untrack(sizeOfByteArray(storage.length), storage.length);
+        for (long[] propertyValues : weights) {
+            untrack(sizeOfDoubleArray(propertyValues.length), propertyValues.length);
         }
         storage = null;
         weights = null;
         pos = 0;
         length = 0;
     }
+
+    // empty arrays are not tracked
+    private void untrack(long bytes, int length) {
+        if (length > 0) {
+            allocationTracker.remove(bytes);
+        }
+    }
 }
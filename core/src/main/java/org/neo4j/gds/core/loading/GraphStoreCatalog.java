@@ -23,6 +23,7 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.beta.filter.LazyFilteredGraphStore;
 import org.neo4j.gds.config.GraphCreateConfig;
 import org.neo4j.gds.utils.StringJoining;
 import org.neo4j.kernel.database.NamedDatabaseId;
@@ -196,6 +197,7 @@ public final class GraphStoreCatalog {
 
     public static void removeAllLoadedGraphs() {
         userCatalogs.clear();
+        AlgorithmResultCache.clear();
     }
 
     public static void removeAllLoadedGraphs(NamedDatabaseId databaseId) {
@@ -231,6 +233,16 @@ public final class GraphStoreCatalog {
         GraphCreateConfig config();
     }
 
+    private static boolean hasLazySubgraphs(GraphStore graphStore) {
+        return userCatalogs
+            .values()
+            .stream()
+            .flatMap(userCatalog -> userCatalog.graphsByName.values().stream())
+            .map(GraphStoreWithConfig::graphStore)
+            .filter(LazyFilteredGraphStore.class::isInstance)
+            .anyMatch(other -> ((LazyFilteredGraphStore) other).isViewOf(graphStore));
+    }
+
     static class UserCatalog {
 
         @ValueClass
@@ -342,8 +354,13 @@ public final class GraphStoreCatalog {
             return Optional.ofNullable(get(userCatalogKey, failOnMissing))
                 .map(graphStoreWithConfig -> {
                     removedGraphConsumer.accept(graphStoreWithConfig);
-                    graphStoreWithConfig.graphStore().canRelease(true);
-                    graphStoreWithConfig.graphStore().release();
+                    var graphStore = graphStoreWithConfig.graphStore();
+                    AlgorithmResultCache.remove(graphStore);
+                    graphStore.canRelease(true);
+                    // lazy subgraphs still read the data, which is collected once they are dropped as well
+                    if (!hasLazySubgraphs(graphStore)) {
+                        graphStore.release();
+                    }
                     removeDegreeDistribution(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
                     return Boolean.TRUE;
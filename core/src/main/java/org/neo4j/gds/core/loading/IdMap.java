@@ -179,7 +179,33 @@ public class IdMap implements NodeMapping {
             return this;
         }
 
-        BitSet unionBitSet = labelInformation.unionBitSet(nodeLabels, nodeCount());
+        return filteredIdMap(
+            rootNodeCount(),
+            nodeCount(),
+            nodeToGraphIds.getCapacity(),
+            labelInformation,
+            nodeLabels,
+            highestNeoId,
+            concurrency,
+            allocationTracker
+        );
+    }
+
+    /**
+     * Creates a mapping between the internal identifiers of the given node mapping
+     * and the internal identifiers of its nodes that have any of the given labels.
+     */
+    static IdMap filteredIdMap(
+        long rootNodeCount,
+        long nodeCount,
+        long highestMappedNodeId,
+        LabelInformation labelInformation,
+        Collection<NodeLabel> nodeLabels,
+        long highestNeoId,
+        int concurrency,
+        AllocationTracker allocationTracker
+    ) {
+        BitSet unionBitSet = labelInformation.unionBitSet(nodeLabels, nodeCount);
 
         long nodeId = -1L;
         long cursor = 0L;
@@ -193,7 +219,7 @@ public class IdMap implements NodeMapping {
 
         HugeSparseLongArray newNodeToGraphIds = IdMapBuilder.buildSparseNodeMapping(
             newNodeCount,
-            nodeToGraphIds.getCapacity(),
+            highestMappedNodeId,
             concurrency,
             IdMapBuilder.add(newGraphIds),
             allocationTracker
@@ -202,7 +228,7 @@ public class IdMap implements NodeMapping {
         LabelInformation newLabelInformation = labelInformation.filter(nodeLabels);
 
         return new FilteredIdMap(
-            rootNodeCount(),
+            rootNodeCount,
             newGraphIds,
             newNodeToGraphIds,
             newLabelInformation,
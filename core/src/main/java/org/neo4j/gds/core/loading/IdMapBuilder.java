@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.loading;
 
 import org.jetbrains.annotations.NotNull;
+import org.neo4j.gds.api.NodeMapping;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.BiLongConsumer;
@@ -32,6 +33,10 @@ import java.util.function.Function;
 
 public final class IdMapBuilder {
 
+    // a RangeIdMap is only built if the runs are long on average, so that lookups only search through few runs
+    private static final int MIN_AVERAGE_RUN_LENGTH = 64;
+    private static final int MAX_RUN_COUNT = 1 << 24;
+
     public static BitIdMap build(
         InternalBitIdMappingBuilder idMapBuilder,
         LabelInformation.Builder labelInformationBuilder,
@@ -63,9 +68,96 @@ public final class IdMapBuilder {
         int concurrency,
         AllocationTracker allocationTracker
     ) {
+        return build(
+            idMapBuilder.build(),
+            idMapBuilder.size(),
+            labelInformationBuilder,
+            highestNodeId,
+            concurrency,
+            allocationTracker
+        );
+    }
+
+    static IdMap buildChecked(
+        InternalHugeIdMappingBuilder idMapBuilder,
+        LabelInformation.Builder labelInformationBuilder,
+        long highestNodeId,
+        int concurrency,
+        AllocationTracker allocationTracker
+    ) throws DuplicateNodeIdException {
+        return buildChecked(
+            idMapBuilder.build(),
+            idMapBuilder.size(),
+            idMapBuilder.capacity(),
+            labelInformationBuilder,
+            highestNodeId,
+            concurrency,
+            allocationTracker
+        );
+    }
+
+    /**
+     * Builds a {@link RangeIdMap} if the imported Neo4j identifiers consist of few runs of consecutive identifiers,
+     * which avoids allocating a sparse array that covers all identifiers up to the highest one.
+     * Otherwise, builds an {@link IdMap}.
+     */
+    static NodeMapping buildAdaptive(
+        InternalHugeIdMappingBuilder idMapBuilder,
+        LabelInformation.Builder labelInformationBuilder,
+        long highestNodeId,
+        int concurrency,
+        boolean checkDuplicateIds,
+        AllocationTracker allocationTracker
+    ) throws DuplicateNodeIdException {
         HugeLongArray graphIds = idMapBuilder.build();
+        long nodeCount = idMapBuilder.size();
+        long maxRunCount = Math.min(nodeCount / MIN_AVERAGE_RUN_LENGTH, MAX_RUN_COUNT);
+        long runCount = countRuns(graphIds, nodeCount, maxRunCount);
+
+        if (runCount == 0 || runCount > maxRunCount) {
+            return checkDuplicateIds
+                ? buildChecked(
+                    graphIds,
+                    nodeCount,
+                    idMapBuilder.capacity(),
+                    labelInformationBuilder,
+                    highestNodeId,
+                    concurrency,
+                    allocationTracker
+                )
+                : build(graphIds, nodeCount, labelInformationBuilder, highestNodeId, concurrency, allocationTracker);
+        }
+
+        long[] mappedStarts = new long[(int) runCount];
+        long[] originalStarts = new long[(int) runCount];
+        collectRuns(graphIds, nodeCount, mappedStarts, originalStarts);
+
+        var rangeIdMap = new RangeIdMap(
+            mappedStarts,
+            originalStarts,
+            labelInformationBuilder.build(),
+            nodeCount,
+            // same as for the IdMap that would have been built instead
+            checkDuplicateIds ? idMapBuilder.capacity() : highestNodeId,
+            allocationTracker
+        );
+        if (checkDuplicateIds) {
+            rangeIdMap.checkDuplicateIds();
+        }
+        allocationTracker.remove(graphIds.release());
+        return rangeIdMap;
+    }
+
+    private static IdMap build(
+        HugeLongArray graphIds,
+        long nodeCount,
+        LabelInformation.Builder labelInformationBuilder,
+        long highestNodeId,
+        int concurrency,
+        AllocationTracker allocationTracker
+    ) {
         HugeSparseLongArray nodeToGraphIds = buildSparseNodeMapping(
-            idMapBuilder.size(),
+            nodeCount,
             highestNodeId,
             concurrency,
             add(graphIds),
@@ -76,22 +168,23 @@ public final class IdMapBuilder {
             graphIds,
             nodeToGraphIds,
             labelInformationBuilder.build(),
-            idMapBuilder.size(),
+            nodeCount,
             highestNodeId,
             allocationTracker
         );
     }
 
-    static IdMap buildChecked(
-        InternalHugeIdMappingBuilder idMapBuilder,
+    private static IdMap buildChecked(
+        HugeLongArray graphIds,
+        long nodeCount,
+        long capacity,
         LabelInformation.Builder labelInformationBuilder,
         long highestNodeId,
         int concurrency,
         AllocationTracker allocationTracker
     ) throws DuplicateNodeIdException {
-        HugeLongArray graphIds = idMapBuilder.build();
         HugeSparseLongArray nodeToGraphIds = buildSparseNodeMapping(
-            idMapBuilder.size(),
+            nodeCount,
             highestNodeId,
             concurrency,
             addChecked(graphIds),
@@ -102,12 +195,54 @@ public final class IdMapBuilder {
             graphIds,
             nodeToGraphIds,
             labelInformationBuilder.build(),
-            idMapBuilder.size(),
-            idMapBuilder.capacity(),
+            nodeCount,
+            capacity,
             allocationTracker
         );
     }
 
+    /**
+     * @return the number of runs of consecutive Neo4j identifiers, or any number above {@code maxRunCount}
+     */
+    private static long countRuns(HugeLongArray graphIds, long nodeCount, long maxRunCount) {
+        long runCount = 0L;
+        long nextId = -1L;
+        try (HugeCursor<long[]> cursor = graphIds.initCursor(graphIds.newCursor(), 0L, nodeCount)) {
+            while (cursor.next()) {
+                long[] array = cursor.array;
+                int limit = cursor.limit;
+                for (int i = cursor.offset; i < limit; ++i) {
+                    if (array[i] != nextId && ++runCount > maxRunCount) {
+                        return runCount;
+                    }
+                    nextId = array[i] + 1;
+                }
+            }
+        }
+        return runCount;
+    }
+
+    private static void collectRuns(HugeLongArray graphIds, long nodeCount, long[] mappedStarts, long[] originalStarts) {
+        int run = -1;
+        long nextId = -1L;
+        try (HugeCursor<long[]> cursor = graphIds.initCursor(graphIds.newCursor(), 0L, nodeCount)) {
+            while (cursor.next()) {
+                long[] array = cursor.array;
+                int offset = cursor.offset;
+                int limit = cursor.limit;
+                long internalId = cursor.base + offset;
+                for (int i = offset; i < limit; ++i, ++internalId) {
+                    if (array[i] != nextId) {
+                        run++;
+                        mappedStarts[run] = internalId;
+                        originalStarts[run] = array[i];
+                    }
+                    nextId = array[i] + 1;
+                }
+            }
+        }
+    }
+
     @NotNull
     static HugeSparseLongArray buildSparseNodeMapping(
         long nodeCount,
@@ -50,22 +50,33 @@ public final class IdMapImplementations {
 
     public static NodeMappingBuilder<InternalHugeIdMappingBuilder> hugeIdMapBuilder() {
         return
-            (idMapBuilder, labelInformationBuilder, graphDimensions, concurrency, checkDuplicateIds, allocationTracker)
-                -> checkDuplicateIds
-                ? IdMapBuilder.buildChecked(
-                    idMapBuilder,
-                    labelInformationBuilder,
-                    graphDimensions,
-                    concurrency,
-                    allocationTracker
-                )
-                : IdMapBuilder.build(
-                    idMapBuilder,
-                    labelInformationBuilder,
-                    graphDimensions,
-                    concurrency,
-                    allocationTracker
-                );
+            (idMapBuilder, labelInformationBuilder, graphDimensions, concurrency, checkDuplicateIds, allocationTracker) -> {
+                if (GdsFeatureToggles.USE_ADAPTIVE_ID_MAP.isEnabled()) {
+                    return IdMapBuilder.buildAdaptive(
+                        idMapBuilder,
+                        labelInformationBuilder,
+                        graphDimensions,
+                        concurrency,
+                        checkDuplicateIds,
+                        allocationTracker
+                    );
+                }
+                return checkDuplicateIds
+                    ? IdMapBuilder.buildChecked(
+                        idMapBuilder,
+                        labelInformationBuilder,
+                        graphDimensions,
+                        concurrency,
+                        allocationTracker
+                    )
+                    : IdMapBuilder.build(
+                        idMapBuilder,
+                        labelInformationBuilder,
+                        graphDimensions,
+                        concurrency,
+                        allocationTracker
+                    );
+            };
     }
 
     public static NodeMappingBuilder.Capturing hugeIdMapBuilder(InternalHugeIdMappingBuilder idMapBuilder) {
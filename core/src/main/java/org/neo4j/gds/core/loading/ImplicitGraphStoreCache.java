@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeProjections;
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.RelationshipProjections;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphCreateConfig;
+import org.neo4j.gds.config.GraphCreateFromStoreConfig;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.kernel.database.NamedDatabaseId;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the graph stores of implicitly loaded graphs, so that repeated algorithm calls
+ * with the same anonymous projection do not load the graph again.
+ *
+ * An entry is only valid as long as no other transaction has been committed since it was loaded.
+ * Once the tracked memory of all entries exceeds {@link GdsFeatureToggles#IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES},
+ * the least recently used entries are evicted.
+ * Only native projections are cached, as the result of a Cypher projection may change without any write.
+ */
+public final class ImplicitGraphStoreCache {
+
+    private static final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75F, true);
+    private static long cachedBytes = 0L;
+
+    private ImplicitGraphStoreCache() {}
+
+    public static boolean isCacheable(GraphCreateConfig createConfig) {
+        return createConfig instanceof GraphCreateFromStoreConfig && !createConfig.isFictitiousLoading();
+    }
+
+    public static synchronized Optional<GraphStore> get(
+        NamedDatabaseId databaseId,
+        GraphCreateConfig createConfig,
+        long lastCommittedTransactionId
+    ) {
+        var key = keyFor(databaseId, createConfig);
+        if (key == null) {
+            return Optional.empty();
+        }
+        var entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.lastCommittedTransactionId() != lastCommittedTransactionId) {
+            remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.graphStore());
+    }
+
+    /**
+     * Caches the graph store unless it alone exceeds the maximum cache size.
+     * The graph store must not be released by the caller afterwards, as it is shared between all callers.
+     */
+    public static synchronized void put(
+        NamedDatabaseId databaseId,
+        GraphCreateConfig createConfig,
+        long lastCommittedTransactionId,
+        GraphStore graphStore,
+        long sizeInBytes
+    ) {
+        var key = keyFor(databaseId, createConfig);
+        var maxBytes = GdsFeatureToggles.IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES.get();
+        if (key == null || sizeInBytes > maxBytes) {
+            return;
+        }
+
+        graphStore.canRelease(false);
+        remove(key);
+        entries.put(key, ImmutableCacheEntry.of(graphStore, lastCommittedTransactionId, sizeInBytes));
+        cachedBytes += sizeInBytes;
+
+        // graph stores that are still used by a running algorithm are not released, they are only dereferenced
+        Iterator<Map.Entry<CacheKey, CacheEntry>> leastRecentlyUsed = entries.entrySet().iterator();
+        while (cachedBytes > maxBytes && leastRecentlyUsed.hasNext()) {
+            cachedBytes -= leastRecentlyUsed.next().getValue().sizeInBytes();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    public static synchronized void removeAll(NamedDatabaseId databaseId) {
+        var iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            if (entry.getKey().databaseId().equals(databaseId)) {
+                cachedBytes -= entry.getValue().sizeInBytes();
+                iterator.remove();
+            }
+        }
+    }
+
+    public static synchronized int size() {
+        return entries.size();
+    }
+
+    public static synchronized long cachedBytes() {
+        return cachedBytes;
+    }
+
+    public static synchronized void clear() {
+        entries.clear();
+        cachedBytes = 0L;
+    }
+
+    private static void remove(CacheKey key) {
+        var removed = entries.remove(key);
+        if (removed != null) {
+            cachedBytes -= removed.sizeInBytes();
+        }
+    }
+
+    private static @Nullable CacheKey keyFor(NamedDatabaseId databaseId, GraphCreateConfig createConfig) {
+        if (!isCacheable(createConfig)) {
+            return null;
+        }
+        var storeConfig = (GraphCreateFromStoreConfig) createConfig;
+        // the creation time and read concurrency do not affect the loaded graph
+        return ImmutableCacheKey.of(
+            databaseId,
+            storeConfig.username(),
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            storeConfig.nodeProperties(),
+            storeConfig.relationshipProperties(),
+            storeConfig.validateRelationships()
+        );
+    }
+
+    @ValueClass
+    interface CacheKey {
+        NamedDatabaseId databaseId();
+
+        String username();
+
+        NodeProjections nodeProjections();
+
+        RelationshipProjections relationshipProjections();
+
+        PropertyMappings nodeProperties();
+
+        PropertyMappings relationshipProperties();
+
+        boolean validateRelationships();
+    }
+
+    @ValueClass
+    interface CacheEntry {
+        GraphStore graphStore();
+
+        long lastCommittedTransactionId();
+
+        long sizeInBytes();
+    }
+}
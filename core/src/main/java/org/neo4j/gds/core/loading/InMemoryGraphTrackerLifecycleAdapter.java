@@ -56,6 +56,8 @@ public class InMemoryGraphTrackerLifecycleAdapter extends LifecycleAdapter imple
         var api = (GraphDatabaseAPI) dbms.database(databaseName);
         var namedDatabaseId = api.databaseId();
         GraphStoreCatalog.removeAllLoadedGraphs(namedDatabaseId);
+        ImplicitGraphStoreCache.removeAll(namedDatabaseId);
+        AlgorithmResultCache.removeAll(namedDatabaseId);
     }
 
     @Override
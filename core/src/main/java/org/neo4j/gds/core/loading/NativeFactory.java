@@ -48,6 +48,7 @@ import java.util.Optional;
 
 import static java.util.stream.Collectors.toMap;
 import static org.neo4j.gds.core.GraphDimensionsValidation.validate;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class NativeFactory extends CSRGraphStoreFactory<GraphCreateFromStoreConfig> {
@@ -110,11 +111,22 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphCreateFromSto
                 formatWithLocale("adjacency list for '%s'", relationshipType),
                 AdjacencyFactory.adjacencyListEstimation(relationshipType, undirected)
             );
+            // degree counts of the first scan, held until the second scan is complete
+            if (USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled()) {
+                builder.add(
+                    formatWithLocale("degree counts for '%s'", relationshipType),
+                    PreallocatedAdjacency.memoryEstimation()
+                );
+            }
             // all properties per projection
             relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
                 builder.add(
                     formatWithLocale("property '%s.%s", relationshipType, resolvedPropertyMapping.propertyKey()),
-                    AdjacencyFactory.adjacencyPropertiesEstimation(relationshipType, undirected)
+                    AdjacencyFactory.adjacencyPropertiesEstimation(
+                        relationshipType,
+                        undirected,
+                        resolvedPropertyMapping.storage()
+                    )
                 );
             });
         });
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+
+import static org.neo4j.gds.core.loading.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.gds.core.loading.VarLongEncoding.zigZag;
+
+/**
+ * Capacities of the {@link CompressedLongArray}s of a two-pass relationship import.
+ *
+ * The first pass counts the degree of every source node and an upper bound for the size of its
+ * delta-encoded targets. During the second pass, the compressed list of a node is created with
+ * that capacity, so it does not need to grow and does not carry the unused capacity of growing
+ * by powers of two. Relationships that were created between the two passes, or that are batched
+ * differently during the second pass, can still make a list grow as usual.
+ *
+ * The capacities are only needed until every node has been imported once, so they are released
+ * before the adjacency lists are flushed.
+ */
+final class PreallocatedAdjacency {
+
+    private static final int DEGREE_SHIFT = Integer.SIZE;
+    private static final long BYTES_MASK = (1L << DEGREE_SHIFT) - 1;
+
+    private final long nodeCount;
+    private final AllocationTracker allocationTracker;
+
+    // degree in the upper, encoded target bytes in the lower 32 bits
+    private HugeAtomicLongArray capacities;
+
+    PreallocatedAdjacency(long nodeCount, AllocationTracker allocationTracker) {
+        this.nodeCount = nodeCount;
+        this.allocationTracker = allocationTracker;
+        this.capacities = HugeAtomicLongArray.newArray(nodeCount, allocationTracker);
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(PreallocatedAdjacency.class)
+            .perNode("capacities", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    /**
+     * Counts the targets in {@code [start, end)} of the given source node.
+     *
+     * @param batch source-target pairs, targets are at odd indices
+     */
+    void count(long nodeId, long[] batch, int start, int end) {
+        // the first target is encoded relative to a target of an earlier batch, which can be any node
+        long firstTarget = batch[start + 1];
+        long bytes = encodedVLongSize(zigZag(Math.max(firstTarget, nodeCount - 1 - firstTarget)));
+        for (int i = start + 3; i < end; i += 2) {
+            bytes += encodedVLongSize(zigZag(batch[i] - batch[i - 2]));
+        }
+        long degree = (end - start) >> 1;
+        capacities.getAndAdd(nodeId, (degree << DEGREE_SHIFT) | bytes);
+    }
+
+    /**
+     * Creates the compressed list for the given node with the counted capacity.
+     */
+    CompressedLongArray newArray(long nodeId, int numberOfProperties) {
+        long capacity = capacities.get(nodeId);
+        return new CompressedLongArray(
+            allocationTracker,
+            numberOfProperties,
+            (int) Math.min(capacity >>> DEGREE_SHIFT, Integer.MAX_VALUE),
+            (int) Math.min(capacity & BYTES_MASK, Integer.MAX_VALUE)
+        );
+    }
+
+    void release() {
+        if (capacities != null) {
+            allocationTracker.remove(capacities.release());
+            capacities = null;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.NodeMapping;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+import org.neo4j.gds.core.utils.LazyBatchCollection;
+import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterable;
+import org.neo4j.gds.core.utils.collection.primitive.PrimitiveLongIterator;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryUsage;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * A node mapping for Neo4j identifiers that consist of a few runs of consecutive identifiers.
+ * Each run is stored by its first Neo4j identifier and its first internal identifier,
+ * so the mapping in both directions is a binary search over the runs followed by an offset.
+ * If all identifiers form a single run, the mapping is only an offset.
+ */
+public class RangeIdMap implements NodeMapping {
+
+    private final long nodeCount;
+    private final long highestNeoId;
+    private final AllocationTracker allocationTracker;
+
+    private final LabelInformation labelInformation;
+
+    // runs in the order of internal identifiers
+    private final long[] mappedStarts;
+    private final long[] originalStarts;
+
+    // runs in the order of Neo4j identifiers
+    private final long[] sortedOriginalStarts;
+    private final long[] sortedOriginalEnds;
+    private final long[] sortedMappedStarts;
+
+    private final long singleRunOffset;
+
+    /**
+     * @param mappedStarts the internal identifier at which each run starts, in ascending order starting at 0
+     * @param originalStarts the Neo4j identifier at which each run starts
+     */
+    RangeIdMap(
+        long[] mappedStarts,
+        long[] originalStarts,
+        LabelInformation labelInformation,
+        long nodeCount,
+        long highestNeoId,
+        AllocationTracker allocationTracker
+    ) {
+        this.mappedStarts = mappedStarts;
+        this.originalStarts = originalStarts;
+        this.labelInformation = labelInformation;
+        this.nodeCount = nodeCount;
+        this.highestNeoId = highestNeoId;
+        this.allocationTracker = allocationTracker;
+
+        int runCount = mappedStarts.length;
+        int[] order = IndirectSort.mergesort(0, runCount, new AscendingLongComparator(originalStarts));
+        this.sortedOriginalStarts = new long[runCount];
+        this.sortedOriginalEnds = new long[runCount];
+        this.sortedMappedStarts = new long[runCount];
+        for (int i = 0; i < runCount; i++) {
+            int run = order[i];
+            long runEnd = run + 1 < runCount ? mappedStarts[run + 1] : nodeCount;
+            sortedOriginalStarts[i] = originalStarts[run];
+            sortedOriginalEnds[i] = originalStarts[run] + runEnd - mappedStarts[run];
+            sortedMappedStarts[i] = mappedStarts[run];
+        }
+        this.singleRunOffset = runCount == 1 ? originalStarts[0] : NOT_FOUND;
+
+        allocationTracker.add(5 * MemoryUsage.sizeOfLongArray(runCount));
+    }
+
+    public int runCount() {
+        return mappedStarts.length;
+    }
+
+    @Override
+    public long toMappedNodeId(long nodeId) {
+        if (singleRunOffset != NOT_FOUND) {
+            long mappedId = nodeId - singleRunOffset;
+            return mappedId >= 0 && mappedId < nodeCount ? mappedId : NOT_FOUND;
+        }
+        int run = floorRun(sortedOriginalStarts, nodeId);
+        if (run < 0 || nodeId >= sortedOriginalEnds[run]) {
+            return NOT_FOUND;
+        }
+        return sortedMappedStarts[run] + nodeId - sortedOriginalStarts[run];
+    }
+
+    @Override
+    public long toOriginalNodeId(long nodeId) {
+        if (singleRunOffset != NOT_FOUND) {
+            return nodeId + singleRunOffset;
+        }
+        int run = floorRun(mappedStarts, nodeId);
+        return originalStarts[run] + nodeId - mappedStarts[run];
+    }
+
+    @Override
+    public long toRootNodeId(long nodeId) {
+        return nodeId;
+    }
+
+    @Override
+    public boolean contains(long nodeId) {
+        return toMappedNodeId(nodeId) != NOT_FOUND;
+    }
+
+    @Override
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public long rootNodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public long highestNeoId() {
+        return highestNeoId;
+    }
+
+    @Override
+    public void forEachNode(LongPredicate consumer) {
+        final long count = nodeCount();
+        for (long i = 0L; i < count; i++) {
+            if (!consumer.test(i)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveLongIterator nodeIterator() {
+        return new IdIterator(nodeCount());
+    }
+
+    @Override
+    public Collection<PrimitiveLongIterable> batchIterables(long batchSize) {
+        return LazyBatchCollection.of(
+            nodeCount(),
+            batchSize,
+            IdIterable::new
+        );
+    }
+
+    @Override
+    public Set<NodeLabel> availableNodeLabels() {
+        return labelInformation.availableNodeLabels();
+    }
+
+    @Override
+    public Set<NodeLabel> nodeLabels(long nodeId) {
+        return labelInformation.nodeLabelsForNodeId(nodeId);
+    }
+
+    @Override
+    public void forEachNodeLabel(long nodeId, NodeLabelConsumer consumer) {
+        labelInformation.forEachNodeLabel(nodeId, consumer);
+    }
+
+    @Override
+    public boolean hasLabel(long nodeId, NodeLabel label) {
+        return labelInformation.hasLabel(nodeId, label);
+    }
+
+    @Override
+    public NodeMapping withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+        labelInformation.validateNodeLabelFilter(nodeLabels);
+
+        if (labelInformation.isEmpty()) {
+            return this;
+        }
+
+        // the filtered mapping is between internal identifiers, which are dense
+        return IdMap.filteredIdMap(
+            rootNodeCount(),
+            nodeCount(),
+            nodeCount(),
+            labelInformation,
+            nodeLabels,
+            highestNeoId,
+            concurrency,
+            allocationTracker
+        );
+    }
+
+    /**
+     * @throws DuplicateNodeIdException if two runs share a Neo4j identifier
+     */
+    void checkDuplicateIds() throws DuplicateNodeIdException {
+        for (int i = 1; i < sortedOriginalStarts.length; i++) {
+            if (sortedOriginalStarts[i] < sortedOriginalEnds[i - 1]) {
+                throw new DuplicateNodeIdException(sortedOriginalStarts[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the index of the last run that starts at or before the given identifier, or -1 if there is none
+     */
+    private static int floorRun(long[] sortedStarts, long nodeId) {
+        int index = Arrays.binarySearch(sortedStarts, nodeId);
+        return index >= 0 ? index : -index - 2;
+    }
+}
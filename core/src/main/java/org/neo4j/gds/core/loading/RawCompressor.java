@@ -23,6 +23,7 @@ import com.carrotsearch.hppc.sorting.IndirectSort;
 import org.neo4j.gds.api.AdjacencyList;
 import org.neo4j.gds.api.AdjacencyProperties;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.PropertyStorage;
 import org.neo4j.gds.core.compress.AdjacencyCompressor;
 import org.neo4j.gds.core.compress.AdjacencyCompressorBlueprint;
 import org.neo4j.gds.core.compress.AdjacencyCompressorFactory;
@@ -52,7 +53,10 @@ public final class RawCompressor implements AdjacencyCompressor {
         ) {
             @SuppressWarnings("unchecked")
             CsrListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders = new CsrListBuilder[propertyMappings.numberOfMappings()];
-            Arrays.setAll(propertyBuilders, i -> csrListBuilderFactory.newAdjacencyPropertiesBuilder());
+            var mappings = propertyMappings.mappings();
+            Arrays.setAll(propertyBuilders, i -> mappings.get(i).storage() == PropertyStorage.DOUBLE
+                ? csrListBuilderFactory.newAdjacencyPropertiesBuilder()
+                : new CompactPropertiesListBuilder(mappings.get(i).storage(), allocationTracker));
 
             return new Blueprint(
                 csrListBuilderFactory.newAdjacencyListBuilder(),
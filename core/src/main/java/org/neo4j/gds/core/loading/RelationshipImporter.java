@@ -65,6 +65,37 @@ public class RelationshipImporter {
         }
     }
 
+    /**
+     * Counts the relationships per node for a subsequent import using an {@link AdjacencyBuilder#preallocating} builder.
+     */
+    public Imports degreeCounts(Orientation orientation) {
+        if (orientation == Orientation.UNDIRECTED) {
+            return this::countUndirected;
+        } else if (orientation == Orientation.NATURAL) {
+            return this::countNatural;
+        } else if (orientation == Orientation.REVERSE) {
+            return this::countReverse;
+        } else {
+            throw new IllegalArgumentException(formatWithLocale("Unexpected orientation: %s", orientation));
+        }
+    }
+
+    private long countUndirected(RelationshipsBatchBuffer buffer, PropertyReader propertyReader) {
+        adjacencyBuilder.countDegrees(buffer.sortBySource(), buffer.length());
+        adjacencyBuilder.countDegrees(buffer.sortByTarget(), buffer.length());
+        return RawValues.combineIntInt(buffer.length(), 0);
+    }
+
+    private long countNatural(RelationshipsBatchBuffer buffer, PropertyReader propertyReader) {
+        adjacencyBuilder.countDegrees(buffer.sortBySource(), buffer.length());
+        return RawValues.combineIntInt(buffer.length() >> 1, 0);
+    }
+
+    private long countReverse(RelationshipsBatchBuffer buffer, PropertyReader propertyReader) {
+        adjacencyBuilder.countDegrees(buffer.sortByTarget(), buffer.length());
+        return RawValues.combineIntInt(buffer.length() >> 1, 0);
+    }
+
     private long importUndirected(RelationshipsBatchBuffer buffer, PropertyReader propertyReader) {
         long[] batch = buffer.sortBySource();
         int importedOut = importRelationships(buffer, batch, null, adjacencyBuilder, allocationTracker);
@@ -173,6 +204,14 @@ public class RelationshipImporter {
         return adjacencyBuilder.flushTasks();
     }
 
+    public Collection<Runnable> degreeCountingFlushTasks() {
+        return adjacencyBuilder.degreeCountingFlushTasks();
+    }
+
+    boolean requiresDegreeCounting() {
+        return adjacencyBuilder.requiresDegreeCounting();
+    }
+
     PropertyReader storeBackedPropertiesReader(KernelTransaction kernelTransaction) {
         return (relationshipReferences, propertyReferences, numberOfReferences, relationshipProperties, defaultPropertyValues, aggregations, atLeastOnePropertyToLoad) -> {
             long[][] properties = new long[relationshipProperties.length][numberOfReferences];
@@ -47,6 +47,34 @@ public final class RelationshipsScanner extends StatementAction implements Recor
             .map(relImporter -> relImporter.loadImporter(relImporter.loadProperties()))
             .filter(Objects::nonNull)
             .collect(Collectors.toList());
+        return create(loadingContext, progressTracker, idMap, scanner, builders);
+    }
+
+    /**
+     * Creates scanners for the first pass of a two-pass import, which only counts
+     * the relationships per node for the builders that require it.
+     */
+    public static InternalImporter.CreateScanner degreeCounting(
+        GraphLoaderContext loadingContext,
+        IdMapping idMap,
+        StoreScanner<RelationshipReference> scanner,
+        Collection<SingleTypeRelationshipImporter.Builder> importerBuilders
+    ) {
+        List<SingleTypeRelationshipImporter.Builder.WithImporter> builders = importerBuilders
+            .stream()
+            .filter(SingleTypeRelationshipImporter.Builder::requiresDegreeCounting)
+            .map(SingleTypeRelationshipImporter.Builder::loadDegreeCounter)
+            .collect(Collectors.toList());
+        return create(loadingContext, ProgressTracker.NULL_TRACKER, idMap, scanner, builders);
+    }
+
+    private static InternalImporter.CreateScanner create(
+        GraphLoaderContext loadingContext,
+        ProgressTracker progressTracker,
+        IdMapping idMap,
+        StoreScanner<RelationshipReference> scanner,
+        List<SingleTypeRelationshipImporter.Builder.WithImporter> builders
+    ) {
         if (builders.isEmpty()) {
             return InternalImporter.createEmptyScanner();
         }
@@ -78,6 +78,9 @@ public abstract class ScanningRecordsImporter<Record, T> {
                 .debug("%s Store Scan: Start using %s", label, scanner.getClass().getSimpleName());
 
             InternalImporter.CreateScanner creator = creator(nodeCount, sizing, scanner);
+            if (requiresPreparationScan()) {
+                runPreparationScan(numberOfThreads);
+            }
             InternalImporter importer = new InternalImporter(numberOfThreads, creator);
             ImportResult importResult = importer.runImport(threadPool);
 
@@ -116,6 +119,32 @@ public abstract class ScanningRecordsImporter<Record, T> {
         return build();
     }
 
+    private void runPreparationScan(int numberOfThreads) {
+        try (StoreScanner<Record> scanner = factory.newScanner(StoreScanner.DEFAULT_PREFETCH_SIZE, transaction)) {
+            progressTracker
+                .progressLogger()
+                .getLog()
+                .debug("%s Store Scan: Preparation scan using %s", label, scanner.getClass().getSimpleName());
+
+            new InternalImporter(numberOfThreads, preparation(scanner)).runImport(threadPool);
+        }
+    }
+
+    /**
+     * Whether the importer created by {@link #creator(long, ImportSizing, StoreScanner)} requires an additional
+     * scan over the store before the actual import, see {@link #preparation(StoreScanner)}.
+     */
+    protected boolean requiresPreparationScan() {
+        return false;
+    }
+
+    /**
+     * Scanners for the preparation scan, called after {@link #creator(long, ImportSizing, StoreScanner)}.
+     */
+    protected InternalImporter.CreateScanner preparation(StoreScanner<Record> scanner) {
+        throw new UnsupportedOperationException(formatWithLocale("%s importer does not require a preparation scan", label));
+    }
+
     public abstract InternalImporter.CreateScanner creator(
         long nodeCount,
         ImportSizing sizing,
@@ -37,6 +37,7 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PRE_AGGREGATION;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT;
 
 
 public final class ScanningRelationshipsImporter extends ScanningRecordsImporter<RelationshipReference, ObjectLongMap<RelationshipType>> {
@@ -48,6 +49,8 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
     private final Map<RelationshipType, AdjacencyListWithPropertiesBuilder> allBuilders;
     private final Map<RelationshipType, LongAdder> allRelationshipCounters;
 
+    private List<SingleTypeRelationshipImporter.Builder> importerBuilders;
+
     public ScanningRelationshipsImporter(
         GraphCreateConfig graphCreateConfig,
         GraphLoaderContext loadingContext,
@@ -82,7 +85,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
         int pageSize = sizing.pageSize();
         int numberOfPages = sizing.numberOfPages();
 
-        List<SingleTypeRelationshipImporter.Builder> importerBuilders = allBuilders
+        this.importerBuilders = allBuilders
                 .entrySet()
                 .stream()
                 .map(entry -> {
@@ -111,6 +114,16 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
         );
     }
 
+    @Override
+    protected boolean requiresPreparationScan() {
+        return USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled();
+    }
+
+    @Override
+    protected InternalImporter.CreateScanner preparation(StoreScanner<RelationshipReference> scanner) {
+        return RelationshipsScanner.degreeCounting(loadingContext, idMap, scanner, importerBuilders);
+    }
+
     private SingleTypeRelationshipImporter.Builder createImporterBuilder(
             int pageSize,
             int numberOfPages,
@@ -119,14 +132,24 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
             @NotNull AdjacencyListWithPropertiesBuilder adjacencyListWithPropertiesBuilder
     ) {
         LongAdder relationshipCounter = new LongAdder();
-        AdjacencyBuilder adjacencyBuilder = AdjacencyBuilder.compressing(
-            adjacencyListWithPropertiesBuilder,
-            numberOfPages,
-            pageSize,
-            allocationTracker,
-            relationshipCounter,
-            USE_PRE_AGGREGATION.isEnabled()
-        );
+        AdjacencyBuilder adjacencyBuilder = USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled()
+            ? AdjacencyBuilder.preallocating(
+                adjacencyListWithPropertiesBuilder,
+                idMap.nodeCount(),
+                numberOfPages,
+                pageSize,
+                allocationTracker,
+                relationshipCounter,
+                USE_PRE_AGGREGATION.isEnabled()
+            )
+            : AdjacencyBuilder.compressing(
+                adjacencyListWithPropertiesBuilder,
+                numberOfPages,
+                pageSize,
+                allocationTracker,
+                relationshipCounter,
+                USE_PRE_AGGREGATION.isEnabled()
+            );
 
         RelationshipImporter importer = new RelationshipImporter(loadingContext.allocationTracker(), adjacencyBuilder);
         int typeId = dimensions.relationshipTypeTokenMapping().get(relationshipType);
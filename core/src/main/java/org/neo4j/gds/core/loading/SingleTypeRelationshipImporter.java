@@ -24,7 +24,9 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.IdMapping;
 import org.neo4j.kernel.api.KernelTransaction;
 
+import java.util.Collection;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public final class SingleTypeRelationshipImporter {
@@ -90,20 +92,34 @@ public final class SingleTypeRelationshipImporter {
             return this.loadProperties;
         }
 
+        boolean requiresDegreeCounting() {
+            return importer.requiresDegreeCounting();
+        }
+
         public WithImporter loadImporter(boolean loadProperties) {
             RelationshipImporter.Imports imports = importer.imports(projection.orientation(), loadProperties);
-            return new WithImporter(imports);
+            return new WithImporter(imports, importer::flushTasks);
+        }
+
+        /**
+         * Creates an importer that only counts the relationships per node, see {@link AdjacencyBuilder#preallocating}.
+         */
+        public WithImporter loadDegreeCounter() {
+            RelationshipImporter.Imports imports = importer.degreeCounts(projection.orientation());
+            return new WithImporter(imports, importer::degreeCountingFlushTasks);
         }
 
         public class WithImporter {
             private final RelationshipImporter.Imports imports;
+            private final Supplier<Collection<Runnable>> flushTasks;
 
-            WithImporter(RelationshipImporter.Imports imports) {
+            WithImporter(RelationshipImporter.Imports imports, Supplier<Collection<Runnable>> flushTasks) {
                 this.imports = imports;
+                this.flushTasks = flushTasks;
             }
 
             public Stream<Runnable> flushTasks() {
-                return importer.flushTasks().stream();
+                return flushTasks.get().stream();
             }
 
             public SingleTypeRelationshipImporter withBuffer(
@@ -19,10 +19,13 @@
  */
 package org.neo4j.gds.core.loading;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.core.huge.TransientCompressedList;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SpilledPages;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
 
@@ -31,10 +34,17 @@ import static org.neo4j.gds.core.utils.mem.MemoryUsage.sizeOfByteArray;
 public final class TransientCompressedListBuilder implements CsrListBuilder<byte[], TransientCompressedList> {
 
     private final BumpAllocator<byte[]> builder;
+    private final @Nullable SpilledPages.Appender spilledPages;
     private final AllocationTracker allocationTracker;
 
     TransientCompressedListBuilder(AllocationTracker allocationTracker) {
-        this.builder = new BumpAllocator<>(allocationTracker, Factory.INSTANCE);
+        // with spilling to disk, pages are written as soon as they are filled, so that they never pile up on the heap
+        this.spilledPages = GdsFeatureToggles.USE_SPILL_TO_DISK.isEnabled() ? SpilledPages.appender() : null;
+        this.builder = new BumpAllocator<>(
+            allocationTracker,
+            Factory.INSTANCE,
+            spilledPages == null ? null : spilledPages::append
+        );
         this.allocationTracker = allocationTracker;
     }
 
@@ -46,6 +56,19 @@ public final class TransientCompressedListBuilder implements CsrListBuilder<byte
     @Override
     public TransientCompressedList build(HugeIntArray degrees, HugeLongArray offsets) {
         var intoPages = builder.intoPages();
+        if (spilledPages != null) {
+            // pages of allocators that have not been closed are still on the heap,
+            // spilled pages keep the order in which they were filled and are not reordered
+            for (int pageIndex = 0; pageIndex < intoPages.length; pageIndex++) {
+                var page = intoPages[pageIndex];
+                if (page != null) {
+                    spilledPages.append(page, pageIndex);
+                    intoPages[pageIndex] = null;
+                    allocationTracker.remove(sizeOfByteArray(page.length));
+                }
+            }
+            return new TransientCompressedList(spilledPages.build(intoPages.length), degrees, offsets);
+        }
         reorder(intoPages, offsets, degrees);
         return new TransientCompressedList(intoPages, degrees, offsets);
     }
@@ -54,7 +77,7 @@ public final class TransientCompressedListBuilder implements CsrListBuilder<byte
     public void flush() {
     }
 
-    private enum Factory implements BumpAllocator.Factory<byte[]> {
+    enum Factory implements BumpAllocator.Factory<byte[]> {
         INSTANCE;
 
         @Override
@@ -93,6 +116,7 @@ public final class TransientCompressedListBuilder implements CsrListBuilder<byte
 
         @Override
         public void close() {
+            allocator.close();
         }
 
         @Override
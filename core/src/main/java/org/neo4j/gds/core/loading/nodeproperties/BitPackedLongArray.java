@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryUsage;
+import org.neo4j.gds.core.utils.paged.PageUtil;
+
+/**
+ * Fixed-size array of non-negative values that are stored with the minimal number of bits per value.
+ * Values are written once during construction and read concurrently afterwards.
+ */
+final class BitPackedLongArray {
+
+    private static final int PAGE_SHIFT = 14;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final long PAGE_MASK = PAGE_SIZE - 1;
+
+    private final int bitsPerValue;
+    private final long valueMask;
+    private final long[][] pages;
+
+    static int bitsRequired(long maxValue) {
+        return Long.SIZE - Long.numberOfLeadingZeros(maxValue);
+    }
+
+    BitPackedLongArray(long size, int bitsPerValue, AllocationTracker allocationTracker) {
+        assert bitsPerValue >= 0 && bitsPerValue < Long.SIZE;
+        this.bitsPerValue = bitsPerValue;
+        this.valueMask = (1L << bitsPerValue) - 1;
+
+        int numPages = bitsPerValue == 0 ? 0 : PageUtil.numPagesFor(size, PAGE_SHIFT, PAGE_MASK);
+        // the page size is a multiple of 64, hence every page ends on a word boundary
+        int wordsPerPage = (PAGE_SIZE / Long.SIZE) * bitsPerValue;
+        this.pages = new long[numPages][];
+        for (int i = 0; i < numPages; i++) {
+            pages[i] = new long[wordsPerPage];
+        }
+        allocationTracker.add(
+            MemoryUsage.sizeOfObjectArray(numPages) + numPages * MemoryUsage.sizeOfLongArray(wordsPerPage)
+        );
+    }
+
+    long get(long index) {
+        if (bitsPerValue == 0) {
+            return 0L;
+        }
+        long[] page = pages[PageUtil.pageIndex(index, PAGE_SHIFT)];
+        long bitIndex = (index & PAGE_MASK) * bitsPerValue;
+        int word = (int) (bitIndex >>> 6);
+        int shift = (int) (bitIndex & 63);
+        long value = page[word] >>> shift;
+        if (shift + bitsPerValue > Long.SIZE) {
+            value |= page[word + 1] << (Long.SIZE - shift);
+        }
+        return value & valueMask;
+    }
+
+    /**
+     * Not thread-safe, neighbouring values may share a word.
+     */
+    void set(long index, long value) {
+        assert value >= 0 && value <= valueMask;
+        if (bitsPerValue == 0) {
+            return;
+        }
+        long[] page = pages[PageUtil.pageIndex(index, PAGE_SHIFT)];
+        long bitIndex = (index & PAGE_MASK) * bitsPerValue;
+        int word = (int) (bitIndex >>> 6);
+        int shift = (int) (bitIndex & 63);
+        page[word] = (page[word] & ~(valueMask << shift)) | (value << shift);
+        if (shift + bitsPerValue > Long.SIZE) {
+            int remainingShift = Long.SIZE - shift;
+            page[word + 1] = (page[word + 1] & ~(valueMask >>> remainingShift)) | (value >>> remainingShift);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import com.carrotsearch.hppc.LongHashSet;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.nodeproperties.LongNodeProperties;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryUsage;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Long node properties that are stored with fewer than 64 bits per node.
+ *
+ * Values are either stored as bit-packed offsets from the smallest value (frame of reference)
+ * or as bit-packed indices into a sorted dictionary of all distinct values, whichever needs fewer bits.
+ */
+final class EncodedLongNodeProperties {
+
+    /**
+     * Above this width, the encoding saves too little to be worth it compared to the sparse representation.
+     */
+    static final int MAX_BITS_PER_VALUE = 32;
+
+    static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+    private EncodedLongNodeProperties() {}
+
+    /**
+     * @return encoded properties for the given values or {@code null} if the values do not fit into {@link #MAX_BITS_PER_VALUE}
+     */
+    static @Nullable LongNodeProperties encode(
+        LongUnaryOperator values,
+        long size,
+        OptionalLong maxValue,
+        AllocationTracker allocationTracker
+    ) {
+        if (size == 0) {
+            return null;
+        }
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        LongHashSet distinctValues = new LongHashSet();
+        for (long nodeId = 0; nodeId < size; nodeId++) {
+            long value = values.applyAsLong(nodeId);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            if (distinctValues != null && distinctValues.add(value) && distinctValues.size() > MAX_DICTIONARY_SIZE) {
+                distinctValues = null;
+            }
+        }
+
+        long range = max - min;
+        // the range overflows for values spanning more than half of the long domain
+        int frameOfReferenceBits = range < 0 ? Long.SIZE : BitPackedLongArray.bitsRequired(range);
+        int dictionaryBits = distinctValues == null
+            ? Long.SIZE
+            : BitPackedLongArray.bitsRequired(distinctValues.size() - 1);
+
+        if (Math.min(frameOfReferenceBits, dictionaryBits) > MAX_BITS_PER_VALUE) {
+            return null;
+        }
+
+        var packedValues = new BitPackedLongArray(
+            size,
+            Math.min(frameOfReferenceBits, dictionaryBits),
+            allocationTracker
+        );
+        if (frameOfReferenceBits <= dictionaryBits) {
+            for (long nodeId = 0; nodeId < size; nodeId++) {
+                packedValues.set(nodeId, values.applyAsLong(nodeId) - min);
+            }
+            return new FrameOfReferenceNodeProperties(packedValues, min, size, maxValue);
+        }
+
+        long[] dictionary = distinctValues.toArray();
+        Arrays.sort(dictionary);
+        allocationTracker.add(MemoryUsage.sizeOfLongArray(dictionary.length));
+        for (long nodeId = 0; nodeId < size; nodeId++) {
+            packedValues.set(nodeId, Arrays.binarySearch(dictionary, values.applyAsLong(nodeId)));
+        }
+        return new DictionaryNodeProperties(packedValues, dictionary, size, maxValue);
+    }
+
+    static final class FrameOfReferenceNodeProperties implements LongNodeProperties {
+        private final BitPackedLongArray packedValues;
+        private final long base;
+        private final long size;
+        private final OptionalLong maxValue;
+
+        FrameOfReferenceNodeProperties(BitPackedLongArray packedValues, long base, long size, OptionalLong maxValue) {
+            this.packedValues = packedValues;
+            this.base = base;
+            this.size = size;
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return base + packedValues.get(nodeId);
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+    }
+
+    static final class DictionaryNodeProperties implements LongNodeProperties {
+        private final BitPackedLongArray packedValues;
+        private final long[] dictionary;
+        private final long size;
+        private final OptionalLong maxValue;
+
+        DictionaryNodeProperties(BitPackedLongArray packedValues, long[] dictionary, long size, OptionalLong maxValue) {
+            this.packedValues = packedValues;
+            this.dictionary = dictionary;
+            this.size = size;
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return dictionary[(int) packedValues.get(nodeId)];
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+    }
+}
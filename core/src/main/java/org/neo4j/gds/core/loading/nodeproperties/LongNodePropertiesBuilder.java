@@ -53,10 +53,12 @@ public class LongNodePropertiesBuilder extends InnerNodePropertiesBuilder {
     }
 
     private final HugeSparseLongArray.Builder valuesBuilder;
+    private final AllocationTracker allocationTracker;
 
     public LongNodePropertiesBuilder(long nodeCount, DefaultValue defaultValue, AllocationTracker allocationTracker) {
         this.maxValue = Long.MIN_VALUE;
         this.valuesBuilder = HugeSparseLongArray.builder(nodeCount, defaultValue.longValue(), allocationTracker);
+        this.allocationTracker = allocationTracker;
     }
 
     public void set(long nodeId, long value) {
@@ -84,6 +86,17 @@ public class LongNodePropertiesBuilder extends InnerNodePropertiesBuilder {
             ? OptionalLong.of((long) MAX_VALUE.getVolatile(LongNodePropertiesBuilder.this))
             : OptionalLong.empty();
 
+        // small value ranges and few distinct values, e.g. community ids or flags, are stored bit-packed
+        var encodedProperties = EncodedLongNodeProperties.encode(
+            propertyValues::get,
+            size,
+            maybeMaxValue,
+            allocationTracker
+        );
+        if (encodedProperties != null) {
+            allocationTracker.remove(propertyValues.release());
+            return encodedProperties;
+        }
         return new LongStoreNodeProperties(propertyValues, size, maybeMaxValue);
     }
 
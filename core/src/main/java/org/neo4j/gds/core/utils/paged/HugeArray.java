@@ -123,6 +123,26 @@ public abstract class HugeArray<Array, Box, Self extends HugeArray<Array, Box, S
         return sourceIndex;
     }
 
+    /**
+     * Copies data from this array, starting from {@code sliceStart} up until {@code sliceEnd}, into {@code target}.
+     * @return the number of entries copied
+     */
+    public final int copySliceIntoArray(long sliceStart, long sliceEnd, Array target) {
+        int targetIndex = 0;
+        try (HugeCursor<Array> cursor = initCursor(newCursor(), sliceStart, sliceEnd)) {
+            int targetLength = java.lang.reflect.Array.getLength(target);
+            while (cursor.next() && targetIndex < targetLength) {
+                int copyLength = Math.min(
+                        cursor.limit - cursor.offset, // number of slots available in the cursor buffer
+                        targetLength - targetIndex // number of slots left in the target
+                );
+                System.arraycopy(cursor.array, cursor.offset, target, targetIndex, copyLength);
+                targetIndex += copyLength;
+            }
+        }
+        return targetIndex;
+    }
+
     @Override
     public String toString() {
         if (size() == 0L) {
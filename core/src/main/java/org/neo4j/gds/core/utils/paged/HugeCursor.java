@@ -186,4 +186,80 @@ public abstract class HugeCursor<Array> implements AutoCloseable {
             pageIndex = -1;
         }
     }
+
+    /**
+     * Loads the pages of {@link SpilledPages} one at a time.
+     * The current page is pinned, so that writes to the array are persisted, until the cursor moves on or is closed.
+     */
+    static final class SpilledCursor<Array> extends HugeCursor<Array> {
+
+        private SpilledPages<Array> pages;
+        private SpilledPages.Frame<Array> frame;
+        private int pageIndex;
+        private int fromPage;
+        private int maxPage;
+        private long capacity;
+        private long end;
+
+        SpilledCursor(final long capacity, final SpilledPages<Array> pages) {
+            super();
+            this.capacity = capacity;
+            this.pages = pages;
+        }
+
+        @Override
+        void setRange() {
+            setRange(0L, capacity);
+        }
+
+        @Override
+        void setRange(long start, long end) {
+            fromPage = pageIndex(start);
+            maxPage = pageIndex(end - 1L);
+            pageIndex = fromPage - 1;
+            this.end = end;
+            base = (long) fromPage << PAGE_SHIFT;
+            offset = indexInPage(start);
+            limit = fromPage == maxPage ? exclusiveIndexOfPage(end) : PAGE_SIZE;
+        }
+
+        @Override
+        public final boolean next() {
+            unpin();
+            int current = ++pageIndex;
+            if (current > maxPage) {
+                return false;
+            }
+            frame = pages.pin(current);
+            array = frame.page;
+            if (current == fromPage) {
+                return true;
+            }
+            base += PAGE_SIZE;
+            offset = 0;
+            limit = current == maxPage ? exclusiveIndexOfPage(end) : pages.pageLength(current);
+            return true;
+        }
+
+        @Override
+        public void close() {
+            unpin();
+            array = null;
+            pages = null;
+            base = 0L;
+            end = 0L;
+            limit = 0;
+            capacity = 0L;
+            maxPage = -1;
+            fromPage = -1;
+            pageIndex = -1;
+        }
+
+        private void unpin() {
+            if (frame != null) {
+                frame.unpin();
+                frame = null;
+            }
+        }
+    }
 }
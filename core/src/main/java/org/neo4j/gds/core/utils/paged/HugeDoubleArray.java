@@ -22,11 +22,13 @@ package org.neo4j.gds.core.utils.paged;
 import org.neo4j.gds.api.nodeproperties.DoubleNodeProperties;
 import org.neo4j.gds.core.utils.ArrayUtil;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 import static org.neo4j.gds.core.utils.mem.MemoryUsage.sizeOfDoubleArray;
 import static org.neo4j.gds.core.utils.mem.MemoryUsage.sizeOfInstance;
@@ -201,6 +203,9 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
      * The tracker is no longer referenced, as the arrays do not dynamically change their size.
      */
     public static HugeDoubleArray newArray(long size, AllocationTracker allocationTracker) {
+        if (size > PAGE_SIZE && GdsFeatureToggles.USE_SPILL_TO_DISK.isEnabled()) {
+            return SpilledHugeDoubleArray.of(size, allocationTracker);
+        }
         if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             return SingleHugeDoubleArray.of(size, allocationTracker);
         }
@@ -239,6 +244,21 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return SingleHugeDoubleArray.of(size, allocationTracker);
     }
 
+    /* test-only */
+    static HugeDoubleArray newSpilledArray(long size, AllocationTracker allocationTracker) {
+        return SpilledHugeDoubleArray.of(size, allocationTracker);
+    }
+
+    // copies value by value for arrays that do not share the same layout
+    private static void copyValues(HugeDoubleArray source, HugeDoubleArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0D);
+        }
+    }
+
     private static final class SingleHugeDoubleArray extends HugeDoubleArray {
 
         private static HugeDoubleArray of(long size, AllocationTracker allocationTracker) {
@@ -315,6 +335,8 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                copyValues(this, dest, length);
             }
         }
 
@@ -467,6 +489,8 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0D);
                 }
+            } else {
+                copyValues(this, dest, length);
             }
         }
 
@@ -499,4 +523,116 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             return Arrays.stream(pages).flatMapToDouble(Arrays::stream);
         }
     }
+    private static final class SpilledHugeDoubleArray extends HugeDoubleArray {
+
+        private static HugeDoubleArray of(long size, AllocationTracker allocationTracker) {
+            var pages = SpilledPages.of(SpilledPages.DOUBLES, size);
+            allocationTracker.add(pages.sizeOf());
+            return new SpilledHugeDoubleArray(size, pages);
+        }
+
+        private final long size;
+        private final long memoryUsed;
+        private SpilledPages<double[]> pages;
+
+        private SpilledHugeDoubleArray(long size, SpilledPages<double[]> pages) {
+            this.size = size;
+            this.memoryUsed = pages.sizeOf();
+            this.pages = pages;
+        }
+
+        @Override
+        public double get(long index) {
+            assert index < size;
+            return pages.page(pageIndex(index))[indexInPage(index)];
+        }
+
+        @Override
+        public void set(long index, double value) {
+            assert index < size;
+            var frame = pages.pin(pageIndex(index));
+            try {
+                frame.page[indexInPage(index)] = value;
+            } finally {
+                frame.unpin();
+            }
+        }
+
+        @Override
+        public void addTo(long index, double value) {
+            assert index < size;
+            var frame = pages.pin(pageIndex(index));
+            try {
+                frame.page[indexInPage(index)] += value;
+            } finally {
+                frame.unpin();
+            }
+        }
+
+        @Override
+        public void setAll(LongToDoubleFunction gen) {
+            for (int i = 0; i < pages.pages(); i++) {
+                final long t = ((long) i) << PAGE_SHIFT;
+                var frame = pages.pin(i);
+                try {
+                    Arrays.setAll(frame.page, j -> gen.applyAsDouble(t + j));
+                } finally {
+                    frame.unpin();
+                }
+            }
+        }
+
+        @Override
+        public void fill(double value) {
+            for (int i = 0; i < pages.pages(); i++) {
+                var frame = pages.pin(i);
+                try {
+                    Arrays.fill(frame.page, value);
+                } finally {
+                    frame.unpin();
+                }
+            }
+        }
+
+        @Override
+        public void copyTo(HugeDoubleArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            copyValues(this, dest, length);
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public long release() {
+            if (pages != null) {
+                pages.release();
+                pages = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<double[]> newCursor() {
+            return new HugeCursor.SpilledCursor<>(size, pages);
+        }
+
+        @Override
+        public DoubleStream stream() {
+            return IntStream.range(0, pages.pages()).mapToObj(pages::page).flatMapToDouble(Arrays::stream);
+        }
+    }
 }
@@ -23,6 +23,7 @@ import org.neo4j.gds.api.nodeproperties.LongNodeProperties;
 import org.neo4j.gds.core.utils.ArrayUtil;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 import org.neo4j.gds.core.utils.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
 import java.util.function.LongFunction;
@@ -217,6 +218,9 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
      * The tracker is no longer referenced, as the arrays do not dynamically change their size.
      */
     public static HugeLongArray newArray(long size, AllocationTracker allocationTracker) {
+        if (size > HugeArrays.PAGE_SIZE && GdsFeatureToggles.USE_SPILL_TO_DISK.isEnabled()) {
+            return SpilledHugeLongArray.of(size, allocationTracker);
+        }
         if (size <= ArrayUtil.MAX_ARRAY_LENGTH) {
             return SingleHugeLongArray.of(size, allocationTracker);
         }
@@ -255,6 +259,21 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return SingleHugeLongArray.of(size, allocationTracker);
     }
 
+    /* test-only */
+    static HugeLongArray newSpilledArray(long size, AllocationTracker allocationTracker) {
+        return SpilledHugeLongArray.of(size, allocationTracker);
+    }
+
+    // copies value by value for arrays that do not share the same layout
+    private static void copyValues(HugeLongArray source, HugeLongArray dest, long length) {
+        for (long i = 0; i < length; i++) {
+            dest.set(i, source.get(i));
+        }
+        for (long i = length; i < dest.size(); i++) {
+            dest.set(i, 0L);
+        }
+    }
+
     private static final class SingleHugeLongArray extends HugeLongArray {
 
         private static HugeLongArray of(long size, AllocationTracker allocationTracker) {
@@ -343,6 +362,8 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                         remaining -= toCopy;
                     }
                 }
+            } else {
+                copyValues(this, dest, length);
             }
         }
 
@@ -516,6 +537,8 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
                 for (int i = pageLen; i < dst.pages.length; i++) {
                     Arrays.fill(dst.pages[i], 0L);
                 }
+            } else {
+                copyValues(this, dest, length);
             }
         }
 
@@ -563,4 +586,153 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             return pages.length;
         }
     }
+    private static final class SpilledHugeLongArray extends HugeLongArray {
+
+        private static HugeLongArray of(long size, AllocationTracker allocationTracker) {
+            var pages = SpilledPages.of(SpilledPages.LONGS, size);
+            allocationTracker.add(pages.sizeOf());
+            return new SpilledHugeLongArray(size, pages);
+        }
+
+        private final long size;
+        private final long memoryUsed;
+        private SpilledPages<long[]> pages;
+
+        private SpilledHugeLongArray(long size, SpilledPages<long[]> pages) {
+            this.size = size;
+            this.memoryUsed = pages.sizeOf();
+            this.pages = pages;
+        }
+
+        @Override
+        public long get(long index) {
+            assert index < size;
+            return pages.page(HugeArrays.pageIndex(index))[HugeArrays.indexInPage(index)];
+        }
+
+        @Override
+        public void set(long index, long value) {
+            assert index < size;
+            var frame = pages.pin(HugeArrays.pageIndex(index));
+            try {
+                frame.page[HugeArrays.indexInPage(index)] = value;
+            } finally {
+                frame.unpin();
+            }
+        }
+
+        @Override
+        public void or(long index, final long value) {
+            assert index < size;
+            var frame = pages.pin(HugeArrays.pageIndex(index));
+            try {
+                frame.page[HugeArrays.indexInPage(index)] |= value;
+            } finally {
+                frame.unpin();
+            }
+        }
+
+        @Override
+        public long and(long index, final long value) {
+            assert index < size;
+            var frame = pages.pin(HugeArrays.pageIndex(index));
+            try {
+                return frame.page[HugeArrays.indexInPage(index)] &= value;
+            } finally {
+                frame.unpin();
+            }
+        }
+
+        @Override
+        public void addTo(long index, long value) {
+            assert index < size;
+            var frame = pages.pin(HugeArrays.pageIndex(index));
+            try {
+                frame.page[HugeArrays.indexInPage(index)] += value;
+            } finally {
+                frame.unpin();
+            }
+        }
+
+        @Override
+        public void setAll(LongUnaryOperator gen) {
+            for (int i = 0; i < pages.pages(); i++) {
+                final long t = ((long) i) << HugeArrays.PAGE_SHIFT;
+                var frame = pages.pin(i);
+                try {
+                    Arrays.setAll(frame.page, j -> gen.applyAsLong(t + j));
+                } finally {
+                    frame.unpin();
+                }
+            }
+        }
+
+        @Override
+        public void fill(long value) {
+            for (int i = 0; i < pages.pages(); i++) {
+                var frame = pages.pin(i);
+                try {
+                    Arrays.fill(frame.page, value);
+                } finally {
+                    frame.unpin();
+                }
+            }
+        }
+
+        @Override
+        public void copyTo(HugeLongArray dest, long length) {
+            if (length > size) {
+                length = size;
+            }
+            if (length > dest.size()) {
+                length = dest.size();
+            }
+            copyValues(this, dest, length);
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public long sizeOf() {
+            return memoryUsed;
+        }
+
+        @Override
+        public long binarySearch(long searchValue) {
+            int value;
+
+            for (int pageIndex = pages.pages() - 1; pageIndex >= 0; pageIndex--) {
+                long[] page = pages.page(pageIndex);
+
+                value = ArrayUtil.binaryLookup(searchValue, page);
+                if (value != -1) {
+                    return HugeArrays.indexFromPageIndexAndIndexInPage(pageIndex, value);
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public long release() {
+            if (pages != null) {
+                pages.release();
+                pages = null;
+                return memoryUsed;
+            }
+            return 0L;
+        }
+
+        @Override
+        public HugeCursor<long[]> newCursor() {
+            return new HugeCursor.SpilledCursor<>(size, pages);
+        }
+
+        @Override
+        public int pages() {
+            return pages.pages();
+        }
+    }
 }
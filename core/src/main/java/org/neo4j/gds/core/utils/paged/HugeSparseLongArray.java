@@ -43,7 +43,7 @@ public final class HugeSparseLongArray {
     private static final long PAGE_SIZE_IN_BYTES = MemoryUsage.sizeOfLongArray(PAGE_SIZE);
 
     private final long capacity;
-    private final long[][] pages;
+    private long[][] pages;
     private final long defaultValue;
 
     private HugeSparseLongArray(long capacity, long[][] pages, long defaultValue) {
@@ -111,6 +111,25 @@ public final class HugeSparseLongArray {
         return false;
     }
 
+    /**
+     * Releases the pages of this array.
+     *
+     * @return the number of bytes that were tracked for this array by its builder
+     */
+    public long release() {
+        if (pages == null) {
+            return 0L;
+        }
+        long freed = MemoryUsage.sizeOfObjectArray(pages.length);
+        for (long[] page : pages) {
+            if (page != null) {
+                freed += PAGE_SIZE_IN_BYTES;
+            }
+        }
+        pages = null;
+        return freed;
+    }
+
     private static int pageIndex(long index) {
         return (int) (index >>> PAGE_SHIFT);
     }
@@ -0,0 +1,496 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.gds.core.utils.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Pages of primitive values that are stored in a local file instead of the heap.
+ * <p>
+ * Only a bounded number of pages is resident at any time, which is managed by the {@link SpillingPageCache}.
+ * A page that is not resident is loaded on first access and may be evicted whenever no writer holds on to it.
+ * <p>
+ * Pages returned by {@link #page(int)} are read-only views: they stay valid after eviction,
+ * but writes to them are not persisted. Writers, including cursors, need to {@link #pin(int) pin} the page instead.
+ * Pages that have never been written to contain only zeros.
+ */
+public final class SpilledPages<PAGE> {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    static final PageFormat<long[]> LONGS = new PageFormat<>() {
+        @Override
+        public int bytesPerElement() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public long[] newPage(int length) {
+            return new long[length];
+        }
+
+        @Override
+        public int length(long[] page) {
+            return page.length;
+        }
+
+        @Override
+        public void read(ByteBuffer from, long[] into) {
+            from.asLongBuffer().get(into);
+        }
+
+        @Override
+        public void write(long[] from, ByteBuffer into) {
+            into.asLongBuffer().put(from);
+        }
+    };
+
+    static final PageFormat<double[]> DOUBLES = new PageFormat<>() {
+        @Override
+        public int bytesPerElement() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public double[] newPage(int length) {
+            return new double[length];
+        }
+
+        @Override
+        public int length(double[] page) {
+            return page.length;
+        }
+
+        @Override
+        public void read(ByteBuffer from, double[] into) {
+            from.asDoubleBuffer().get(into);
+        }
+
+        @Override
+        public void write(double[] from, ByteBuffer into) {
+            into.asDoubleBuffer().put(from);
+        }
+    };
+
+    static final PageFormat<byte[]> BYTES = new PageFormat<>() {
+        @Override
+        public int bytesPerElement() {
+            return Byte.BYTES;
+        }
+
+        @Override
+        public byte[] newPage(int length) {
+            return new byte[length];
+        }
+
+        @Override
+        public int length(byte[] page) {
+            return page.length;
+        }
+
+        @Override
+        public void read(ByteBuffer from, byte[] into) {
+            from.get(into);
+        }
+
+        @Override
+        public void write(byte[] from, ByteBuffer into) {
+            into.put(from);
+        }
+    };
+
+    /**
+     * Creates empty pages that are addressed like the pages of the Huge arrays, see {@link HugeArrays}.
+     */
+    static <PAGE> SpilledPages<PAGE> of(PageFormat<PAGE> format, long size) {
+        int numPages = HugeArrays.numberOfPages(size);
+        int[] pageLengths = new int[numPages];
+        for (int i = 0; i < numPages - 1; i++) {
+            pageLengths[i] = HugeArrays.PAGE_SIZE;
+        }
+        if (numPages > 0) {
+            pageLengths[numPages - 1] = HugeArrays.exclusiveIndexOfPage(size);
+        }
+        return new SpilledPages<>(format, pageLengths);
+    }
+
+    /**
+     * Writes the given pages to disk, the given pages can be dropped afterwards.
+     */
+    public static SpilledPages<byte[]> copyOf(byte[][] pages) {
+        int[] pageLengths = new int[pages.length];
+        for (int i = 0; i < pages.length; i++) {
+            pageLengths[i] = pages[i] == null ? 0 : pages[i].length;
+        }
+        var spilledPages = new SpilledPages<>(BYTES, pageLengths);
+        var buffer = ByteBuffer.allocate(Arrays.stream(pageLengths).max().orElse(0));
+        for (int i = 0; i < pages.length; i++) {
+            if (pageLengths[i] > 0) {
+                spilledPages.writePage(i, pages[i], buffer);
+            }
+        }
+        return spilledPages;
+    }
+
+    /**
+     * Creates an appender that writes byte pages to disk one at a time, while the data structure they
+     * belong to is still being built. Pages are stored in the order in which they are appended.
+     */
+    public static Appender appender() {
+        return new Appender();
+    }
+
+    private final PageFormat<PAGE> format;
+    private final int[] pageLengths;
+    private final long[] pageOffsets;
+    private final AtomicReferenceArray<Frame<PAGE>> resident;
+    private final SpillFile file;
+
+    private SpilledPages(PageFormat<PAGE> format, int[] pageLengths) {
+        this(format, pageLengths, contiguousOffsets(format, pageLengths), new SpillFile());
+    }
+
+    private SpilledPages(PageFormat<PAGE> format, int[] pageLengths, long[] pageOffsets, SpillFile file) {
+        this.format = format;
+        this.pageLengths = pageLengths;
+        this.pageOffsets = pageOffsets;
+        this.resident = new AtomicReferenceArray<>(pageLengths.length);
+        this.file = file;
+    }
+
+    private static long[] contiguousOffsets(PageFormat<?> format, int[] pageLengths) {
+        var pageOffsets = new long[pageLengths.length];
+        long offset = 0L;
+        for (int i = 0; i < pageLengths.length; i++) {
+            pageOffsets[i] = offset;
+            offset += (long) pageLengths[i] * format.bytesPerElement();
+        }
+        return pageOffsets;
+    }
+
+    public int pages() {
+        return pageLengths.length;
+    }
+
+    int pageLength(int pageIndex) {
+        return pageLengths[pageIndex];
+    }
+
+    /**
+     * Returns the page for reading, loading it from disk if it is not resident.
+     */
+    public PAGE page(int pageIndex) {
+        var frame = resident.get(pageIndex);
+        if (frame == null) {
+            frame = SpillingPageCache.load(this, pageIndex);
+        }
+        frame.reference();
+        return frame.page;
+    }
+
+    /**
+     * Returns the page for writing. The page cannot be evicted until {@link Frame#unpin()} is called.
+     */
+    Frame<PAGE> pin(int pageIndex) {
+        while (true) {
+            var frame = resident.get(pageIndex);
+            if (frame == null) {
+                frame = SpillingPageCache.load(this, pageIndex);
+            }
+            if (frame.tryPin()) {
+                frame.reference();
+                frame.dirty = true;
+                return frame;
+            }
+            // the frame is being evicted, retry with the next resident frame
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * The size of the page table on the heap, resident pages are bounded by the {@link SpillingPageCache}.
+     */
+    long sizeOf() {
+        return MemoryUsage.sizeOfInstance(SpilledPages.class)
+               + MemoryUsage.sizeOfIntArray(pageLengths.length)
+               + MemoryUsage.sizeOfLongArray(pageOffsets.length)
+               + MemoryUsage.sizeOfObjectArray(pageLengths.length);
+    }
+
+    /**
+     * Drops all resident pages and deletes the backing file.
+     * The pages must not be accessed afterwards.
+     */
+    public void release() {
+        SpillingPageCache.remove(this);
+        file.cleanable.clean();
+    }
+
+    Frame<PAGE> resident(int pageIndex) {
+        return resident.get(pageIndex);
+    }
+
+    void setResident(int pageIndex, Frame<PAGE> frame) {
+        resident.set(pageIndex, frame);
+    }
+
+    int pageBytes(int pageIndex) {
+        return pageLengths[pageIndex] * format.bytesPerElement();
+    }
+
+    /**
+     * Reads the page from disk, the given buffer must be a heap buffer that can hold the page.
+     */
+    PAGE readPage(int pageIndex, ByteBuffer buffer) {
+        buffer.clear().limit(pageBytes(pageIndex));
+        long position = pageOffsets[pageIndex];
+        try {
+            while (buffer.hasRemaining()) {
+                int read = file.channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // the file is sparse, everything that has not been written yet reads as zeros
+        Arrays.fill(buffer.array(), buffer.position(), buffer.limit(), (byte) 0);
+        buffer.position(0);
+        var page = format.newPage(pageLengths[pageIndex]);
+        format.read(buffer.order(ByteOrder.nativeOrder()), page);
+        return page;
+    }
+
+    void writePage(int pageIndex, PAGE page, ByteBuffer buffer) {
+        buffer.clear().limit(pageBytes(pageIndex));
+        format.write(page, buffer.order(ByteOrder.nativeOrder()));
+        // the typed views do not advance the position of the buffer
+        buffer.position(0).limit(pageBytes(pageIndex));
+        file.write(buffer, pageOffsets[pageIndex]);
+    }
+
+    /**
+     * Writes byte pages to a file while they are being completed, possibly by several threads at once.
+     */
+    public static final class Appender {
+        private final SpillFile file;
+        private final AtomicLong position;
+        private final ReentrantLock lock;
+        private int[] pageLengths;
+        private long[] pageOffsets;
+
+        private Appender() {
+            this.file = new SpillFile();
+            this.position = new AtomicLong();
+            this.lock = new ReentrantLock();
+            this.pageLengths = new int[0];
+            this.pageOffsets = new long[0];
+        }
+
+        /**
+         * Writes the page to disk, the page can be dropped afterwards.
+         */
+        public void append(byte[] page, int pageIndex) {
+            long offset = position.getAndAdd(page.length);
+            file.write(ByteBuffer.wrap(page), offset);
+
+            lock.lock();
+            try {
+                if (pageIndex >= pageLengths.length) {
+                    int newLength = Math.max(pageIndex + 1, pageLengths.length << 1);
+                    pageLengths = Arrays.copyOf(pageLengths, newLength);
+                    pageOffsets = Arrays.copyOf(pageOffsets, newLength);
+                }
+                pageLengths[pageIndex] = page.length;
+                pageOffsets[pageIndex] = offset;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Returns the appended pages, pages that have not been appended are empty.
+         * No more pages must be appended afterwards.
+         */
+        public SpilledPages<byte[]> build(int numPages) {
+            lock.lock();
+            try {
+                return new SpilledPages<>(
+                    BYTES,
+                    Arrays.copyOf(pageLengths, numPages),
+                    Arrays.copyOf(pageOffsets, numPages),
+                    file
+                );
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * The file is shared between an {@link Appender} and the pages it builds,
+     * it is closed and deleted once neither of them is reachable or the pages are released.
+     */
+    private static final class SpillFile {
+        private final FileChannel channel;
+        private final Cleaner.Cleanable cleanable;
+
+        private SpillFile() {
+            this.channel = openChannel();
+            this.cleanable = CLEANER.register(this, new CloseChannel(channel));
+        }
+
+        void write(ByteBuffer buffer, long position) {
+            try {
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static FileChannel openChannel() {
+        try {
+            var directory = Path.of(GdsFeatureToggles.SPILL_TO_DISK_DIRECTORY);
+            var file = Files.createTempFile(directory, "gds-spilled-pages-", ".bin");
+            return FileChannel.open(file, READ, WRITE, DELETE_ON_CLOSE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    interface PageFormat<PAGE> {
+        int bytesPerElement();
+
+        PAGE newPage(int length);
+
+        int length(PAGE page);
+
+        void read(ByteBuffer from, PAGE into);
+
+        void write(PAGE from, ByteBuffer into);
+    }
+
+    /**
+     * A resident page. Pinned frames are never evicted, evicted frames can never be pinned again.
+     */
+    static final class Frame<PAGE> {
+        private static final int EVICTED = -1;
+
+        final SpilledPages<PAGE> owner;
+        final int pageIndex;
+        final PAGE page;
+        private final AtomicInteger pins;
+        private volatile boolean referenced;
+        private volatile boolean dirty;
+
+        Frame(SpilledPages<PAGE> owner, int pageIndex, PAGE page) {
+            this.owner = owner;
+            this.pageIndex = pageIndex;
+            this.page = page;
+            this.pins = new AtomicInteger();
+            this.referenced = true;
+        }
+
+        void unpin() {
+            pins.decrementAndGet();
+        }
+
+        private boolean tryPin() {
+            int current;
+            do {
+                current = pins.get();
+                if (current == EVICTED) {
+                    return false;
+                }
+            } while (!pins.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        private void reference() {
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+        /**
+         * Clears the reference bit and returns its previous value, used by the clock hand.
+         */
+        boolean clearReference() {
+            if (referenced) {
+                referenced = false;
+                return true;
+            }
+            return false;
+        }
+
+        boolean tryEvict() {
+            return pins.compareAndSet(0, EVICTED);
+        }
+
+        void evict() {
+            pins.set(EVICTED);
+        }
+
+        boolean isDirty() {
+            return dirty;
+        }
+    }
+
+    private static final class CloseChannel implements Runnable {
+        private final FileChannel channel;
+
+        CloseChannel(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void run() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
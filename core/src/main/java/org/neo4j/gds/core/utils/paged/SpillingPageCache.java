@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounds the resident pages of all {@link SpilledPages} by {@link GdsFeatureToggles#SPILL_TO_DISK_RESIDENT_BYTES}.
+ * <p>
+ * Pages are evicted following the clock algorithm: the hand passes over all resident pages,
+ * clears the reference bit of recently accessed pages and evicts the first page whose bit was already cleared.
+ * Modified pages are written back to their file before they are evicted.
+ * Loading and evicting pages is serialized, accessing resident pages is not.
+ * <p>
+ * If all resident pages are pinned by writers, the bound is exceeded instead of waiting for a page to be unpinned.
+ */
+final class SpillingPageCache {
+
+    private static final List<SpilledPages.Frame<?>> clock = new ArrayList<>();
+    private static int hand = 0;
+    private static long residentBytes = 0L;
+    private static ByteBuffer buffer = ByteBuffer.allocate(0);
+
+    static synchronized <PAGE> SpilledPages.Frame<PAGE> load(SpilledPages<PAGE> owner, int pageIndex) {
+        var frame = owner.resident(pageIndex);
+        if (frame != null) {
+            return frame;
+        }
+
+        int pageBytes = owner.pageBytes(pageIndex);
+        long maxResidentBytes = GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.get();
+        while (!clock.isEmpty() && residentBytes + pageBytes > maxResidentBytes) {
+            if (!evictNext()) {
+                break;
+            }
+        }
+
+        frame = new SpilledPages.Frame<>(owner, pageIndex, owner.readPage(pageIndex, buffer(pageBytes)));
+        clock.add(frame);
+        residentBytes += pageBytes;
+        owner.setResident(pageIndex, frame);
+        return frame;
+    }
+
+    /**
+     * Drops all resident pages of the given owner without writing them back.
+     */
+    static synchronized void remove(SpilledPages<?> owner) {
+        for (int slot = clock.size() - 1; slot >= 0; slot--) {
+            var frame = clock.get(slot);
+            if (frame.owner == owner) {
+                frame.evict();
+                owner.setResident(frame.pageIndex, null);
+                removeSlot(slot);
+            }
+        }
+    }
+
+    static synchronized long residentBytes() {
+        return residentBytes;
+    }
+
+    /**
+     * Evicts all resident pages that are not pinned.
+     */
+    static synchronized void clear() {
+        for (int slot = clock.size() - 1; slot >= 0; slot--) {
+            var frame = clock.get(slot);
+            if (frame.tryEvict()) {
+                evict(frame);
+                removeSlot(slot);
+            }
+        }
+    }
+
+    // moves the hand for at most two rounds, the first round may only clear reference bits
+    private static boolean evictNext() {
+        for (int step = 0; step < 2 * clock.size(); step++) {
+            if (hand >= clock.size()) {
+                hand = 0;
+            }
+            var frame = clock.get(hand);
+            if (!frame.clearReference() && frame.tryEvict()) {
+                evict(frame);
+                removeSlot(hand);
+                return true;
+            }
+            hand++;
+        }
+        return false;
+    }
+
+    private static <PAGE> void evict(SpilledPages.Frame<PAGE> frame) {
+        var owner = frame.owner;
+        if (frame.isDirty()) {
+            owner.writePage(frame.pageIndex, frame.page, buffer(owner.pageBytes(frame.pageIndex)));
+        }
+        owner.setResident(frame.pageIndex, null);
+    }
+
+    // replaces the frame with the last frame, which keeps the remaining frames in the clock
+    private static void removeSlot(int slot) {
+        var frame = clock.get(slot);
+        residentBytes -= frame.owner.pageBytes(frame.pageIndex);
+        var last = clock.remove(clock.size() - 1);
+        if (slot < clock.size()) {
+            clock.set(slot, last);
+        }
+    }
+
+    private static ByteBuffer buffer(int bytes) {
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocate(bytes);
+        }
+        return buffer;
+    }
+
+    private SpillingPageCache() {}
+}
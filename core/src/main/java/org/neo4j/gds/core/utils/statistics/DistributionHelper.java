@@ -44,4 +44,19 @@ public final class DistributionHelper {
         double exponent = 1.0d / (-gamma + 1.0d);
         return Math.round(Math.pow(base, exponent));
     }
+
+    // Knuth's method for small means, a normal approximation for large means
+    public static long poissonSample(double mean, Random random) {
+        if (mean < 30) {
+            double limit = Math.exp(-mean);
+            long sample = 0;
+            double product = random.nextDouble();
+            while (product > limit) {
+                sample++;
+                product *= random.nextDouble();
+            }
+            return sample;
+        }
+        return Math.max(0, Math.round(mean + Math.sqrt(mean) * random.nextGaussian()));
+    }
 }
@@ -21,28 +21,56 @@ package org.neo4j.gds.core.write;
 
 import org.neo4j.gds.api.IdMapping;
 import org.neo4j.gds.core.TransactionContext;
-import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.ProgressLogger;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.utils.ExceptionUtil;
 import org.neo4j.gds.utils.StatementApi;
+import org.neo4j.graphdb.TransientFailureException;
+import org.neo4j.internal.helpers.NamedThreadFactory;
 
 import java.util.Arrays;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
+/**
+ * Writes a stream of relationships to the database.
+ *
+ * The stream is consumed by a single producer, which fills buffers and hands
+ * them over to {@code writeConcurrency} writers. Each writer owns a bounded
+ * pool of buffers and commits every buffer in its own transaction.
+ * Relationships are sharded by their source node, which keeps all
+ * relationships of a source node within the same writer and thus reduces
+ * lock contention between concurrent write transactions.
+ * If all buffers of a writer are in flight, the producer blocks until the
+ * writer has returned a buffer to its pool (back-pressure).
+ * The writers run on their own threads, as each of them is blocked until the
+ * producer has consumed the whole stream.
+ *
+ * If any writer fails, the remaining writers are cancelled and the failure is rethrown.
+ * Transactions that have already been committed by any writer are not rolled back,
+ * so a failed write can leave a part of the relationships in the database.
+ */
 public final class NativeRelationshipStreamExporter extends StatementApi implements RelationshipStreamExporter {
 
     private static final int QUEUE_CAPACITY = 2;
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final String WRITER_THREAD_NAME_PREFIX = "gds-relationship-writer";
 
     private final LongUnaryOperator toOriginalId;
     private final Stream<Relationship> relationships;
     private final int batchSize;
+    private final int writeConcurrency;
     private final TerminationFlag terminationFlag;
     private final ProgressLogger progressLogger;
 
@@ -71,6 +99,7 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
                 toOriginalId,
                 relationships,
                 batchSize,
+                writeConcurrency,
                 terminationFlag,
                 progressLogger
             );
@@ -82,6 +111,7 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
         LongUnaryOperator toOriginalId,
         Stream<Relationship> relationships,
         int batchSize,
+        int writeConcurrency,
         TerminationFlag terminationFlag,
         ProgressLogger progressLogger
     ) {
@@ -89,6 +119,7 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
         this.toOriginalId = toOriginalId;
         this.relationships = relationships.sequential();
         this.batchSize = batchSize;
+        this.writeConcurrency = writeConcurrency;
         this.terminationFlag = terminationFlag;
         this.progressLogger = progressLogger;
     }
@@ -100,50 +131,132 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
 
         progressLogger.logStart();
 
-        var writeQueue = new LinkedBlockingQueue<Buffer>(QUEUE_CAPACITY);
-        var bufferPool = new LinkedBlockingQueue<Buffer>(QUEUE_CAPACITY);
-        for (int i = 0; i < QUEUE_CAPACITY; i++) {
-            bufferPool.add(new Buffer(batchSize));
-        }
-
-        var writer = new Writer(
-            tx,
-            toOriginalId,
-            writeQueue,
-            bufferPool,
-            relationshipToken,
-            propertyTokens,
-            terminationFlag,
-            progressLogger
+        var start = System.nanoTime();
+        var totalWritten = new AtomicLong();
+        var writers = new Writer[writeConcurrency];
+        var consumers = new Future<?>[writeConcurrency];
+        var currentBuffers = new Buffer[writeConcurrency];
+        // a shared pool could queue some writers behind others that only finish once the stream is consumed
+        ExecutorService executor = Executors.newFixedThreadPool(
+            writeConcurrency,
+            NamedThreadFactory.daemon(WRITER_THREAD_NAME_PREFIX)
         );
-        var consumer = Pools.DEFAULT.submit(writer);
 
-        var bufferRef = new AtomicReference<>(bufferPool.poll());
+        for (int i = 0; i < writeConcurrency; i++) {
+            writers[i] = new Writer(
+                tx,
+                toOriginalId,
+                batchSize,
+                relationshipToken,
+                propertyTokens,
+                totalWritten,
+                terminationFlag,
+                progressLogger
+            );
+            consumers[i] = executor.submit(writers[i]);
+            currentBuffers[i] = writers[i].bufferPool.poll();
+        }
 
-        relationships.forEach(relationship -> {
-            var buffer = bufferRef.get();
-            buffer.add(relationship);
-            if (buffer.isFull()) {
-                try {
-                    writeQueue.put(buffer);
-                    bufferRef.set(bufferPool.take());
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-        });
+        var producerWaitNanos = new long[1];
 
         try {
-            writeQueue.put(bufferRef.get());
-            // Add an empty buffer to signal end of writing
-            writeQueue.put(new Buffer(0));
-            consumer.get();
+            relationships.forEach(relationship -> {
+                var shard = shard(relationship.sourceNode());
+                var buffer = currentBuffers[shard];
+                buffer.add(relationship);
+                if (buffer.isFull()) {
+                    var waitStart = System.nanoTime();
+                    put(writers[shard].writeQueue, buffer, consumers[shard]);
+                    currentBuffers[shard] = take(writers[shard].bufferPool, consumers[shard]);
+                    producerWaitNanos[0] += System.nanoTime() - waitStart;
+                }
+            });
+
+            for (int i = 0; i < writeConcurrency; i++) {
+                if (currentBuffers[i].size > 0) {
+                    put(writers[i].writeQueue, currentBuffers[i], consumers[i]);
+                }
+                // Add an empty buffer to signal end of writing
+                put(writers[i].writeQueue, new Buffer(0), consumers[i]);
+            }
+            for (var consumer : consumers) {
+                consumer.get();
+            }
         } catch (InterruptedException | ExecutionException e) {
+            Arrays.stream(consumers).forEach(consumer -> consumer.cancel(true));
             throw new RuntimeException(e);
+        } catch (RuntimeException e) {
+            Arrays.stream(consumers).forEach(consumer -> consumer.cancel(true));
+            throw e;
+        } finally {
+            executor.shutdownNow();
         }
+
+        logMetrics(writers, totalWritten.get(), System.nanoTime() - start, producerWaitNanos[0]);
         progressLogger.logFinish();
 
-        return writer.written;
+        return totalWritten.get();
+    }
+
+    private int shard(long sourceNode) {
+        return (int) (sourceNode % writeConcurrency);
+    }
+
+    private void logMetrics(Writer[] writers, long written, long elapsedNanos, long producerWaitNanos) {
+        var writeNanos = Arrays.stream(writers).mapToLong(writer -> writer.writeNanos).sum();
+        var retries = Arrays.stream(writers).mapToLong(writer -> writer.retries).sum();
+        var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        var throughput = elapsedNanos == 0 ? 0 : written * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+
+        progressLogger.logMessage(formatWithLocale(
+            "wrote %d relationships with %d writers in %d ms (%d relationships/s), " +
+            "writers busy for %d ms, producer blocked for %d ms, %d retried transactions",
+            written,
+            writers.length,
+            elapsedMillis,
+            throughput,
+            TimeUnit.NANOSECONDS.toMillis(writeNanos),
+            TimeUnit.NANOSECONDS.toMillis(producerWaitNanos),
+            retries
+        ));
+    }
+
+    /**
+     * Blocks until the buffer is accepted by the writer or the writer has failed.
+     * A failed writer would never drain its queue, which would otherwise block the producer forever.
+     */
+    private static void put(BlockingQueue<Buffer> queue, Buffer buffer, Future<?> consumer) {
+        try {
+            while (!queue.offer(buffer, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                assertNotFailed(consumer);
+            }
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Buffer take(BlockingQueue<Buffer> queue, Future<?> consumer) {
+        try {
+            Buffer buffer;
+            while ((buffer = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                assertNotFailed(consumer);
+            }
+            return buffer;
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void assertNotFailed(Future<?> consumer) throws InterruptedException {
+        if (consumer.isDone()) {
+            try {
+                consumer.get();
+            } catch (ExecutionException e) {
+                ExceptionUtil.throwIfUnchecked(e.getCause());
+                throw new RuntimeException(e.getCause());
+            }
+            throw new IllegalStateException("Relationship writer terminated before all relationships were written.");
+        }
     }
 
     static class Writer extends StatementApi implements Runnable {
@@ -157,24 +270,31 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
 
         private final int relationshipToken;
         private final int[] propertyTokens;
-        private long written;
+        private final AtomicLong totalWritten;
+
+        private long writeNanos;
+        private long retries;
 
         Writer(
             TransactionContext tx,
             LongUnaryOperator toOriginalId,
-            BlockingQueue<Buffer> writeQueue,
-            BlockingQueue<Buffer> bufferPool,
+            int batchSize,
             int relationshipToken,
             int[] propertyTokens,
+            AtomicLong totalWritten,
             TerminationFlag terminationFlag,
             ProgressLogger progressLogger
         ) {
             super(tx);
             this.toOriginalId = toOriginalId;
-            this.writeQueue = writeQueue;
-            this.bufferPool = bufferPool;
+            this.writeQueue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+            this.bufferPool = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+            for (int i = 0; i < QUEUE_CAPACITY; i++) {
+                bufferPool.add(new Buffer(batchSize));
+            }
             this.relationshipToken = relationshipToken;
             this.propertyTokens = propertyTokens;
+            this.totalWritten = totalWritten;
             this.terminationFlag = terminationFlag;
             this.progressLogger = progressLogger;
         }
@@ -188,9 +308,12 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
                     if (buffer.size == 0) {
                         return;
                     }
-                    written += write(buffer, relationshipToken, propertyTokens);
+                    var writeStart = System.nanoTime();
+                    var written = writeWithRetry(buffer);
+                    writeNanos += System.nanoTime() - writeStart;
 
-                    progressLogger.logMessage(formatWithLocale("has written %d relationships", written));
+                    var total = totalWritten.addAndGet(written);
+                    progressLogger.logMessage(formatWithLocale("has written %d relationships", total));
 
                     buffer.reset();
                     bufferPool.put(buffer);
@@ -200,6 +323,32 @@ public final class NativeRelationshipStreamExporter extends StatementApi impleme
             }
         }
 
+        /**
+         * Concurrent writers may run into transient failures, e.g. deadlocks on shared target nodes.
+         * The failed transaction is rolled back, so the whole buffer can safely be written again.
+         */
+        private int writeWithRetry(Buffer buffer) {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return write(buffer, relationshipToken, propertyTokens);
+                } catch (RuntimeException e) {
+                    if (attempt >= MAX_WRITE_ATTEMPTS || !isTransient(e)) {
+                        throw e;
+                    }
+                    retries++;
+                }
+            }
+        }
+
+        private static boolean isTransient(Throwable e) {
+            for (var cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof TransientFailureException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         private int write(Buffer buffer, int relationshipToken, int[] propertyTokens) {
             var bufferSize = buffer.size;
             var tokenCount = propertyTokens.length;
@@ -20,7 +20,8 @@
 package org.neo4j.gds.core.write;
 
 import org.neo4j.gds.api.IdMapping;
-import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.config.WriteConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.TransactionContext;
 import org.neo4j.gds.core.utils.BatchingProgressLogger;
 import org.neo4j.gds.core.utils.ProgressLogger;
@@ -39,12 +40,11 @@ public abstract class RelationshipStreamExporterBuilder<T extends RelationshipSt
     protected LongUnaryOperator toOriginalId;
     protected TerminationFlag terminationFlag;
     protected ProgressLogger progressLogger;
-
-    private final int writeConcurrency;
+    protected int writeConcurrency;
 
     RelationshipStreamExporterBuilder(TransactionContext transactionContext) {
         this.transactionContext = Objects.requireNonNull(transactionContext);
-        this.writeConcurrency = ConcurrencyConfig.DEFAULT_CONCURRENCY;
+        this.writeConcurrency = 1;
         this.progressLogger = ProgressLogger.NULL_LOGGER;
         this.batchSize = (int) NativeNodePropertyExporter.MIN_BATCH_SIZE;
     }
@@ -71,6 +71,16 @@ public abstract class RelationshipStreamExporterBuilder<T extends RelationshipSt
         return this;
     }
 
+    /**
+     * Sets the number of concurrent writers, each writing in its own transactions.
+     * Defaults to a single writer.
+     */
+    public RelationshipStreamExporterBuilder<T> withWriteConcurrency(int writeConcurrency) {
+        CypherMapWrapper.validateIntegerRange(WriteConfig.WRITE_CONCURRENCY_KEY, writeConcurrency, 1, Integer.MAX_VALUE, true, true);
+        this.writeConcurrency = writeConcurrency;
+        return this;
+    }
+
     RelationshipStreamExporterBuilder<T> withBatchSize(int batchSize) {
         this.batchSize = batchSize;
         return this;
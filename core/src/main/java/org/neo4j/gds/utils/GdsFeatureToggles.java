@@ -24,6 +24,7 @@ import org.jetbrains.annotations.TestOnly;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public enum GdsFeatureToggles {
 
@@ -34,7 +35,13 @@ public enum GdsFeatureToggles {
     USE_PARALLEL_PROPERTY_VALUE_INDEX(false),
     USE_BIT_ID_MAP(true),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
-    USE_REORDERED_ADJACENCY_LIST(false);
+    USE_REORDERED_ADJACENCY_LIST(false),
+    USE_TWO_PASS_RELATIONSHIP_IMPORT(false),
+    USE_PARALLEL_MODEL_SELECTION(false),
+    USE_IMPLICIT_GRAPH_STORE_CACHE(false),
+    USE_SPILL_TO_DISK(false),
+    USE_ALGORITHM_RESULT_CACHE(false),
+    USE_ADAPTIVE_ID_MAP(false);
 
     public boolean isEnabled() {
         return current.get();
@@ -95,6 +102,36 @@ public enum GdsFeatureToggles {
     );
     public static final AtomicInteger MAX_ARRAY_LENGTH_SHIFT = new AtomicInteger(MAX_ARRAY_LENGTH_SHIFT_FLAG);
 
+    // Upper bound for the tracked memory of all graph stores kept by the implicit graph store cache.
+    public static final long IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES_DEFAULT_SETTING = Runtime.getRuntime().maxMemory() / 10;
+    private static final long IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES_FLAG = Long.getLong(
+        name(GdsFeatureToggles.class, "implicitGraphStoreCacheMaxBytes"),
+        IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES_DEFAULT_SETTING
+    );
+    public static final AtomicLong IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES = new AtomicLong(IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES_FLAG);
+
+    // Upper bound for the pages of all spilled arrays and adjacency lists that are kept on the heap.
+    public static final long SPILL_TO_DISK_RESIDENT_BYTES_DEFAULT_SETTING = Runtime.getRuntime().maxMemory() / 4;
+    private static final long SPILL_TO_DISK_RESIDENT_BYTES_FLAG = Long.getLong(
+        name(GdsFeatureToggles.class, "spillToDiskResidentBytes"),
+        SPILL_TO_DISK_RESIDENT_BYTES_DEFAULT_SETTING
+    );
+    public static final AtomicLong SPILL_TO_DISK_RESIDENT_BYTES = new AtomicLong(SPILL_TO_DISK_RESIDENT_BYTES_FLAG);
+
+    // Upper bound for the tracked memory of all algorithm results kept by the algorithm result cache.
+    public static final long ALGORITHM_RESULT_CACHE_MAX_BYTES_DEFAULT_SETTING = Runtime.getRuntime().maxMemory() / 10;
+    private static final long ALGORITHM_RESULT_CACHE_MAX_BYTES_FLAG = Long.getLong(
+        name(GdsFeatureToggles.class, "algorithmResultCacheMaxBytes"),
+        ALGORITHM_RESULT_CACHE_MAX_BYTES_DEFAULT_SETTING
+    );
+    public static final AtomicLong ALGORITHM_RESULT_CACHE_MAX_BYTES = new AtomicLong(ALGORITHM_RESULT_CACHE_MAX_BYTES_FLAG);
+
+    // Directory of the files that back spilled pages, the files are deleted once the pages are released.
+    public static final String SPILL_TO_DISK_DIRECTORY = System.getProperty(
+        name(GdsFeatureToggles.class, "spillToDiskDirectory"),
+        System.getProperty("java.io.tmpdir")
+    );
+
     private static String name(Class<?> location, String name) {
         return location.getCanonicalName() + "." + name;
     }
@@ -147,6 +147,21 @@ class NodeProjectionsTest {
             .hasMessage("Duplicate property key `prop`");
     }
 
+    @Test
+    void shouldFailOnPropertyStorage() {
+        assertThatThrownBy(() -> NodeProjections.fromObject(map(
+            "A", map(
+                "properties", map(
+                    "prop", map("property", "prop", "storage", "FLOAT")
+                )
+            )
+        )))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(
+                "Node property `prop` cannot use the `storage` key, property storage can only be configured for relationship properties."
+            );
+    }
+
     static Stream<Arguments> syntacticSugarsSimple() {
         return Stream.of(
             Arguments.of(
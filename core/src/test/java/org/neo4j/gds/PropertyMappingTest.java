@@ -23,6 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.compat.MapUtil;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.PropertyStorage;
+
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -68,6 +71,28 @@ class PropertyMappingTest {
         assertEquals(propertyMapping.defaultValue(), DefaultValue.of(42.0));
     }
 
+    @Test
+    void testFromObjectWithStorage() {
+        PropertyMapping propertyMapping = PropertyMapping.fromObject(
+            "weight",
+            MapUtil.map(
+                "property", "w",
+                "storage", "quantized_8"
+        ));
+        assertEquals(PropertyStorage.QUANTIZED_8, propertyMapping.storage());
+        assertEquals("QUANTIZED_8", ((Map<?, ?>) propertyMapping.toObject(false).getValue()).get("storage"));
+        assertEquals(PropertyStorage.DOUBLE, PropertyMapping.fromObject("weight", "w").storage());
+    }
+
+    @Test
+    void failsOnUnknownStorage() {
+        IllegalArgumentException ex = assertThrows(
+            IllegalArgumentException.class, () -> PropertyMapping.fromObject("weight", MapUtil.map(
+                "storage", "half"
+            )));
+        assertThat(ex.getMessage(), containsString("Property storage `HALF` is not supported."));
+    }
+
     @Test
     void failsOnWrongKeyType() {
         IllegalArgumentException ex = assertThrows(
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.LongNodeProperties;
+import org.neo4j.gds.config.GraphCreateFromStoreConfig;
+import org.neo4j.gds.config.ImmutableGraphCreateFromGraphConfig;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.CatalogRequest;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistry;
+import org.neo4j.logging.NullLog;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.graphStoreFromGDL;
+
+class LazyFilteredGraphStoreTest {
+
+    private static final String GDL =
+        "  (a:A {prop: 1})" +
+        ", (b:A:B {prop: 2})" +
+        ", (c:B {prop: 3})" +
+        ", (d:C {prop: 4})" +
+        ", (a)-[:T1 {w: 1.0}]->(b)" +
+        ", (b)-[:T1 {w: 2.0}]->(c)" +
+        ", (a)-[:T1 {w: 3.0}]->(d)" +
+        ", (c)-[:T2 {w: 4.0}]->(d)" +
+        ", (a)-[:T2 {w: 5.0}]->(c)";
+
+    @ParameterizedTest
+    @CsvSource(value = {
+        "*;*",
+        "n:A;*",
+        "n:A OR n:B;r:T1",
+        "n.prop > 1;*",
+        "n.prop >= 3 OR n:A;r:T2",
+        "NOT n:C;r:T1 OR r:T2"
+    }, delimiter = ';')
+    void matchesMaterializedSubgraph(String nodeFilter, String relationshipFilter) throws Exception {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        var eager = filter(graphStore, nodeFilter, relationshipFilter, false);
+        var lazy = filter(graphStore, nodeFilter, relationshipFilter, true);
+
+        assertThat(lazy).isInstanceOf(LazyFilteredGraphStore.class);
+        assertThat(lazy.nodeCount()).isEqualTo(eager.nodeCount());
+        assertThat(lazy.nodeLabels()).isEqualTo(eager.nodeLabels());
+        assertThat(lazy.relationshipTypes()).isEqualTo(eager.relationshipTypes());
+        assertThat(lazy.relationshipCount()).isEqualTo(eager.relationshipCount());
+        for (RelationshipType relationshipType : eager.relationshipTypes()) {
+            assertThat(lazy.relationshipCount(relationshipType)).isEqualTo(eager.relationshipCount(relationshipType));
+        }
+        assertThat(lazy.nodePropertyKeys()).isEqualTo(eager.nodePropertyKeys());
+
+        assertGraphEquals(eager.getUnion(), lazy.getUnion());
+        assertThat(lazy.getUnion().relationshipCount()).isEqualTo(eager.getUnion().relationshipCount());
+        for (RelationshipType relationshipType : eager.relationshipTypes()) {
+            assertGraphEquals(
+                eager.getGraph(relationshipType, Optional.of("w")),
+                lazy.getGraph(relationshipType, Optional.of("w"))
+            );
+        }
+    }
+
+    @Test
+    void filterNodeLabelsOfView() throws Exception {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        var eager = filter(graphStore, "NOT n:C", "*", false);
+        var lazy = filter(graphStore, "NOT n:C", "*", true);
+
+        var labels = List.of(NodeLabel.of("B"));
+        var types = List.of(RelationshipType.of("T1"));
+        var eagerGraph = eager.getGraph(labels, types, Optional.empty());
+        var lazyGraph = lazy.getGraph(labels, types, Optional.empty());
+
+        assertGraphEquals(eagerGraph, lazyGraph);
+        assertThat(lazyGraph.relationshipCount()).isEqualTo(eagerGraph.relationshipCount());
+        for (long nodeId = 0; nodeId < lazyGraph.nodeCount(); nodeId++) {
+            assertThat(lazyGraph.toRootNodeId(nodeId))
+                .isEqualTo(lazy.nodes().toMappedNodeId(lazyGraph.toOriginalNodeId(nodeId)));
+        }
+    }
+
+    @Test
+    void nodePropertiesOfView() throws Exception {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        var lazy = filter(graphStore, "n.prop > 1", "*", true);
+
+        var properties = lazy.nodePropertyValues("prop");
+        assertThat(properties.size()).isEqualTo(3);
+        assertThat(properties.getMaxLongPropertyValue()).hasValue(4);
+        for (long nodeId = 0; nodeId < lazy.nodeCount(); nodeId++) {
+            var parentId = graphStore.nodes().toMappedNodeId(lazy.nodes().toOriginalNodeId(nodeId));
+            assertThat(properties.longValue(nodeId))
+                .isEqualTo(graphStore.nodePropertyValues("prop").longValue(parentId));
+        }
+    }
+
+    @Test
+    void materializeOnModification() throws Exception {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        var eager = filter(graphStore, "n:A OR n:B", "*", false);
+        var lazy = (LazyFilteredGraphStore) filter(graphStore, "n:A OR n:B", "*", true);
+        var originalIds = new long[(int) lazy.nodeCount()];
+        for (int nodeId = 0; nodeId < originalIds.length; nodeId++) {
+            originalIds[nodeId] = lazy.nodes().toOriginalNodeId(nodeId);
+        }
+
+        assertThat(lazy.isViewOf(graphStore)).isTrue();
+        assertThat(lazy.isMaterialized()).isFalse();
+
+        lazy.addNodeProperty(NodeLabel.of("A"), "id", new LongNodeProperties() {
+            @Override
+            public long longValue(long nodeId) {
+                return nodeId;
+            }
+
+            @Override
+            public long size() {
+                return originalIds.length;
+            }
+        });
+
+        assertThat(lazy.isMaterialized()).isTrue();
+        assertThat(lazy.isViewOf(graphStore)).isFalse();
+        assertThat(graphStore.hasNodeProperty(NodeLabel.of("A"), "id")).isFalse();
+        for (int nodeId = 0; nodeId < originalIds.length; nodeId++) {
+            assertThat(lazy.nodes().toOriginalNodeId(nodeId)).isEqualTo(originalIds[nodeId]);
+        }
+        assertThat(lazy.nodePropertyValues(NodeLabel.of("A"), "id").longValue(0)).isEqualTo(0);
+        assertThat(lazy.relationshipCount()).isEqualTo(eager.relationshipCount());
+        assertGraphEquals(eager.getUnion(), lazy.getUnion());
+    }
+
+    @Test
+    void keepRootGraphOfMaterializedIntermediateSubgraph() throws Exception {
+        var root = graphStoreFromGDL(GDL);
+        var middle = (LazyFilteredGraphStore) filter(root, "n:A OR n:B", "*", true);
+        var leaf = (LazyFilteredGraphStore) filter(middle, "n:B", "*", true);
+        var expected = filter(filter(root, "n:A OR n:B", "*", false), "n:B", "*", false);
+
+        middle.getCompositeRelationshipIterator(RelationshipType.of("T1"), List.of());
+
+        assertThat(middle.isMaterialized()).isTrue();
+        assertThat(leaf.isMaterialized()).isFalse();
+        assertThat(leaf.isViewOf(middle)).isTrue();
+        assertThat(leaf.isViewOf(root)).isTrue();
+
+        try {
+            GraphStoreCatalog.set(GraphCreateFromStoreConfig.emptyWithName("user", "root"), root);
+            GraphStoreCatalog.set(GraphCreateFromStoreConfig.emptyWithName("user", "middle"), middle);
+            GraphStoreCatalog.set(GraphCreateFromStoreConfig.emptyWithName("user", "leaf"), leaf);
+
+            GraphStoreCatalog.remove(CatalogRequest.of("user", root.databaseId()), "root", graph -> {}, true);
+
+            assertThat(leaf.relationshipCount()).isEqualTo(expected.relationshipCount());
+            assertGraphEquals(expected.getUnion(), leaf.getUnion());
+        } finally {
+            GraphStoreCatalog.removeAllLoadedGraphs();
+        }
+    }
+
+    @Test
+    void failOnRelationshipPropertyFilter() {
+        var graphStore = graphStoreFromGDL(GDL);
+
+        assertThatThrownBy(() -> filter(graphStore, "*", "r.w > 2.0", true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Lazy subgraphs only support relationship filters on relationship types");
+    }
+
+    private static GraphStore filter(
+        GraphStore graphStore,
+        String nodeFilter,
+        String relationshipFilter,
+        boolean lazy
+    ) throws Exception {
+        var config = ImmutableGraphCreateFromGraphConfig.builder()
+            .concurrency(4)
+            .lazy(lazy)
+            .nodeFilter(nodeFilter)
+            .relationshipFilter(relationshipFilter)
+            .graphName("outputGraph")
+            .fromGraphName("inputGraph")
+            .originalConfig(GraphCreateFromStoreConfig.emptyWithName("user", "inputGraph"))
+            .build();
+
+        return GraphStoreFilter.filter(
+            graphStore,
+            config,
+            Pools.DEFAULT,
+            NullLog.getInstance(),
+            AllocationTracker.empty(),
+            EmptyTaskRegistry.INSTANCE
+        );
+    }
+}
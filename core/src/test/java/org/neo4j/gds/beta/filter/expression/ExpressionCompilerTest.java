@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.filter.expression;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.opencypher.v9_0.parser.javacc.ParseException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.beta.filter.expression.Expression.TRUE;
+
+@GdlExtension
+class ExpressionCompilerTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "  (a:A { foo: 42, bar: 1.5 })" +
+        ", (b:B { foo: 1337 })" +
+        ", (c:A:B { foo: 84, bar: 0.5 })" +
+        ", (d:C)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "FALSE",
+        "n:A",
+        "n:A:B",
+        "NOT n:A",
+        "n:A AND n:B",
+        "n:A OR n:C",
+        "n:A XOR n:B",
+        "n:A AND TRUE",
+        "n:A OR TRUE",
+        "FALSE XOR n:B",
+        "TRUE XOR n:B",
+        "n.foo = 42",
+        "n.foo <> 42",
+        "n.foo > 42",
+        "n.foo >= 42",
+        "n.foo < 1337",
+        "n.foo <= 84",
+        "42 < n.foo",
+        "n.bar > 1.0",
+        "n.bar < n.foo",
+        "n.bar = n.bar",
+        "n.foo > 42 AND n:B",
+        "n.foo > 42 OR n.bar > 1.0",
+        "NOT (n.foo > 42 OR n:C)",
+        "(n:A) = TRUE",
+        "(n:A) <> (n:B)",
+        "1 < 2",
+        "2.0 = 2",
+        "n:A AND 1 > 2"
+    })
+    void compiledNodeFilterMatchesEvaluation(String filter) throws ParseException {
+        var expression = ExpressionParser.parse(filter);
+        var compiled = ExpressionCompiler.compileNodeFilter(expression, graphStore);
+        var context = new EvaluationContext.NodeEvaluationContext(graphStore);
+
+        for (long nodeId = 0; nodeId < graphStore.nodeCount(); nodeId++) {
+            context.init(nodeId);
+            assertThat(compiled.test(nodeId))
+                .as("node %d", nodeId)
+                .isEqualTo(expression.evaluate(context) == TRUE);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "TRUE",
+        "r:REL",
+        "r:FOO",
+        "r:FOO:REL",
+        "NOT r:REL",
+        "r.weight > 0.5",
+        "r.weight >= 0.5 AND r:REL",
+        "r.weight < 0.5 OR r:FOO",
+        "r.weight = r.cost",
+        "r.cost <= 3 XOR r:REL"
+    })
+    void compiledRelationshipFilterMatchesEvaluation(String filter) throws ParseException {
+        var expression = ExpressionParser.parse(filter);
+        var propertyIndices = Map.of("weight", 0, "cost", 1);
+        var compiled = ExpressionCompiler.compileRelationshipFilter(expression, "REL", propertyIndices);
+        var context = new EvaluationContext.RelationshipEvaluationContext(propertyIndices);
+
+        var allProperties = new double[][]{{0.5, 0.5}, {0.25, 3}, {1.0, 4}};
+        for (double[] properties : allProperties) {
+            context.init("REL", properties);
+            assertThat(compiled.test(properties)).isEqualTo(expression.evaluate(context) == TRUE);
+        }
+    }
+}
@@ -22,6 +22,7 @@ package org.neo4j.gds.beta.generator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.NodeLabel;
@@ -34,6 +35,7 @@ import org.neo4j.gds.core.huge.HugeGraph;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -442,4 +444,78 @@ class RandomGraphGeneratorTest {
 
         assertEquals(actualRelCount.get(), graph.relationshipCount());
     }
+
+    @ParameterizedTest
+    @EnumSource(RelationshipDistribution.class)
+    void shouldGenerateSameGraphForAnyConcurrency(RelationshipDistribution relationshipDistribution) {
+        var graphs = Stream.of(1, 4).map(concurrency -> RandomGraphGenerator.builder()
+            .nodeCount(2 * RandomGraphGenerator.RELATIONSHIP_BATCH_SIZE + 42)
+            .averageDegree(3)
+            .relationshipDistribution(relationshipDistribution)
+            .relationshipPropertyProducer(PropertyProducer.fixedDouble("weight", 1.0))
+            .seed(42L)
+            .concurrency(concurrency)
+            .build()
+            .generate()
+        ).collect(Collectors.toList());
+
+        TestSupport.assertGraphEquals(graphs.get(0), graphs.get(1));
+    }
+
+    @Test
+    void shouldGenerateRMatGraph() {
+        int nbrNodes = 1 << 12;
+        long avgDeg = 8L;
+
+        HugeGraph graph = RandomGraphGenerator.builder()
+            .nodeCount(nbrNodes)
+            .averageDegree(avgDeg)
+            .relationshipDistribution(RelationshipDistribution.RMAT)
+            .seed(42L)
+            .concurrency(4)
+            .build()
+            .generate();
+
+        assertEquals(nbrNodes, graph.nodeCount());
+        assertEquals((double) nbrNodes * avgDeg, graph.relationshipCount(), nbrNodes * avgDeg * 0.05);
+
+        var maxDegree = LongStream.range(0, nbrNodes).mapToInt(graph::degree).max().orElse(0);
+        assertThat(maxDegree).isGreaterThan(10 * (int) avgDeg);
+        assertThat(graph.degree(0)).isGreaterThan(graph.degree(nbrNodes - 1));
+    }
+
+    @Test
+    void shouldGenerateLfrGraph() {
+        int nbrNodes = 10_000;
+        long avgDeg = 10L;
+        long seed = 42L;
+
+        HugeGraph graph = RandomGraphGenerator.builder()
+            .nodeCount(nbrNodes)
+            .averageDegree(avgDeg)
+            .relationshipDistribution(RelationshipDistribution.LFR)
+            .seed(seed)
+            .concurrency(4)
+            .build()
+            .generate();
+
+        assertEquals(nbrNodes, graph.nodeCount());
+        assertEquals((double) nbrNodes * avgDeg, graph.relationshipCount(), nbrNodes * avgDeg * 0.1);
+
+        var communities = new LfrModel(nbrNodes, avgDeg, seed);
+        var intraCommunityRelationships = new AtomicLong();
+        graph.forEachNode(nodeId -> {
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                var sourceCommunity = communities.community(graph.toOriginalNodeId(source));
+                if (sourceCommunity == communities.community(graph.toOriginalNodeId(target))) {
+                    intraCommunityRelationships.incrementAndGet();
+                }
+                return true;
+            });
+            return true;
+        });
+
+        var intraCommunityFraction = intraCommunityRelationships.get() / (double) graph.relationshipCount();
+        assertEquals(1 - LfrModel.MIXING, intraCommunityFraction, 0.02);
+    }
 }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.config;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyConfigTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {ConcurrencyConfig.CONCURRENCY_KEY, WriteConfig.WRITE_CONCURRENCY_KEY})
+    void shouldRejectConcurrencyBelowOne(String configKey) {
+        assertThatThrownBy(() -> ConcurrencyConfig.validateConcurrency(0, configKey))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Value for `%s` was `0`, but must be within the range [1, 2147483647].", configKey);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.PropertyStorage;
+import org.neo4j.gds.core.utils.BitUtil;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryTree;
+import org.neo4j.gds.core.utils.paged.PageUtil;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_MASK;
+import static org.neo4j.gds.core.loading.BumpAllocator.PAGE_SHIFT;
+
+class CompactPropertiesListTest {
+
+    private static final long NODE_COUNT = 1_000_000L;
+    private static final long REL_COUNT = 10_000_000L;
+
+    static Stream<Arguments> storages() {
+        return Stream.of(
+            Arguments.of(PropertyStorage.FLOAT, 40_000_000L, 40_000_000L),
+            Arguments.of(PropertyStorage.QUANTIZED_16, 28_000_000L, 28_000_000L),
+            Arguments.of(PropertyStorage.QUANTIZED_8, 18_000_000L, 18_000_000L),
+            Arguments.of(PropertyStorage.DICTIONARY, 10_000_000L, 50_000_000L)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("storages")
+    void shouldEstimatePagesOfCompactStorage(PropertyStorage storage, long minBytes, long maxBytes) {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(NODE_COUNT)
+            .maxRelCount(REL_COUNT)
+            .build();
+
+        MemoryTree memRec = CompactPropertiesList
+            .adjacencyPropertiesEstimation(storage, RelationshipType.ALL_RELATIONSHIPS, false)
+            .estimate(dimensions, 1);
+
+        assertThat(component(memRec, "pages").memoryUsage()).isEqualTo(MemoryRange.of(pages(minBytes), pages(maxBytes)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("storages")
+    void shouldEstimateLessThanDoubleStorage(PropertyStorage storage, long minBytes, long maxBytes) {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(NODE_COUNT)
+            .maxRelCount(REL_COUNT)
+            .build();
+
+        MemoryTree compact = CompactPropertiesList
+            .adjacencyPropertiesEstimation(storage, RelationshipType.ALL_RELATIONSHIPS, false)
+            .estimate(dimensions, 1);
+        MemoryTree uncompressed = TransientUncompressedList
+            .adjacencyPropertiesEstimation(RelationshipType.ALL_RELATIONSHIPS, false)
+            .estimate(dimensions, 1);
+
+        assertThat(component(compact, "pages").memoryUsage().max)
+            .isLessThan(component(uncompressed, "pages").memoryUsage().max);
+    }
+
+    private static long pages(long bytes) {
+        int pages = PageUtil.numPagesFor(bytes, PAGE_SHIFT, PAGE_MASK);
+        long bytesPerPage = BitUtil.align(16 + 262144L, 8);
+        return pages * bytesPerPage + BitUtil.align(16 + pages * 4, 8);
+    }
+
+    private static MemoryTree component(MemoryTree tree, String description) {
+        return tree
+            .components()
+            .stream()
+            .filter(component -> component.description().equals(description))
+            .findFirst()
+            .orElseThrow();
+    }
+}
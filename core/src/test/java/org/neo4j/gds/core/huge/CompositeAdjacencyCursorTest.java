@@ -25,8 +25,13 @@ import org.neo4j.gds.BaseTest;
 import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.api.AdjacencyCursor;
 import org.neo4j.gds.api.Graph;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -82,4 +87,36 @@ class CompositeAdjacencyCursorTest extends BaseTest {
     void shouldNotReturnLastValueWhenAdvanceExhaustsCursor() {
         assertEquals(2, adjacencyCursor.advance(2));
     }
+
+    @Test
+    void shouldMergeAllTargets() {
+        assertThat(targets(adjacencyCursor)).containsExactly(0L, 1L, 1L, 2L);
+    }
+
+    @Test
+    void shouldPeekNextTarget() {
+        while (adjacencyCursor.hasNextVLong()) {
+            var peeked = adjacencyCursor.peekVLong();
+            assertEquals(peeked, adjacencyCursor.nextVLong());
+        }
+    }
+
+    @Test
+    void shouldRestartWhenReused() {
+        var topology = ((UnionGraph) graph).relationshipTopology();
+        adjacencyCursor.nextVLong();
+        adjacencyCursor.nextVLong();
+
+        var reused = topology.adjacencyCursor(adjacencyCursor, 0);
+
+        assertThat(targets(reused)).containsExactly(0L, 1L, 1L, 2L);
+    }
+
+    private static List<Long> targets(AdjacencyCursor cursor) {
+        var targets = new ArrayList<Long>();
+        while (cursor.hasNextVLong()) {
+            targets.add(cursor.nextVLong());
+        }
+        return targets;
+    }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.GraphCreateConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.extension.GdlSupportExtension.DATABASE_ID;
+
+@GdlExtension
+class AlgorithmResultCacheTest {
+
+    private static final String PROCEDURE = "PageRankStreamProc";
+
+    @GdlGraph
+    private static final String TEST_GRAPH = "(a)-[:REL]->(b)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @AfterEach
+    void tearDown() {
+        AlgorithmResultCache.clear();
+        GdsFeatureToggles.ALGORITHM_RESULT_CACHE_MAX_BYTES.set(
+            GdsFeatureToggles.ALGORITHM_RESULT_CACHE_MAX_BYTES_DEFAULT_SETTING
+        );
+    }
+
+    @Test
+    void returnsCachedResultForEqualConfig() {
+        var result = new Object();
+        put(config(Map.of("maxIterations", 20)), result, 100L);
+
+        assertThat(get(PROCEDURE, config(Map.of("maxIterations", 20)))).containsSame(result);
+        assertThat(get(PROCEDURE, config(Map.of("maxIterations", 10)))).isEmpty();
+        assertThat(get("ArticleRankStreamProc", config(Map.of("maxIterations", 20)))).isEmpty();
+    }
+
+    @Test
+    void ignoresConfigKeysThatDoNotAffectTheResult() {
+        var result = new Object();
+        put(config(Map.of("maxIterations", 20, "sudo", false, "username", "alice")), result, 100L);
+
+        assertThat(get(PROCEDURE, config(Map.of("maxIterations", 20, "sudo", true, "username", "bob")))).containsSame(result);
+    }
+
+    @Test
+    void invalidatesEntryAfterModification() {
+        put(config(Map.of()), new Object(), 100L);
+
+        graphStore.deleteRelationships(RelationshipType.of("REL"));
+
+        assertThat(get(PROCEDURE, config(Map.of()))).isEmpty();
+        assertThat(AlgorithmResultCache.size()).isEqualTo(0);
+        assertThat(AlgorithmResultCache.cachedBytes()).isEqualTo(0L);
+    }
+
+    @Test
+    void doesNotCacheResultIfGraphHasBeenModifiedDuringComputation() {
+        var modificationTimeBeforeComputation = graphStore.modificationTime().minusSeconds(1);
+
+        AlgorithmResultCache.put(
+            DATABASE_ID,
+            graphStore,
+            modificationTimeBeforeComputation,
+            PROCEDURE,
+            config(Map.of()),
+            new Object(),
+            100L
+        );
+
+        assertThat(AlgorithmResultCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void removesEntriesOfDroppedGraph() {
+        put(config(Map.of("maxIterations", 20)), new Object(), 100L);
+        put(config(Map.of("maxIterations", 10)), new Object(), 100L);
+
+        AlgorithmResultCache.remove(graphStore);
+
+        assertThat(AlgorithmResultCache.size()).isEqualTo(0);
+        assertThat(AlgorithmResultCache.cachedBytes()).isEqualTo(0L);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntries() {
+        GdsFeatureToggles.ALGORITHM_RESULT_CACHE_MAX_BYTES.set(250L);
+
+        put(config(Map.of("maxIterations", 1)), new Object(), 100L);
+        put(config(Map.of("maxIterations", 2)), new Object(), 100L);
+        // marks the first entry as recently used
+        get(PROCEDURE, config(Map.of("maxIterations", 1)));
+        put(config(Map.of("maxIterations", 3)), new Object(), 100L);
+
+        assertThat(AlgorithmResultCache.size()).isEqualTo(2);
+        assertThat(AlgorithmResultCache.cachedBytes()).isEqualTo(200L);
+        assertThat(get(PROCEDURE, config(Map.of("maxIterations", 1)))).isPresent();
+        assertThat(get(PROCEDURE, config(Map.of("maxIterations", 2)))).isEmpty();
+        assertThat(get(PROCEDURE, config(Map.of("maxIterations", 3)))).isPresent();
+    }
+
+    @Test
+    void doesNotCacheResultsLargerThanTheCache() {
+        GdsFeatureToggles.ALGORITHM_RESULT_CACHE_MAX_BYTES.set(50L);
+
+        put(config(Map.of()), new Object(), 100L);
+
+        assertThat(AlgorithmResultCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void doesNotCacheRandomizedResultsWithoutSeed() {
+        var withoutSeed = new RandomizedTestConfig(Map.of(), Optional.empty());
+        var withSeed = new RandomizedTestConfig(Map.of("randomSeed", 42L), Optional.of(42L));
+
+        assertThat(AlgorithmResultCache.isCacheable(withoutSeed)).isFalse();
+        assertThat(AlgorithmResultCache.isCacheable(withSeed)).isTrue();
+
+        put(withoutSeed, new Object(), 100L);
+        assertThat(AlgorithmResultCache.size()).isEqualTo(0);
+    }
+
+    private void put(AlgoBaseConfig config, Object result, long sizeInBytes) {
+        AlgorithmResultCache.put(
+            DATABASE_ID,
+            graphStore,
+            graphStore.modificationTime(),
+            PROCEDURE,
+            config,
+            result,
+            sizeInBytes
+        );
+    }
+
+    private Optional<Object> get(String procedure, AlgoBaseConfig config) {
+        return AlgorithmResultCache.get(DATABASE_ID, graphStore, procedure, config);
+    }
+
+    private static AlgoBaseConfig config(Map<String, Object> configMap) {
+        return new TestConfig(configMap);
+    }
+
+    private static class TestConfig implements AlgoBaseConfig {
+        private final Map<String, Object> configMap;
+
+        TestConfig(Map<String, Object> configMap) {
+            this.configMap = new HashMap<>(configMap);
+        }
+
+        @Override
+        public Optional<String> graphName() {
+            return Optional.of("graph");
+        }
+
+        @Override
+        public Optional<GraphCreateConfig> implicitCreateConfig() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<String, Object> toMap() {
+            return configMap;
+        }
+    }
+
+    private static final class RandomizedTestConfig extends TestConfig implements RandomSeedConfig {
+        private final Optional<Long> randomSeed;
+
+        RandomizedTestConfig(Map<String, Object> configMap, Optional<Long> randomSeed) {
+            super(configMap);
+            this.randomSeed = randomSeed;
+        }
+
+        @Override
+        public Optional<Long> randomSeed() {
+            return randomSeed;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.core.PropertyStorage;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class CompactPropertiesListBuilderTest {
+
+    private static final double[][] PROPERTIES = {
+        {1.0, 2.5, 3.0, 10.0},
+        {},
+        {42.0},
+        {-4.0, Double.NaN, 4.0},
+        {0.1, 0.1, 0.1}
+    };
+
+    static Stream<Arguments> storages() {
+        return Stream.of(
+            Arguments.of(PropertyStorage.FLOAT, 1e-6),
+            Arguments.of(PropertyStorage.QUANTIZED_16, 10.0 / 65534),
+            Arguments.of(PropertyStorage.QUANTIZED_8, 10.0 / 254),
+            Arguments.of(PropertyStorage.DICTIONARY, 0.0)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("storages")
+    void shouldRoundTripProperties(PropertyStorage storage, double tolerance) {
+        var properties = build(storage, PROPERTIES);
+
+        for (int node = 0; node < PROPERTIES.length; node++) {
+            var cursor = properties.propertyCursor(node);
+            for (double expected : PROPERTIES[node]) {
+                assertThat(cursor.hasNextLong()).isTrue();
+                double actual = Double.longBitsToDouble(cursor.nextLong());
+                if (Double.isNaN(expected)) {
+                    assertThat(actual).isNaN();
+                } else {
+                    assertThat(actual).isCloseTo(expected, within(tolerance));
+                }
+            }
+            assertThat(cursor.hasNextLong()).isFalse();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PropertyStorage.class, names = {"QUANTIZED_16", "QUANTIZED_8"})
+    void shouldFailOnInfiniteValuesWhenQuantizing(PropertyStorage storage) {
+        assertThatThrownBy(() -> build(storage, new double[][]{{1.0, Double.POSITIVE_INFINITY}}))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not support infinite values");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PropertyStorage.class, names = {"DICTIONARY"})
+    void shouldEncodeManyDistinctValues(PropertyStorage storage) {
+        var values = new double[1000];
+        Arrays.setAll(values, i -> i * 0.5);
+
+        var properties = build(storage, new double[][]{values});
+
+        var cursor = properties.propertyCursor(0);
+        for (double expected : values) {
+            assertThat(Double.longBitsToDouble(cursor.nextLong())).isEqualTo(expected);
+        }
+    }
+
+    private static AdjacencyProperties build(PropertyStorage storage, double[][] propertiesPerNode) {
+        var builder = new CompactPropertiesListBuilder(storage, AllocationTracker.empty());
+        var degrees = HugeIntArray.newArray(propertiesPerNode.length, AllocationTracker.empty());
+        var offsets = HugeLongArray.newArray(propertiesPerNode.length, AllocationTracker.empty());
+
+        var allocator = builder.newAllocator();
+        for (int node = 0; node < propertiesPerNode.length; node++) {
+            var values = propertiesPerNode[node];
+            if (values.length == 0) {
+                continue;
+            }
+            var bits = Arrays.stream(values).mapToLong(Double::doubleToLongBits).toArray();
+            degrees.set(node, values.length);
+            offsets.set(node, allocator.write(bits, bits.length));
+        }
+        allocator.close();
+
+        return builder.build(degrees, offsets);
+    }
+}
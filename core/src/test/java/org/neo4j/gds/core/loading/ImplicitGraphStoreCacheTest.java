@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeProjections;
+import org.neo4j.gds.RelationshipProjections;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphCreateFromCypherConfig;
+import org.neo4j.gds.config.GraphCreateFromStoreConfig;
+import org.neo4j.gds.config.ImmutableGraphCreateFromStoreConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.config.GraphCreateConfig.IMPLICIT_GRAPH_NAME;
+import static org.neo4j.gds.extension.GdlSupportExtension.DATABASE_ID;
+
+@GdlExtension
+class ImplicitGraphStoreCacheTest {
+
+    private static final String USER_NAME = "alice";
+
+    @GdlGraph
+    private static final String TEST_GRAPH = "(a)-[:REL]->(b)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @AfterEach
+    void tearDown() {
+        ImplicitGraphStoreCache.clear();
+        GdsFeatureToggles.IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES.set(
+            GdsFeatureToggles.IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES_DEFAULT_SETTING
+        );
+    }
+
+    @Test
+    void returnsCachedGraphStoreForEqualConfig() {
+        ImplicitGraphStoreCache.put(DATABASE_ID, implicitConfig(USER_NAME, "A"), 42L, graphStore, 100L);
+
+        assertThat(ImplicitGraphStoreCache.get(DATABASE_ID, implicitConfig(USER_NAME, "A"), 42L)).containsSame(graphStore);
+        assertThat(ImplicitGraphStoreCache.get(DATABASE_ID, implicitConfig(USER_NAME, "B"), 42L)).isEmpty();
+        assertThat(ImplicitGraphStoreCache.get(DATABASE_ID, implicitConfig("bob", "A"), 42L)).isEmpty();
+    }
+
+    @Test
+    void invalidatesEntryAfterCommit() {
+        ImplicitGraphStoreCache.put(DATABASE_ID, implicitConfig(USER_NAME, "A"), 42L, graphStore, 100L);
+
+        assertThat(ImplicitGraphStoreCache.get(DATABASE_ID, implicitConfig(USER_NAME, "A"), 43L)).isEmpty();
+        assertThat(ImplicitGraphStoreCache.size()).isEqualTo(0);
+        assertThat(ImplicitGraphStoreCache.cachedBytes()).isEqualTo(0L);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntries() {
+        GdsFeatureToggles.IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES.set(250L);
+
+        ImplicitGraphStoreCache.put(DATABASE_ID, implicitConfig(USER_NAME, "A"), 42L, graphStore, 100L);
+        ImplicitGraphStoreCache.put(DATABASE_ID, implicitConfig(USER_NAME, "B"), 42L, graphStore, 100L);
+        // marks A as recently used
+        ImplicitGraphStoreCache.get(DATABASE_ID, implicitConfig(USER_NAME, "A"), 42L);
+        ImplicitGraphStoreCache.put(DATABASE_ID, implicitConfig(USER_NAME, "C"), 42L, graphStore, 100L);
+
+        assertThat(ImplicitGraphStoreCache.size()).isEqualTo(2);
+        assertThat(ImplicitGraphStoreCache.cachedBytes()).isEqualTo(200L);
+        assertThat(ImplicitGraphStoreCache.get(DATABASE_ID, implicitConfig(USER_NAME, "A"), 42L)).isPresent();
+        assertThat(ImplicitGraphStoreCache.get(DATABASE_ID, implicitConfig(USER_NAME, "B"), 42L)).isEmpty();
+        assertThat(ImplicitGraphStoreCache.get(DATABASE_ID, implicitConfig(USER_NAME, "C"), 42L)).isPresent();
+    }
+
+    @Test
+    void doesNotCacheGraphStoresLargerThanTheCache() {
+        GdsFeatureToggles.IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES.set(50L);
+
+        ImplicitGraphStoreCache.put(DATABASE_ID, implicitConfig(USER_NAME, "A"), 42L, graphStore, 100L);
+
+        assertThat(ImplicitGraphStoreCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void doesNotCacheCypherProjections() {
+        var cypherConfig = GraphCreateFromCypherConfig.of(
+            USER_NAME,
+            IMPLICIT_GRAPH_NAME,
+            "MATCH (n) RETURN id(n) AS id",
+            "MATCH (a)-->(b) RETURN id(a) AS source, id(b) AS target",
+            CypherMapWrapper.empty()
+        );
+
+        assertThat(ImplicitGraphStoreCache.isCacheable(cypherConfig)).isFalse();
+        ImplicitGraphStoreCache.put(DATABASE_ID, cypherConfig, 42L, graphStore, 100L);
+        assertThat(ImplicitGraphStoreCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void removesAllEntriesOfDatabase() {
+        ImplicitGraphStoreCache.put(DATABASE_ID, implicitConfig(USER_NAME, "A"), 42L, graphStore, 100L);
+        ImplicitGraphStoreCache.put(DATABASE_ID, implicitConfig(USER_NAME, "B"), 42L, graphStore, 100L);
+
+        ImplicitGraphStoreCache.removeAll(DATABASE_ID);
+
+        assertThat(ImplicitGraphStoreCache.size()).isEqualTo(0);
+        assertThat(ImplicitGraphStoreCache.cachedBytes()).isEqualTo(0L);
+    }
+
+    private static GraphCreateFromStoreConfig implicitConfig(String username, String label) {
+        return ImmutableGraphCreateFromStoreConfig.builder()
+            .username(username)
+            .graphName(IMPLICIT_GRAPH_NAME)
+            .nodeProjections(NodeProjections.fromString(label))
+            .relationshipProjections(RelationshipProjections.all())
+            .build();
+    }
+}
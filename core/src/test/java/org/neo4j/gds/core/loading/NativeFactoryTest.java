@@ -107,4 +107,28 @@ class NativeFactoryTest {
         assertEquals(3_200_581_620L * 2 - idMapMemoryUsage - instanceSize, estimate.memoryUsage().min);
         assertEquals(6_000_830_800L, estimate.memoryUsage().max);
     }
+
+    @Test
+    void memoryEstimationWithTwoPassImport() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100_000_000L)
+            .maxRelCount(500_000_000L)
+            .build();
+        var relationshipProjections = RelationshipProjections.single(
+            RelationshipType.ALL_RELATIONSHIPS,
+            RelationshipProjection.ALL
+        );
+
+        var onePassEstimation = NativeFactory.getMemoryEstimation(NodeProjections.all(), relationshipProjections);
+        var twoPassEstimation = new AtomicReference<MemoryEstimation>();
+        GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.enableAndRun(() ->
+            twoPassEstimation.set(NativeFactory.getMemoryEstimation(NodeProjections.all(), relationshipProjections))
+        );
+
+        var onePassUsage = onePassEstimation.estimate(dimensions, 1).memoryUsage();
+        var twoPassUsage = twoPassEstimation.get().estimate(dimensions, 1).memoryUsage();
+        var degreeCountsUsage = PreallocatedAdjacency.memoryEstimation().estimate(dimensions, 1).memoryUsage();
+
+        assertEquals(onePassUsage.add(degreeCountsUsage), twoPassUsage);
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.NodeMapping;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RangeIdMapTest {
+
+    @Test
+    void shouldMapSingleRangeByOffset() {
+        var nodeMapping = buildAdaptive(LongStream.range(42, 1042).toArray(), false);
+
+        assertThat(nodeMapping).isInstanceOf(RangeIdMap.class);
+        assertThat(((RangeIdMap) nodeMapping).runCount()).isEqualTo(1);
+        assertThat(nodeMapping.nodeCount()).isEqualTo(1000);
+
+        assertThat(nodeMapping.toMappedNodeId(42)).isEqualTo(0);
+        assertThat(nodeMapping.toMappedNodeId(1041)).isEqualTo(999);
+        assertThat(nodeMapping.toOriginalNodeId(0)).isEqualTo(42);
+        assertThat(nodeMapping.toOriginalNodeId(999)).isEqualTo(1041);
+
+        assertThat(nodeMapping.toMappedNodeId(41)).isEqualTo(NodeMapping.NOT_FOUND);
+        assertThat(nodeMapping.toMappedNodeId(1042)).isEqualTo(NodeMapping.NOT_FOUND);
+        assertThat(nodeMapping.contains(42)).isTrue();
+        assertThat(nodeMapping.contains(1042)).isFalse();
+    }
+
+    @Test
+    void shouldMapUnorderedRuns() {
+        long[] nodeIds = LongStream.concat(
+            LongStream.concat(LongStream.range(5000, 5300), LongStream.range(1000, 1200)),
+            LongStream.range(3000, 3100)
+        ).toArray();
+        var nodeMapping = buildAdaptive(nodeIds, true);
+
+        assertThat(nodeMapping).isInstanceOf(RangeIdMap.class);
+        assertThat(((RangeIdMap) nodeMapping).runCount()).isEqualTo(3);
+
+        for (int internalId = 0; internalId < nodeIds.length; internalId++) {
+            assertThat(nodeMapping.toOriginalNodeId(internalId)).isEqualTo(nodeIds[internalId]);
+            assertThat(nodeMapping.toMappedNodeId(nodeIds[internalId])).isEqualTo(internalId);
+        }
+
+        assertThat(nodeMapping.toMappedNodeId(0)).isEqualTo(NodeMapping.NOT_FOUND);
+        assertThat(nodeMapping.toMappedNodeId(1200)).isEqualTo(NodeMapping.NOT_FOUND);
+        assertThat(nodeMapping.toMappedNodeId(2999)).isEqualTo(NodeMapping.NOT_FOUND);
+        assertThat(nodeMapping.toMappedNodeId(5300)).isEqualTo(NodeMapping.NOT_FOUND);
+    }
+
+    @Test
+    void shouldFallBackToIdMapForScatteredIds() {
+        var nodeMapping = buildAdaptive(LongStream.range(0, 1000).map(i -> 2 * i).toArray(), false);
+
+        assertThat(nodeMapping).isInstanceOf(IdMap.class);
+        assertThat(nodeMapping.toMappedNodeId(42)).isEqualTo(21);
+    }
+
+    @Test
+    void shouldDetectDuplicateIdsInOverlappingRuns() {
+        long[] nodeIds = LongStream.concat(LongStream.range(0, 200), LongStream.range(100, 300)).toArray();
+
+        assertThatThrownBy(() -> buildAdaptive(nodeIds, true))
+            .isInstanceOf(DuplicateNodeIdException.class)
+            .hasMessage("Node(100) was added multiple times.");
+    }
+
+    @Test
+    void shouldFilterByLabels() {
+        long[] nodeIds = LongStream.range(100, 1100).toArray();
+        var labelInformationBuilder = LabelInformation.emptyBuilder(AllocationTracker.empty());
+        var a = NodeLabel.of("A");
+        var b = NodeLabel.of("B");
+        for (long internalId = 0; internalId < nodeIds.length; internalId++) {
+            labelInformationBuilder.addNodeIdToLabel(internalId % 4 == 0 ? a : b, internalId, nodeIds.length);
+        }
+
+        var nodeMapping = IdMapBuilder.buildAdaptive(
+            idMappingBuilder(nodeIds),
+            labelInformationBuilder,
+            1099,
+            1,
+            false,
+            AllocationTracker.empty()
+        );
+        assertThat(nodeMapping).isInstanceOf(RangeIdMap.class);
+
+        var filteredNodeMapping = nodeMapping.withFilteredLabels(List.of(a), 1);
+
+        assertThat(filteredNodeMapping.nodeCount()).isEqualTo(250);
+        assertThat(filteredNodeMapping.rootNodeCount()).isEqualTo(1000);
+        assertThat(filteredNodeMapping.toRootNodeId(1)).isEqualTo(4);
+        assertThat(nodeMapping.toOriginalNodeId(filteredNodeMapping.toRootNodeId(1))).isEqualTo(104);
+        assertThat(filteredNodeMapping.hasLabel(1, a)).isTrue();
+        assertThat(filteredNodeMapping.availableNodeLabels()).containsExactly(a);
+    }
+
+    private static NodeMapping buildAdaptive(long[] nodeIds, boolean checkDuplicateIds) {
+        return IdMapBuilder.buildAdaptive(
+            idMappingBuilder(nodeIds),
+            LabelInformation.emptyBuilder(AllocationTracker.empty()),
+            LongStream.of(nodeIds).max().orElse(0),
+            1,
+            checkDuplicateIds,
+            AllocationTracker.empty()
+        );
+    }
+
+    private static InternalHugeIdMappingBuilder idMappingBuilder(long[] nodeIds) {
+        var idMappingBuilder = InternalHugeIdMappingBuilder.of(nodeIds.length, AllocationTracker.empty());
+        var adder = idMappingBuilder.allocate((long) nodeIds.length);
+        int index = 0;
+        while (adder.nextBuffer()) {
+            System.arraycopy(nodeIds, index, adder.buffer, adder.offset, adder.length);
+            index += adder.length;
+        }
+        return idMappingBuilder;
+    }
+}
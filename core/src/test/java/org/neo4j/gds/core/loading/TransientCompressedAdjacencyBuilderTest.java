@@ -21,6 +21,11 @@ package org.neo4j.gds.core.loading;
 
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.core.compress.AdjacencyFactory;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.core.utils.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 class TransientCompressedAdjacencyBuilderTest extends AdjacencyBuilderBaseTest {
 
@@ -28,4 +33,40 @@ class TransientCompressedAdjacencyBuilderTest extends AdjacencyBuilderBaseTest {
     void test() throws Exception {
         testAdjacencyList(AdjacencyFactory.transientCompressed());
     }
+
+    @Test
+    void testPreallocated() {
+        testPreallocatedAdjacencyList(AdjacencyFactory.transientCompressed());
+    }
+
+    @Test
+    void testPreallocatedPeakMemory() {
+        testPreallocatedPeakMemory(AdjacencyFactory.transientCompressed());
+    }
+
+    @Test
+    void testSpilledToDisk() throws Exception {
+        GdsFeatureToggles.USE_SPILL_TO_DISK.enableAndRun(() -> testAdjacencyList(AdjacencyFactory.transientCompressed()));
+    }
+
+    @Test
+    void shouldSpillFilledPagesWhileBuilding() throws Exception {
+        GdsFeatureToggles.USE_SPILL_TO_DISK.enableAndRun(() -> {
+            var allocationTracker = AllocationTracker.create();
+            var builder = new TransientCompressedListBuilder(allocationTracker);
+            var allocator = builder.newAllocator();
+            var targets = new byte[BumpAllocator.PAGE_SIZE / 4];
+
+            for (int i = 0; i < 16; i++) {
+                allocator.write(targets, targets.length);
+            }
+
+            // only the page that is currently being filled remains on the heap
+            long pageBytes = MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE);
+            assertThat(allocationTracker.trackedBytes()).isLessThan(2 * pageBytes);
+
+            allocator.close();
+            assertThat(allocationTracker.trackedBytes()).isLessThan(pageBytes);
+        });
+    }
 }
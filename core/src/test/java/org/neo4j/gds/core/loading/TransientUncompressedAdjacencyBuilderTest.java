@@ -28,4 +28,14 @@ class TransientUncompressedAdjacencyBuilderTest extends AdjacencyBuilderBaseTest
     void test() throws Exception {
         testAdjacencyList(AdjacencyFactory.transientUncompressed());
     }
+
+    @Test
+    void testPreallocated() {
+        testPreallocatedAdjacencyList(AdjacencyFactory.transientUncompressed());
+    }
+
+    @Test
+    void testPreallocatedPeakMemory() {
+        testPreallocatedPeakMemory(AdjacencyFactory.transientUncompressed());
+    }
 }
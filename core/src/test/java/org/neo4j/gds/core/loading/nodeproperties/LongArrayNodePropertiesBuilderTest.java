@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongArrayNodePropertiesBuilderTest {
+
+    @Test
+    void shouldStoreArrays() {
+        long[][] arrays = {
+            {1L, 2L, 3L},
+            {},
+            null,
+            {42L},
+            {-5L, 5L}
+        };
+        var defaultValue = new long[]{-1L};
+        var builder = new LongArrayNodePropertiesBuilder(
+            arrays.length,
+            DefaultValue.of(defaultValue),
+            AllocationTracker.empty()
+        );
+        for (int nodeId = 0; nodeId < arrays.length; nodeId++) {
+            if (arrays[nodeId] != null) {
+                builder.set(nodeId, arrays[nodeId]);
+            }
+        }
+
+        var properties = builder.build(arrays.length);
+
+        assertThat(properties.size()).isEqualTo(arrays.length);
+        for (int nodeId = 0; nodeId < arrays.length; nodeId++) {
+            var expected = arrays[nodeId] == null ? defaultValue : arrays[nodeId];
+            assertThat(properties.longArrayValue(nodeId)).containsExactly(expected);
+        }
+    }
+
+    @Test
+    void shouldNotCopyArraysOnRead() {
+        var array = new long[]{1L, 2L, 3L};
+        var builder = new LongArrayNodePropertiesBuilder(1, DefaultValue.forLongArray(), AllocationTracker.empty());
+        builder.set(0, array);
+
+        var properties = builder.build(1);
+
+        assertThat(properties.longArrayValue(0)).isSameAs(array);
+        assertThat(properties.longArrayValue(0)).isSameAs(properties.longArrayValue(0));
+    }
+
+    @Test
+    void shouldStoreWideValues() {
+        long[][] arrays = {
+            {Long.MIN_VALUE, 0L},
+            {Long.MAX_VALUE}
+        };
+        var builder = new LongArrayNodePropertiesBuilder(
+            arrays.length,
+            DefaultValue.forLongArray(),
+            AllocationTracker.empty()
+        );
+        for (int nodeId = 0; nodeId < arrays.length; nodeId++) {
+            builder.set(nodeId, arrays[nodeId]);
+        }
+
+        var properties = builder.build(arrays.length);
+
+        for (int nodeId = 0; nodeId < arrays.length; nodeId++) {
+            assertThat(properties.longArrayValue(nodeId)).containsExactly(arrays[nodeId]);
+        }
+    }
+}
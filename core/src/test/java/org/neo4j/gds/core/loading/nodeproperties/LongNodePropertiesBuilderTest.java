@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading.nodeproperties;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.LongNodeProperties;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongNodePropertiesBuilderTest {
+
+    @Test
+    void shouldStoreSmallRangeWithFrameOfReference() {
+        var nodeCount = 100_000;
+        var builder = new LongNodePropertiesBuilder(nodeCount, DefaultValue.of(1_000_000L), AllocationTracker.empty());
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            builder.set(nodeId, 1_000_000L + nodeId % 1000);
+        }
+
+        var properties = builder.build(nodeCount);
+
+        assertThat(properties).isInstanceOf(EncodedLongNodeProperties.FrameOfReferenceNodeProperties.class);
+        assertThat(properties.size()).isEqualTo(nodeCount);
+        assertThat(properties.getMaxLongPropertyValue()).hasValue(1_000_999L);
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(properties.longValue(nodeId)).isEqualTo(1_000_000L + nodeId % 1000);
+        }
+    }
+
+    @Test
+    void shouldStoreFewDistinctValuesWithDictionary() {
+        var nodeCount = 10_000;
+        long[] distinctValues = {Long.MIN_VALUE, -42L, 0L, Long.MAX_VALUE};
+        var builder = new LongNodePropertiesBuilder(nodeCount, DefaultValue.forLong(), AllocationTracker.empty());
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            builder.set(nodeId, distinctValues[nodeId % distinctValues.length]);
+        }
+
+        var properties = builder.build(nodeCount);
+
+        assertThat(properties).isInstanceOf(EncodedLongNodeProperties.DictionaryNodeProperties.class);
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(properties.longValue(nodeId)).isEqualTo(distinctValues[nodeId % distinctValues.length]);
+        }
+    }
+
+    @Test
+    void shouldNotTrackReleasedValuesAfterEncoding() {
+        var nodeCount = 100_000;
+        var allocationTracker = AllocationTracker.create();
+        var builder = new LongNodePropertiesBuilder(nodeCount, DefaultValue.of(0L), allocationTracker);
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            builder.set(nodeId, nodeId % 16);
+        }
+        long trackedBeforeBuild = allocationTracker.trackedBytes();
+
+        var properties = builder.build(nodeCount);
+
+        assertThat(properties).isInstanceOf(EncodedLongNodeProperties.FrameOfReferenceNodeProperties.class);
+        // 4 bits per value instead of 64
+        assertThat(allocationTracker.trackedBytes()).isLessThan(trackedBeforeBuild / 8);
+    }
+
+    @Test
+    void shouldReturnDefaultValueForMissingNodes() {
+        var builder = new LongNodePropertiesBuilder(10, DefaultValue.of(-1L), AllocationTracker.empty());
+        builder.set(2, 20);
+        builder.set(7, 70);
+
+        var properties = builder.build(10);
+
+        assertThat(properties).isNotInstanceOf(LongNodePropertiesBuilder.LongStoreNodeProperties.class);
+        for (int nodeId = 0; nodeId < 10; nodeId++) {
+            long expected = nodeId == 2 ? 20 : nodeId == 7 ? 70 : -1;
+            assertThat(properties.longValue(nodeId)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldFallBackToUncompressedStorageForWideValues() {
+        var nodeCount = EncodedLongNodeProperties.MAX_DICTIONARY_SIZE + 1;
+        var builder = new LongNodePropertiesBuilder(nodeCount, DefaultValue.forLong(), AllocationTracker.empty());
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            builder.set(nodeId, (long) nodeId << 40);
+        }
+
+        LongNodeProperties properties = builder.build(nodeCount);
+
+        assertThat(properties).isInstanceOf(LongNodePropertiesBuilder.LongStoreNodeProperties.class);
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            assertThat(properties.longValue(nodeId)).isEqualTo((long) nodeId << 40);
+        }
+    }
+
+    @Test
+    void shouldPackValuesAcrossWordBoundaries() {
+        var size = 50_000;
+        var array = new BitPackedLongArray(size, 23, AllocationTracker.empty());
+        for (int i = 0; i < size; i++) {
+            array.set(i, (i * 7919L) & ((1 << 23) - 1));
+        }
+        for (int i = 0; i < size; i++) {
+            assertThat(array.get(i)).isEqualTo((i * 7919L) & ((1 << 23) - 1));
+        }
+    }
+}
@@ -429,6 +429,39 @@ abstract class HugeArrayTestBase<Array, Box, Huge extends HugeArray<Array, Box,
         });
     }
 
+    @Test
+    final void shouldCopySliceIntoArray() {
+        testArray(10, 20, (array, size) -> {
+            array.boxedSetAll(i -> box((int) i + 2));
+
+            int sliceStart = 3;
+            Array target = newUnderlyingArray(size);
+            int copied = array.copySliceIntoArray(sliceStart, size, target);
+
+            // make sure that the items that weren't copied to are 0
+            Box[] expected = newBoxedArray(size);
+            Arrays.setAll(expected, i -> i < size - sliceStart ? box(i + sliceStart + 2) : primitiveNull());
+            assertEquals(size - sliceStart, copied);
+            compareAgainst(target, expected);
+        });
+    }
+
+    @Test
+    final void shouldCopySliceIntoSmallerArray() {
+        testArray(10, 20, (array, size) -> {
+            array.boxedSetAll(i -> box((int) i + 2));
+
+            int targetSize = size - 5;
+            Array target = newUnderlyingArray(targetSize);
+            int copied = array.copySliceIntoArray(0, size, target);
+
+            Box[] expected = newBoxedArray(targetSize);
+            Arrays.setAll(expected, i -> box(i + 2));
+            assertEquals(targetSize, copied);
+            compareAgainst(target, expected);
+        });
+    }
+
     void testArray(int size, Consumer<Huge> block) {
         if (bool()) {
             block.accept(singleArray(size));
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.AllocationTracker;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpilledPagesTest {
+
+    private static final int PAGES = 10;
+    private static final long SIZE = (long) PAGES * HugeArrays.PAGE_SIZE - 42;
+    // two resident pages force an eviction for almost every page access
+    private static final long RESIDENT_BYTES = 2L * HugeArrays.PAGE_SIZE * Long.BYTES;
+
+    private long residentBytesBefore;
+
+    @BeforeEach
+    void setup() {
+        residentBytesBefore = GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.getAndSet(RESIDENT_BYTES);
+        SpillingPageCache.clear();
+    }
+
+    @AfterEach
+    void teardown() {
+        GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.set(residentBytesBefore);
+    }
+
+    @Test
+    void shouldReadWrittenLongsAfterEviction() {
+        var array = HugeLongArray.newSpilledArray(SIZE, AllocationTracker.empty());
+        assertThat(array.pages()).isEqualTo(PAGES);
+
+        for (long i = 0; i < SIZE; i++) {
+            array.set(i, i * 3);
+        }
+        assertThat(SpillingPageCache.residentBytes()).isLessThanOrEqualTo(RESIDENT_BYTES);
+
+        for (long i = 0; i < SIZE; i += 7) {
+            array.addTo(i, 1L);
+        }
+        for (long i = 0; i < SIZE; i++) {
+            assertThat(array.get(i)).isEqualTo(i * 3 + (i % 7 == 0 ? 1L : 0L));
+        }
+        array.release();
+    }
+
+    @Test
+    void shouldReadWrittenDoublesAfterEviction() {
+        var array = HugeDoubleArray.newSpilledArray(SIZE, AllocationTracker.empty());
+        array.setAll(i -> i / 2.0);
+
+        for (long i = SIZE - 1; i >= 0; i--) {
+            assertThat(array.get(i)).isEqualTo(i / 2.0);
+        }
+        assertThat(array.stream().count()).isEqualTo(SIZE);
+        array.release();
+    }
+
+    @Test
+    void shouldReadZerosFromPagesThatHaveNotBeenWritten() {
+        var array = HugeLongArray.newSpilledArray(SIZE, AllocationTracker.empty());
+        array.set(SIZE - 1, 42L);
+
+        assertThat(array.get(0)).isEqualTo(0L);
+        assertThat(array.get(SIZE / 2)).isEqualTo(0L);
+        assertThat(array.get(SIZE - 1)).isEqualTo(42L);
+        array.release();
+    }
+
+    @Test
+    void shouldIterateWithCursor() {
+        var array = HugeLongArray.newSpilledArray(SIZE, AllocationTracker.empty());
+        array.setAll(i -> i + 1);
+
+        long expected = 1L;
+        try (var cursor = array.initCursor(array.newCursor())) {
+            while (cursor.next()) {
+                for (int i = cursor.offset; i < cursor.limit; i++) {
+                    assertThat(cursor.array[i]).isEqualTo(expected++);
+                }
+            }
+        }
+        assertThat(expected).isEqualTo(SIZE + 1);
+        array.release();
+    }
+
+    @Test
+    void shouldWriteThroughCursor() {
+        var array = HugeLongArray.newSpilledArray(SIZE, AllocationTracker.empty());
+        var values = new long[3 * HugeArrays.PAGE_SIZE];
+        Arrays.fill(values, 42L);
+
+        array.copyFromArrayIntoSlice(values, HugeArrays.PAGE_SIZE, 4L * HugeArrays.PAGE_SIZE);
+        SpillingPageCache.clear();
+
+        assertThat(array.get(HugeArrays.PAGE_SIZE - 1)).isEqualTo(0L);
+        for (long i = HugeArrays.PAGE_SIZE; i < 4L * HugeArrays.PAGE_SIZE; i++) {
+            assertThat(array.get(i)).isEqualTo(42L);
+        }
+        assertThat(array.get(4L * HugeArrays.PAGE_SIZE)).isEqualTo(0L);
+        array.release();
+    }
+
+    @Test
+    void shouldCopyBetweenSpilledAndHeapArrays() {
+        var spilled = HugeLongArray.newSpilledArray(SIZE, AllocationTracker.empty());
+        spilled.setAll(i -> i * 2);
+
+        var paged = HugeLongArray.newPagedArray(SIZE + 10, AllocationTracker.empty());
+        paged.fill(1L);
+        spilled.copyTo(paged, SIZE);
+        for (long i = 0; i < SIZE; i++) {
+            assertThat(paged.get(i)).isEqualTo(i * 2);
+        }
+        assertThat(paged.get(SIZE + 5)).isEqualTo(0L);
+
+        var target = HugeLongArray.newSpilledArray(SIZE, AllocationTracker.empty());
+        paged.copyTo(target, SIZE);
+        assertThat(target.toArray()).isEqualTo(spilled.toArray());
+
+        spilled.release();
+        target.release();
+    }
+
+    @Test
+    void shouldKeepConcurrentWrites() {
+        var array = HugeLongArray.newSpilledArray(SIZE, AllocationTracker.empty());
+        int concurrency = 4;
+
+        var tasks = IntStream.range(0, concurrency).mapToObj(thread -> (Runnable) () -> {
+            // every thread writes to every page, so that pages are evicted while other threads write to them
+            for (long i = thread; i < SIZE; i += concurrency) {
+                array.set(i, i);
+            }
+        }).collect(Collectors.toList());
+        ParallelUtil.run(tasks, Pools.DEFAULT);
+
+        for (long i = 0; i < SIZE; i++) {
+            assertThat(array.get(i)).isEqualTo(i);
+        }
+        array.release();
+    }
+
+    @Test
+    void shouldCopyBytePages() {
+        var pages = new byte[][]{new byte[]{1, 2, 3}, new byte[]{4, 5}, new byte[HugeArrays.PAGE_SIZE]};
+        pages[2][HugeArrays.PAGE_SIZE - 1] = 42;
+
+        var spilledPages = SpilledPages.copyOf(pages);
+
+        assertThat(spilledPages.pages()).isEqualTo(3);
+        for (int i = 0; i < pages.length; i++) {
+            assertThat(spilledPages.page(i)).isEqualTo(pages[i]);
+        }
+        spilledPages.release();
+    }
+
+    @Test
+    void shouldAppendBytePagesInAnyOrder() {
+        var appender = SpilledPages.appender();
+        var first = new byte[]{1, 2, 3};
+        var third = new byte[HugeArrays.PAGE_SIZE];
+        third[HugeArrays.PAGE_SIZE - 1] = 42;
+
+        appender.append(third, 2);
+        appender.append(first, 0);
+        var spilledPages = appender.build(4);
+
+        assertThat(spilledPages.pages()).isEqualTo(4);
+        assertThat(spilledPages.page(0)).isEqualTo(first);
+        assertThat(spilledPages.page(1)).isEmpty();
+        assertThat(spilledPages.page(2)).isEqualTo(third);
+        assertThat(spilledPages.page(3)).isEmpty();
+        spilledPages.release();
+    }
+
+    @Test
+    void shouldDropResidentPagesOnRelease() {
+        var array = HugeLongArray.newSpilledArray(SIZE, AllocationTracker.empty());
+        array.set(0, 42L);
+        assertThat(SpillingPageCache.residentBytes()).isPositive();
+
+        array.release();
+
+        assertThat(SpillingPageCache.residentBytes()).isEqualTo(0L);
+    }
+
+    @Test
+    void shouldCreateSpilledArraysWhenEnabled() throws Exception {
+        GdsFeatureToggles.USE_SPILL_TO_DISK.enableAndRun(() -> {
+            var array = HugeLongArray.newArray(SIZE, AllocationTracker.empty());
+            assertThat(array.newCursor()).isInstanceOf(HugeCursor.SpilledCursor.class);
+            array.release();
+
+            // arrays that fit into a single page are kept on the heap
+            var small = HugeLongArray.newArray(HugeArrays.PAGE_SIZE, AllocationTracker.empty());
+            assertThat(small.newCursor()).isInstanceOf(HugeCursor.SinglePageCursor.class);
+        });
+    }
+}
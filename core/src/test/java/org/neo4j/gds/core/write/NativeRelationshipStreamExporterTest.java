@@ -21,6 +21,8 @@ package org.neo4j.gds.core.write;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.BaseTest;
 import org.neo4j.gds.TestLog;
 import org.neo4j.gds.TestSupport;
@@ -28,22 +30,29 @@ import org.neo4j.gds.extension.Neo4jGraph;
 import org.neo4j.gds.StoreLoaderBuilder;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.utils.ExceptionUtil;
+import org.neo4j.graphdb.TransactionTerminatedException;
 import org.neo4j.graphdb.security.AuthorizationViolationException;
 import org.neo4j.internal.kernel.api.security.AccessMode;
 import org.neo4j.values.storable.Value;
 import org.neo4j.values.storable.Values;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.neo4j.gds.TestSupport.assertGraphEquals;
 import static org.neo4j.gds.TestSupport.fromGdl;
 import static org.neo4j.gds.core.utils.TerminationFlag.RUNNING_TRUE;
@@ -206,6 +215,96 @@ class NativeRelationshipStreamExporterTest extends BaseTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4})
+    void exportWithMultipleWriters(int writeConcurrency) {
+        int nodeCount = 4;
+        var batchSize = 10;
+        var relationshipCount = 1005;
+
+        var rand = new Random();
+
+        var relationshipStream = IntStream
+            .range(0, relationshipCount)
+            .mapToObj(ignored -> relationship(randomVariable(rand, nodeCount), randomVariable(rand, nodeCount)));
+
+        var exporter = NativeRelationshipStreamExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, relationshipStream, TerminationFlag.RUNNING_TRUE)
+            .withBatchSize(batchSize)
+            .withWriteConcurrency(writeConcurrency)
+            .build();
+
+        var relationshipsWritten = exporter.write("FOOBAR");
+
+        assertEquals(relationshipCount, relationshipsWritten);
+        assertCypherResult(
+            "MATCH ()-[r:FOOBAR]->() RETURN count(r) AS count",
+            List.of(Map.of("count", (long) relationshipCount))
+        );
+    }
+
+    @Test
+    void exportWithMoreWritersThanPoolThreads() {
+        runQuery("UNWIND range(1, 100) AS i CREATE ()");
+        var largerGraph = new StoreLoaderBuilder().api(db).build().graphStore().getUnion();
+        var nodeCount = largerGraph.nodeCount();
+        // more than the core threads of the default pool in either edition
+        var writeConcurrency = 2 * Math.max(
+            Runtime.getRuntime().availableProcessors(),
+            ConcurrencyConfig.CONCURRENCY_LIMITATION
+        ) + 1;
+        var relationshipCount = 20 * nodeCount;
+
+        // every writer receives more than one full buffer, so every writer has to run before the stream is consumed
+        var relationshipStream = LongStream
+            .range(0, relationshipCount)
+            .mapToObj(i -> (Relationship) ImmutableRelationship.of(i % nodeCount, (i + 1) % nodeCount, new Value[0]));
+
+        var exporter = NativeRelationshipStreamExporter
+            .builder(TestSupport.fullAccessTransaction(db), largerGraph, relationshipStream, TerminationFlag.RUNNING_TRUE)
+            .withBatchSize(5)
+            .withWriteConcurrency(writeConcurrency)
+            .build();
+
+        var relationshipsWritten = assertTimeoutPreemptively(Duration.ofMinutes(1), () -> exporter.write("FOOBAR"));
+
+        assertEquals(relationshipCount, relationshipsWritten);
+        assertCypherResult(
+            "MATCH ()-[r:FOOBAR]->() RETURN count(r) AS count",
+            List.of(Map.of("count", relationshipCount))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void rejectsWriteConcurrencyBelowOne(int writeConcurrency) {
+        var builder = NativeRelationshipStreamExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, Stream.empty(), TerminationFlag.RUNNING_TRUE);
+
+        assertThatThrownBy(() -> builder.withWriteConcurrency(writeConcurrency))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(
+                "Value for `writeConcurrency` was `%d`, but must be within the range [1, 2147483647].",
+                writeConcurrency
+            );
+    }
+
+    @Test
+    void failsWhenWriterIsTerminated() {
+        var relationshipStream = IntStream
+            .range(0, 100)
+            .mapToObj(ignored -> relationship("a", "b"));
+
+        var exporter = NativeRelationshipStreamExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, relationshipStream, () -> false)
+            .withBatchSize(10)
+            .withWriteConcurrency(2)
+            .build();
+
+        assertThatThrownBy(() -> exporter.write("FOOBAR"))
+            .satisfies(e -> assertThat(ExceptionUtil.rootCause(e)).isInstanceOf(TransactionTerminatedException.class));
+    }
+
     @Test
     void exportEmptyStream() {
         var exporter = NativeRelationshipStreamExporter
@@ -243,7 +342,7 @@ class NativeRelationshipStreamExporterTest extends BaseTest {
         assertEquals(relationshipCount, relationshipsWritten);
 
         var messages = log.getMessages("info");
-        assertEquals(7, messages.size());
+        assertEquals(8, messages.size());
 
         assertThat(messages.get(0)).contains("WriteRelationshipStream :: Start");
         assertThat(messages.get(1)).contains("WriteRelationshipStream has written 25 relationships");
@@ -251,7 +350,8 @@ class NativeRelationshipStreamExporterTest extends BaseTest {
         assertThat(messages.get(3)).contains("WriteRelationshipStream has written 75 relationships");
         assertThat(messages.get(4)).contains("WriteRelationshipStream has written 100 relationships");
         assertThat(messages.get(5)).contains("WriteRelationshipStream has written 105 relationships");
-        assertThat(messages.get(6)).contains("WriteRelationshipStream :: Finished");
+        assertThat(messages.get(6)).contains("WriteRelationshipStream wrote 105 relationships with 1 writers");
+        assertThat(messages.get(7)).contains("WriteRelationshipStream :: Finished");
     }
 
     Relationship relationship(String sourceVariable, String targetVariable, Value... values) {
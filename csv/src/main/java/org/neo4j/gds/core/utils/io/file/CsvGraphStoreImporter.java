@@ -72,6 +72,7 @@ public final class CsvGraphStoreImporter {
     private final Path importPath;
     private final GraphStoreRelationshipVisitor.Builder relationshipVisitorBuilder;
     private final int concurrency;
+    private final FileFormat fileFormat;
 
     private final GraphStoreBuilder graphStoreBuilder;
     private String userName;
@@ -82,11 +83,21 @@ public final class CsvGraphStoreImporter {
         int concurrency,
         Path importPath,
         Log log
+    ) {
+        return create(concurrency, importPath, log, FileFormat.CSV);
+    }
+
+    public static CsvGraphStoreImporter create(
+        int concurrency,
+        Path importPath,
+        Log log,
+        FileFormat fileFormat
     ) {
         return new CsvGraphStoreImporter(
             new GraphStoreNodeVisitor.Builder(),
             new GraphStoreRelationshipVisitor.Builder(),
             concurrency,
+            fileFormat,
             importPath,
             log
         );
@@ -96,12 +107,14 @@ public final class CsvGraphStoreImporter {
         GraphStoreNodeVisitor.Builder nodeVisitorBuilder,
         GraphStoreRelationshipVisitor.Builder relationshipVisitorBuilder,
         int concurrency,
+        FileFormat fileFormat,
         Path importPath,
         Log log
     ) {
         this.nodeVisitorBuilder = nodeVisitorBuilder;
         this.relationshipVisitorBuilder = relationshipVisitorBuilder;
         this.concurrency = concurrency;
+        this.fileFormat = fileFormat;
         this.importPath = importPath;
         this.graphStoreBuilder = new GraphStoreBuilder().concurrency(concurrency);
         this.log = log;
@@ -112,7 +125,7 @@ public final class CsvGraphStoreImporter {
     }
 
     public GraphStoreExporter.ImportedProperties run(AllocationTracker allocationTracker) {
-        var fileInput = new FileInput(importPath);
+        var fileInput = new FileInput(importPath, fileFormat);
         graphStoreBuilder.allocationTracker(allocationTracker);
         graphStoreBuilder.log(log);
         this.userName = fileInput.userName();
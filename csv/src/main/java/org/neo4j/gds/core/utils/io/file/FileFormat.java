@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+/**
+ * The on-disk format of the node and relationship data files.
+ * Metadata and header files are always written as CSV.
+ */
+public enum FileFormat {
+    CSV(".csv"),
+    /**
+     * Columnar blocks of delta-encoded and deflate-compressed values.
+     *
+     * @see org.neo4j.gds.core.utils.io.file.binary.BinaryFormat
+     */
+    BINARY(".gdsb");
+
+    private final String dataFileSuffix;
+
+    FileFormat(String dataFileSuffix) {
+        this.dataFileSuffix = dataFileSuffix;
+    }
+
+    public String dataFileSuffix() {
+        return dataFileSuffix;
+    }
+}
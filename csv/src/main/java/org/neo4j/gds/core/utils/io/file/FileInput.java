@@ -30,6 +30,7 @@ import org.neo4j.gds.api.schema.RelationshipPropertySchema;
 import org.neo4j.gds.api.schema.RelationshipSchema;
 import org.neo4j.gds.compat.CompatInput;
 import org.neo4j.gds.compat.CompatPropertySizeCalculator;
+import org.neo4j.gds.core.utils.io.file.binary.BinaryFileImporter;
 import org.neo4j.gds.core.utils.io.file.csv.CsvImportUtil;
 import org.neo4j.internal.batchimport.InputIterable;
 import org.neo4j.internal.batchimport.InputIterator;
@@ -42,9 +43,13 @@ import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 import org.neo4j.internal.batchimport.input.ReadableGroups;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
-import java.util.Iterator;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -52,13 +57,19 @@ import java.util.stream.Collectors;
 public final class FileInput implements CompatInput {
 
     private final Path importPath;
+    private final FileFormat fileFormat;
     private final String userName;
     private final GraphInfo graphInfo;
     private final NodeSchema nodeSchema;
     private final RelationshipSchema relationshipSchema;
 
     FileInput(Path importPath) {
+        this(importPath, FileFormat.CSV);
+    }
+
+    FileInput(Path importPath, FileFormat fileFormat) {
         this.importPath = importPath;
+        this.fileFormat = fileFormat;
         this.userName = new UserInfoLoader(importPath).load();
         this.graphInfo = new GraphInfoLoader(importPath).load();
         this.nodeSchema = new NodeSchemaLoader(importPath).load();
@@ -67,22 +78,46 @@ public final class FileInput implements CompatInput {
 
     @Override
     public InputIterable nodes(Collector badCollector) {
-        Map<Path, List<Path>> pathMapping = CsvImportUtil.nodeHeaderToFileMapping(importPath);
+        Map<Path, List<Path>> pathMapping = CsvImportUtil.nodeHeaderToFileMapping(importPath, fileFormat);
         Map<NodeFileHeader, List<Path>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
             entry -> CsvImportUtil.parseNodeHeader(entry.getKey()),
             Map.Entry::getValue
         ));
-        return () -> new NodeImporter(headerToDataFilesMapping, nodeSchema);
+        if (fileFormat == FileFormat.BINARY) {
+            return () -> BinaryFileImporter.nodes(headerToDataFilesMapping, nodeSchema);
+        }
+        var headerToRegionsMapping = splitIntoRegions(headerToDataFilesMapping);
+        return () -> new NodeImporter(headerToRegionsMapping, nodeSchema);
     }
 
     @Override
     public InputIterable relationships(Collector badCollector) {
-        Map<Path, List<Path>> pathMapping = CsvImportUtil.relationshipHeaderToFileMapping(importPath);
+        Map<Path, List<Path>> pathMapping = CsvImportUtil.relationshipHeaderToFileMapping(importPath, fileFormat);
         Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping = pathMapping.entrySet().stream().collect(Collectors.toMap(
             entry -> CsvImportUtil.parseRelationshipHeader(entry.getKey()),
             Map.Entry::getValue
         ));
-        return () -> new RelationshipImporter(headerToDataFilesMapping, relationshipSchema);
+        if (fileFormat == FileFormat.BINARY) {
+            return () -> BinaryFileImporter.relationships(headerToDataFilesMapping, relationshipSchema);
+        }
+        var headerToRegionsMapping = splitIntoRegions(headerToDataFilesMapping);
+        return () -> new RelationshipImporter(headerToRegionsMapping, relationshipSchema);
+    }
+
+    private static <HEADER> Map<HEADER, List<FileRegion>> splitIntoRegions(Map<HEADER, List<Path>> headerToDataFilesMapping) {
+        var headerToRegionsMapping = new HashMap<HEADER, List<FileRegion>>();
+        headerToDataFilesMapping.forEach((header, dataFiles) -> {
+            var regions = new ArrayList<FileRegion>();
+            for (Path dataFile : dataFiles) {
+                try {
+                    regions.addAll(FileRegion.split(dataFile));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            headerToRegionsMapping.put(header, regions);
+        });
+        return headerToRegionsMapping;
     }
 
     @Override
@@ -122,11 +157,11 @@ public final class FileInput implements CompatInput {
         IDENTIFIER extends ElementIdentifier,
         PROPERTY_SCHEMA extends PropertySchema> implements InputIterator {
 
-        private final MappedListIterator<HEADER, Path> entryIterator;
+        private final MappedListIterator<HEADER, FileRegion> entryIterator;
         final SCHEMA elementSchema;
 
         FileImporter(
-            Map<HEADER, List<Path>> headerToDataFilesMapping,
+            Map<HEADER, List<FileRegion>> headerToDataFilesMapping,
             SCHEMA elementSchema
         ) {
             this.entryIterator = new MappedListIterator<>(headerToDataFilesMapping);
@@ -136,7 +171,7 @@ public final class FileInput implements CompatInput {
         @Override
         public synchronized boolean next(InputChunk chunk) throws IOException {
             if (entryIterator.hasNext()) {
-                Pair<HEADER, Path> entry = entryIterator.next();
+                Pair<HEADER, FileRegion> entry = entryIterator.next();
 
                 assert chunk instanceof LineChunk;
                 ((LineChunk<HEADER, SCHEMA, IDENTIFIER, PROPERTY_SCHEMA>) chunk).initialize(entry.getKey(), entry.getValue());
@@ -153,7 +188,7 @@ public final class FileInput implements CompatInput {
     static class NodeImporter extends FileImporter<NodeFileHeader, NodeSchema, NodeLabel, PropertySchema> {
 
         NodeImporter(
-            Map<NodeFileHeader, List<Path>> headerToDataFilesMapping,
+            Map<NodeFileHeader, List<FileRegion>> headerToDataFilesMapping,
             NodeSchema nodeSchema
         ) {
             super(headerToDataFilesMapping, nodeSchema);
@@ -168,7 +203,7 @@ public final class FileInput implements CompatInput {
     static class RelationshipImporter extends FileImporter<RelationshipFileHeader, RelationshipSchema, RelationshipType, RelationshipPropertySchema> {
 
         RelationshipImporter(
-            Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping,
+            Map<RelationshipFileHeader, List<FileRegion>> headerToDataFilesMapping,
             RelationshipSchema relationshipSchema
         ) {
             super(headerToDataFilesMapping, relationshipSchema);
@@ -187,38 +222,60 @@ public final class FileInput implements CompatInput {
         PROPERTY_SCHEMA extends PropertySchema> implements InputChunk {
 
         private final SCHEMA schema;
+        private final LineFields fields;
 
         HEADER header;
-        Iterator<String> lineIterator;
         Map<String, PROPERTY_SCHEMA> propertySchemas;
 
+        private ByteBuffer buffer;
+        private int position;
+
         LineChunk(SCHEMA schema) {
             this.schema = schema;
+            this.fields = new LineFields();
         }
 
         void initialize(
             HEADER header,
-            Path path
+            FileRegion region
         ) throws IOException {
             this.header = header;
             this.propertySchemas = header.schemaForIdentifier(schema);
-            this.lineIterator = Files.lines(path).iterator();
+            try (var channel = FileChannel.open(region.path(), StandardOpenOption.READ)) {
+                this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, region.start(), region.length());
+            }
+            this.position = 0;
         }
 
         @Override
         public boolean next(InputEntityVisitor visitor) throws IOException {
-            if (lineIterator.hasNext()) {
-                String line = lineIterator.next();
-                // Ignore empty lines
-                if (!line.isBlank()) {
-                    visitLine(line, header, visitor);
-                }
-                return true;
+            int limit = buffer.limit();
+            if (position >= limit) {
+                return false;
             }
-            return false;
+            int lineEnd = position;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int nextLine = lineEnd + 1;
+            if (lineEnd > position && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            fields.split(buffer, position, lineEnd);
+            // Ignore empty lines
+            if (fields.count() > 1 || !fields.isBlank(0)) {
+                visitLine(fields, header, visitor);
+            }
+            position = nextLine;
+            return true;
         }
 
-        abstract void visitLine(String line, HEADER header, InputEntityVisitor visitor) throws IOException;
+        abstract void visitLine(LineFields fields, HEADER header, InputEntityVisitor visitor) throws IOException;
+
+        @Override
+        public void close() throws IOException {
+            buffer = null;
+        }
     }
 
     static class NodeLineChunk extends LineChunk<NodeFileHeader, NodeSchema, NodeLabel, PropertySchema> {
@@ -228,37 +285,23 @@ public final class FileInput implements CompatInput {
         }
 
         @Override
-        void visitLine(String line, NodeFileHeader header, InputEntityVisitor visitor) throws IOException {
-
-            var lineValues = line.split(",", -1);
-
+        void visitLine(LineFields fields, NodeFileHeader header, InputEntityVisitor visitor) throws IOException {
             visitor.labels(header.nodeLabels());
 
-            visitor.id(Long.parseLong(lineValues[0]));
-
-            header
-                .propertyMappings()
-                .forEach(property -> {
-                    var propertyValue = property.position() < lineValues.length
-                        ? lineValues[property.position()]
-                        : "";
-                    visitor.property(
-                        property.propertyKey(),
-                        property
-                            .valueType()
-                            .fromCsvValue(
-                                propertyValue,
-                                propertySchemas.get(property.propertyKey()).defaultValue()
-                            )
-                    );
-                });
+            visitor.id(fields.longValue(0));
 
-            visitor.endOfEntity();
-        }
-
-        @Override
-        public void close() throws IOException {
+            for (HeaderProperty property : header.propertyMappings()) {
+                visitor.property(
+                    property.propertyKey(),
+                    fields.value(
+                        property.position(),
+                        property.valueType(),
+                        propertySchemas.get(property.propertyKey()).defaultValue()
+                    )
+                );
+            }
 
+            visitor.endOfEntity();
         }
     }
 
@@ -269,26 +312,23 @@ public final class FileInput implements CompatInput {
         }
 
         @Override
-        void visitLine(String line, RelationshipFileHeader header, InputEntityVisitor visitor) throws IOException {
-            var lineValues = line.split(",", -1);
-
+        void visitLine(LineFields fields, RelationshipFileHeader header, InputEntityVisitor visitor) throws IOException {
             visitor.type(header.relationshipType());
-            visitor.startId(Long.parseLong(lineValues[0]));
-            visitor.endId(Long.parseLong(lineValues[1]));
+            visitor.startId(fields.longValue(0));
+            visitor.endId(fields.longValue(1));
 
-            header
-                .propertyMappings()
-                .forEach(property -> visitor.property(
+            for (HeaderProperty property : header.propertyMappings()) {
+                visitor.property(
                     property.propertyKey(),
-                    property.valueType().fromCsvValue(lineValues[property.position()], propertySchemas.get(property.propertyKey()).defaultValue())
-                ));
+                    fields.value(
+                        property.position(),
+                        property.valueType(),
+                        propertySchemas.get(property.propertyKey()).defaultValue()
+                    )
+                );
+            }
 
             visitor.endOfEntity();
         }
-
-        @Override
-        public void close() throws IOException {
-
-        }
     }
 }
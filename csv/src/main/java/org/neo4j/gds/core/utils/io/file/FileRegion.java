@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A byte range {@code [start, end)} of a data file that starts at the beginning
+ * of a line and ends after a line break (or at the end of the file).
+ * Large files are split into multiple regions so that they can be parsed concurrently.
+ */
+@ValueClass
+public interface FileRegion {
+
+    long DEFAULT_REGION_SIZE = 16L * 1024 * 1024;
+
+    Path path();
+
+    long start();
+
+    long end();
+
+    default long length() {
+        return end() - start();
+    }
+
+    static List<FileRegion> split(Path path) throws IOException {
+        return split(path, DEFAULT_REGION_SIZE);
+    }
+
+    static List<FileRegion> split(Path path, long regionSize) throws IOException {
+        var regions = new ArrayList<FileRegion>();
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            var buffer = ByteBuffer.allocate(8192);
+            long start = 0;
+            while (start < fileSize) {
+                long end = start + regionSize >= fileSize
+                    ? fileSize
+                    : nextLineStart(channel, start + regionSize, fileSize, buffer);
+                regions.add(ImmutableFileRegion.of(path, start, end));
+                start = end;
+            }
+        }
+        return regions;
+    }
+
+    private static long nextLineStart(
+        FileChannel channel,
+        long position,
+        long fileSize,
+        ByteBuffer buffer
+    ) throws IOException {
+        while (position < fileSize) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return fileSize;
+    }
+}
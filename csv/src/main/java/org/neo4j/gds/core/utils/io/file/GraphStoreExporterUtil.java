@@ -49,9 +49,21 @@ public final class GraphStoreExporterUtil {
         Optional<NeoNodeProperties> neoNodeProperties,
         Log log,
         AllocationTracker allocationTracker
+    ) {
+        return export(graphStore, path, config, neoNodeProperties, FileFormat.CSV, log, allocationTracker);
+    }
+
+    public static ExportToCsvResult export(
+        GraphStore graphStore,
+        Path path,
+        GraphStoreToFileExporterConfig config,
+        Optional<NeoNodeProperties> neoNodeProperties,
+        FileFormat fileFormat,
+        Log log,
+        AllocationTracker allocationTracker
     ) {
         try {
-            var exporter = GraphStoreToFileExporter.csv(graphStore, config, path, neoNodeProperties);
+            var exporter = GraphStoreToFileExporter.of(graphStore, config, path, neoNodeProperties, fileFormat);
 
             var start = System.nanoTime();
             var importedProperties = exporter.run(allocationTracker);
@@ -64,7 +76,7 @@ public final class GraphStoreExporterUtil {
                 tookMillis
             );
         } catch (RuntimeException e) {
-            log.warn("CSV export failed", e);
+            log.warn(formatWithLocale("%s export failed", fileFormat), e);
             throw e;
         }
     }
@@ -27,6 +27,8 @@ import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.io.GraphStoreExporter;
 import org.neo4j.gds.core.utils.io.GraphStoreInput;
 import org.neo4j.gds.core.utils.io.NeoNodeProperties;
+import org.neo4j.gds.core.utils.io.file.binary.BinaryNodeVisitor;
+import org.neo4j.gds.core.utils.io.file.binary.BinaryRelationshipVisitor;
 import org.neo4j.gds.core.utils.io.file.csv.CsvGraphInfoVisitor;
 import org.neo4j.gds.core.utils.io.file.csv.CsvNodeSchemaVisitor;
 import org.neo4j.gds.core.utils.io.file.csv.CsvNodeVisitor;
@@ -61,6 +63,33 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
         GraphStoreToFileExporterConfig config,
         Path exportPath,
         Optional<NeoNodeProperties> neoNodeProperties
+    ) {
+        return of(graphStore, config, exportPath, neoNodeProperties, FileFormat.CSV);
+    }
+
+    public static GraphStoreToFileExporter binary(
+        GraphStore graphStore,
+        GraphStoreToFileExporterConfig config,
+        Path exportPath
+    ) {
+        return binary(graphStore, config, exportPath, Optional.empty());
+    }
+
+    public static GraphStoreToFileExporter binary(
+        GraphStore graphStore,
+        GraphStoreToFileExporterConfig config,
+        Path exportPath,
+        Optional<NeoNodeProperties> neoNodeProperties
+    ) {
+        return of(graphStore, config, exportPath, neoNodeProperties, FileFormat.BINARY);
+    }
+
+    public static GraphStoreToFileExporter of(
+        GraphStore graphStore,
+        GraphStoreToFileExporterConfig config,
+        Path exportPath,
+        Optional<NeoNodeProperties> neoNodeProperties,
+        FileFormat fileFormat
     ) {
         Set<String> headerFiles = ConcurrentHashMap.newKeySet();
 
@@ -80,6 +109,18 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
             return builder.build();
         }).orElseGet(() -> builder.build());
 
+        var exportNodeSchema = nodeSchema.union(neoNodeSchema);
+
+        VisitorProducer<NodeVisitor> nodeVisitorSupplier;
+        VisitorProducer<RelationshipVisitor> relationshipVisitorSupplier;
+        if (fileFormat == FileFormat.BINARY) {
+            nodeVisitorSupplier = (index) -> new BinaryNodeVisitor(exportPath, exportNodeSchema, headerFiles, index);
+            relationshipVisitorSupplier = (index) -> new BinaryRelationshipVisitor(exportPath, relationshipSchema, headerFiles, index);
+        } else {
+            nodeVisitorSupplier = (index) -> new CsvNodeVisitor(exportPath, exportNodeSchema, headerFiles, index);
+            relationshipVisitorSupplier = (index) -> new CsvRelationshipVisitor(exportPath, relationshipSchema, headerFiles, index);
+        }
+
         return GraphStoreToFileExporter.of(
             graphStore,
             config,
@@ -88,13 +129,8 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
             () -> new CsvGraphInfoVisitor(exportPath),
             () -> new CsvNodeSchemaVisitor(exportPath),
             () -> new CsvRelationshipSchemaVisitor(exportPath),
-            (index) -> new CsvNodeVisitor(
-                exportPath,
-                nodeSchema.union(neoNodeSchema),
-                headerFiles,
-                index
-            ),
-            (index) -> new CsvRelationshipVisitor(exportPath, relationshipSchema, headerFiles, index)
+            nodeVisitorSupplier,
+            relationshipVisitorSupplier
         );
     }
 
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits a single CSV line, given as a byte range of a buffer, into its fields
+ * without copying the line. Ids and long values are parsed directly from the
+ * underlying bytes, all other values are materialized as strings on demand.
+ */
+final class LineFields {
+
+    private static final int MAX_FAST_LONG_DIGITS = 18;
+
+    private ByteBuffer buffer;
+    private int[] starts;
+    private int[] ends;
+    private int count;
+    private byte[] scratch;
+
+    LineFields() {
+        this.starts = new int[8];
+        this.ends = new int[8];
+        this.scratch = new byte[64];
+    }
+
+    void split(ByteBuffer buffer, int from, int to) {
+        this.buffer = buffer;
+        this.count = 0;
+        int fieldStart = from;
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == ',') {
+                add(fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+        add(fieldStart, to);
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean isBlank(int field) {
+        for (int i = starts[field]; i < ends[field]; i++) {
+            if (!Character.isWhitespace(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long longValue(int field) {
+        int start = starts[field];
+        int end = ends[field];
+        boolean negative = start < end && buffer.get(start) == '-';
+        int digitStart = negative || (start < end && buffer.get(start) == '+') ? start + 1 : start;
+        if (digitStart == end || end - digitStart > MAX_FAST_LONG_DIGITS) {
+            return Long.parseLong(stringValue(field));
+        }
+        long value = 0;
+        for (int i = digitStart; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(stringValue(field));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    String stringValue(int field) {
+        int start = starts[field];
+        int length = ends[field] - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            scratch[i] = buffer.get(start + i);
+        }
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Missing trailing fields are treated like empty fields and resolve to the fallback value.
+     */
+    Object value(int field, ValueType valueType, DefaultValue fallbackValue) {
+        if (field >= count) {
+            return valueType.fromCsvValue("", fallbackValue);
+        }
+        if (valueType == ValueType.LONG) {
+            return isBlank(field) ? fallbackValue.longValue() : longValue(field);
+        }
+        return valueType.fromCsvValue(stringValue(field), fallbackValue);
+    }
+
+    private void add(int start, int end) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static org.neo4j.gds.core.utils.io.file.binary.BinaryFormat.ROWS_PER_BLOCK;
+import static org.neo4j.gds.core.utils.io.file.binary.BinaryFormat.WITH_ABSENT_VALUES;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A single block of a data file, decoded into id and property columns.
+ * Absent property values are decoded as {@code null}.
+ */
+final class BinaryBlock implements AutoCloseable {
+
+    private final ColumnInput columnInput;
+    private final Inflater inflater;
+
+    private byte[] compressed;
+    private byte[] uncompressed;
+    private int compressedLength;
+    private int uncompressedLength;
+
+    private long[][] ids;
+    private Object[][] values;
+    private int rows;
+
+    BinaryBlock() {
+        this.columnInput = new ColumnInput();
+        this.inflater = new Inflater();
+        this.compressed = new byte[0];
+        this.uncompressed = new byte[0];
+        this.ids = new long[0][];
+        this.values = new Object[0][];
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    long id(int column, int row) {
+        return ids[column][row];
+    }
+
+    Object value(int column, int row) {
+        return values[column][row];
+    }
+
+    byte[] compressedBuffer(int length) {
+        if (compressed.length < length) {
+            compressed = new byte[length];
+        }
+        return compressed;
+    }
+
+    void reset(int compressedLength, int uncompressedLength) {
+        this.compressedLength = compressedLength;
+        this.uncompressedLength = uncompressedLength;
+        this.rows = 0;
+    }
+
+    void decode(int idColumnCount, ValueType[] valueTypes) throws IOException {
+        inflate();
+        columnInput.reset(uncompressed);
+
+        if (ids.length != idColumnCount) {
+            ids = new long[idColumnCount][ROWS_PER_BLOCK];
+        }
+        if (values.length != valueTypes.length) {
+            values = new Object[valueTypes.length][ROWS_PER_BLOCK];
+        }
+
+        rows = (int) columnInput.readVLong();
+        for (long[] idColumn : ids) {
+            readIds(idColumn);
+        }
+        for (int column = 0; column < valueTypes.length; column++) {
+            readProperties(valueTypes[column], values[column]);
+        }
+    }
+
+    @Override
+    public void close() {
+        inflater.end();
+    }
+
+    private void inflate() throws IOException {
+        if (uncompressed.length < uncompressedLength) {
+            uncompressed = new byte[uncompressedLength];
+        }
+        inflater.reset();
+        inflater.setInput(compressed, 0, compressedLength);
+        try {
+            int length = 0;
+            while (length < uncompressedLength && !inflater.finished()) {
+                length += inflater.inflate(uncompressed, length, uncompressedLength - length);
+            }
+            if (length != uncompressedLength) {
+                throw new IOException(formatWithLocale(
+                    "Corrupted block, expected %d bytes but got %d bytes.",
+                    uncompressedLength,
+                    length
+                ));
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted block", e);
+        }
+    }
+
+    private void readIds(long[] idColumn) {
+        long previous = 0L;
+        for (int row = 0; row < rows; row++) {
+            previous += columnInput.readZigZag();
+            idColumn[row] = previous;
+        }
+    }
+
+    private void readProperties(ValueType valueType, Object[] column) {
+        var bitmapOffset = -1;
+        if (columnInput.readByte() == WITH_ABSENT_VALUES) {
+            bitmapOffset = columnInput.skip((rows + 7) >>> 3);
+        }
+
+        long previous = 0L;
+        for (int row = 0; row < rows; row++) {
+            if (bitmapOffset != -1 && columnInput.readBit(bitmapOffset, row)) {
+                column[row] = null;
+                continue;
+            }
+            switch (valueType) {
+                case LONG:
+                    previous += columnInput.readZigZag();
+                    column[row] = previous;
+                    break;
+                case DOUBLE:
+                    previous ^= columnInput.readVLong();
+                    column[row] = Double.longBitsToDouble(previous);
+                    break;
+                case LONG_ARRAY:
+                    column[row] = readLongArray();
+                    break;
+                case DOUBLE_ARRAY:
+                    column[row] = readDoubleArray();
+                    break;
+                case FLOAT_ARRAY:
+                    column[row] = readFloatArray();
+                    break;
+                case STRING:
+                    column[row] = columnInput.readString((int) columnInput.readVLong());
+                    break;
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Value type %s is not supported by the binary format",
+                        valueType
+                    ));
+            }
+        }
+        Arrays.fill(column, rows, column.length, null);
+    }
+
+    private long[] readLongArray() {
+        var array = new long[(int) columnInput.readVLong()];
+        long previous = 0L;
+        for (int i = 0; i < array.length; i++) {
+            previous += columnInput.readZigZag();
+            array[i] = previous;
+        }
+        return array;
+    }
+
+    private double[] readDoubleArray() {
+        var array = new double[(int) columnInput.readVLong()];
+        long previous = 0L;
+        for (int i = 0; i < array.length; i++) {
+            previous ^= columnInput.readVLong();
+            array[i] = Double.longBitsToDouble(previous);
+        }
+        return array;
+    }
+
+    private float[] readFloatArray() {
+        var array = new float[(int) columnInput.readVLong()];
+        int previous = 0;
+        for (int i = 0; i < array.length; i++) {
+            previous ^= (int) columnInput.readVLong();
+            array[i] = Float.intBitsToFloat(previous);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.neo4j.gds.core.utils.io.file.binary.BinaryFormat.MAGIC;
+import static org.neo4j.gds.core.utils.io.file.binary.BinaryFormat.VERSION;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads the compressed blocks of a single data file without decoding them.
+ * Decoding is left to {@link BinaryBlock}, so that it can happen concurrently.
+ */
+final class BinaryBlockReader implements AutoCloseable {
+
+    private final DataInputStream in;
+    private final int idColumnCount;
+    private final int propertyColumnCount;
+
+    BinaryBlockReader(Path dataFile) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(dataFile)));
+        try {
+            var magic = in.readInt();
+            var version = in.readInt();
+            if (magic != MAGIC || version != VERSION) {
+                throw new IOException(formatWithLocale(
+                    "File '%s' is not a binary data file of version %d.",
+                    dataFile,
+                    VERSION
+                ));
+            }
+            this.idColumnCount = in.readInt();
+            this.propertyColumnCount = in.readInt();
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    int idColumnCount() {
+        return idColumnCount;
+    }
+
+    int propertyColumnCount() {
+        return propertyColumnCount;
+    }
+
+    /**
+     * Reads the next compressed block into the given block.
+     *
+     * @return false if the end of the file has been reached
+     */
+    boolean next(BinaryBlock block) throws IOException {
+        int uncompressedLength;
+        try {
+            uncompressedLength = in.readInt();
+        } catch (EOFException e) {
+            return false;
+        }
+        var compressedLength = in.readInt();
+        in.readFully(block.compressedBuffer(compressedLength), 0, compressedLength);
+        block.reset(compressedLength, uncompressedLength);
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.PropertySchema;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static org.neo4j.gds.core.utils.io.file.binary.BinaryFormat.ALL_PRESENT;
+import static org.neo4j.gds.core.utils.io.file.binary.BinaryFormat.MAGIC;
+import static org.neo4j.gds.core.utils.io.file.binary.BinaryFormat.ROWS_PER_BLOCK;
+import static org.neo4j.gds.core.utils.io.file.binary.BinaryFormat.VERSION;
+import static org.neo4j.gds.core.utils.io.file.binary.BinaryFormat.WITH_ABSENT_VALUES;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Buffers rows column-wise and writes them as compressed blocks to a single data file.
+ * Rows are added by setting all id columns, followed by all property columns in header order.
+ */
+final class BinaryBlockWriter implements Flushable, AutoCloseable {
+
+    private final DataOutputStream out;
+    private final ValueType[] valueTypes;
+    private final long[][] ids;
+    private final Object[][] values;
+    private final ColumnOutput columnOutput;
+    private final Deflater deflater;
+
+    private byte[] compressed;
+    private int rows;
+    private int currentProperty;
+
+    BinaryBlockWriter(Path dataFile, int idColumnCount, List<? extends PropertySchema> propertySchemas) {
+        this.valueTypes = propertySchemas.stream().map(PropertySchema::valueType).toArray(ValueType[]::new);
+        this.ids = new long[idColumnCount][ROWS_PER_BLOCK];
+        this.values = new Object[valueTypes.length][ROWS_PER_BLOCK];
+        this.columnOutput = new ColumnOutput(ROWS_PER_BLOCK * Long.BYTES);
+        this.deflater = new Deflater(Deflater.BEST_SPEED);
+        this.compressed = new byte[ROWS_PER_BLOCK * Long.BYTES];
+
+        try {
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(dataFile)));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(idColumnCount);
+            out.writeInt(valueTypes.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void id(int column, long id) {
+        ids[column][rows] = id;
+    }
+
+    void property(Object value) {
+        values[currentProperty++][rows] = value;
+    }
+
+    void endRow() {
+        currentProperty = 0;
+        if (++rows == ROWS_PER_BLOCK) {
+            writeBlock();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() {
+        try (out) {
+            if (rows > 0) {
+                writeBlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeBlock() {
+        columnOutput.reset();
+        columnOutput.writeVLong(rows);
+        for (long[] idColumn : ids) {
+            writeIds(idColumn);
+        }
+        for (int column = 0; column < valueTypes.length; column++) {
+            writeProperties(valueTypes[column], values[column]);
+            Arrays.fill(values[column], 0, rows, null);
+        }
+
+        var compressedLength = compress();
+        try {
+            out.writeInt(columnOutput.size());
+            out.writeInt(compressedLength);
+            out.write(compressed, 0, compressedLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rows = 0;
+    }
+
+    private int compress() {
+        deflater.reset();
+        deflater.setInput(columnOutput.buffer(), 0, columnOutput.size());
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length << 1);
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        return length;
+    }
+
+    private void writeIds(long[] idColumn) {
+        long previous = 0L;
+        for (int row = 0; row < rows; row++) {
+            columnOutput.writeZigZag(idColumn[row] - previous);
+            previous = idColumn[row];
+        }
+    }
+
+    private void writeProperties(ValueType valueType, Object[] column) {
+        writePresence(valueType, column);
+
+        long previous = 0L;
+        for (int row = 0; row < rows; row++) {
+            var value = column[row];
+            if (BinaryFormat.isAbsent(valueType, value)) {
+                continue;
+            }
+            switch (valueType) {
+                case LONG:
+                    var longValue = ((Number) value).longValue();
+                    columnOutput.writeZigZag(longValue - previous);
+                    previous = longValue;
+                    break;
+                case DOUBLE:
+                    var bits = Double.doubleToRawLongBits(((Number) value).doubleValue());
+                    columnOutput.writeVLong(bits ^ previous);
+                    previous = bits;
+                    break;
+                case LONG_ARRAY:
+                    writeLongArray((long[]) value);
+                    break;
+                case DOUBLE_ARRAY:
+                    writeDoubleArray((double[]) value);
+                    break;
+                case FLOAT_ARRAY:
+                    writeFloatArray((float[]) value);
+                    break;
+                case STRING:
+                    var bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                    columnOutput.writeVLong(bytes.length);
+                    columnOutput.writeBytes(bytes);
+                    break;
+                default:
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Value type %s is not supported by the binary format",
+                        valueType
+                    ));
+            }
+        }
+    }
+
+    private void writePresence(ValueType valueType, Object[] column) {
+        var bitmap = new byte[(rows + 7) >>> 3];
+        var hasAbsentValues = false;
+        for (int row = 0; row < rows; row++) {
+            if (BinaryFormat.isAbsent(valueType, column[row])) {
+                bitmap[row >>> 3] |= 1 << (row & 7);
+                hasAbsentValues = true;
+            }
+        }
+        if (hasAbsentValues) {
+            columnOutput.writeByte(WITH_ABSENT_VALUES);
+            columnOutput.writeBytes(bitmap);
+        } else {
+            columnOutput.writeByte(ALL_PRESENT);
+        }
+    }
+
+    private void writeLongArray(long[] array) {
+        columnOutput.writeVLong(array.length);
+        long previous = 0L;
+        for (long value : array) {
+            columnOutput.writeZigZag(value - previous);
+            previous = value;
+        }
+    }
+
+    private void writeDoubleArray(double[] array) {
+        columnOutput.writeVLong(array.length);
+        long previous = 0L;
+        for (double value : array) {
+            var bits = Double.doubleToRawLongBits(value);
+            columnOutput.writeVLong(bits ^ previous);
+            previous = bits;
+        }
+    }
+
+    private void writeFloatArray(float[] array) {
+        columnOutput.writeVLong(array.length);
+        int previous = 0;
+        for (float value : array) {
+            var bits = Float.floatToRawIntBits(value);
+            columnOutput.writeVLong((bits ^ previous) & 0xFFFF_FFFFL);
+            previous = bits;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.utils.io.file.HeaderProperty;
+import org.neo4j.gds.core.utils.io.file.MappedListIterator;
+import org.neo4j.gds.core.utils.io.file.NodeFileHeader;
+import org.neo4j.gds.core.utils.io.file.RelationshipFileHeader;
+import org.neo4j.internal.batchimport.InputIterator;
+import org.neo4j.internal.batchimport.input.InputChunk;
+import org.neo4j.internal.batchimport.input.InputEntityVisitor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hands out the blocks of all binary data files, one block per chunk.
+ *
+ * Reading the compressed bytes of a block is sequential and synchronized,
+ * while decompressing and decoding happens in {@link InputChunk#next(InputEntityVisitor)}
+ * and thus runs concurrently, even for blocks of the same file.
+ */
+public abstract class BinaryFileImporter<HEADER> implements InputIterator {
+
+    private final MappedListIterator<HEADER, Path> entryIterator;
+
+    private HEADER currentHeader;
+    private BinaryBlockReader currentReader;
+
+    BinaryFileImporter(Map<HEADER, List<Path>> headerToDataFilesMapping) {
+        this.entryIterator = new MappedListIterator<>(headerToDataFilesMapping);
+    }
+
+    public static BinaryFileImporter<NodeFileHeader> nodes(
+        Map<NodeFileHeader, List<Path>> headerToDataFilesMapping,
+        NodeSchema nodeSchema
+    ) {
+        return new BinaryFileImporter<>(headerToDataFilesMapping) {
+            @Override
+            public InputChunk newChunk() {
+                return new NodeBlockChunk(nodeSchema);
+            }
+        };
+    }
+
+    public static BinaryFileImporter<RelationshipFileHeader> relationships(
+        Map<RelationshipFileHeader, List<Path>> headerToDataFilesMapping,
+        RelationshipSchema relationshipSchema
+    ) {
+        return new BinaryFileImporter<>(headerToDataFilesMapping) {
+            @Override
+            public InputChunk newChunk() {
+                return new RelationshipBlockChunk(relationshipSchema);
+            }
+        };
+    }
+
+    @Override
+    public synchronized boolean next(InputChunk chunk) throws IOException {
+        assert chunk instanceof BlockChunk;
+        @SuppressWarnings("unchecked") var blockChunk = (BlockChunk<HEADER>) chunk;
+
+        while (true) {
+            if (currentReader == null) {
+                if (!entryIterator.hasNext()) {
+                    return false;
+                }
+                Pair<HEADER, Path> entry = entryIterator.next();
+                currentHeader = entry.getKey();
+                currentReader = new BinaryBlockReader(entry.getValue());
+            }
+            if (currentReader.next(blockChunk.block)) {
+                blockChunk.initialize(currentHeader, currentReader.idColumnCount());
+                return true;
+            }
+            currentReader.close();
+            currentReader = null;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (currentReader != null) {
+            currentReader.close();
+            currentReader = null;
+        }
+    }
+
+    abstract static class BlockChunk<HEADER> implements InputChunk {
+
+        final BinaryBlock block;
+
+        private HEADER header;
+        private HEADER decodedHeader;
+        private ValueType[] valueTypes;
+        private String[] propertyKeys;
+        private DefaultValue[] defaultValues;
+
+        private int idColumnCount;
+        private int row;
+        private boolean decoded;
+
+        BlockChunk() {
+            this.block = new BinaryBlock();
+        }
+
+        abstract Set<HeaderProperty> propertyMappings(HEADER header);
+
+        abstract Map<String, ? extends PropertySchema> propertySchemas(HEADER header);
+
+        abstract void visitIds(HEADER header, BinaryBlock block, int row, InputEntityVisitor visitor);
+
+        void initialize(HEADER header, int idColumnCount) {
+            this.header = header;
+            this.idColumnCount = idColumnCount;
+            this.row = 0;
+            this.decoded = false;
+
+            if (header != decodedHeader) {
+                var propertyMappings = propertyMappings(header)
+                    .stream()
+                    .sorted(Comparator.comparingInt(HeaderProperty::position))
+                    .toArray(HeaderProperty[]::new);
+                var propertySchemas = propertySchemas(header);
+
+                this.valueTypes = new ValueType[propertyMappings.length];
+                this.propertyKeys = new String[propertyMappings.length];
+                this.defaultValues = new DefaultValue[propertyMappings.length];
+                for (int i = 0; i < propertyMappings.length; i++) {
+                    var key = propertyMappings[i].propertyKey();
+                    valueTypes[i] = propertyMappings[i].valueType();
+                    propertyKeys[i] = key;
+                    defaultValues[i] = propertySchemas.containsKey(key)
+                        ? propertySchemas.get(key).defaultValue()
+                        : valueTypes[i].fallbackValue();
+                }
+                this.decodedHeader = header;
+            }
+        }
+
+        @Override
+        public boolean next(InputEntityVisitor visitor) throws IOException {
+            if (!decoded) {
+                block.decode(idColumnCount, valueTypes);
+                decoded = true;
+            }
+            if (row == block.rows()) {
+                return false;
+            }
+
+            visitIds(header, block, row, visitor);
+            for (int column = 0; column < valueTypes.length; column++) {
+                visitor.property(propertyKeys[column], valueOrDefault(column, block.value(column, row)));
+            }
+            visitor.endOfEntity();
+
+            row++;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            block.close();
+        }
+
+        private Object valueOrDefault(int column, Object value) {
+            if (value != null) {
+                return value;
+            }
+            var valueType = valueTypes[column];
+            if (valueType == ValueType.STRING) {
+                return null;
+            }
+            // the same fallback as for empty CSV fields
+            return valueType.fromCsvValue("", defaultValues[column]);
+        }
+    }
+
+    static final class NodeBlockChunk extends BlockChunk<NodeFileHeader> {
+
+        private final NodeSchema nodeSchema;
+
+        NodeBlockChunk(NodeSchema nodeSchema) {
+            this.nodeSchema = nodeSchema;
+        }
+
+        @Override
+        Set<HeaderProperty> propertyMappings(NodeFileHeader header) {
+            return header.propertyMappings();
+        }
+
+        @Override
+        Map<String, ? extends PropertySchema> propertySchemas(NodeFileHeader header) {
+            return header.schemaForIdentifier(nodeSchema);
+        }
+
+        @Override
+        void visitIds(NodeFileHeader header, BinaryBlock block, int row, InputEntityVisitor visitor) {
+            visitor.labels(header.nodeLabels());
+            visitor.id(block.id(0, row));
+        }
+    }
+
+    static final class RelationshipBlockChunk extends BlockChunk<RelationshipFileHeader> {
+
+        private final RelationshipSchema relationshipSchema;
+
+        RelationshipBlockChunk(RelationshipSchema relationshipSchema) {
+            this.relationshipSchema = relationshipSchema;
+        }
+
+        @Override
+        Set<HeaderProperty> propertyMappings(RelationshipFileHeader header) {
+            return header.propertyMappings();
+        }
+
+        @Override
+        Map<String, ? extends PropertySchema> propertySchemas(RelationshipFileHeader header) {
+            return header.schemaForIdentifier(relationshipSchema);
+        }
+
+        @Override
+        void visitIds(RelationshipFileHeader header, BinaryBlock block, int row, InputEntityVisitor visitor) {
+            visitor.type(header.relationshipType());
+            visitor.startId(block.id(0, row));
+            visitor.endId(block.id(1, row));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.PropertySchema;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Binary columnar data files.
+ *
+ * Every data file starts with a fixed file header, followed by a sequence of blocks:
+ *
+ * <pre>
+ * file   := MAGIC VERSION idColumnCount propertyColumnCount block*
+ * block  := uncompressedLength compressedLength deflate(rowCount column*)
+ * column := idColumn | propertyColumn
+ * </pre>
+ *
+ * Each block holds up to {@link #ROWS_PER_BLOCK} rows and is compressed independently,
+ * which allows blocks of the same file to be decoded in parallel.
+ * Id columns are delta- and zig-zag-encoded variable length longs.
+ * Property columns start with a presence bitmap and store long values as deltas,
+ * double values as the XOR of consecutive bit patterns and arrays as length-prefixed sequences.
+ *
+ * The header files describing the columns are shared with the CSV format.
+ */
+public final class BinaryFormat {
+
+    static final int MAGIC = 0x47445342; // "GDSB"
+    static final int VERSION = 1;
+    static final int ROWS_PER_BLOCK = 8192;
+
+    static final int ALL_PRESENT = 0;
+    static final int WITH_ABSENT_VALUES = 1;
+
+    private BinaryFormat() {}
+
+    /**
+     * Values which the CSV format would write as an empty field are absent in the binary format
+     * and are replaced by the default value of the property schema during import.
+     */
+    static boolean isAbsent(ValueType valueType, Object value) {
+        if (value == null) {
+            return true;
+        }
+        switch (valueType) {
+            case LONG:
+                var longValue = ((Number) value).longValue();
+                return longValue == DefaultValue.LONG_DEFAULT_FALLBACK || longValue == DefaultValue.INTEGER_DEFAULT_FALLBACK;
+            case DOUBLE:
+                return Double.isNaN(((Number) value).doubleValue());
+            default:
+                return false;
+        }
+    }
+
+    static void writeHeaderFile(Path headerFile, List<String> idColumns, List<? extends PropertySchema> propertySchemas) {
+        var columns = new ArrayList<>(idColumns);
+        for (PropertySchema propertySchema : propertySchemas) {
+            columns.add(formatWithLocale("%s:%s", propertySchema.key(), propertySchema.valueType().csvName()));
+        }
+        try {
+            Files.writeString(headerFile, String.join(",", columns) + System.lineSeparator(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write header file", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.utils.io.file.FileFormat;
+import org.neo4j.gds.core.utils.io.file.NodeVisitor;
+import org.neo4j.gds.core.utils.io.file.csv.CsvNodeVisitor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public class BinaryNodeVisitor extends NodeVisitor {
+
+    private final Path fileLocation;
+    private final int visitorId;
+    private final Map<String, BinaryBlockWriter> blockWriters;
+    private final Set<String> headerFiles;
+
+    public BinaryNodeVisitor(
+        Path fileLocation,
+        NodeSchema nodeSchema,
+        Set<String> headerFiles,
+        int visitorId
+    ) {
+        super(nodeSchema);
+        this.fileLocation = fileLocation;
+        this.headerFiles = headerFiles;
+        this.visitorId = visitorId;
+        this.blockWriters = new HashMap<>();
+    }
+
+    @Override
+    protected void exportElement() {
+        var blockWriter = getBlockWriter();
+        blockWriter.id(0, id());
+        forEachProperty((key, value) -> blockWriter.property(value));
+        blockWriter.endRow();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        for (var blockWriter : blockWriters.values()) {
+            blockWriter.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        blockWriters.values().forEach(BinaryBlockWriter::close);
+    }
+
+    private BinaryBlockWriter getBlockWriter() {
+        var labelsString = elementIdentifier();
+
+        return blockWriters.computeIfAbsent(labelsString, (ignore) -> {
+            var fileName = labelsString.isBlank() ? "nodes" : formatWithLocale("nodes_%s", labelsString);
+            var headerFileName = formatWithLocale("%s_header.csv", fileName);
+            var dataFileName = formatWithLocale("%s_%d%s", fileName, visitorId, FileFormat.BINARY.dataFileSuffix());
+
+            var propertySchema = sortedPropertySchema();
+            if (headerFiles.add(headerFileName)) {
+                BinaryFormat.writeHeaderFile(
+                    fileLocation.resolve(headerFileName),
+                    List.of(CsvNodeVisitor.ID_COLUMN_NAME),
+                    propertySchema
+                );
+            }
+
+            return new BinaryBlockWriter(fileLocation.resolve(dataFileName), 1, propertySchema);
+        });
+    }
+
+    private List<PropertySchema> sortedPropertySchema() {
+        var propertySchema = getPropertySchema();
+        propertySchema.sort(Comparator.comparing(PropertySchema::key));
+        return propertySchema;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads values encoded by {@link ColumnOutput}.
+ */
+final class ColumnInput {
+
+    private byte[] buffer;
+    private int position;
+
+    void reset(byte[] buffer) {
+        this.buffer = buffer;
+        this.position = 0;
+    }
+
+    long readVLong() {
+        long value = 0L;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer[position++];
+            value |= (current & 0x7FL) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return value;
+    }
+
+    long readZigZag() {
+        long value = readVLong();
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    int readByte() {
+        return buffer[position++] & 0xFF;
+    }
+
+    boolean readBit(int bitmapOffset, int index) {
+        return (buffer[bitmapOffset + (index >>> 3)] & (1 << (index & 7))) != 0;
+    }
+
+    int skip(int length) {
+        var offset = position;
+        position += length;
+        return offset;
+    }
+
+    String readString(int length) {
+        var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.core.utils.io.file.csv;
 
+import org.neo4j.gds.core.utils.io.file.FileFormat;
 import org.neo4j.gds.core.utils.io.file.NodeFileHeader;
 import org.neo4j.gds.core.utils.io.file.RelationshipFileHeader;
 
@@ -34,6 +35,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 public final class CsvImportUtil {
 
@@ -56,11 +58,19 @@ public final class CsvImportUtil {
     }
 
     public static Map<Path, List<Path>> nodeHeaderToFileMapping(Path csvDirectory) {
-        return headerToFileMapping(csvDirectory, CsvImportUtil::getNodeHeaderFiles);
+        return nodeHeaderToFileMapping(csvDirectory, FileFormat.CSV);
+    }
+
+    public static Map<Path, List<Path>> nodeHeaderToFileMapping(Path directory, FileFormat fileFormat) {
+        return headerToFileMapping(directory, CsvImportUtil::getNodeHeaderFiles, fileFormat);
     }
 
     public static Map<Path, List<Path>> relationshipHeaderToFileMapping(Path csvDirectory) {
-        return headerToFileMapping(csvDirectory, CsvImportUtil::getRelationshipHeaderFiles);
+        return relationshipHeaderToFileMapping(csvDirectory, FileFormat.CSV);
+    }
+
+    public static Map<Path, List<Path>> relationshipHeaderToFileMapping(Path directory, FileFormat fileFormat) {
+        return headerToFileMapping(directory, CsvImportUtil::getRelationshipHeaderFiles, fileFormat);
     }
 
     public static List<Path> getNodeHeaderFiles(Path csvDirectory) {
@@ -73,10 +83,17 @@ public final class CsvImportUtil {
         return getFilesByRegex(csvDirectory, nodeFilesPattern);
     }
 
-    private static Map<Path, List<Path>> headerToFileMapping(Path csvDirectory, Function<Path, Collection<Path>> headerPaths) {
+    private static Map<Path, List<Path>> headerToFileMapping(
+        Path csvDirectory,
+        Function<Path, Collection<Path>> headerPaths,
+        FileFormat fileFormat
+    ) {
         Map<Path, List<Path>> headerToDataFileMapping = new HashMap<>();
         for (Path headerFile : headerPaths.apply(csvDirectory)) {
-            String dataFilePattern = headerFile.getFileName().toString().replace("_header", "(_\\d+)");
+            String dataFilePattern = headerFile
+                .getFileName()
+                .toString()
+                .replace("_header.csv", "(_\\d+)" + Pattern.quote(fileFormat.dataFileSuffix()));
             List<Path> dataPaths = headerToDataFileMapping.computeIfAbsent(
                 headerFile,
                 path -> new ArrayList<>()
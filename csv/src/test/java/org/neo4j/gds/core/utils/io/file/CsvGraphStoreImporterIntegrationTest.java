@@ -90,6 +90,20 @@ class CsvGraphStoreImporterIntegrationTest {
         assertGraphEquals(graph, importedGraph);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldImportPropertiesFromBinaryFiles(int concurrency) {
+
+        GraphStoreToFileExporter.binary(graphStore, exportConfig(concurrency), graphLocation).run(AllocationTracker.empty());
+
+        var importer = CsvGraphStoreImporter.create(concurrency, graphLocation, new TestLog(), FileFormat.BINARY);
+        importer.run(AllocationTracker.empty());
+
+        var importedGraphStore = importer.userGraphStore().graphStore();
+        var importedGraph = importedGraphStore.getUnion();
+        assertGraphEquals(graph, importedGraph);
+    }
+
     @Test
     void shouldImportGraphWithNoLabels() {
         var graphStore = GdlFactory.of("()-[]->()").build().graphStore();
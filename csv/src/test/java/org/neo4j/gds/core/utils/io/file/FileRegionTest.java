@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.internal.batchimport.input.InputEntityVisitor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileRegionTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, 64, 1024, 1 << 20})
+    void shouldSplitAtLineBoundaries(long regionSize) throws IOException {
+        var file = tempDir.resolve("relationships_REL_0.csv");
+        var content = IntStream.range(0, 500)
+            .mapToObj(i -> i + "," + (i * 31) + "," + (i / 3.0))
+            .collect(Collectors.joining("\n", "", "\n"));
+        Files.writeString(file, content);
+
+        var regions = FileRegion.split(file, regionSize);
+
+        assertThat(regions.get(0).start()).isEqualTo(0);
+        assertThat(regions.get(regions.size() - 1).end()).isEqualTo(Files.size(file));
+        var bytes = Files.readAllBytes(file);
+        for (int i = 0; i < regions.size(); i++) {
+            var region = regions.get(i);
+            assertThat(region.length()).isPositive();
+            assertThat(bytes[(int) region.end() - 1]).isEqualTo((byte) '\n');
+            if (i > 0) {
+                assertThat(region.start()).isEqualTo(regions.get(i - 1).end());
+            }
+        }
+    }
+
+    @Test
+    void shouldParseRelationshipsFromAllRegions() throws IOException {
+        var file = tempDir.resolve("relationships_REL_0.csv");
+        var content = IntStream.range(0, 1000)
+            .mapToObj(i -> i + "," + (i + 1) + "," + (i % 10 == 0 ? "" : String.valueOf(i * 2L)))
+            .collect(Collectors.joining("\r\n", "", "\r\n"));
+        Files.writeString(file, content + "\n", StandardCharsets.UTF_8);
+
+        var header = RelationshipFileHeader.of(":START_ID,:END_ID,weight:long", "REL");
+        var relationshipSchema = RelationshipSchema.builder()
+            .addProperty(RelationshipType.of("REL"), "weight", RelationshipPropertySchema.of("weight", ValueType.LONG))
+            .build();
+
+        var visitor = new CollectingVisitor();
+        var chunk = new FileInput.RelationshipLineChunk(relationshipSchema);
+        for (FileRegion region : FileRegion.split(file, 100)) {
+            chunk.initialize(header, region);
+            while (chunk.next(visitor)) {
+            }
+        }
+        chunk.close();
+
+        assertThat(visitor.relationships).hasSize(1000);
+        for (int i = 0; i < 1000; i++) {
+            var relationship = visitor.relationships.get(i);
+            assertThat(relationship[0]).isEqualTo(i);
+            assertThat(relationship[1]).isEqualTo(i + 1);
+            assertThat(relationship[2]).isEqualTo(i % 10 == 0 ? Long.MIN_VALUE : i * 2L);
+        }
+    }
+
+    private static class CollectingVisitor extends InputEntityVisitor.Adapter {
+        private final List<long[]> relationships = new ArrayList<>();
+        private long startId;
+        private long endId;
+        private long weight;
+
+        @Override
+        public boolean startId(long id) {
+            this.startId = id;
+            return true;
+        }
+
+        @Override
+        public boolean endId(long id) {
+            this.endId = id;
+            return true;
+        }
+
+        @Override
+        public boolean property(String key, Object value) {
+            this.weight = (long) value;
+            return true;
+        }
+
+        @Override
+        public void endOfEntity() {
+            relationships.add(new long[]{startId, endId, weight});
+        }
+    }
+}
@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.utils.io.file;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.schema.RelationshipPropertySchema;
@@ -27,6 +28,8 @@ import org.neo4j.gds.api.schema.RelationshipSchema;
 import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,9 +37,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class RelationshipLineChunkTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     void shouldVisitLine() throws IOException {
-        var line = "0,1,19.19,42,1;9,1.3;3.7";
+        var dataFile = Files.writeString(tempDir.resolve("relationships_REL_0.csv"), "0,1,19.19,42,1;9,1.3;3.7\n");
         var header = RelationshipFileHeader.of(":START_ID,:END_ID,foo:double,bar:long,baz:long[],meh:double[]", "REL");
 
         var relationshipSchema = RelationshipSchema.builder()
@@ -47,8 +53,12 @@ class RelationshipLineChunkTest {
             .build();
         var lineChunk = new FileInput.RelationshipLineChunk(relationshipSchema);
         var visitor = new TestRelationshipVisitor();
-        lineChunk.propertySchemas = header.schemaForIdentifier(relationshipSchema);
-        lineChunk.visitLine(line, header, visitor);
+        var regions = FileRegion.split(dataFile);
+        assertThat(regions).hasSize(1);
+        lineChunk.initialize(header, regions.get(0));
+        assertThat(lineChunk.next(visitor)).isTrue();
+        assertThat(lineChunk.next(visitor)).isFalse();
+        lineChunk.close();
 
         assertThat(visitor.startId).isEqualTo(0);
         assertThat(visitor.endId).isEqualTo(1);
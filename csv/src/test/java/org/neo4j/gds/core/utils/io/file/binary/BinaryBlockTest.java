@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.io.file.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.PropertySchema;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryBlockTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRoundTripColumns() throws IOException {
+        var dataFile = tempDir.resolve("relationships_REL_0.gdsb");
+        var propertySchemas = List.of(
+            PropertySchema.of("a", ValueType.LONG),
+            PropertySchema.of("b", ValueType.DOUBLE),
+            PropertySchema.of("c", ValueType.LONG_ARRAY),
+            PropertySchema.of("d", ValueType.DOUBLE_ARRAY),
+            PropertySchema.of("e", ValueType.FLOAT_ARRAY),
+            PropertySchema.of("f", ValueType.STRING)
+        );
+
+        // spans more than two blocks
+        int rowCount = 2 * BinaryFormat.ROWS_PER_BLOCK + 42;
+        try (var writer = new BinaryBlockWriter(dataFile, 2, propertySchemas)) {
+            for (int row = 0; row < rowCount; row++) {
+                writer.id(0, row / 3);
+                writer.id(1, rowCount - row);
+                writer.property(row % 5 == 0 ? null : (long) row * (row % 2 == 0 ? -1 : 1));
+                writer.property(row % 7 == 0 ? Double.NaN : row / 3.0);
+                writer.property(new long[]{row, Long.MAX_VALUE, Long.MIN_VALUE});
+                writer.property(new double[]{row, -0.5});
+                writer.property(new float[]{row, Float.MAX_VALUE});
+                writer.property("row" + row);
+                writer.endRow();
+            }
+        }
+
+        var valueTypes = propertySchemas.stream().map(PropertySchema::valueType).toArray(ValueType[]::new);
+
+        int row = 0;
+        int blocks = 0;
+        try (var reader = new BinaryBlockReader(dataFile); var block = new BinaryBlock()) {
+            assertThat(reader.idColumnCount()).isEqualTo(2);
+            assertThat(reader.propertyColumnCount()).isEqualTo(propertySchemas.size());
+
+            while (reader.next(block)) {
+                block.decode(reader.idColumnCount(), valueTypes);
+                blocks++;
+                for (int i = 0; i < block.rows(); i++, row++) {
+                    assertThat(block.id(0, i)).isEqualTo(row / 3);
+                    assertThat(block.id(1, i)).isEqualTo(rowCount - row);
+                    if (row % 5 == 0) {
+                        assertThat(block.value(0, i)).isNull();
+                    } else {
+                        assertThat(block.value(0, i)).isEqualTo((long) row * (row % 2 == 0 ? -1 : 1));
+                    }
+                    if (row % 7 == 0) {
+                        assertThat(block.value(1, i)).isNull();
+                    } else {
+                        assertThat(block.value(1, i)).isEqualTo(row / 3.0);
+                    }
+                    assertThat(block.value(2, i)).isEqualTo(new long[]{row, Long.MAX_VALUE, Long.MIN_VALUE});
+                    assertThat(block.value(3, i)).isEqualTo(new double[]{row, -0.5});
+                    assertThat(block.value(4, i)).isEqualTo(new float[]{row, Float.MAX_VALUE});
+                    assertThat(block.value(5, i)).isEqualTo("row" + row);
+                }
+            }
+        }
+
+        assertThat(blocks).isEqualTo(3);
+        assertThat(row).isEqualTo(rowCount);
+    }
+}
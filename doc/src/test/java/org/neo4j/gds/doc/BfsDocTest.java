@@ -20,7 +20,7 @@
 package org.neo4j.gds.doc;
 
 import org.neo4j.gds.catalog.GraphCreateProc;
-import org.neo4j.gds.traverse.TraverseProc;
+import org.neo4j.gds.traverse.BfsProc;
 
 import java.util.Arrays;
 import java.util.List;
@@ -29,7 +29,7 @@ public class BfsDocTest extends DocTestBase {
 
     @Override
     List<Class<?>> procedures() {
-        return Arrays.asList(TraverseProc.class, GraphCreateProc.class);
+        return Arrays.asList(BfsProc.class, GraphCreateProc.class);
     }
 
     @Override
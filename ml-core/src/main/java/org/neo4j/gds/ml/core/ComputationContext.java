@@ -19,26 +19,42 @@
  */
 package org.neo4j.gds.ml.core;
 
-import org.neo4j.gds.ml.core.functions.PassthroughVariable;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 import org.neo4j.gds.ml.core.tensor.TensorFactory;
+import org.neo4j.gds.ml.core.tensor.Vector;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import static org.neo4j.gds.ml.core.Dimensions.COLUMNS_INDEX;
+import static org.neo4j.gds.ml.core.Dimensions.ROWS_INDEX;
+
+/**
+ * Holds the data and gradients of the variables of one evaluation of a computation graph.
+ *
+ * Buffers for gradients and for results of variables using {@link #allocateMatrix(int, int)} are taken from a {@link TensorArena}.
+ * After {@link #release()}, these buffers are handed back to the arena and the context can be used for the next evaluation.
+ */
 public class ComputationContext {
     private final Map<Variable<?>, Tensor<?>> data;
     private final Map<Variable<?>, Tensor<?>> gradients;
+    private final TensorArena arena;
+    private final List<double[]> acquiredBuffers;
 
     public ComputationContext() {
-        this.data = new ConcurrentHashMap<>();
-        this.gradients = new ConcurrentHashMap<>();
+        this(new TensorArena());
+    }
+
+    public ComputationContext(TensorArena arena) {
+        this.data = new IdentityHashMap<>();
+        this.gradients = new IdentityHashMap<>();
+        this.arena = arena;
+        this.acquiredBuffers = new ArrayList<>();
     }
 
     // Only one forward call is expected for the caching strategy
@@ -55,6 +71,15 @@ public class ComputationContext {
         return variableResult;
     }
 
+    public <T extends Tensor<T>> T forward(ExecutionPlan<T> plan) {
+        for (Variable<?> variable : plan.forwardOrder()) {
+            if (!data.containsKey(variable)) {
+                data.put(variable, variable.apply(this));
+            }
+        }
+        return (T) data.get(plan.root());
+    }
+
     public <T extends Tensor<T>> T data(Variable<T> variable) {
         return (T) data.get(variable);
     }
@@ -64,52 +89,66 @@ public class ComputationContext {
     }
 
     public void backward(Variable<?> function) {
+        backward(ExecutionPlan.compile(function));
+    }
+
+    public void backward(ExecutionPlan<?> plan) {
+        var function = plan.root();
         assert (Dimensions.isScalar(function.dimensions())) : "Root variable must be scalar.";
         assert function.requireGradient() : "Root variable must have requireGradient==true";
 
         gradients.clear();
-        Queue<BackPropTask> executionQueue = new LinkedBlockingQueue<>();
-        PassthroughVariable<?> dummy = new PassthroughVariable<>(function);
-        executionQueue.add(new BackPropTask(function, dummy));
-        Map<Variable<?>, AtomicInteger> upstreamCounters = new HashMap<>();
-        initUpstream(dummy, upstreamCounters);
-        backward(executionQueue, upstreamCounters);
+        var gradientTargets = plan.gradientTargets();
+        var gradientSources = plan.gradientSources();
+        for (int i = 0; i < gradientTargets.length; i++) {
+            var variable = gradientTargets[i];
+            Tensor<?> gradient = gradientSources[i].gradient(variable, this);
+            updateGradient(variable, gradient);
+        }
     }
 
-    private void backward(Queue<BackPropTask> executionQueue, Map<Variable<?>, AtomicInteger> upstreamCounters) {
-        while (!executionQueue.isEmpty()) {
-            BackPropTask task = executionQueue.poll();
-            var variable = task.variable;
-            var child = task.child;
-            Tensor<?> gradient = child.gradient(variable, this);
-            updateGradient(variable, gradient);
+    /**
+     * @return a zeroed matrix that stays valid until this context is released
+     */
+    public Matrix allocateMatrix(int rows, int cols) {
+        return new Matrix(acquire(Math.multiplyExact(rows, cols)), rows, cols);
+    }
 
-            if (upstreamCounters.get(variable).decrementAndGet() == 0) {
-                for (Variable<?> parent : variable.parents()) {
-                    if (parent.requireGradient()) {
-                        executionQueue.offer(new BackPropTask(parent, variable));
-                    }
-                }
-            }
+    /**
+     * Forgets all data and gradients and hands their buffers back to the arena.
+     * Tensors obtained from this context before must not be used afterwards.
+     */
+    public void release() {
+        data.clear();
+        gradients.clear();
+        for (double[] buffer : acquiredBuffers) {
+            arena.release(buffer);
         }
+        acquiredBuffers.clear();
     }
 
-    private void initUpstream(Variable<?> function, Map<Variable<?>, AtomicInteger> upstreamCounters) {
-        for (Variable<?> parent : function.parents()) {
-            if (parent.requireGradient()) {
-                boolean firstToSeeParent = !upstreamCounters.containsKey(parent);
-                if (firstToSeeParent) {
-                    initUpstream(parent, upstreamCounters);
-                    upstreamCounters.put(parent, new AtomicInteger(0));
-                }
-                upstreamCounters.get(parent).incrementAndGet();
-            }
-        }
+    private double[] acquire(int length) {
+        var buffer = arena.acquire(length);
+        acquiredBuffers.add(buffer);
+        return buffer;
     }
 
     private void updateGradient(Variable<?> variable, Tensor<?> gradient) {
-        gradients.putIfAbsent(variable, TensorFactory.constant(0D, variable.dimensions()));
-        gradients.get(variable).addInPlace(gradient);
+        var currentGradient = gradients.get(variable);
+        if (currentGradient == null) {
+            currentGradient = zeros(variable.dimensions());
+            gradients.put(variable, currentGradient);
+        }
+        currentGradient.addInPlace(gradient);
+    }
+
+    private Tensor<?> zeros(int[] dimensions) {
+        if (dimensions.length == 2) {
+            return allocateMatrix(dimensions[ROWS_INDEX], dimensions[COLUMNS_INDEX]);
+        } else if (dimensions.length == 1 && dimensions[ROWS_INDEX] > 1) {
+            return new Vector(acquire(dimensions[ROWS_INDEX]));
+        }
+        return TensorFactory.constant(0D, dimensions);
     }
 
     public String render() {
@@ -149,15 +188,4 @@ public class ComputationContext {
             );
         }
     }
-
-    static class BackPropTask {
-        Variable<?> variable;
-        Variable<?> child;
-
-        BackPropTask(Variable<?> variable, Variable<?> child) {
-            this.variable = variable;
-            this.child = child;
-        }
-    }
-
 }
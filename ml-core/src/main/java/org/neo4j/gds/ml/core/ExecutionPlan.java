@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core;
+
+import org.neo4j.gds.ml.core.functions.PassthroughVariable;
+import org.neo4j.gds.ml.core.tensor.Tensor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The order in which a {@link ComputationContext} evaluates the variables of a computation graph.
+ *
+ * Compiling a plan traverses the graph once. Computations that evaluate the same graph repeatedly,
+ * such as the training iterations over a fixed batch, should compile the plan once and pass it to
+ * {@link ComputationContext#forward(ExecutionPlan)} and {@link ComputationContext#backward(ExecutionPlan)}.
+ * A plan is immutable and can be shared between threads.
+ */
+public final class ExecutionPlan<T extends Tensor<T>> {
+
+    private final Variable<T> root;
+    // every variable appears after all of its parents
+    private final Variable<?>[] forwardOrder;
+    // gradientSources[i].gradient(gradientTargets[i]) is added to the gradient of gradientTargets[i]
+    private final Variable<?>[] gradientTargets;
+    private final Variable<?>[] gradientSources;
+
+    private ExecutionPlan(
+        Variable<T> root,
+        Variable<?>[] forwardOrder,
+        Variable<?>[] gradientTargets,
+        Variable<?>[] gradientSources
+    ) {
+        this.root = root;
+        this.forwardOrder = forwardOrder;
+        this.gradientTargets = gradientTargets;
+        this.gradientSources = gradientSources;
+    }
+
+    public static <T extends Tensor<T>> ExecutionPlan<T> compile(Variable<T> root) {
+        var forwardOrder = new ArrayList<Variable<?>>();
+        collectForwardOrder(root, Collections.newSetFromMap(new IdentityHashMap<>()), forwardOrder);
+
+        var gradientTargets = new ArrayList<Variable<?>>();
+        var gradientSources = new ArrayList<Variable<?>>();
+        if (root.requireGradient()) {
+            collectBackPropTasks(root, gradientTargets, gradientSources);
+        }
+
+        return new ExecutionPlan<>(
+            root,
+            forwardOrder.toArray(new Variable<?>[0]),
+            gradientTargets.toArray(new Variable<?>[0]),
+            gradientSources.toArray(new Variable<?>[0])
+        );
+    }
+
+    public Variable<T> root() {
+        return root;
+    }
+
+    Variable<?>[] forwardOrder() {
+        return forwardOrder;
+    }
+
+    Variable<?>[] gradientTargets() {
+        return gradientTargets;
+    }
+
+    Variable<?>[] gradientSources() {
+        return gradientSources;
+    }
+
+    private static void collectForwardOrder(Variable<?> variable, Set<Variable<?>> visited, List<Variable<?>> order) {
+        if (!visited.add(variable)) {
+            return;
+        }
+        for (Variable<?> parent : variable.parents()) {
+            collectForwardOrder(parent, visited, order);
+        }
+        order.add(variable);
+    }
+
+    /**
+     * Simulates the back propagation from the root, a variable passes its gradient on to its parents
+     * as soon as the gradients from all of its children have been accumulated.
+     * Recording the order of the tasks keeps the summation order of the gradients stable.
+     */
+    private static void collectBackPropTasks(
+        Variable<?> function,
+        List<Variable<?>> gradientTargets,
+        List<Variable<?>> gradientSources
+    ) {
+        Queue<BackPropTask> executionQueue = new ArrayDeque<>();
+        PassthroughVariable<?> dummy = new PassthroughVariable<>(function);
+        executionQueue.add(new BackPropTask(function, dummy));
+        Map<Variable<?>, AtomicInteger> upstreamCounters = new HashMap<>();
+        initUpstream(dummy, upstreamCounters);
+
+        while (!executionQueue.isEmpty()) {
+            BackPropTask task = executionQueue.poll();
+            var variable = task.variable;
+            gradientTargets.add(variable);
+            gradientSources.add(task.child);
+
+            if (upstreamCounters.get(variable).decrementAndGet() == 0) {
+                for (Variable<?> parent : variable.parents()) {
+                    if (parent.requireGradient()) {
+                        executionQueue.offer(new BackPropTask(parent, variable));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void initUpstream(Variable<?> function, Map<Variable<?>, AtomicInteger> upstreamCounters) {
+        for (Variable<?> parent : function.parents()) {
+            if (parent.requireGradient()) {
+                boolean firstToSeeParent = !upstreamCounters.containsKey(parent);
+                if (firstToSeeParent) {
+                    initUpstream(parent, upstreamCounters);
+                    upstreamCounters.put(parent, new AtomicInteger(0));
+                }
+                upstreamCounters.get(parent).incrementAndGet();
+            }
+        }
+    }
+
+    static class BackPropTask {
+        Variable<?> variable;
+        Variable<?> child;
+
+        BackPropTask(Variable<?> variable, Variable<?> child) {
+            this.variable = variable;
+            this.child = child;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core;
+
+import com.carrotsearch.hppc.IntObjectHashMap;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * A pool of tensor buffers that are reused across computations.
+ *
+ * A {@link ComputationContext} takes the buffers for its intermediate results and gradients from its arena
+ * and hands them back on {@link ComputationContext#release()}.
+ * Sharing one arena between the contexts of a thread avoids allocating new buffers for every training step.
+ * An arena is not thread-safe.
+ */
+public final class TensorArena {
+
+    private final IntObjectHashMap<ArrayDeque<double[]>> freeBuffers;
+
+    public TensorArena() {
+        this.freeBuffers = new IntObjectHashMap<>();
+    }
+
+    /**
+     * @return a zeroed buffer of the given length
+     */
+    double[] acquire(int length) {
+        var buffers = freeBuffers.get(length);
+        if (buffers == null || buffers.isEmpty()) {
+            return new double[length];
+        }
+        var buffer = buffers.pop();
+        Arrays.fill(buffer, 0D);
+        return buffer;
+    }
+
+    void release(double[] buffer) {
+        var buffers = freeBuffers.get(buffer.length);
+        if (buffers == null) {
+            buffers = new ArrayDeque<>();
+            freeBuffers.put(buffer.length, buffers);
+        }
+        buffers.push(buffer);
+    }
+}
@@ -48,7 +48,8 @@ public class MultiMean extends SingleParentVariable<Matrix> {
         Variable<?> parent = parent();
         Tensor<?> parentTensor = ctx.data(parent);
         double[] parentData = parentTensor.data();
-        double[] means = new double[adjacency.length * cols];
+        Matrix meansMatrix = ctx.allocateMatrix(this.rows, this.cols);
+        double[] means = meansMatrix.data();
         for (int source = 0; source < adjacency.length; source++) {
             int selfAdjacencyOfSourceOffset = selfAdjacency[source] * cols;
             int sourceOffset = source * cols;
@@ -65,14 +66,17 @@ public class MultiMean extends SingleParentVariable<Matrix> {
             }
         }
 
-        return new Matrix(means, this.rows, this.cols);
+        return meansMatrix;
     }
 
     @Override
     public Tensor<?> gradient(Variable<?> parent, ComputationContext ctx) {
         double[] multiMeanGradient = ctx.gradient(this).data();
 
-        Tensor<?> result = ctx.data(parent).createWithSameDimensions();
+        Tensor<?> result = ctx.allocateMatrix(
+            parent.dimension(Dimensions.ROWS_INDEX),
+            parent.dimension(Dimensions.COLUMNS_INDEX)
+        );
 
         for (int col = 0; col < cols; col++) {
             for (int row = 0; row < rows; row++) {
@@ -43,18 +43,22 @@ public class Slice extends SingleParentVariable<Matrix> {
     public Matrix apply(ComputationContext ctx) {
         double[] parentData = ctx.data(parent()).data();
 
-        double[] result = new double[rows * cols];
+        Matrix resultMatrix = ctx.allocateMatrix(rows, cols);
+        double[] result = resultMatrix.data();
 
         for (int row = 0; row < rows; row++) {
             System.arraycopy(parentData, selfAdjacency[row] * cols, result, row * cols, cols);
         }
 
-        return new Matrix(result, rows, cols);
+        return resultMatrix;
     }
 
     @Override
     public Tensor<?> gradient(Variable<?> contextParent, ComputationContext ctx) {
-        Tensor<?> result = ctx.data(contextParent).createWithSameDimensions();
+        Tensor<?> result = ctx.allocateMatrix(
+            contextParent.dimension(Dimensions.ROWS_INDEX),
+            contextParent.dimension(Dimensions.COLUMNS_INDEX)
+        );
 
         double[] selfGradient = ctx.gradient(this).data();
         for (int row = 0; row < rows; row++) {
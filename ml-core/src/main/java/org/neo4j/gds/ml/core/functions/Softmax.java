@@ -45,7 +45,7 @@ public class Softmax extends SingleParentVariable<Matrix> {
     @Override
     public Matrix apply(ComputationContext ctx) {
         var data = (Matrix) ctx.data(parent());
-        var result = data.createWithSameDimensions();
+        var result = ctx.allocateMatrix(rows, cols);
         boolean rescale = false;
         for (int row = 0; row < rows; row++) {
             double rowSum = 1e-15;
@@ -98,7 +98,7 @@ public class Softmax extends SingleParentVariable<Matrix> {
         var selfData = ctx.data(this);
         var selfGradient= ctx.gradient(this);
 
-        var computedGradient = Matrix.create(0.0, rows, cols);
+        var computedGradient = ctx.allocateMatrix(rows, cols);
 
         // result[row,col] = sum_{col2} s[row, col2] * (delta(col, col2) - s[row, col]) * grad[row, col2]
         for (int row = 0; row < rows; row++) {
@@ -54,7 +54,8 @@ public class WeightedMultiMean extends SingleParentVariable<Matrix> {
         Variable<?> parent = parent();
         Tensor<?> parentTensor = ctx.data(parent);
         double[] parentData = parentTensor.data();
-        double[] means = new double[adjacency.length * cols];
+        Matrix meansMatrix = ctx.allocateMatrix(this.rows, this.cols);
+        double[] means = meansMatrix.data();
         for (int sourceIndex = 0; sourceIndex < adjacency.length; sourceIndex++) {
             int sourceId = selfAdjacency[sourceIndex];
             long originalSourceId = subGraph.nextNodes[sourceId];
@@ -75,14 +76,17 @@ public class WeightedMultiMean extends SingleParentVariable<Matrix> {
             }
         }
 
-        return new Matrix(means, this.rows, this.cols);
+        return meansMatrix;
     }
 
     @Override
     public Tensor<?> gradient(Variable<?> parent, ComputationContext ctx) {
         double[] multiMeanGradient = ctx.gradient(this).data();
 
-        Tensor<?> result = ctx.data(parent).createWithSameDimensions();
+        Tensor<?> result = ctx.allocateMatrix(
+            parent.dimension(Dimensions.ROWS_INDEX),
+            parent.dimension(Dimensions.COLUMNS_INDEX)
+        );
 
         for (int col = 0; col < cols; col++) {
             for (int row = 0; row < rows; row++) {
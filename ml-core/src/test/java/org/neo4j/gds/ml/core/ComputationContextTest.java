@@ -23,7 +23,12 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.ml.core.functions.Constant;
 import org.neo4j.gds.ml.core.functions.ConstantScale;
 import org.neo4j.gds.ml.core.functions.ElementSum;
+import org.neo4j.gds.ml.core.functions.MatrixSum;
+import org.neo4j.gds.ml.core.functions.NormalizeRows;
+import org.neo4j.gds.ml.core.functions.Sigmoid;
+import org.neo4j.gds.ml.core.functions.Softmax;
 import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Scalar;
 
 import java.util.List;
@@ -81,4 +86,38 @@ public class ComputationContextTest {
                 "\t data: Scalar: [12.0]" + System.lineSeparator() +
                 "\t gradient: Scalar: [1.0]" + System.lineSeparator());
     }
+
+    @Test
+    void executionPlanComputesSameGradients() {
+        var weights = new Weights<>(new Matrix(new double[]{0.1, -0.2, 0.3, 0.4, -0.5, 0.6}, 2, 3));
+        var features = Constant.matrix(new double[]{1, 2, 3, 4, 5, 6}, 2, 3);
+        var loss = new ElementSum(List.of(
+            new Softmax(new NormalizeRows(new MatrixSum(List.of(weights, features)))),
+            new Sigmoid<>(weights)
+        ));
+
+        var ctx = new ComputationContext();
+        var expectedLoss = ctx.forward(loss);
+        ctx.backward(loss);
+
+        var plan = ExecutionPlan.compile(loss);
+        var planCtx = new ComputationContext(new TensorArena());
+        assertThat(planCtx.forward(plan)).isEqualTo(expectedLoss);
+        planCtx.backward(plan);
+
+        assertThat(planCtx.gradient(weights)).isEqualTo(ctx.gradient(weights));
+    }
+
+    @Test
+    void reusesBuffersAfterRelease() {
+        var arena = new TensorArena();
+
+        var ctx = new ComputationContext(arena);
+        var matrix = ctx.allocateMatrix(2, 3);
+        matrix.setDataAt(0, 42);
+        ctx.release();
+
+        var reusedMatrix = new ComputationContext(arena).allocateMatrix(3, 2);
+        assertThat(reusedMatrix.data()).isSameAs(matrix.data()).containsOnly(0D);
+    }
 }
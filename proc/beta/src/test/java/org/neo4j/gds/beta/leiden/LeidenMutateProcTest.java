@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.leiden;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.CommunityHelper.assertCommunities;
+import static org.neo4j.gds.GdsCypher.ExecutionModes.MUTATE;
+
+class LeidenMutateProcTest extends LeidenProcTest {
+
+    private static final String MUTATE_PROPERTY = "community";
+
+    @BeforeEach
+    @Override
+    void setup() throws Exception {
+        super.setup();
+        runQuery(GdsCypher.call()
+            .loadEverything(Orientation.UNDIRECTED)
+            .graphCreate(TEST_GRAPH_NAME)
+            .yields());
+    }
+
+    @Test
+    void testMutate() {
+        String query = GdsCypher.call()
+            .explicitCreation(TEST_GRAPH_NAME)
+            .algo("gds", "beta", "leiden")
+            .mutateMode()
+            .addParameter("mutateProperty", MUTATE_PROPERTY)
+            .yields("communityCount", "modularity", "nodePropertiesWritten", "mutateMillis");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("communityCount").longValue()).isEqualTo(2);
+            assertThat(row.getNumber("modularity").doubleValue()).isGreaterThan(0.3);
+            assertThat(row.getNumber("nodePropertiesWritten").longValue()).isEqualTo(8);
+            assertThat(row.getNumber("mutateMillis").longValue()).isNotNegative();
+        });
+
+        var graphStore = GraphStoreCatalog.get(TEST_USERNAME, namedDatabaseId(), TEST_GRAPH_NAME).graphStore();
+        var communityProperties = graphStore.nodePropertyValues(MUTATE_PROPERTY);
+        long[] communities = new long[8];
+        for (int nodeId = 0; nodeId < communities.length; nodeId++) {
+            communities[nodeId] = communityProperties.longValue(nodeId);
+        }
+
+        assertCommunities(communities, COMMUNITIES);
+    }
+
+    @Test
+    void testMutateEstimate() {
+        String query = GdsCypher.call()
+            .explicitCreation(TEST_GRAPH_NAME)
+            .algo("gds", "beta", "leiden")
+            .estimationMode(MUTATE)
+            .addParameter("mutateProperty", MUTATE_PROPERTY)
+            .yields("bytesMin", "bytesMax");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("bytesMin").longValue()).isPositive();
+            assertThat(row.getNumber("bytesMax").longValue()).isPositive();
+        });
+    }
+}
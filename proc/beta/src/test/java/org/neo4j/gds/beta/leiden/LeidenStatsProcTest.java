@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.leiden;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.GdsCypher.ExecutionModes.STATS;
+
+class LeidenStatsProcTest extends LeidenProcTest {
+
+    @Test
+    void testStats() {
+        String query = algoBuildStage()
+            .statsMode()
+            .yields(
+                "modularity",
+                "modularities",
+                "ranLevels",
+                "communityCount",
+                "communityDistribution",
+                "createMillis",
+                "computeMillis",
+                "postProcessingMillis"
+            );
+
+        runQueryWithRowConsumer(query, row -> {
+            long ranLevels = row.getNumber("ranLevels").longValue();
+            assertThat(ranLevels).isPositive();
+            assertThat(row.getNumber("communityCount").longValue()).isEqualTo(2);
+            assertThat(row.getNumber("modularity").doubleValue()).isGreaterThan(0.3);
+
+            @SuppressWarnings("unchecked")
+            var modularities = (List<Double>) row.get("modularities");
+            assertThat(modularities).hasSize((int) ranLevels);
+            assertThat(modularities.get(modularities.size() - 1))
+                .isEqualTo(row.getNumber("modularity").doubleValue());
+
+            @SuppressWarnings("unchecked")
+            var communityDistribution = (Map<String, Object>) row.get("communityDistribution");
+            assertThat(communityDistribution).containsEntry("max", 4L).containsEntry("min", 4L);
+
+            assertThat(row.getNumber("createMillis").longValue()).isNotNegative();
+            assertThat(row.getNumber("computeMillis").longValue()).isNotNegative();
+            assertThat(row.getNumber("postProcessingMillis").longValue()).isNotNegative();
+        });
+    }
+
+    @Test
+    void testStatsEstimate() {
+        String query = algoBuildStage()
+            .estimationMode(STATS)
+            .yields("bytesMin", "bytesMax");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("bytesMin").longValue()).isPositive();
+            assertThat(row.getNumber("bytesMax").longValue()).isPositive();
+        });
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.leiden;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.CommunityHelper.assertCommunities;
+import static org.neo4j.gds.GdsCypher.ExecutionModes.STREAM;
+
+class LeidenStreamProcTest extends LeidenProcTest {
+
+    @Test
+    void testStream() {
+        String query = algoBuildStage()
+            .streamMode()
+            .yields("nodeId", "communityId", "intermediateCommunityIds");
+
+        long[] communities = new long[8];
+        runQueryWithRowConsumer(query, row -> {
+            int nodeId = row.getNumber("nodeId").intValue();
+            communities[nodeId] = row.getNumber("communityId").longValue();
+            assertThat(row.get("intermediateCommunityIds")).isNull();
+        });
+
+        assertCommunities(communities, COMMUNITIES);
+    }
+
+    @Test
+    void testStreamIntermediateCommunities() {
+        String query = algoBuildStage()
+            .streamMode()
+            .addParameter("includeIntermediateCommunities", true)
+            .yields("nodeId", "communityId", "intermediateCommunityIds");
+
+        runQueryWithRowConsumer(query, row -> {
+            @SuppressWarnings("unchecked")
+            var intermediateCommunities = (List<Long>) row.get("intermediateCommunityIds");
+            assertThat(intermediateCommunities).isNotEmpty();
+            assertThat(intermediateCommunities.get(intermediateCommunities.size() - 1))
+                .isEqualTo(row.getNumber("communityId").longValue());
+        });
+    }
+
+    @Test
+    void testStreamEstimate() {
+        String query = algoBuildStage()
+            .estimationMode(STREAM)
+            .yields("bytesMin", "bytesMax");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("bytesMin").longValue()).isPositive();
+            assertThat(row.getNumber("bytesMax").longValue()).isPositive();
+        });
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.leiden;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.CommunityHelper.assertCommunities;
+import static org.neo4j.gds.GdsCypher.ExecutionModes.WRITE;
+
+class LeidenWriteProcTest extends LeidenProcTest {
+
+    private static final String WRITE_PROPERTY = "community";
+
+    @Test
+    void testWrite() {
+        String query = algoBuildStage()
+            .writeMode()
+            .addParameter("writeProperty", WRITE_PROPERTY)
+            .yields("communityCount", "modularity", "nodePropertiesWritten", "writeMillis");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("communityCount").longValue()).isEqualTo(2);
+            assertThat(row.getNumber("modularity").doubleValue()).isGreaterThan(0.3);
+            assertThat(row.getNumber("nodePropertiesWritten").longValue()).isEqualTo(8);
+            assertThat(row.getNumber("writeMillis").longValue()).isNotNegative();
+        });
+
+        var nameMapping = Map.of("a", 0, "b", 1, "c", 2, "d", 3, "e", 4, "f", 5, "g", 6, "h", 7);
+        long[] communities = new long[8];
+        runQueryWithRowConsumer(
+            "MATCH (n) RETURN n.name AS name, n." + WRITE_PROPERTY + " AS community",
+            row -> communities[nameMapping.get(row.getString("name"))] = row.getNumber("community").longValue()
+        );
+
+        assertCommunities(communities, COMMUNITIES);
+    }
+
+    @Test
+    void testWriteEstimate() {
+        String query = algoBuildStage()
+            .estimationMode(WRITE)
+            .addParameter("writeProperty", WRITE_PROPERTY)
+            .yields("bytesMin", "bytesMax");
+
+        runQueryWithRowConsumer(query, row -> {
+            assertThat(row.getNumber("bytesMin").longValue()).isPositive();
+            assertThat(row.getNumber("bytesMax").longValue()).isPositive();
+        });
+    }
+}
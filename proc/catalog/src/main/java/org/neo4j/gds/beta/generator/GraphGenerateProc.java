@@ -121,6 +121,9 @@ public final class GraphGenerateProc extends BaseProc {
             .orientation(config.orientation())
             .allowSelfLoops(AllowSelfLoops.of(config.allowSelfLoops()))
             .allocationTracker(allocationTracker());
+       if (config.parallelGeneration()) {
+           builder.concurrency(config.readConcurrency());
+       }
        if (config.relationshipSeed() != null) {
            builder.seed(config.relationshipSeed());
        }
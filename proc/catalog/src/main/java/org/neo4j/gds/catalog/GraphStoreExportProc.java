@@ -32,6 +32,7 @@ import org.neo4j.gds.core.utils.io.GraphStoreExporterBaseConfig;
 import org.neo4j.gds.core.utils.io.NeoNodeProperties;
 import org.neo4j.gds.core.utils.io.db.GraphStoreToDatabaseExporter;
 import org.neo4j.gds.core.utils.io.db.GraphStoreToDatabaseExporterConfig;
+import org.neo4j.gds.core.utils.io.file.FileFormat;
 import org.neo4j.gds.core.utils.io.file.GraphStoreExporterUtil;
 import org.neo4j.gds.core.utils.io.file.GraphStoreToFileExporterConfig;
 import org.neo4j.gds.core.utils.io.file.csv.estimation.CsvExportEstimation;
@@ -102,6 +103,23 @@ public class GraphStoreExportProc extends BaseProc {
     public Stream<FileExportResult> csv(
         @Name(value = "graphName") String graphName,
         @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return fileExport(graphName, configuration, FileFormat.CSV);
+    }
+
+    @Procedure(name = "gds.beta.graph.export.binary", mode = READ)
+    @Description("Exports a named graph to compressed binary columnar files.")
+    public Stream<FileExportResult> binary(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return fileExport(graphName, configuration, FileFormat.BINARY);
+    }
+
+    private Stream<FileExportResult> fileExport(
+        String graphName,
+        Map<String, Object> configuration,
+        FileFormat fileFormat
     ) {
         var cypherConfig = CypherMapWrapper.create(configuration);
         var exportConfig = GraphStoreToFileExporterConfig.of(username(), cypherConfig);
@@ -117,6 +135,7 @@ public class GraphStoreExportProc extends BaseProc {
             exportLocation(neo4jConfig, exportConfig),
             exportConfig,
             neoNodeProperties(exportConfig, graphStore),
+            fileFormat,
             log,
             allocationTracker()
         );
@@ -68,7 +68,7 @@ class GraphGenerateProcTest extends BaseProcTest {
             Arguments.of(1L, "Expected RelationshipDistribution or String. Got Long."),
             Arguments.of(
                 "'bestDistribution'",
-                "RelationshipDistribution `bestDistribution` is not supported. Must be one of: ['POWER_LAW', 'RANDOM', 'UNIFORM']."
+                "RelationshipDistribution `bestDistribution` is not supported. Must be one of: ['LFR', 'POWER_LAW', 'RANDOM', 'RMAT', 'UNIFORM']."
             )
         );
     }
@@ -281,6 +281,26 @@ class GraphGenerateProcTest extends BaseProcTest {
         assertGraphEquals(generator.generate(), otherGenerator.generate());
     }
 
+    @Test
+    void shouldGenerateSequentiallyByDefault() {
+        long relationshipSeed = 4242L;
+
+        Map<String, Object> configMap = map("relationshipSeed", relationshipSeed, "readConcurrency", 4);
+
+        RandomGraphGeneratorConfig cfg = RandomGraphGeneratorConfig.of(getUsername(), "", 1000, 5, create(configMap));
+
+        GraphGenerateProc proc = new GraphGenerateProc();
+        RandomGraphGenerator generator = proc.initializeGraphGenerator(1000, 5, cfg);
+        RandomGraphGenerator sequentialGenerator = RandomGraphGenerator.builder()
+            .nodeCount(1000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(relationshipSeed)
+            .build();
+
+        assertGraphEquals(sequentialGenerator.generate(), generator.generate());
+    }
+
     static Stream<Arguments> relationshipPropertyProducers() {
         Collection<Arguments> producers = new ArrayList<>();
 
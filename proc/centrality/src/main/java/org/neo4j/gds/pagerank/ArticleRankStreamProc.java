@@ -20,6 +20,7 @@
 package org.neo4j.gds.pagerank;
 
 import org.neo4j.gds.AlgorithmFactory;
+import org.neo4j.gds.common.CentralityStreamBatchResult;
 import org.neo4j.gds.common.CentralityStreamResult;
 import org.neo4j.gds.results.MemoryEstimateResult;
 import org.neo4j.procedure.Description;
@@ -44,6 +45,16 @@ public class ArticleRankStreamProc extends PageRankStreamProc {
         return super.stream(graphNameOrConfig, configuration);
     }
 
+    @Override
+    @Procedure(value = "gds.articleRank.stream.batched", mode = READ)
+    @Description(ARTICLE_RANK_DESCRIPTION)
+    public Stream<CentralityStreamBatchResult> streamBatched(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return super.streamBatched(graphNameOrConfig, configuration);
+    }
+
     @Override
     @Procedure(value = "gds.articleRank.stream.estimate", mode = READ)
     @Description(ESTIMATE_DESCRIPTION)
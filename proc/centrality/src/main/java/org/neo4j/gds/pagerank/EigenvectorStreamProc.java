@@ -20,6 +20,7 @@
 package org.neo4j.gds.pagerank;
 
 import org.neo4j.gds.AlgorithmFactory;
+import org.neo4j.gds.common.CentralityStreamBatchResult;
 import org.neo4j.gds.common.CentralityStreamResult;
 import org.neo4j.gds.config.GraphCreateConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
@@ -46,6 +47,16 @@ public class EigenvectorStreamProc extends PageRankStreamProc {
         return super.stream(graphNameOrConfig, configuration);
     }
 
+    @Override
+    @Procedure(value = "gds.eigenvector.stream.batched", mode = READ)
+    @Description(PageRankProc.EIGENVECTOR_DESCRIPTION)
+    public Stream<CentralityStreamBatchResult> streamBatched(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        return super.streamBatched(graphNameOrConfig, configuration);
+    }
+
     @Override
     @Procedure(value = "gds.eigenvector.stream.estimate", mode = READ)
     @Description(ESTIMATE_DESCRIPTION)
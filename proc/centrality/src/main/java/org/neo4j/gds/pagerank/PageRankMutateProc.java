@@ -77,6 +77,11 @@ public class PageRankMutateProc extends MutatePropertyProc<PageRankAlgorithm, Pa
         return new PageRankAlgorithmFactory<>();
     }
 
+    @Override
+    protected boolean isResultCacheable() {
+        return true;
+    }
+
     @Override
     protected NodeProperties nodeProperties(ComputationResult<PageRankAlgorithm, PageRankResult, PageRankMutateConfig> computationResult) {
         return PageRankProc.nodeProperties(computationResult);
@@ -91,6 +91,11 @@ public class PageRankStatsProc extends StatsProc<PageRankAlgorithm, PageRankResu
         return new PageRankAlgorithmFactory<>();
     }
 
+    @Override
+    protected boolean isResultCacheable() {
+        return true;
+    }
+
     @SuppressWarnings("unused")
     public static class StatsResult extends StandardStatsResult {
 
@@ -22,6 +22,7 @@ package org.neo4j.gds.pagerank;
 import org.neo4j.gds.AlgorithmFactory;
 import org.neo4j.gds.StreamProc;
 import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.common.CentralityStreamBatchResult;
 import org.neo4j.gds.common.CentralityStreamResult;
 import org.neo4j.gds.config.GraphCreateConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
@@ -52,6 +53,19 @@ public class PageRankStreamProc extends StreamProc<PageRankAlgorithm, PageRankRe
         return stream(computationResult);
     }
 
+    @Procedure(value = "gds.pageRank.stream.batched", mode = READ)
+    @Description(PAGE_RANK_DESCRIPTION)
+    public Stream<CentralityStreamBatchResult> streamBatched(
+        @Name(value = "graphName") Object graphNameOrConfig,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ComputationResult<PageRankAlgorithm, PageRankResult, PageRankStreamConfig> computationResult = compute(
+            graphNameOrConfig,
+            configuration
+        );
+        return batchedStream(computationResult, PageRankResult::scores, CentralityStreamBatchResult::new);
+    }
+
     @Procedure(value = "gds.pageRank.stream.estimate", mode = READ)
     @Description(ESTIMATE_DESCRIPTION)
     public Stream<MemoryEstimateResult> estimate(
@@ -89,6 +103,11 @@ public class PageRankStreamProc extends StreamProc<PageRankAlgorithm, PageRankRe
         return new PageRankAlgorithmFactory<>();
     }
 
+    @Override
+    protected boolean isResultCacheable() {
+        return true;
+    }
+
     @Override
     protected NodeProperties nodeProperties(ComputationResult<PageRankAlgorithm, PageRankResult, PageRankStreamConfig> computationResult) {
         return PageRankProc.nodeProperties(computationResult);
@@ -82,6 +82,11 @@ public class PageRankWriteProc extends WriteProc<PageRankAlgorithm, PageRankResu
         return new PageRankAlgorithmFactory<>();
     }
 
+    @Override
+    protected boolean isResultCacheable() {
+        return true;
+    }
+
     @Override
     protected void validateConfigsBeforeLoad(GraphCreateConfig graphCreateConfig, PageRankWriteConfig config) {
         super.validateConfigsBeforeLoad(graphCreateConfig, config);
@@ -27,6 +27,9 @@ import org.neo4j.gds.catalog.GraphCreateProc;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.AlgoBaseProc;
 import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.TestLog;
+import org.neo4j.gds.core.loading.AlgorithmResultCache;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -58,6 +61,31 @@ public class PageRankStatsProcTest extends PageRankProcTest<PageRankStatsConfig>
         return PageRankStatsConfig.of(getUsername(), Optional.empty(), Optional.empty(), mapWrapper);
     }
 
+    @Test
+    void shouldReuseCachedResultForIdenticalCalls() {
+        GdsFeatureToggles.USE_ALGORITHM_RESULT_CACHE.enableAndRun(() -> {
+            var log = new TestLog();
+            applyOnProcedure(proc -> {
+                proc.log = log;
+                var statsProc = (PageRankStatsProc) proc;
+                var first = statsProc.stats("graphLabel1", Map.of("tolerance", 0.1)).findFirst().orElseThrow();
+                var second = statsProc.stats("graphLabel1", Map.of("tolerance", 0.1)).findFirst().orElseThrow();
+
+                assertEquals(first.ranIterations, second.ranIterations);
+                assertEquals(first.didConverge, second.didConverge);
+                assertEquals(first.centralityDistribution, second.centralityDistribution);
+            });
+
+            long computations = log
+                .getMessages(TestLog.INFO)
+                .stream()
+                .filter(message -> message.contains("overall memory usage"))
+                .count();
+            assertEquals(1, computations);
+            assertEquals(1, AlgorithmResultCache.size());
+        });
+    }
+
     @Test
     void testStatsYields() {
         String query = GdsCypher
@@ -30,8 +30,10 @@ import org.neo4j.gds.TestLog;
 import org.neo4j.graphdb.QueryExecutionException;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -123,6 +125,62 @@ class PageRankStreamProcTest extends PageRankProcTest<PageRankStreamConfig> {
         assertThat(log.getMessages(TestLog.WARN)).anyMatch(message -> message.contains("deprecated"));
     }
 
+    @Test
+    void shouldStreamBatchesOfNodes() {
+        var config = createMinimalConfig(CypherMapWrapper.create(MapUtil.map(
+            "nodeProjection", "*",
+            "relationshipProjection", "*"
+        ))).toMap();
+
+        applyOnProcedure(proc -> {
+            var streamProc = (PageRankStreamProc) proc;
+            var expectedScores = streamProc
+                .stream(config, Map.of())
+                .collect(Collectors.toMap(result -> result.nodeId, result -> result.score));
+
+            var batches = streamProc.streamBatched(config, Map.of()).collect(Collectors.toList());
+
+            assertThat(batches).hasSize(1);
+            var batch = batches.get(0);
+            assertThat(batch.nodeIds).hasSameSizeAs(batch.scores).hasSize(expectedScores.size());
+            for (int i = 0; i < batch.nodeIds.size(); i++) {
+                assertThat(batch.scores.get(i)).isEqualTo(expectedScores.get(batch.nodeIds.get(i)));
+            }
+        });
+    }
+
+    @Test
+    void shouldStreamBatchesOfNodesAcrossBatchBoundaries() {
+        // 25_000 pairs of nodes span five batches of 10_000 nodes
+        runQuery("UNWIND range(1, 25000) AS i CREATE (:Big)-[:BIG_REL]->(:Big)");
+
+        var config = createMinimalConfig(CypherMapWrapper.create(MapUtil.map(
+            "nodeProjection", "Big",
+            "relationshipProjection", "BIG_REL"
+        ))).toMap();
+
+        applyOnProcedure(proc -> {
+            var streamProc = (PageRankStreamProc) proc;
+            var expectedScores = streamProc
+                .stream(config, Map.of())
+                .collect(Collectors.toMap(result -> result.nodeId, result -> result.score));
+
+            var batches = streamProc.streamBatched(config, Map.of()).collect(Collectors.toList());
+
+            assertThat(batches).hasSize(5);
+            var streamedNodeIds = new HashSet<Long>();
+            for (var batch : batches) {
+                assertThat(batch.nodeIds).hasSameSizeAs(batch.scores).hasSize(10_000);
+                for (int i = 0; i < batch.nodeIds.size(); i++) {
+                    var nodeId = batch.nodeIds.get(i);
+                    assertThat(streamedNodeIds.add(nodeId)).isTrue();
+                    assertThat(batch.scores.get(i)).isEqualTo(expectedScores.get(nodeId));
+                }
+            }
+            assertThat(streamedNodeIds).isEqualTo(expectedScores.keySet());
+        });
+    }
+
     @ParameterizedTest(name = "{1}")
     @MethodSource("org.neo4j.gds.pagerank.PageRankProcTest#graphVariations")
     void streamWithSourceNodes(ModeBuildStage queryBuilder, String testCaseName) {
@@ -27,6 +27,7 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.NodeProperties;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.GraphCreateConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
@@ -34,7 +35,9 @@ import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.GraphLoader;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.loading.AlgorithmResultCache;
 import org.neo4j.gds.core.loading.GraphStoreWithConfig;
+import org.neo4j.gds.core.loading.ImplicitGraphStoreCache;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
@@ -42,6 +45,8 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
 import org.neo4j.gds.core.utils.mem.MemoryTreeWithDimensions;
 import org.neo4j.gds.results.MemoryEstimateResult;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.storageengine.api.TransactionIdStore;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -223,9 +228,33 @@ public abstract class AlgoBaseProc<
                 .build();
         }
 
+        // the algorithm of a cached result is shared between all callers, so it must have released its state
+        boolean useResultCache = GdsFeatureToggles.USE_ALGORITHM_RESULT_CACHE.isEnabled()
+                                 && api != null
+                                 && releaseAlgorithm
+                                 && isResultCacheable()
+                                 && AlgorithmResultCache.isCacheable(config);
+        var modificationTime = graphStore.modificationTime();
+        if (useResultCache) {
+            var cachedResult = AlgorithmResultCache.get(databaseId(), graphStore, getClass().getName(), config);
+            if (cachedResult.isPresent()) {
+                @SuppressWarnings("unchecked")
+                var cachedComputation = (ComputationResult<ALGO, ALGO_RESULT, CONFIG>) cachedResult.get();
+                return builder
+                    .graph(graph)
+                    .graphStore(graphStore)
+                    .algorithm(cachedComputation.algorithm())
+                    .result(cachedComputation.result())
+                    .config(config)
+                    .computeMillis(0)
+                    .build();
+            }
+        }
+
         ALGO algo = newAlgorithm(graph, config, allocationTracker);
 
         algo.progressTracker.setEstimatedResourceFootprint(memoryEstimationInBytes, config.concurrency());
+        long trackedBytesBeforeCompute = allocationTracker.trackedBytes();
 
         ALGO_RESULT result = runWithExceptionLogging(
             "Computation failed",
@@ -243,13 +272,39 @@ public abstract class AlgoBaseProc<
 
         log.info(algoName() + ": overall memory usage %s", allocationTracker.getUsageString());
 
-        return builder
+        var computationResult = builder
             .graph(graph)
             .graphStore(graphStore)
             .algorithm(algo)
             .result(result)
             .config(config)
             .build();
+
+        if (useResultCache) {
+            // the tracked memory includes temporary data structures and is an upper bound for the size of the result
+            long resultSizeInBytes = AllocationTracker.isTracking(allocationTracker)
+                ? allocationTracker.trackedBytes() - trackedBytesBeforeCompute
+                : memoryEstimationInBytes.max;
+            AlgorithmResultCache.put(
+                databaseId(),
+                graphStore,
+                modificationTime,
+                getClass().getName(),
+                config,
+                computationResult,
+                resultSizeInBytes
+            );
+        }
+
+        return computationResult;
+    }
+
+    /**
+     * Whether the result can be reused by later calls with the same configuration on the same named graph,
+     * see {@link AlgorithmResultCache}. Results that can only be consumed once, such as streams, must not be cached.
+     */
+    protected boolean isResultCacheable() {
+        return false;
     }
 
     /**
@@ -343,8 +398,7 @@ public abstract class AlgoBaseProc<
             GraphCreateConfig createConfig = config.implicitCreateConfig().get();
             validateConfigsBeforeLoad(createConfig, config);
 
-            GraphLoader loader = newLoader(createConfig, AllocationTracker.empty());
-            GraphStore graphStore = loader.graphStore();
+            GraphStore graphStore = implicitGraphStore(createConfig);
 
             graphCandidate = GraphStoreWithConfig.of(graphStore, createConfig);
         } else {
@@ -356,6 +410,38 @@ public abstract class AlgoBaseProc<
         return graphStore;
     }
 
+    private GraphStore implicitGraphStore(GraphCreateConfig createConfig) {
+        // graphs loaded by a transaction with uncommitted changes must not be seen by other transactions
+        boolean useCache = GdsFeatureToggles.USE_IMPLICIT_GRAPH_STORE_CACHE.isEnabled()
+                           && api != null
+                           && transaction != null
+                           && !transaction.dataRead().transactionStateHasChanges()
+                           && ImplicitGraphStoreCache.isCacheable(createConfig);
+        if (!useCache) {
+            GraphLoader loader = newLoader(createConfig, AllocationTracker.empty());
+            return loader.graphStore();
+        }
+
+        long lastCommittedTransactionId = GraphDatabaseApiProxy
+            .resolveDependency(api, TransactionIdStore.class)
+            .getLastCommittedTransactionId();
+
+        return ImplicitGraphStoreCache
+            .get(databaseId(), createConfig, lastCommittedTransactionId)
+            .orElseGet(() -> {
+                var loadingTracker = AllocationTracker.create();
+                var graphStore = newLoader(createConfig, loadingTracker).graphStore();
+                ImplicitGraphStoreCache.put(
+                    databaseId(),
+                    createConfig,
+                    lastCommittedTransactionId,
+                    graphStore,
+                    loadingTracker.trackedBytes()
+                );
+                return graphStore;
+            });
+    }
+
     private Map<RelationshipType, Long> filteredGraphRelationshipCounts(
         CONFIG config,
         GraphStore graphStore,
@@ -19,25 +19,35 @@
  */
 package org.neo4j.gds;
 
+import org.neo4j.gds.core.huge.TransientCompressedList;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryTree;
 import org.neo4j.gds.core.utils.mem.MemoryTreeWithDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.StringJoiner;
+import java.util.function.ToLongFunction;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 final class MemoryValidation {
 
+    private static final String SPILL_TO_DISK_HINT =
+        "To trade speed for memory, use `CALL gds.features.useSpillToDisk(true)` to page large arrays and adjacency lists to disk.";
+
     static void validateMemoryUsage(
         MemoryTreeWithDimensions memoryTreeWithDimensions,
         long availableBytes,
         boolean useMaxMemoryEstimation
     ) {
+        var memoryTree = memoryTreeWithDimensions.memoryTree;
         if (useMaxMemoryEstimation) {
             validateMemoryUsage(
+                memoryTree,
+                range -> range.max,
                 availableBytes,
-                memoryTreeWithDimensions.memoryTree.memoryUsage().max,
                 "maximum",
                 "Consider resizing your Aura instance via console.neo4j.io.",
                 "Alternatively, use 'sudo: true' to override the memory validation.",
@@ -46,19 +56,23 @@ final class MemoryValidation {
             );
         } else {
             validateMemoryUsage(
+                memoryTree,
+                range -> range.min,
                 availableBytes,
-                memoryTreeWithDimensions.memoryTree.memoryUsage().min,
                 "minimum"
             );
         }
     }
 
     private static void validateMemoryUsage(
+        MemoryTree memoryTree,
+        ToLongFunction<MemoryRange> bound,
         long availableBytes,
-        long requiredBytes,
         String memoryString,
         String... messages
     ) {
+        var spillToDisk = GdsFeatureToggles.USE_SPILL_TO_DISK.isEnabled();
+        long requiredBytes = heapBytes(memoryTree, bound, spillToDisk);
         if (requiredBytes > availableBytes) {
             var errorMessage = new StringJoiner(" ", "", "");
 
@@ -80,9 +94,44 @@ final class MemoryValidation {
                 errorMessage.add(message);
             }
 
+            // only suggest spilling if it would let the procedure run
+            if (!spillToDisk && heapBytes(memoryTree, bound, true) <= availableBytes) {
+                errorMessage.add(SPILL_TO_DISK_HINT);
+            }
+
             throw new IllegalStateException(errorMessage.toString());
         }
     }
 
+    /**
+     * With spilling to disk, the pages of compressed adjacency lists are written to disk as soon as they are filled
+     * and stay on the heap only up to {@link GdsFeatureToggles#SPILL_TO_DISK_RESIDENT_BYTES}, apart from the page
+     * that each importing thread is filling. Everything else, including uncompressed adjacency lists,
+     * is still expected on the heap.
+     */
+    private static long heapBytes(MemoryTree memoryTree, ToLongFunction<MemoryRange> bound, boolean spillToDisk) {
+        long estimatedBytes = bound.applyAsLong(memoryTree.memoryUsage());
+        if (!spillToDisk) {
+            return estimatedBytes;
+        }
+        long spillableBytes = spillableBytes(memoryTree, bound);
+        long residentBytes = Math.min(spillableBytes, GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.get());
+        return estimatedBytes - spillableBytes + residentBytes;
+    }
+
+    /**
+     * Adjacency lists are usually renamed after their relationship type in the estimation,
+     * so their pages are identified by their own description.
+     */
+    private static long spillableBytes(MemoryTree memoryTree, ToLongFunction<MemoryRange> bound) {
+        if (memoryTree.description().equals(TransientCompressedList.PAGES_DESCRIPTION)) {
+            return bound.applyAsLong(memoryTree.memoryUsage());
+        }
+        return memoryTree.components()
+            .stream()
+            .mapToLong(component -> spillableBytes(component, bound))
+            .sum();
+    }
+
     private MemoryValidation() {}
 }
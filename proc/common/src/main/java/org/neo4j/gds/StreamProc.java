@@ -23,7 +23,11 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMapping;
 import org.neo4j.gds.api.NodeProperties;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.utils.BitUtil;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
@@ -33,6 +37,8 @@ public abstract class StreamProc<
     PROC_RESULT,
     CONFIG extends AlgoBaseConfig> extends AlgoBaseProc<ALGO, ALGO_RESULT, CONFIG> {
 
+    protected static final int STREAM_BATCH_SIZE = 10_000;
+
     protected abstract PROC_RESULT streamResult(long originalNodeId, long internalNodeId, NodeProperties nodeProperties);
 
     protected Stream<PROC_RESULT> stream(ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult) {
@@ -49,4 +55,39 @@ public abstract class StreamProc<
                 .mapToObj(nodeId -> streamResult(graph.toOriginalNodeId(nodeId), nodeId, nodeProperties));
         });
     }
+
+    /**
+     * Streams one result per batch of {@link #STREAM_BATCH_SIZE} nodes instead of one result per node.
+     * Each batch holds the original node ids and the values of its nodes, which are copied from the
+     * {@link HugeDoubleArray} in bulk instead of being read node by node through {@link NodeProperties}.
+     */
+    protected <BATCH_RESULT> Stream<BATCH_RESULT> batchedStream(
+        ComputationResult<ALGO, ALGO_RESULT, CONFIG> computationResult,
+        Function<ALGO_RESULT, HugeDoubleArray> values,
+        BiFunction<long[], double[], BATCH_RESULT> batchResult
+    ) {
+        return runWithExceptionLogging("Result streaming failed", () -> {
+            if (computationResult.isGraphEmpty()) {
+                return Stream.empty();
+            }
+
+            Graph graph = computationResult.graph();
+            HugeDoubleArray array = values.apply(computationResult.result());
+            long nodeCount = graph.nodeCount();
+
+            return LongStream
+                .range(0, BitUtil.ceilDiv(nodeCount, STREAM_BATCH_SIZE))
+                .mapToObj(batch -> {
+                    long start = batch * STREAM_BATCH_SIZE;
+                    long end = Math.min(start + STREAM_BATCH_SIZE, nodeCount);
+                    long[] nodeIds = new long[(int) (end - start)];
+                    for (int i = 0; i < nodeIds.length; i++) {
+                        nodeIds[i] = graph.toOriginalNodeId(start + i);
+                    }
+                    double[] batchValues = new double[nodeIds.length];
+                    array.copySliceIntoArray(start, end, batchValues);
+                    return batchResult.apply(nodeIds, batchValues);
+                });
+        });
+    }
 }
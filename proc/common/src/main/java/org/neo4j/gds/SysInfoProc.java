@@ -126,7 +126,16 @@ public class SysInfoProc {
             .add(value("featureParallelPropertyValueIndex", GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX.isEnabled()))
             .add(value("featureBitIdMap", GdsFeatureToggles.USE_BIT_ID_MAP.isEnabled()))
             .add(value("featureUncompressedAdjacencyList", GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()))
-            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
+            .add(value("featureReorderedAdjacencyList", GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()))
+            .add(value("featureTwoPassRelationshipImport", GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled()))
+            .add(value("featureParallelModelSelection", GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.isEnabled()))
+            .add(value("featureImplicitGraphStoreCache", GdsFeatureToggles.USE_IMPLICIT_GRAPH_STORE_CACHE.isEnabled()))
+            .add(value("featureImplicitGraphStoreCacheMaxBytes", GdsFeatureToggles.IMPLICIT_GRAPH_STORE_CACHE_MAX_BYTES.get()))
+            .add(value("featureSpillToDisk", GdsFeatureToggles.USE_SPILL_TO_DISK.isEnabled()))
+            .add(value("featureSpillToDiskResidentBytes", GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.get()))
+            .add(value("featureAlgorithmResultCache", GdsFeatureToggles.USE_ALGORITHM_RESULT_CACHE.isEnabled()))
+            .add(value("featureAlgorithmResultCacheMaxBytes", GdsFeatureToggles.ALGORITHM_RESULT_CACHE_MAX_BYTES.get()))
+            .add(value("featureAdaptiveIdMap", GdsFeatureToggles.USE_ADAPTIVE_ID_MAP.isEnabled()));
     }
 
     private static void buildInfo(BuildInfoProperties properties, Stream.Builder<DebugValue> builder) {
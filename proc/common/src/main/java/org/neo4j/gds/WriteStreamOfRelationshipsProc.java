@@ -76,6 +76,7 @@ public abstract class WriteStreamOfRelationshipsProc<
                 .withIdMapping(graph.cloneIdMapping())
                 .withRelationships(computationResult.result().relationshipStream())
                 .withTerminationFlag(terminationFlag)
+                .withWriteConcurrency(config.writeConcurrency())
                 .build();
 
             long numberOfRelationshipsWritten = exporter.write(config.writeRelationshipType(), config.writeProperty());
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.results;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list views over primitive arrays, used for list fields of procedure results.
+ * Elements are only boxed when they are read, copying the array into a list of boxed values is not necessary.
+ */
+public final class PrimitiveArrayLists {
+
+    public static List<Long> ofLongs(long[] values) {
+        return new LongArrayList(values);
+    }
+
+    public static List<Double> ofDoubles(double[] values) {
+        return new DoubleArrayList(values);
+    }
+
+    private static final class LongArrayList extends AbstractList<Long> implements RandomAccess {
+        private final long[] values;
+
+        LongArrayList(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Long get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    private static final class DoubleArrayList extends AbstractList<Double> implements RandomAccess {
+        private final double[] values;
+
+        DoubleArrayList(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Double get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+
+    private PrimitiveArrayLists() {}
+}
@@ -19,20 +19,29 @@
  */
 package org.neo4j.gds;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.huge.TransientCompressedList;
+import org.neo4j.gds.core.loading.NativeFactory;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.mem.MemoryTree;
 import org.neo4j.gds.core.utils.mem.MemoryTreeWithDimensions;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_SPILL_TO_DISK;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST;
 
 class MemoryValidationTest {
 
@@ -104,4 +113,102 @@ class MemoryValidationTest {
             );
     }
 
+    @Test
+    void validatesWithSpillToDisk() {
+        var memoryTree = MemoryEstimations.builder().fixed("foobar", 1337).build().estimate(TEST_DIMENSIONS, 1);
+        var memoryTreeWithDimensions = new MemoryTreeWithDimensions(memoryTree, TEST_DIMENSIONS);
+
+        USE_SPILL_TO_DISK.enableAndRun(() -> assertThatThrownBy(() -> MemoryValidation.validateMemoryUsage(
+            memoryTreeWithDimensions,
+            1,
+            false
+        ))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Procedure was blocked since minimum estimated memory")
+            .hasMessageNotContaining("useSpillToDisk"));
+    }
+
+    @Test
+    void capsCompressedAdjacencyPagesWithSpillToDisk() {
+        var memoryTree = TransientCompressedList.adjacencyListEstimation(10, 100).estimate(TEST_DIMENSIONS, 1);
+        var memoryTreeWithDimensions = new MemoryTreeWithDimensions(memoryTree, TEST_DIMENSIONS);
+        long heapBytes = memoryTree.memoryUsage().min - pageBytes(memoryTree, TransientCompressedList.PAGES_DESCRIPTION);
+
+        long residentBytes = GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.getAndSet(0);
+        try {
+            assertThatThrownBy(() -> MemoryValidation.validateMemoryUsage(
+                memoryTreeWithDimensions,
+                heapBytes,
+                false
+            ))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("use `CALL gds.features.useSpillToDisk(true)`");
+
+            USE_SPILL_TO_DISK.enableAndRun(() -> assertDoesNotThrow(() -> MemoryValidation.validateMemoryUsage(
+                memoryTreeWithDimensions,
+                heapBytes,
+                false
+            )));
+        } finally {
+            GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.set(residentBytes);
+        }
+    }
+
+    @Test
+    void capsOnlyCompressedAdjacencyPagesOfGraphCreateWithSpillToDisk() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(1_000_000)
+            .maxRelCount(10_000_000)
+            .build();
+        var relationshipProjections = RelationshipProjections.builder()
+            .putProjection(
+                RelationshipType.of("REL"),
+                RelationshipProjection.builder()
+                    .type("REL")
+                    .addProperty(PropertyMapping.of("weight"))
+                    .build()
+            )
+            .build();
+
+        var compressedTree = NativeFactory
+            .getMemoryEstimation(NodeProjections.all(), relationshipProjections)
+            .estimate(dimensions, 4);
+        var uncompressedTree = new AtomicReference<MemoryTree>();
+        USE_UNCOMPRESSED_ADJACENCY_LIST.enableAndRun(() -> uncompressedTree.set(NativeFactory
+            .getMemoryEstimation(NodeProjections.all(), relationshipProjections)
+            .estimate(dimensions, 4)));
+
+        long compressedPageBytes = pageBytes(compressedTree, TransientCompressedList.PAGES_DESCRIPTION);
+        long uncompressedPageBytes = pageBytes(uncompressedTree.get(), "pages");
+        assertThat(compressedPageBytes).isPositive();
+        assertThat(uncompressedPageBytes).isPositive();
+
+        long residentBytes = GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.getAndSet(0);
+        try {
+            USE_SPILL_TO_DISK.enableAndRun(() -> {
+                assertDoesNotThrow(() -> MemoryValidation.validateMemoryUsage(
+                    new MemoryTreeWithDimensions(compressedTree, dimensions),
+                    compressedTree.memoryUsage().min - compressedPageBytes,
+                    false
+                ));
+                // uncompressed adjacency lists and relationship properties are built on the heap
+                assertThatThrownBy(() -> MemoryValidation.validateMemoryUsage(
+                    new MemoryTreeWithDimensions(uncompressedTree.get(), dimensions),
+                    uncompressedTree.get().memoryUsage().min - uncompressedPageBytes,
+                    false
+                ))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Procedure was blocked since minimum estimated memory");
+            });
+        } finally {
+            GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.set(residentBytes);
+        }
+    }
+
+    private static long pageBytes(MemoryTree memoryTree, String description) {
+        if (memoryTree.description().equals(description)) {
+            return memoryTree.memoryUsage().min;
+        }
+        return memoryTree.components().stream().mapToLong(component -> pageBytes(component, description)).sum();
+    }
 }
@@ -81,6 +81,11 @@ public class WccMutateProc extends MutatePropertyProc<Wcc, DisjointSetStruct, Wc
         return WccProc.algorithmFactory();
     }
 
+    @Override
+    protected boolean isResultCacheable() {
+        return true;
+    }
+
     @Override
     protected NodeProperties nodeProperties(
         ComputationResult<Wcc, DisjointSetStruct, WccMutateConfig> computationResult
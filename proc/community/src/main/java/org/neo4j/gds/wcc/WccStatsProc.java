@@ -87,6 +87,11 @@ public class WccStatsProc extends StatsProc<Wcc, DisjointSetStruct, WccStatsProc
         return WccProc.algorithmFactory();
     }
 
+    @Override
+    protected boolean isResultCacheable() {
+        return true;
+    }
+
     @SuppressWarnings("unused")
     public static class StatsResult extends StandardStatsResult {
 
@@ -82,6 +82,11 @@ public class WccStreamProc extends StreamProc<
         return WccProc.algorithmFactory();
     }
 
+    @Override
+    protected boolean isResultCacheable() {
+        return true;
+    }
+
     @Override
     protected StreamResult streamResult(
         long originalNodeId, long internalNodeId, NodeProperties nodeProperties
@@ -81,6 +81,11 @@ public class WccWriteProc extends WriteProc<Wcc, DisjointSetStruct, WccWriteProc
         return WccProc.algorithmFactory();
     }
 
+    @Override
+    protected boolean isResultCacheable() {
+        return true;
+    }
+
     @Override
     protected NodeProperties nodeProperties(
         ComputationResult<Wcc, DisjointSetStruct, WccWriteConfig> computationResult
@@ -28,16 +28,23 @@ import org.neo4j.gds.CommunityHelper;
 import org.neo4j.gds.GdsCypher;
 import org.neo4j.gds.NodeProjections;
 import org.neo4j.gds.RelationshipProjections;
+import org.neo4j.gds.TestLog;
 import org.neo4j.gds.config.GraphCreateConfig;
 import org.neo4j.gds.config.ImmutableGraphCreateFromStoreConfig;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class WccStreamProcTest extends WccProcTest<WccStreamConfig> implements
@@ -79,6 +86,57 @@ class WccStreamProcTest extends WccProcTest<WccStreamConfig> implements
         CommunityHelper.assertCommunities(communities, EXPECTED_COMMUNITIES);
     }
 
+    @Test
+    void shouldReuseCachedResultUntilGraphIsMutated() throws Exception {
+        registerProcedures(WccMutateProc.class);
+        runQuery("CALL gds.graph.create('cacheGraph', '*', '*')");
+
+        GdsFeatureToggles.USE_ALGORITHM_RESULT_CACHE.enableAndRun(() -> {
+            var firstLog = new TestLog();
+            var expectedComponents = new HashMap<Long, Long>();
+            applyOnProcedure(proc -> {
+                proc.log = firstLog;
+                var streamProc = (WccStreamProc) proc;
+                var firstComponents = components(streamProc.stream("cacheGraph", Map.of()));
+                var secondComponents = components(streamProc.stream("cacheGraph", Map.of()));
+                assertThat(secondComponents).isEqualTo(firstComponents);
+                expectedComponents.putAll(firstComponents);
+            });
+            assertThat(computations(firstLog)).isEqualTo(1);
+
+            // a different caller shares the cached result
+            var sharedLog = new TestLog();
+            applyOnProcedure(proc -> {
+                proc.log = sharedLog;
+                var components = components(((WccStreamProc) proc).stream("cacheGraph", Map.of()));
+                assertThat(components).isEqualTo(expectedComponents);
+            });
+            assertThat(computations(sharedLog)).isEqualTo(0);
+
+            runQuery("CALL gds.wcc.mutate('cacheGraph', {mutateProperty: 'componentId'})");
+
+            var mutatedLog = new TestLog();
+            applyOnProcedure(proc -> {
+                proc.log = mutatedLog;
+                var components = components(((WccStreamProc) proc).stream("cacheGraph", Map.of()));
+                assertThat(components).isEqualTo(expectedComponents);
+            });
+            assertThat(computations(mutatedLog)).isEqualTo(1);
+        });
+    }
+
+    private static Map<Long, Long> components(Stream<WccStreamProc.StreamResult> results) {
+        return results.collect(Collectors.toMap(result -> result.nodeId, result -> result.componentId));
+    }
+
+    private static long computations(TestLog log) {
+        return log
+            .getMessages(TestLog.INFO)
+            .stream()
+            .filter(message -> message.contains("overall memory usage"))
+            .count();
+    }
+
     @Test
     void testStreamRunsOnLoadedGraph() {
         GraphCreateConfig graphCreateConfig = ImmutableGraphCreateFromStoreConfig
@@ -20,6 +20,8 @@
 package org.neo4j.gds;
 
 import org.neo4j.gds.core.GdsEdition;
+import org.neo4j.gds.core.loading.AlgorithmResultCache;
+import org.neo4j.gds.core.loading.ImplicitGraphStoreCache;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Internal;
@@ -184,6 +186,126 @@ public final class FeatureToggleProc {
         return Stream.of(new FeatureState(GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST.isEnabled()));
     }
 
+    @Internal
+    @Procedure("gds.features.useTwoPassRelationshipImport")
+    @Description("Toggle whether relationships should be imported in two passes, counting degrees first, during graph creation.")
+    public void useTwoPassRelationshipImport(@Name(value = "useTwoPassRelationshipImport") boolean useTwoPassRelationshipImport) {
+        GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.toggle(useTwoPassRelationshipImport);
+    }
+
+    @Internal
+    @Procedure("gds.features.useTwoPassRelationshipImport.reset")
+    @Description("Set the default behaviour of whether to import relationships in two passes during graph creation. That value is returned.")
+    public Stream<FeatureState> resetUseTwoPassRelationshipImport() {
+        GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useParallelModelSelection")
+    @Description("Toggle whether the model candidates and validation folds of ML training algorithms should be trained concurrently.")
+    public void useParallelModelSelection(@Name(value = "useParallelModelSelection") boolean useParallelModelSelection) {
+        GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.toggle(useParallelModelSelection);
+    }
+
+    @Internal
+    @Procedure("gds.features.useParallelModelSelection.reset")
+    @Description("Set the default behaviour of whether to train model candidates and validation folds concurrently. That value is returned.")
+    public Stream<FeatureState> resetUseParallelModelSelection() {
+        GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useImplicitGraphStoreCache")
+    @Description("Toggle whether implicitly loaded graphs should be cached between procedure calls.")
+    public void useImplicitGraphStoreCache(@Name(value = "useImplicitGraphStoreCache") boolean useImplicitGraphStoreCache) {
+        GdsFeatureToggles.USE_IMPLICIT_GRAPH_STORE_CACHE.toggle(useImplicitGraphStoreCache);
+        if (!useImplicitGraphStoreCache) {
+            ImplicitGraphStoreCache.clear();
+        }
+    }
+
+    @Internal
+    @Procedure("gds.features.useImplicitGraphStoreCache.reset")
+    @Description("Set the default behaviour of whether to cache implicitly loaded graphs. That value is returned.")
+    public Stream<FeatureState> resetUseImplicitGraphStoreCache() {
+        GdsFeatureToggles.USE_IMPLICIT_GRAPH_STORE_CACHE.reset();
+        if (!GdsFeatureToggles.USE_IMPLICIT_GRAPH_STORE_CACHE.isEnabled()) {
+            ImplicitGraphStoreCache.clear();
+        }
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_IMPLICIT_GRAPH_STORE_CACHE.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useAlgorithmResultCache")
+    @Description("Toggle whether algorithm results on named graphs should be cached between procedure calls.")
+    public void useAlgorithmResultCache(@Name(value = "useAlgorithmResultCache") boolean useAlgorithmResultCache) {
+        GdsFeatureToggles.USE_ALGORITHM_RESULT_CACHE.toggle(useAlgorithmResultCache);
+        if (!useAlgorithmResultCache) {
+            AlgorithmResultCache.clear();
+        }
+    }
+
+    @Internal
+    @Procedure("gds.features.useAlgorithmResultCache.reset")
+    @Description("Set the default behaviour of whether to cache algorithm results on named graphs. That value is returned.")
+    public Stream<FeatureState> resetUseAlgorithmResultCache() {
+        GdsFeatureToggles.USE_ALGORITHM_RESULT_CACHE.reset();
+        if (!GdsFeatureToggles.USE_ALGORITHM_RESULT_CACHE.isEnabled()) {
+            AlgorithmResultCache.clear();
+        }
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_ALGORITHM_RESULT_CACHE.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.useSpillToDisk")
+    @Description("Toggle whether large arrays and adjacency lists should be paged to disk instead of being kept on the heap.")
+    public void useSpillToDisk(@Name(value = "useSpillToDisk") boolean useSpillToDisk) {
+        GdsFeatureToggles.USE_SPILL_TO_DISK.toggle(useSpillToDisk);
+    }
+
+    @Internal
+    @Procedure("gds.features.useSpillToDisk.reset")
+    @Description("Set the default behaviour of whether to page large arrays and adjacency lists to disk. That value is returned.")
+    public Stream<FeatureState> resetUseSpillToDisk() {
+        GdsFeatureToggles.USE_SPILL_TO_DISK.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_SPILL_TO_DISK.isEnabled()));
+    }
+
+    @Internal
+    @Procedure("gds.features.spillToDiskResidentBytes")
+    @Description("Set how many bytes of pages that have been paged to disk are kept on the heap.")
+    public void spillToDiskResidentBytes(@Name(value = "spillToDiskResidentBytes") long spillToDiskResidentBytes) {
+        if (spillToDiskResidentBytes <= 0) {
+            throw new IllegalArgumentException("Invalid value for spillToDiskResidentBytes, must be positive");
+        }
+        GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.set(spillToDiskResidentBytes);
+    }
+
+    @Internal
+    @Procedure("gds.features.spillToDiskResidentBytes.reset")
+    @Description("Set the value of how many bytes of pages that have been paged to disk are kept on the heap to the default. That value is returned.")
+    public Stream<FeatureValue> resetSpillToDiskResidentBytes() {
+        GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.set(GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES_DEFAULT_SETTING);
+        return Stream.of(new FeatureValue(GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES_DEFAULT_SETTING));
+    }
+
+    @Internal
+    @Procedure("gds.features.useAdaptiveIdMap")
+    @Description("Toggle whether the node id map should use ranges of consecutive node ids if possible.")
+    public void useAdaptiveIdMap(@Name(value = "useAdaptiveIdMap") boolean useAdaptiveIdMap) {
+        GdsFeatureToggles.USE_ADAPTIVE_ID_MAP.toggle(useAdaptiveIdMap);
+    }
+
+    @Internal
+    @Procedure("gds.features.useAdaptiveIdMap.reset")
+    @Description("Set the default behaviour of whether the node id map should use ranges of consecutive node ids if possible. That value is returned.")
+    public Stream<FeatureState> resetUseAdaptiveIdMap() {
+        GdsFeatureToggles.USE_ADAPTIVE_ID_MAP.reset();
+        return Stream.of(new FeatureState(GdsFeatureToggles.USE_ADAPTIVE_ID_MAP.isEnabled()));
+    }
+
     @Internal
     @Procedure("gds.features.maxArrayLengthShift.reset")
     @Description("Set the value of the max array size before paging to the default. That value is returned.")
@@ -35,12 +35,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 import static org.neo4j.gds.utils.GdsFeatureToggles.SKIP_ORPHANS;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_ADAPTIVE_ID_MAP;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_ALGORITHM_RESULT_CACHE;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_BIT_ID_MAP;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_IMPLICIT_GRAPH_STORE_CACHE;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_KERNEL_TRACKER;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_MODEL_SELECTION;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PRE_AGGREGATION;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_REORDERED_ADJACENCY_LIST;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_SPILL_TO_DISK;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_TWO_PASS_RELATIONSHIP_IMPORT;
 import static org.neo4j.gds.utils.GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST;
 
 class FeatureToggleProcTest extends BaseProcTest {
@@ -183,6 +189,140 @@ class FeatureToggleProcTest extends BaseProcTest {
         assertEquals(false, USE_REORDERED_ADJACENCY_LIST.isEnabled());
     }
 
+    @Test
+    void toggleUseTwoPassRelationshipImport() {
+        var useTwoPassRelationshipImport = USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled();
+        runQuery("CALL gds.features.useTwoPassRelationshipImport($value)", Map.of("value", !useTwoPassRelationshipImport));
+        assertEquals(!useTwoPassRelationshipImport, USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled());
+        runQuery("CALL gds.features.useTwoPassRelationshipImport($value)", Map.of("value", useTwoPassRelationshipImport));
+        assertEquals(useTwoPassRelationshipImport, USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled());
+    }
+
+    @Test
+    void resetUseTwoPassRelationshipImport() {
+        USE_TWO_PASS_RELATIONSHIP_IMPORT.reset();
+        assertCypherResult(
+            "CALL gds.features.useTwoPassRelationshipImport.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertEquals(false, USE_TWO_PASS_RELATIONSHIP_IMPORT.isEnabled());
+    }
+
+    @Test
+    void toggleUseParallelModelSelection() {
+        var useParallelModelSelection = USE_PARALLEL_MODEL_SELECTION.isEnabled();
+        runQuery("CALL gds.features.useParallelModelSelection($value)", Map.of("value", !useParallelModelSelection));
+        assertEquals(!useParallelModelSelection, USE_PARALLEL_MODEL_SELECTION.isEnabled());
+        runQuery("CALL gds.features.useParallelModelSelection($value)", Map.of("value", useParallelModelSelection));
+        assertEquals(useParallelModelSelection, USE_PARALLEL_MODEL_SELECTION.isEnabled());
+    }
+
+    @Test
+    void resetUseParallelModelSelection() {
+        USE_PARALLEL_MODEL_SELECTION.reset();
+        assertCypherResult(
+            "CALL gds.features.useParallelModelSelection.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertEquals(false, USE_PARALLEL_MODEL_SELECTION.isEnabled());
+    }
+
+    @Test
+    void toggleUseImplicitGraphStoreCache() {
+        var useImplicitGraphStoreCache = USE_IMPLICIT_GRAPH_STORE_CACHE.isEnabled();
+        runQuery("CALL gds.features.useImplicitGraphStoreCache($value)", Map.of("value", !useImplicitGraphStoreCache));
+        assertEquals(!useImplicitGraphStoreCache, USE_IMPLICIT_GRAPH_STORE_CACHE.isEnabled());
+        runQuery("CALL gds.features.useImplicitGraphStoreCache($value)", Map.of("value", useImplicitGraphStoreCache));
+        assertEquals(useImplicitGraphStoreCache, USE_IMPLICIT_GRAPH_STORE_CACHE.isEnabled());
+    }
+
+    @Test
+    void resetUseImplicitGraphStoreCache() {
+        USE_IMPLICIT_GRAPH_STORE_CACHE.reset();
+        assertCypherResult(
+            "CALL gds.features.useImplicitGraphStoreCache.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertEquals(false, USE_IMPLICIT_GRAPH_STORE_CACHE.isEnabled());
+    }
+
+    @Test
+    void toggleUseAlgorithmResultCache() {
+        var useAlgorithmResultCache = USE_ALGORITHM_RESULT_CACHE.isEnabled();
+        runQuery("CALL gds.features.useAlgorithmResultCache($value)", Map.of("value", !useAlgorithmResultCache));
+        assertEquals(!useAlgorithmResultCache, USE_ALGORITHM_RESULT_CACHE.isEnabled());
+        runQuery("CALL gds.features.useAlgorithmResultCache($value)", Map.of("value", useAlgorithmResultCache));
+        assertEquals(useAlgorithmResultCache, USE_ALGORITHM_RESULT_CACHE.isEnabled());
+    }
+
+    @Test
+    void resetUseAlgorithmResultCache() {
+        USE_ALGORITHM_RESULT_CACHE.reset();
+        assertCypherResult(
+            "CALL gds.features.useAlgorithmResultCache.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertEquals(false, USE_ALGORITHM_RESULT_CACHE.isEnabled());
+    }
+
+    @Test
+    void toggleUseSpillToDisk() {
+        var useSpillToDisk = USE_SPILL_TO_DISK.isEnabled();
+        runQuery("CALL gds.features.useSpillToDisk($value)", Map.of("value", !useSpillToDisk));
+        assertEquals(!useSpillToDisk, USE_SPILL_TO_DISK.isEnabled());
+        runQuery("CALL gds.features.useSpillToDisk($value)", Map.of("value", useSpillToDisk));
+        assertEquals(useSpillToDisk, USE_SPILL_TO_DISK.isEnabled());
+    }
+
+    @Test
+    void resetUseSpillToDisk() {
+        USE_SPILL_TO_DISK.reset();
+        assertCypherResult(
+            "CALL gds.features.useSpillToDisk.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertEquals(false, USE_SPILL_TO_DISK.isEnabled());
+    }
+
+    @Test
+    void toggleSpillToDiskResidentBytes() {
+        var residentBytes = GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.get();
+        runQuery("CALL gds.features.spillToDiskResidentBytes($value)", Map.of("value", residentBytes + 1));
+        assertEquals(residentBytes + 1, GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.get());
+        runQuery("CALL gds.features.spillToDiskResidentBytes($value)", Map.of("value", residentBytes));
+        assertEquals(residentBytes, GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.get());
+    }
+
+    @Test
+    void resetSpillToDiskResidentBytes() {
+        var defaultValue = GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES_DEFAULT_SETTING;
+        GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.set(defaultValue + 1);
+        assertCypherResult(
+            "CALL gds.features.spillToDiskResidentBytes.reset()",
+            List.of(Map.of("value", defaultValue))
+        );
+        assertEquals(defaultValue, GdsFeatureToggles.SPILL_TO_DISK_RESIDENT_BYTES.get());
+    }
+
+    @Test
+    void toggleUseAdaptiveIdMap() {
+        var useAdaptiveIdMap = USE_ADAPTIVE_ID_MAP.isEnabled();
+        runQuery("CALL gds.features.useAdaptiveIdMap($value)", Map.of("value", !useAdaptiveIdMap));
+        assertEquals(!useAdaptiveIdMap, USE_ADAPTIVE_ID_MAP.isEnabled());
+        runQuery("CALL gds.features.useAdaptiveIdMap($value)", Map.of("value", useAdaptiveIdMap));
+        assertEquals(useAdaptiveIdMap, USE_ADAPTIVE_ID_MAP.isEnabled());
+    }
+
+    @Test
+    void resetUseAdaptiveIdMap() {
+        USE_ADAPTIVE_ID_MAP.reset();
+        assertCypherResult(
+            "CALL gds.features.useAdaptiveIdMap.reset()",
+            List.of(Map.of("enabled", false))
+        );
+        assertEquals(false, USE_ADAPTIVE_ID_MAP.isEnabled());
+    }
+
     @GdsEditionTest(Edition.EE)
     void toggleUseBitIdMap() {
         var useBitIdMap = USE_BIT_ID_MAP.isEnabled();
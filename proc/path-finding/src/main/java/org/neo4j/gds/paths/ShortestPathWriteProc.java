@@ -79,6 +79,7 @@ public abstract class ShortestPathWriteProc<ALGO extends Algorithm<ALGO, Dijkstr
                     .withIdMapping(computationResult.graph())
                     .withRelationships(relationshipStream)
                     .withTerminationFlag(algorithm.getTerminationFlag())
+                    .withWriteConcurrency(config.writeConcurrency())
                     .withLog(log)
                     .build();
 
@@ -71,6 +71,7 @@ import org.neo4j.gds.functions.OneHotEncodingFunc;
 import org.neo4j.gds.functions.VersionFunc;
 import org.neo4j.gds.influenceΜaximization.CELFProc;
 import org.neo4j.gds.influenceΜaximization.GreedyProc;
+import org.neo4j.gds.influenceΜaximization.IMMProc;
 import org.neo4j.gds.labelpropagation.LabelPropagationMutateProc;
 import org.neo4j.gds.labelpropagation.LabelPropagationStatsProc;
 import org.neo4j.gds.labelpropagation.LabelPropagationStreamProc;
@@ -112,8 +113,11 @@ import org.neo4j.gds.similarity.nodesim.NodeSimilarityMutateProc;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarityStatsProc;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarityStreamProc;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarityWriteProc;
+import org.neo4j.gds.spanningtree.KSpanningForestProc;
 import org.neo4j.gds.spanningtree.KSpanningTreeProc;
+import org.neo4j.gds.spanningtree.SpanningForestProc;
 import org.neo4j.gds.spanningtree.SpanningTreeProc;
+import org.neo4j.gds.traverse.BfsProc;
 import org.neo4j.gds.traverse.TraverseProc;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientMutateProc;
 import org.neo4j.gds.triangle.LocalClusteringCoefficientStatsProc;
@@ -180,6 +184,10 @@ class ListProcTest extends BaseProcTest {
         "gds.alpha.similarity.pearson.write",
         "gds.alpha.similarity.pearson.stream",
         "gds.alpha.similarity.pearson.stats",
+        "gds.alpha.spanningForest.kmax.write",
+        "gds.alpha.spanningForest.kmin.write",
+        "gds.alpha.spanningForest.maximum.write",
+        "gds.alpha.spanningForest.minimum.write",
         "gds.alpha.spanningTree.write",
         "gds.alpha.spanningTree.kmax.write",
         "gds.alpha.spanningTree.kmin.write",
@@ -193,6 +201,7 @@ class ListProcTest extends BaseProcTest {
         "gds.alpha.ml.splitRelationships.mutate",
         "gds.alpha.influenceMaximization.greedy.stream",
         "gds.alpha.influenceMaximization.celf.stream",
+        "gds.alpha.influenceMaximization.imm.stream",
 
         "gds.beta.node2vec.mutate",
         "gds.beta.node2vec.mutate.estimate",
@@ -326,6 +335,7 @@ class ListProcTest extends BaseProcTest {
         "gds.pageRank.stats",
         "gds.pageRank.stats.estimate",
         "gds.pageRank.stream",
+        "gds.pageRank.stream.batched",
         "gds.pageRank.stream.estimate",
         "gds.pageRank.write",
         "gds.pageRank.write.estimate",
@@ -395,6 +405,7 @@ class ListProcTest extends BaseProcTest {
         "gds.pageRank.stats",
         "gds.pageRank.stats.estimate",
         "gds.pageRank.stream",
+        "gds.pageRank.stream.batched",
         "gds.pageRank.stream.estimate",
         "gds.pageRank.write",
         "gds.pageRank.write.estimate"
@@ -497,6 +508,7 @@ class ListProcTest extends BaseProcTest {
             ClosenessCentralityProc.class,
             HarmonicCentralityProc.class,
             IsFiniteFunc.class,
+            KSpanningForestProc.class,
             KSpanningTreeProc.class,
             CosineProc.class,
             EuclideanProc.class,
@@ -506,15 +518,18 @@ class ListProcTest extends BaseProcTest {
             PearsonProc.class,
             RandomWalkProc.class,
             OneHotEncodingFunc.class,
+            SpanningForestProc.class,
             SpanningTreeProc.class,
             SplitRelationshipsMutateProc.class,
             ShortestPathDeltaSteppingProc.class,
             SimilaritiesFunc.class,
             SccProc.class,
             TraverseProc.class,
+            BfsProc.class,
             TriangleProc.class,
             GreedyProc.class,
-            CELFProc.class
+            CELFProc.class,
+            IMMProc.class
         );
 
         registerFunctions(
@@ -537,7 +552,10 @@ class ListProcTest extends BaseProcTest {
     @Test
     void listFilteredResult() {
         assertEquals(PAGE_RANK, listProcs("pageRank"));
-        assertEquals(asList("gds.pageRank.stream", "gds.pageRank.stream.estimate"), listProcs("pageRank.stream"));
+        assertEquals(
+            asList("gds.pageRank.stream", "gds.pageRank.stream.batched", "gds.pageRank.stream.estimate"),
+            listProcs("pageRank.stream")
+        );
         assertEquals(emptyList(), listProcs("foo"));
     }
 
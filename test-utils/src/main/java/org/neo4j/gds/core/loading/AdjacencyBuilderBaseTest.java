@@ -22,11 +22,13 @@ package org.neo4j.gds.core.loading;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.Orientation;
 import org.neo4j.gds.RelationshipProjection;
+import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.compress.AdjacencyFactory;
 import org.neo4j.gds.core.huge.DirectIdMapping;
 import org.neo4j.gds.core.utils.mem.AllocationTracker;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.LongAdder;
@@ -35,6 +37,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.gds.core.loading.AdjacencyBuilder.IGNORE_VALUE;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public abstract class AdjacencyBuilderBaseTest {
 
@@ -89,6 +92,147 @@ public abstract class AdjacencyBuilderBaseTest {
         }
     }
 
+    protected void testPreallocatedAdjacencyList(AdjacencyFactory adjacencyFactory) {
+        long nodeCount = 6;
+        AdjacencyListWithPropertiesBuilder globalBuilder = AdjacencyListWithPropertiesBuilder.create(
+            nodeCount,
+            adjacencyFactory,
+            RelationshipProjection.of("", Orientation.NATURAL, Aggregation.NONE),
+            new Aggregation[]{Aggregation.NONE},
+            new int[0],
+            new double[0],
+            AllocationTracker.empty()
+        );
+
+        AdjacencyBuilder adjacencyBuilder = AdjacencyBuilder.preallocating(
+            globalBuilder,
+            nodeCount,
+            1,
+            8,
+            AllocationTracker.empty(),
+            new LongAdder(),
+            false
+        );
+        DirectIdMapping idMapping = new DirectIdMapping(nodeCount);
+        RelationshipImporter relationshipImporter = new RelationshipImporter(
+            AllocationTracker.empty(),
+            adjacencyBuilder
+        );
+
+        RelationshipsBatchBuffer countingBuffer = new RelationshipsBatchBuffer(idMapping, -1, 10);
+        for (long i = 0; i < nodeCount; i++) {
+            countingBuffer.add(i, nodeCount - 1 - i);
+        }
+        relationshipImporter.degreeCounts(Orientation.NATURAL).importRelationships(countingBuffer, null);
+        adjacencyBuilder.degreeCountingFlushTasks().forEach(Runnable::run);
+
+        RelationshipsBatchBuffer importBuffer = new RelationshipsBatchBuffer(idMapping, -1, 10);
+        for (long i = 0; i < nodeCount; i++) {
+            importBuffer.add(i, nodeCount - 1 - i);
+        }
+        // not counted in the first pass
+        importBuffer.add(0, 3);
+        importBuffer.add(0, 1);
+        relationshipImporter.imports(Orientation.NATURAL, false).importRelationships(importBuffer, null);
+        adjacencyBuilder.flushTasks().forEach(Runnable::run);
+
+        try (var adjacencyList = globalBuilder.build().adjacency()) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                var expected = nodeId == 0
+                    ? new long[]{1, 3, nodeCount - 1}
+                    : new long[]{nodeCount - 1 - nodeId};
+                assertEquals(expected.length, adjacencyList.degree(nodeId));
+                try (var cursor = adjacencyList.adjacencyCursor(nodeId)) {
+                    for (long target : expected) {
+                        assertTrue(cursor.hasNextVLong());
+                        assertEquals(target, cursor.nextVLong());
+                    }
+                }
+            }
+        }
+    }
+
+    protected void testPreallocatedPeakMemory(AdjacencyFactory adjacencyFactory) {
+        long onePassBytes = bufferedBytes(adjacencyFactory, false);
+        long twoPassBytes = bufferedBytes(adjacencyFactory, true);
+
+        assertTrue(
+            twoPassBytes < onePassBytes,
+            formatWithLocale("two-pass import buffered %d bytes, one-pass import %d bytes", twoPassBytes, onePassBytes)
+        );
+    }
+
+    /**
+     * Imports five weighted relationships per node and returns the tracked bytes right before flushing,
+     * which is when the import buffers are the largest.
+     */
+    private static long bufferedBytes(AdjacencyFactory adjacencyFactory, boolean twoPass) {
+        long nodeCount = 64;
+        int degree = 5;
+        var allocationTracker = AllocationTracker.create();
+        AdjacencyListWithPropertiesBuilder globalBuilder = AdjacencyListWithPropertiesBuilder.create(
+            nodeCount,
+            adjacencyFactory,
+            RelationshipProjection.builder()
+                .type("TYPE")
+                .orientation(Orientation.NATURAL)
+                .addProperty("weight", "weight", DefaultValue.of(1.0))
+                .build(),
+            new Aggregation[]{Aggregation.NONE},
+            new int[]{0},
+            new double[]{1.0},
+            AllocationTracker.empty()
+        );
+
+        AdjacencyBuilder adjacencyBuilder = twoPass
+            ? AdjacencyBuilder.preallocating(globalBuilder, nodeCount, 1, 64, allocationTracker, new LongAdder(), false)
+            : AdjacencyBuilder.compressing(globalBuilder, 1, 64, allocationTracker, new LongAdder(), false);
+        DirectIdMapping idMapping = new DirectIdMapping(nodeCount);
+        RelationshipImporter relationshipImporter = new RelationshipImporter(allocationTracker, adjacencyBuilder);
+
+        if (twoPass) {
+            var countingBuffer = relationshipsBuffer(idMapping, nodeCount, degree);
+            relationshipImporter.degreeCounts(Orientation.NATURAL).importRelationships(countingBuffer, null);
+            adjacencyBuilder.degreeCountingFlushTasks().forEach(Runnable::run);
+        }
+
+        RelationshipImporter.PropertyReader propertyReader = (
+            relationshipReferences,
+            propertyReferences,
+            numberOfReferences,
+            propertyKeyIds,
+            defaultValues,
+            aggregations,
+            atLeastOnePropertyToLoad
+        ) -> {
+            long[][] properties = new long[1][numberOfReferences];
+            Arrays.fill(properties[0], Double.doubleToLongBits(1.0));
+            return properties;
+        };
+        var importBuffer = relationshipsBuffer(idMapping, nodeCount, degree);
+        relationshipImporter.imports(Orientation.NATURAL, true).importRelationships(importBuffer, propertyReader);
+
+        long bufferedBytes = allocationTracker.trackedBytes();
+        adjacencyBuilder.flushTasks().forEach(Runnable::run);
+
+        try (var adjacencyList = globalBuilder.build().adjacency()) {
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                assertEquals(degree, adjacencyList.degree(nodeId));
+            }
+        }
+        return bufferedBytes;
+    }
+
+    private static RelationshipsBatchBuffer relationshipsBuffer(DirectIdMapping idMapping, long nodeCount, int degree) {
+        var buffer = new RelationshipsBatchBuffer(idMapping, -1, (int) nodeCount * degree);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            for (int i = 1; i <= degree; i++) {
+                buffer.add(nodeId, (nodeId + i) % nodeCount);
+            }
+        }
+        return buffer;
+    }
+
     @Test
     // TODO test single case
     // TODO add testcase that sets a range